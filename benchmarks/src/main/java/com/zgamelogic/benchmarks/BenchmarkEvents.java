@@ -0,0 +1,100 @@
+package com.zgamelogic.benchmarks;
+
+import com.zgamelogic.EventStubs;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.MessageReaction;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.entities.emoji.EmojiUnion;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.commands.CommandAutoCompleteInteraction;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.interactions.commands.context.MessageContextInteraction;
+import net.dv8tion.jda.api.interactions.commands.context.UserContextInteraction;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.EntitySelectInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectInteraction;
+import net.dv8tion.jda.api.interactions.modals.ModalInteraction;
+import net.dv8tion.jda.api.utils.data.DataObject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDA events built without a gateway connection by proxying the interaction interfaces.
+ * Only the getters routing and logging read are answered.
+ */
+public final class BenchmarkEvents {
+
+    private static final User USER = EventStubs.stub(User.class, answers("getId", "1", "getIdLong", 1L));
+
+    private BenchmarkEvents(){}
+
+    public static ButtonInteractionEvent button(String id){
+        return new ButtonInteractionEvent(null, 0, EventStubs.stub(ButtonInteraction.class, interaction("getComponentId", id)));
+    }
+
+    public static ModalInteractionEvent modal(String id){
+        return new ModalInteractionEvent(null, 0, EventStubs.stub(ModalInteraction.class, interaction("getModalId", id)));
+    }
+
+    public static SlashCommandInteractionEvent slash(String name){
+        return new SlashCommandInteractionEvent(null, 0, EventStubs.stub(SlashCommandInteraction.class, interaction("getName", name)));
+    }
+
+    public static UserContextInteractionEvent userContext(String name){
+        return new UserContextInteractionEvent(null, 0, EventStubs.stub(UserContextInteraction.class, interaction("getName", name)));
+    }
+
+    public static MessageContextInteractionEvent messageContext(String name){
+        return new MessageContextInteractionEvent(null, 0, EventStubs.stub(MessageContextInteraction.class, interaction("getName", name)));
+    }
+
+    public static StringSelectInteractionEvent stringSelect(String id, String value){
+        Map<String, Object> answers = interaction("getComponentId", id);
+        answers.put("getValues", Collections.singletonList(value));
+        return new StringSelectInteractionEvent(null, 0, EventStubs.stub(StringSelectInteraction.class, answers));
+    }
+
+    public static EntitySelectInteractionEvent entitySelect(String id){
+        return new EntitySelectInteractionEvent(null, 0, EventStubs.stub(EntitySelectInteraction.class, interaction("getComponentId", id)));
+    }
+
+    public static CommandAutoCompleteInteractionEvent autoComplete(String name, String option, String value){
+        DataObject data = DataObject.empty().put("name", option).put("type", 3).put("value", value);
+        Map<String, Object> answers = interaction("getName", name);
+        answers.put("getFocusedOption", new AutoCompleteQuery(new OptionMapping(data, null, null, null)));
+        return new CommandAutoCompleteInteractionEvent(null, 0, EventStubs.stub(CommandAutoCompleteInteraction.class, answers));
+    }
+
+    public static MessageReactionAddEvent reactionAdd(String emoji){
+        EmojiUnion emojiUnion = EventStubs.stub(EmojiUnion.class, answers("getName", emoji));
+        MessageChannelUnion channel = EventStubs.stub(MessageChannelUnion.class, answers("getId", "3", "getIdLong", 3L));
+        MessageReaction reaction = new MessageReaction(channel, emojiUnion, 2, false, 1);
+        return new MessageReactionAddEvent(null, 0, USER, null, reaction, 1);
+    }
+
+    private static Map<String, Object> interaction(String getter, Object value){
+        Map<String, Object> answers = answers(getter, value);
+        answers.put("getUser", USER);
+        answers.put("getGuild", null);
+        answers.put("getMember", null);
+        return answers;
+    }
+
+    private static Map<String, Object> answers(Object... pairs){
+        Map<String, Object> answers = new HashMap<>();
+        for(int i = 0; i < pairs.length; i += 2) answers.put((String) pairs[i], pairs[i + 1]);
+        return answers;
+    }
+}
@@ -0,0 +1,118 @@
+package com.zgamelogic.benchmarks;
+
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.InvocationMode;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end dispatch through each of the nine listener callbacks, from the JDA event to the handler call.
+ * Every event hits exactly one handler in a listener holding 1, 50 or 500 handlers per event type.
+ * <p>
+ * Build the root project with {@code mvn install}, then from this directory
+ * <pre>{@code
+ * mvn package
+ * java -jar target/benchmarks.jar DispatchBenchmark -prof gc
+ * }</pre>
+ * {@code -prof gc} adds the allocation rate per operation next to throughput and average latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int handlers;
+
+    @Param({"COMPILED", "REFLECTIVE"})
+    public InvocationMode mode;
+
+    private AdvancedListenerAdapter listener;
+    private ButtonInteractionEvent button;
+    private ModalInteractionEvent modal;
+    private SlashCommandInteractionEvent slash;
+    private UserContextInteractionEvent userContext;
+    private MessageContextInteractionEvent messageContext;
+    private StringSelectInteractionEvent stringSelect;
+    private EntitySelectInteractionEvent entitySelect;
+    private CommandAutoCompleteInteractionEvent autoComplete;
+    private MessageReactionAddEvent reaction;
+
+    @Setup
+    public void setup(){
+        switch (handlers){
+            case 1: listener = new Listener1(mode); break;
+            case 50: listener = new Listener50(mode); break;
+            case 500: listener = new Listener500(mode); break;
+            default: throw new IllegalArgumentException("No listener with " + handlers + " handlers");
+        }
+        String route = "r" + (handlers / 2);
+        button = BenchmarkEvents.button(route);
+        modal = BenchmarkEvents.modal(route);
+        slash = BenchmarkEvents.slash(route);
+        userContext = BenchmarkEvents.userContext(route);
+        messageContext = BenchmarkEvents.messageContext(route);
+        stringSelect = BenchmarkEvents.stringSelect(route, "value");
+        entitySelect = BenchmarkEvents.entitySelect(route);
+        autoComplete = BenchmarkEvents.autoComplete(route, "o", "typed");
+        reaction = BenchmarkEvents.reactionAdd(route);
+    }
+
+    @Benchmark
+    public void button(){
+        listener.onButtonInteraction(button);
+    }
+
+    @Benchmark
+    public void modal(){
+        listener.onModalInteraction(modal);
+    }
+
+    @Benchmark
+    public void slashCommand(){
+        listener.onSlashCommandInteraction(slash);
+    }
+
+    @Benchmark
+    public void userContext(){
+        listener.onUserContextInteraction(userContext);
+    }
+
+    @Benchmark
+    public void messageContext(){
+        listener.onMessageContextInteraction(messageContext);
+    }
+
+    @Benchmark
+    public void stringSelect(){
+        listener.onStringSelectInteraction(stringSelect);
+    }
+
+    @Benchmark
+    public void entitySelect(){
+        listener.onEntitySelectInteraction(entitySelect);
+    }
+
+    @Benchmark
+    public void autoComplete(){
+        listener.onCommandAutoCompleteInteraction(autoComplete);
+    }
+
+    @Benchmark
+    public void reaction(){
+        listener.onGenericMessageReaction(reaction);
+    }
+}
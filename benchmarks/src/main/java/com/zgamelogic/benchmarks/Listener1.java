@@ -0,0 +1,21 @@
+package com.zgamelogic.benchmarks;
+
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.InvocationMode;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * Listener with 1 handler method, each bound to route r&lt;index&gt; of every event type.
+ * Written by {@link ListenerGenerator}, regenerate rather than edit by hand.
+ */
+public class Listener1 extends AdvancedListenerAdapter {
+
+    public long calls;
+
+    public Listener1(InvocationMode mode){
+        super(mode);
+    }
+
+    @ButtonResponse("r0") @ModalResponse("r0") @SlashResponse("r0") @UserInteractionResponse("r0") @MessageInteractionResponse("r0") @StringSelectionResponse("r0") @EntitySelectionResponse("r0") @AutoCompleteResponse(slashCommandId = "r0", focusedOption = "o") @EmoteResponse(value = "r0", isAdding = true)
+    public void handler0(GenericEvent event){ calls++; }
+}
@@ -0,0 +1,168 @@
+package com.zgamelogic.benchmarks;
+
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.InvocationMode;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * Listener with 50 handler methods, each bound to route r&lt;index&gt; of every event type.
+ * Written by {@link ListenerGenerator}, regenerate rather than edit by hand.
+ */
+public class Listener50 extends AdvancedListenerAdapter {
+
+    public long calls;
+
+    public Listener50(InvocationMode mode){
+        super(mode);
+    }
+
+    @ButtonResponse("r0") @ModalResponse("r0") @SlashResponse("r0") @UserInteractionResponse("r0") @MessageInteractionResponse("r0") @StringSelectionResponse("r0") @EntitySelectionResponse("r0") @AutoCompleteResponse(slashCommandId = "r0", focusedOption = "o") @EmoteResponse(value = "r0", isAdding = true)
+    public void handler0(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r1") @ModalResponse("r1") @SlashResponse("r1") @UserInteractionResponse("r1") @MessageInteractionResponse("r1") @StringSelectionResponse("r1") @EntitySelectionResponse("r1") @AutoCompleteResponse(slashCommandId = "r1", focusedOption = "o") @EmoteResponse(value = "r1", isAdding = true)
+    public void handler1(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r2") @ModalResponse("r2") @SlashResponse("r2") @UserInteractionResponse("r2") @MessageInteractionResponse("r2") @StringSelectionResponse("r2") @EntitySelectionResponse("r2") @AutoCompleteResponse(slashCommandId = "r2", focusedOption = "o") @EmoteResponse(value = "r2", isAdding = true)
+    public void handler2(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r3") @ModalResponse("r3") @SlashResponse("r3") @UserInteractionResponse("r3") @MessageInteractionResponse("r3") @StringSelectionResponse("r3") @EntitySelectionResponse("r3") @AutoCompleteResponse(slashCommandId = "r3", focusedOption = "o") @EmoteResponse(value = "r3", isAdding = true)
+    public void handler3(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r4") @ModalResponse("r4") @SlashResponse("r4") @UserInteractionResponse("r4") @MessageInteractionResponse("r4") @StringSelectionResponse("r4") @EntitySelectionResponse("r4") @AutoCompleteResponse(slashCommandId = "r4", focusedOption = "o") @EmoteResponse(value = "r4", isAdding = true)
+    public void handler4(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r5") @ModalResponse("r5") @SlashResponse("r5") @UserInteractionResponse("r5") @MessageInteractionResponse("r5") @StringSelectionResponse("r5") @EntitySelectionResponse("r5") @AutoCompleteResponse(slashCommandId = "r5", focusedOption = "o") @EmoteResponse(value = "r5", isAdding = true)
+    public void handler5(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r6") @ModalResponse("r6") @SlashResponse("r6") @UserInteractionResponse("r6") @MessageInteractionResponse("r6") @StringSelectionResponse("r6") @EntitySelectionResponse("r6") @AutoCompleteResponse(slashCommandId = "r6", focusedOption = "o") @EmoteResponse(value = "r6", isAdding = true)
+    public void handler6(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r7") @ModalResponse("r7") @SlashResponse("r7") @UserInteractionResponse("r7") @MessageInteractionResponse("r7") @StringSelectionResponse("r7") @EntitySelectionResponse("r7") @AutoCompleteResponse(slashCommandId = "r7", focusedOption = "o") @EmoteResponse(value = "r7", isAdding = true)
+    public void handler7(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r8") @ModalResponse("r8") @SlashResponse("r8") @UserInteractionResponse("r8") @MessageInteractionResponse("r8") @StringSelectionResponse("r8") @EntitySelectionResponse("r8") @AutoCompleteResponse(slashCommandId = "r8", focusedOption = "o") @EmoteResponse(value = "r8", isAdding = true)
+    public void handler8(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r9") @ModalResponse("r9") @SlashResponse("r9") @UserInteractionResponse("r9") @MessageInteractionResponse("r9") @StringSelectionResponse("r9") @EntitySelectionResponse("r9") @AutoCompleteResponse(slashCommandId = "r9", focusedOption = "o") @EmoteResponse(value = "r9", isAdding = true)
+    public void handler9(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r10") @ModalResponse("r10") @SlashResponse("r10") @UserInteractionResponse("r10") @MessageInteractionResponse("r10") @StringSelectionResponse("r10") @EntitySelectionResponse("r10") @AutoCompleteResponse(slashCommandId = "r10", focusedOption = "o") @EmoteResponse(value = "r10", isAdding = true)
+    public void handler10(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r11") @ModalResponse("r11") @SlashResponse("r11") @UserInteractionResponse("r11") @MessageInteractionResponse("r11") @StringSelectionResponse("r11") @EntitySelectionResponse("r11") @AutoCompleteResponse(slashCommandId = "r11", focusedOption = "o") @EmoteResponse(value = "r11", isAdding = true)
+    public void handler11(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r12") @ModalResponse("r12") @SlashResponse("r12") @UserInteractionResponse("r12") @MessageInteractionResponse("r12") @StringSelectionResponse("r12") @EntitySelectionResponse("r12") @AutoCompleteResponse(slashCommandId = "r12", focusedOption = "o") @EmoteResponse(value = "r12", isAdding = true)
+    public void handler12(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r13") @ModalResponse("r13") @SlashResponse("r13") @UserInteractionResponse("r13") @MessageInteractionResponse("r13") @StringSelectionResponse("r13") @EntitySelectionResponse("r13") @AutoCompleteResponse(slashCommandId = "r13", focusedOption = "o") @EmoteResponse(value = "r13", isAdding = true)
+    public void handler13(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r14") @ModalResponse("r14") @SlashResponse("r14") @UserInteractionResponse("r14") @MessageInteractionResponse("r14") @StringSelectionResponse("r14") @EntitySelectionResponse("r14") @AutoCompleteResponse(slashCommandId = "r14", focusedOption = "o") @EmoteResponse(value = "r14", isAdding = true)
+    public void handler14(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r15") @ModalResponse("r15") @SlashResponse("r15") @UserInteractionResponse("r15") @MessageInteractionResponse("r15") @StringSelectionResponse("r15") @EntitySelectionResponse("r15") @AutoCompleteResponse(slashCommandId = "r15", focusedOption = "o") @EmoteResponse(value = "r15", isAdding = true)
+    public void handler15(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r16") @ModalResponse("r16") @SlashResponse("r16") @UserInteractionResponse("r16") @MessageInteractionResponse("r16") @StringSelectionResponse("r16") @EntitySelectionResponse("r16") @AutoCompleteResponse(slashCommandId = "r16", focusedOption = "o") @EmoteResponse(value = "r16", isAdding = true)
+    public void handler16(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r17") @ModalResponse("r17") @SlashResponse("r17") @UserInteractionResponse("r17") @MessageInteractionResponse("r17") @StringSelectionResponse("r17") @EntitySelectionResponse("r17") @AutoCompleteResponse(slashCommandId = "r17", focusedOption = "o") @EmoteResponse(value = "r17", isAdding = true)
+    public void handler17(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r18") @ModalResponse("r18") @SlashResponse("r18") @UserInteractionResponse("r18") @MessageInteractionResponse("r18") @StringSelectionResponse("r18") @EntitySelectionResponse("r18") @AutoCompleteResponse(slashCommandId = "r18", focusedOption = "o") @EmoteResponse(value = "r18", isAdding = true)
+    public void handler18(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r19") @ModalResponse("r19") @SlashResponse("r19") @UserInteractionResponse("r19") @MessageInteractionResponse("r19") @StringSelectionResponse("r19") @EntitySelectionResponse("r19") @AutoCompleteResponse(slashCommandId = "r19", focusedOption = "o") @EmoteResponse(value = "r19", isAdding = true)
+    public void handler19(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r20") @ModalResponse("r20") @SlashResponse("r20") @UserInteractionResponse("r20") @MessageInteractionResponse("r20") @StringSelectionResponse("r20") @EntitySelectionResponse("r20") @AutoCompleteResponse(slashCommandId = "r20", focusedOption = "o") @EmoteResponse(value = "r20", isAdding = true)
+    public void handler20(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r21") @ModalResponse("r21") @SlashResponse("r21") @UserInteractionResponse("r21") @MessageInteractionResponse("r21") @StringSelectionResponse("r21") @EntitySelectionResponse("r21") @AutoCompleteResponse(slashCommandId = "r21", focusedOption = "o") @EmoteResponse(value = "r21", isAdding = true)
+    public void handler21(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r22") @ModalResponse("r22") @SlashResponse("r22") @UserInteractionResponse("r22") @MessageInteractionResponse("r22") @StringSelectionResponse("r22") @EntitySelectionResponse("r22") @AutoCompleteResponse(slashCommandId = "r22", focusedOption = "o") @EmoteResponse(value = "r22", isAdding = true)
+    public void handler22(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r23") @ModalResponse("r23") @SlashResponse("r23") @UserInteractionResponse("r23") @MessageInteractionResponse("r23") @StringSelectionResponse("r23") @EntitySelectionResponse("r23") @AutoCompleteResponse(slashCommandId = "r23", focusedOption = "o") @EmoteResponse(value = "r23", isAdding = true)
+    public void handler23(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r24") @ModalResponse("r24") @SlashResponse("r24") @UserInteractionResponse("r24") @MessageInteractionResponse("r24") @StringSelectionResponse("r24") @EntitySelectionResponse("r24") @AutoCompleteResponse(slashCommandId = "r24", focusedOption = "o") @EmoteResponse(value = "r24", isAdding = true)
+    public void handler24(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r25") @ModalResponse("r25") @SlashResponse("r25") @UserInteractionResponse("r25") @MessageInteractionResponse("r25") @StringSelectionResponse("r25") @EntitySelectionResponse("r25") @AutoCompleteResponse(slashCommandId = "r25", focusedOption = "o") @EmoteResponse(value = "r25", isAdding = true)
+    public void handler25(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r26") @ModalResponse("r26") @SlashResponse("r26") @UserInteractionResponse("r26") @MessageInteractionResponse("r26") @StringSelectionResponse("r26") @EntitySelectionResponse("r26") @AutoCompleteResponse(slashCommandId = "r26", focusedOption = "o") @EmoteResponse(value = "r26", isAdding = true)
+    public void handler26(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r27") @ModalResponse("r27") @SlashResponse("r27") @UserInteractionResponse("r27") @MessageInteractionResponse("r27") @StringSelectionResponse("r27") @EntitySelectionResponse("r27") @AutoCompleteResponse(slashCommandId = "r27", focusedOption = "o") @EmoteResponse(value = "r27", isAdding = true)
+    public void handler27(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r28") @ModalResponse("r28") @SlashResponse("r28") @UserInteractionResponse("r28") @MessageInteractionResponse("r28") @StringSelectionResponse("r28") @EntitySelectionResponse("r28") @AutoCompleteResponse(slashCommandId = "r28", focusedOption = "o") @EmoteResponse(value = "r28", isAdding = true)
+    public void handler28(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r29") @ModalResponse("r29") @SlashResponse("r29") @UserInteractionResponse("r29") @MessageInteractionResponse("r29") @StringSelectionResponse("r29") @EntitySelectionResponse("r29") @AutoCompleteResponse(slashCommandId = "r29", focusedOption = "o") @EmoteResponse(value = "r29", isAdding = true)
+    public void handler29(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r30") @ModalResponse("r30") @SlashResponse("r30") @UserInteractionResponse("r30") @MessageInteractionResponse("r30") @StringSelectionResponse("r30") @EntitySelectionResponse("r30") @AutoCompleteResponse(slashCommandId = "r30", focusedOption = "o") @EmoteResponse(value = "r30", isAdding = true)
+    public void handler30(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r31") @ModalResponse("r31") @SlashResponse("r31") @UserInteractionResponse("r31") @MessageInteractionResponse("r31") @StringSelectionResponse("r31") @EntitySelectionResponse("r31") @AutoCompleteResponse(slashCommandId = "r31", focusedOption = "o") @EmoteResponse(value = "r31", isAdding = true)
+    public void handler31(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r32") @ModalResponse("r32") @SlashResponse("r32") @UserInteractionResponse("r32") @MessageInteractionResponse("r32") @StringSelectionResponse("r32") @EntitySelectionResponse("r32") @AutoCompleteResponse(slashCommandId = "r32", focusedOption = "o") @EmoteResponse(value = "r32", isAdding = true)
+    public void handler32(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r33") @ModalResponse("r33") @SlashResponse("r33") @UserInteractionResponse("r33") @MessageInteractionResponse("r33") @StringSelectionResponse("r33") @EntitySelectionResponse("r33") @AutoCompleteResponse(slashCommandId = "r33", focusedOption = "o") @EmoteResponse(value = "r33", isAdding = true)
+    public void handler33(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r34") @ModalResponse("r34") @SlashResponse("r34") @UserInteractionResponse("r34") @MessageInteractionResponse("r34") @StringSelectionResponse("r34") @EntitySelectionResponse("r34") @AutoCompleteResponse(slashCommandId = "r34", focusedOption = "o") @EmoteResponse(value = "r34", isAdding = true)
+    public void handler34(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r35") @ModalResponse("r35") @SlashResponse("r35") @UserInteractionResponse("r35") @MessageInteractionResponse("r35") @StringSelectionResponse("r35") @EntitySelectionResponse("r35") @AutoCompleteResponse(slashCommandId = "r35", focusedOption = "o") @EmoteResponse(value = "r35", isAdding = true)
+    public void handler35(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r36") @ModalResponse("r36") @SlashResponse("r36") @UserInteractionResponse("r36") @MessageInteractionResponse("r36") @StringSelectionResponse("r36") @EntitySelectionResponse("r36") @AutoCompleteResponse(slashCommandId = "r36", focusedOption = "o") @EmoteResponse(value = "r36", isAdding = true)
+    public void handler36(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r37") @ModalResponse("r37") @SlashResponse("r37") @UserInteractionResponse("r37") @MessageInteractionResponse("r37") @StringSelectionResponse("r37") @EntitySelectionResponse("r37") @AutoCompleteResponse(slashCommandId = "r37", focusedOption = "o") @EmoteResponse(value = "r37", isAdding = true)
+    public void handler37(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r38") @ModalResponse("r38") @SlashResponse("r38") @UserInteractionResponse("r38") @MessageInteractionResponse("r38") @StringSelectionResponse("r38") @EntitySelectionResponse("r38") @AutoCompleteResponse(slashCommandId = "r38", focusedOption = "o") @EmoteResponse(value = "r38", isAdding = true)
+    public void handler38(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r39") @ModalResponse("r39") @SlashResponse("r39") @UserInteractionResponse("r39") @MessageInteractionResponse("r39") @StringSelectionResponse("r39") @EntitySelectionResponse("r39") @AutoCompleteResponse(slashCommandId = "r39", focusedOption = "o") @EmoteResponse(value = "r39", isAdding = true)
+    public void handler39(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r40") @ModalResponse("r40") @SlashResponse("r40") @UserInteractionResponse("r40") @MessageInteractionResponse("r40") @StringSelectionResponse("r40") @EntitySelectionResponse("r40") @AutoCompleteResponse(slashCommandId = "r40", focusedOption = "o") @EmoteResponse(value = "r40", isAdding = true)
+    public void handler40(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r41") @ModalResponse("r41") @SlashResponse("r41") @UserInteractionResponse("r41") @MessageInteractionResponse("r41") @StringSelectionResponse("r41") @EntitySelectionResponse("r41") @AutoCompleteResponse(slashCommandId = "r41", focusedOption = "o") @EmoteResponse(value = "r41", isAdding = true)
+    public void handler41(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r42") @ModalResponse("r42") @SlashResponse("r42") @UserInteractionResponse("r42") @MessageInteractionResponse("r42") @StringSelectionResponse("r42") @EntitySelectionResponse("r42") @AutoCompleteResponse(slashCommandId = "r42", focusedOption = "o") @EmoteResponse(value = "r42", isAdding = true)
+    public void handler42(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r43") @ModalResponse("r43") @SlashResponse("r43") @UserInteractionResponse("r43") @MessageInteractionResponse("r43") @StringSelectionResponse("r43") @EntitySelectionResponse("r43") @AutoCompleteResponse(slashCommandId = "r43", focusedOption = "o") @EmoteResponse(value = "r43", isAdding = true)
+    public void handler43(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r44") @ModalResponse("r44") @SlashResponse("r44") @UserInteractionResponse("r44") @MessageInteractionResponse("r44") @StringSelectionResponse("r44") @EntitySelectionResponse("r44") @AutoCompleteResponse(slashCommandId = "r44", focusedOption = "o") @EmoteResponse(value = "r44", isAdding = true)
+    public void handler44(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r45") @ModalResponse("r45") @SlashResponse("r45") @UserInteractionResponse("r45") @MessageInteractionResponse("r45") @StringSelectionResponse("r45") @EntitySelectionResponse("r45") @AutoCompleteResponse(slashCommandId = "r45", focusedOption = "o") @EmoteResponse(value = "r45", isAdding = true)
+    public void handler45(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r46") @ModalResponse("r46") @SlashResponse("r46") @UserInteractionResponse("r46") @MessageInteractionResponse("r46") @StringSelectionResponse("r46") @EntitySelectionResponse("r46") @AutoCompleteResponse(slashCommandId = "r46", focusedOption = "o") @EmoteResponse(value = "r46", isAdding = true)
+    public void handler46(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r47") @ModalResponse("r47") @SlashResponse("r47") @UserInteractionResponse("r47") @MessageInteractionResponse("r47") @StringSelectionResponse("r47") @EntitySelectionResponse("r47") @AutoCompleteResponse(slashCommandId = "r47", focusedOption = "o") @EmoteResponse(value = "r47", isAdding = true)
+    public void handler47(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r48") @ModalResponse("r48") @SlashResponse("r48") @UserInteractionResponse("r48") @MessageInteractionResponse("r48") @StringSelectionResponse("r48") @EntitySelectionResponse("r48") @AutoCompleteResponse(slashCommandId = "r48", focusedOption = "o") @EmoteResponse(value = "r48", isAdding = true)
+    public void handler48(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r49") @ModalResponse("r49") @SlashResponse("r49") @UserInteractionResponse("r49") @MessageInteractionResponse("r49") @StringSelectionResponse("r49") @EntitySelectionResponse("r49") @AutoCompleteResponse(slashCommandId = "r49", focusedOption = "o") @EmoteResponse(value = "r49", isAdding = true)
+    public void handler49(GenericEvent event){ calls++; }
+}
@@ -0,0 +1,1518 @@
+package com.zgamelogic.benchmarks;
+
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.InvocationMode;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * Listener with 500 handler methods, each bound to route r&lt;index&gt; of every event type.
+ * Written by {@link ListenerGenerator}, regenerate rather than edit by hand.
+ */
+public class Listener500 extends AdvancedListenerAdapter {
+
+    public long calls;
+
+    public Listener500(InvocationMode mode){
+        super(mode);
+    }
+
+    @ButtonResponse("r0") @ModalResponse("r0") @SlashResponse("r0") @UserInteractionResponse("r0") @MessageInteractionResponse("r0") @StringSelectionResponse("r0") @EntitySelectionResponse("r0") @AutoCompleteResponse(slashCommandId = "r0", focusedOption = "o") @EmoteResponse(value = "r0", isAdding = true)
+    public void handler0(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r1") @ModalResponse("r1") @SlashResponse("r1") @UserInteractionResponse("r1") @MessageInteractionResponse("r1") @StringSelectionResponse("r1") @EntitySelectionResponse("r1") @AutoCompleteResponse(slashCommandId = "r1", focusedOption = "o") @EmoteResponse(value = "r1", isAdding = true)
+    public void handler1(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r2") @ModalResponse("r2") @SlashResponse("r2") @UserInteractionResponse("r2") @MessageInteractionResponse("r2") @StringSelectionResponse("r2") @EntitySelectionResponse("r2") @AutoCompleteResponse(slashCommandId = "r2", focusedOption = "o") @EmoteResponse(value = "r2", isAdding = true)
+    public void handler2(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r3") @ModalResponse("r3") @SlashResponse("r3") @UserInteractionResponse("r3") @MessageInteractionResponse("r3") @StringSelectionResponse("r3") @EntitySelectionResponse("r3") @AutoCompleteResponse(slashCommandId = "r3", focusedOption = "o") @EmoteResponse(value = "r3", isAdding = true)
+    public void handler3(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r4") @ModalResponse("r4") @SlashResponse("r4") @UserInteractionResponse("r4") @MessageInteractionResponse("r4") @StringSelectionResponse("r4") @EntitySelectionResponse("r4") @AutoCompleteResponse(slashCommandId = "r4", focusedOption = "o") @EmoteResponse(value = "r4", isAdding = true)
+    public void handler4(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r5") @ModalResponse("r5") @SlashResponse("r5") @UserInteractionResponse("r5") @MessageInteractionResponse("r5") @StringSelectionResponse("r5") @EntitySelectionResponse("r5") @AutoCompleteResponse(slashCommandId = "r5", focusedOption = "o") @EmoteResponse(value = "r5", isAdding = true)
+    public void handler5(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r6") @ModalResponse("r6") @SlashResponse("r6") @UserInteractionResponse("r6") @MessageInteractionResponse("r6") @StringSelectionResponse("r6") @EntitySelectionResponse("r6") @AutoCompleteResponse(slashCommandId = "r6", focusedOption = "o") @EmoteResponse(value = "r6", isAdding = true)
+    public void handler6(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r7") @ModalResponse("r7") @SlashResponse("r7") @UserInteractionResponse("r7") @MessageInteractionResponse("r7") @StringSelectionResponse("r7") @EntitySelectionResponse("r7") @AutoCompleteResponse(slashCommandId = "r7", focusedOption = "o") @EmoteResponse(value = "r7", isAdding = true)
+    public void handler7(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r8") @ModalResponse("r8") @SlashResponse("r8") @UserInteractionResponse("r8") @MessageInteractionResponse("r8") @StringSelectionResponse("r8") @EntitySelectionResponse("r8") @AutoCompleteResponse(slashCommandId = "r8", focusedOption = "o") @EmoteResponse(value = "r8", isAdding = true)
+    public void handler8(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r9") @ModalResponse("r9") @SlashResponse("r9") @UserInteractionResponse("r9") @MessageInteractionResponse("r9") @StringSelectionResponse("r9") @EntitySelectionResponse("r9") @AutoCompleteResponse(slashCommandId = "r9", focusedOption = "o") @EmoteResponse(value = "r9", isAdding = true)
+    public void handler9(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r10") @ModalResponse("r10") @SlashResponse("r10") @UserInteractionResponse("r10") @MessageInteractionResponse("r10") @StringSelectionResponse("r10") @EntitySelectionResponse("r10") @AutoCompleteResponse(slashCommandId = "r10", focusedOption = "o") @EmoteResponse(value = "r10", isAdding = true)
+    public void handler10(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r11") @ModalResponse("r11") @SlashResponse("r11") @UserInteractionResponse("r11") @MessageInteractionResponse("r11") @StringSelectionResponse("r11") @EntitySelectionResponse("r11") @AutoCompleteResponse(slashCommandId = "r11", focusedOption = "o") @EmoteResponse(value = "r11", isAdding = true)
+    public void handler11(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r12") @ModalResponse("r12") @SlashResponse("r12") @UserInteractionResponse("r12") @MessageInteractionResponse("r12") @StringSelectionResponse("r12") @EntitySelectionResponse("r12") @AutoCompleteResponse(slashCommandId = "r12", focusedOption = "o") @EmoteResponse(value = "r12", isAdding = true)
+    public void handler12(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r13") @ModalResponse("r13") @SlashResponse("r13") @UserInteractionResponse("r13") @MessageInteractionResponse("r13") @StringSelectionResponse("r13") @EntitySelectionResponse("r13") @AutoCompleteResponse(slashCommandId = "r13", focusedOption = "o") @EmoteResponse(value = "r13", isAdding = true)
+    public void handler13(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r14") @ModalResponse("r14") @SlashResponse("r14") @UserInteractionResponse("r14") @MessageInteractionResponse("r14") @StringSelectionResponse("r14") @EntitySelectionResponse("r14") @AutoCompleteResponse(slashCommandId = "r14", focusedOption = "o") @EmoteResponse(value = "r14", isAdding = true)
+    public void handler14(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r15") @ModalResponse("r15") @SlashResponse("r15") @UserInteractionResponse("r15") @MessageInteractionResponse("r15") @StringSelectionResponse("r15") @EntitySelectionResponse("r15") @AutoCompleteResponse(slashCommandId = "r15", focusedOption = "o") @EmoteResponse(value = "r15", isAdding = true)
+    public void handler15(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r16") @ModalResponse("r16") @SlashResponse("r16") @UserInteractionResponse("r16") @MessageInteractionResponse("r16") @StringSelectionResponse("r16") @EntitySelectionResponse("r16") @AutoCompleteResponse(slashCommandId = "r16", focusedOption = "o") @EmoteResponse(value = "r16", isAdding = true)
+    public void handler16(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r17") @ModalResponse("r17") @SlashResponse("r17") @UserInteractionResponse("r17") @MessageInteractionResponse("r17") @StringSelectionResponse("r17") @EntitySelectionResponse("r17") @AutoCompleteResponse(slashCommandId = "r17", focusedOption = "o") @EmoteResponse(value = "r17", isAdding = true)
+    public void handler17(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r18") @ModalResponse("r18") @SlashResponse("r18") @UserInteractionResponse("r18") @MessageInteractionResponse("r18") @StringSelectionResponse("r18") @EntitySelectionResponse("r18") @AutoCompleteResponse(slashCommandId = "r18", focusedOption = "o") @EmoteResponse(value = "r18", isAdding = true)
+    public void handler18(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r19") @ModalResponse("r19") @SlashResponse("r19") @UserInteractionResponse("r19") @MessageInteractionResponse("r19") @StringSelectionResponse("r19") @EntitySelectionResponse("r19") @AutoCompleteResponse(slashCommandId = "r19", focusedOption = "o") @EmoteResponse(value = "r19", isAdding = true)
+    public void handler19(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r20") @ModalResponse("r20") @SlashResponse("r20") @UserInteractionResponse("r20") @MessageInteractionResponse("r20") @StringSelectionResponse("r20") @EntitySelectionResponse("r20") @AutoCompleteResponse(slashCommandId = "r20", focusedOption = "o") @EmoteResponse(value = "r20", isAdding = true)
+    public void handler20(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r21") @ModalResponse("r21") @SlashResponse("r21") @UserInteractionResponse("r21") @MessageInteractionResponse("r21") @StringSelectionResponse("r21") @EntitySelectionResponse("r21") @AutoCompleteResponse(slashCommandId = "r21", focusedOption = "o") @EmoteResponse(value = "r21", isAdding = true)
+    public void handler21(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r22") @ModalResponse("r22") @SlashResponse("r22") @UserInteractionResponse("r22") @MessageInteractionResponse("r22") @StringSelectionResponse("r22") @EntitySelectionResponse("r22") @AutoCompleteResponse(slashCommandId = "r22", focusedOption = "o") @EmoteResponse(value = "r22", isAdding = true)
+    public void handler22(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r23") @ModalResponse("r23") @SlashResponse("r23") @UserInteractionResponse("r23") @MessageInteractionResponse("r23") @StringSelectionResponse("r23") @EntitySelectionResponse("r23") @AutoCompleteResponse(slashCommandId = "r23", focusedOption = "o") @EmoteResponse(value = "r23", isAdding = true)
+    public void handler23(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r24") @ModalResponse("r24") @SlashResponse("r24") @UserInteractionResponse("r24") @MessageInteractionResponse("r24") @StringSelectionResponse("r24") @EntitySelectionResponse("r24") @AutoCompleteResponse(slashCommandId = "r24", focusedOption = "o") @EmoteResponse(value = "r24", isAdding = true)
+    public void handler24(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r25") @ModalResponse("r25") @SlashResponse("r25") @UserInteractionResponse("r25") @MessageInteractionResponse("r25") @StringSelectionResponse("r25") @EntitySelectionResponse("r25") @AutoCompleteResponse(slashCommandId = "r25", focusedOption = "o") @EmoteResponse(value = "r25", isAdding = true)
+    public void handler25(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r26") @ModalResponse("r26") @SlashResponse("r26") @UserInteractionResponse("r26") @MessageInteractionResponse("r26") @StringSelectionResponse("r26") @EntitySelectionResponse("r26") @AutoCompleteResponse(slashCommandId = "r26", focusedOption = "o") @EmoteResponse(value = "r26", isAdding = true)
+    public void handler26(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r27") @ModalResponse("r27") @SlashResponse("r27") @UserInteractionResponse("r27") @MessageInteractionResponse("r27") @StringSelectionResponse("r27") @EntitySelectionResponse("r27") @AutoCompleteResponse(slashCommandId = "r27", focusedOption = "o") @EmoteResponse(value = "r27", isAdding = true)
+    public void handler27(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r28") @ModalResponse("r28") @SlashResponse("r28") @UserInteractionResponse("r28") @MessageInteractionResponse("r28") @StringSelectionResponse("r28") @EntitySelectionResponse("r28") @AutoCompleteResponse(slashCommandId = "r28", focusedOption = "o") @EmoteResponse(value = "r28", isAdding = true)
+    public void handler28(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r29") @ModalResponse("r29") @SlashResponse("r29") @UserInteractionResponse("r29") @MessageInteractionResponse("r29") @StringSelectionResponse("r29") @EntitySelectionResponse("r29") @AutoCompleteResponse(slashCommandId = "r29", focusedOption = "o") @EmoteResponse(value = "r29", isAdding = true)
+    public void handler29(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r30") @ModalResponse("r30") @SlashResponse("r30") @UserInteractionResponse("r30") @MessageInteractionResponse("r30") @StringSelectionResponse("r30") @EntitySelectionResponse("r30") @AutoCompleteResponse(slashCommandId = "r30", focusedOption = "o") @EmoteResponse(value = "r30", isAdding = true)
+    public void handler30(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r31") @ModalResponse("r31") @SlashResponse("r31") @UserInteractionResponse("r31") @MessageInteractionResponse("r31") @StringSelectionResponse("r31") @EntitySelectionResponse("r31") @AutoCompleteResponse(slashCommandId = "r31", focusedOption = "o") @EmoteResponse(value = "r31", isAdding = true)
+    public void handler31(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r32") @ModalResponse("r32") @SlashResponse("r32") @UserInteractionResponse("r32") @MessageInteractionResponse("r32") @StringSelectionResponse("r32") @EntitySelectionResponse("r32") @AutoCompleteResponse(slashCommandId = "r32", focusedOption = "o") @EmoteResponse(value = "r32", isAdding = true)
+    public void handler32(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r33") @ModalResponse("r33") @SlashResponse("r33") @UserInteractionResponse("r33") @MessageInteractionResponse("r33") @StringSelectionResponse("r33") @EntitySelectionResponse("r33") @AutoCompleteResponse(slashCommandId = "r33", focusedOption = "o") @EmoteResponse(value = "r33", isAdding = true)
+    public void handler33(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r34") @ModalResponse("r34") @SlashResponse("r34") @UserInteractionResponse("r34") @MessageInteractionResponse("r34") @StringSelectionResponse("r34") @EntitySelectionResponse("r34") @AutoCompleteResponse(slashCommandId = "r34", focusedOption = "o") @EmoteResponse(value = "r34", isAdding = true)
+    public void handler34(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r35") @ModalResponse("r35") @SlashResponse("r35") @UserInteractionResponse("r35") @MessageInteractionResponse("r35") @StringSelectionResponse("r35") @EntitySelectionResponse("r35") @AutoCompleteResponse(slashCommandId = "r35", focusedOption = "o") @EmoteResponse(value = "r35", isAdding = true)
+    public void handler35(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r36") @ModalResponse("r36") @SlashResponse("r36") @UserInteractionResponse("r36") @MessageInteractionResponse("r36") @StringSelectionResponse("r36") @EntitySelectionResponse("r36") @AutoCompleteResponse(slashCommandId = "r36", focusedOption = "o") @EmoteResponse(value = "r36", isAdding = true)
+    public void handler36(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r37") @ModalResponse("r37") @SlashResponse("r37") @UserInteractionResponse("r37") @MessageInteractionResponse("r37") @StringSelectionResponse("r37") @EntitySelectionResponse("r37") @AutoCompleteResponse(slashCommandId = "r37", focusedOption = "o") @EmoteResponse(value = "r37", isAdding = true)
+    public void handler37(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r38") @ModalResponse("r38") @SlashResponse("r38") @UserInteractionResponse("r38") @MessageInteractionResponse("r38") @StringSelectionResponse("r38") @EntitySelectionResponse("r38") @AutoCompleteResponse(slashCommandId = "r38", focusedOption = "o") @EmoteResponse(value = "r38", isAdding = true)
+    public void handler38(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r39") @ModalResponse("r39") @SlashResponse("r39") @UserInteractionResponse("r39") @MessageInteractionResponse("r39") @StringSelectionResponse("r39") @EntitySelectionResponse("r39") @AutoCompleteResponse(slashCommandId = "r39", focusedOption = "o") @EmoteResponse(value = "r39", isAdding = true)
+    public void handler39(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r40") @ModalResponse("r40") @SlashResponse("r40") @UserInteractionResponse("r40") @MessageInteractionResponse("r40") @StringSelectionResponse("r40") @EntitySelectionResponse("r40") @AutoCompleteResponse(slashCommandId = "r40", focusedOption = "o") @EmoteResponse(value = "r40", isAdding = true)
+    public void handler40(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r41") @ModalResponse("r41") @SlashResponse("r41") @UserInteractionResponse("r41") @MessageInteractionResponse("r41") @StringSelectionResponse("r41") @EntitySelectionResponse("r41") @AutoCompleteResponse(slashCommandId = "r41", focusedOption = "o") @EmoteResponse(value = "r41", isAdding = true)
+    public void handler41(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r42") @ModalResponse("r42") @SlashResponse("r42") @UserInteractionResponse("r42") @MessageInteractionResponse("r42") @StringSelectionResponse("r42") @EntitySelectionResponse("r42") @AutoCompleteResponse(slashCommandId = "r42", focusedOption = "o") @EmoteResponse(value = "r42", isAdding = true)
+    public void handler42(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r43") @ModalResponse("r43") @SlashResponse("r43") @UserInteractionResponse("r43") @MessageInteractionResponse("r43") @StringSelectionResponse("r43") @EntitySelectionResponse("r43") @AutoCompleteResponse(slashCommandId = "r43", focusedOption = "o") @EmoteResponse(value = "r43", isAdding = true)
+    public void handler43(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r44") @ModalResponse("r44") @SlashResponse("r44") @UserInteractionResponse("r44") @MessageInteractionResponse("r44") @StringSelectionResponse("r44") @EntitySelectionResponse("r44") @AutoCompleteResponse(slashCommandId = "r44", focusedOption = "o") @EmoteResponse(value = "r44", isAdding = true)
+    public void handler44(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r45") @ModalResponse("r45") @SlashResponse("r45") @UserInteractionResponse("r45") @MessageInteractionResponse("r45") @StringSelectionResponse("r45") @EntitySelectionResponse("r45") @AutoCompleteResponse(slashCommandId = "r45", focusedOption = "o") @EmoteResponse(value = "r45", isAdding = true)
+    public void handler45(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r46") @ModalResponse("r46") @SlashResponse("r46") @UserInteractionResponse("r46") @MessageInteractionResponse("r46") @StringSelectionResponse("r46") @EntitySelectionResponse("r46") @AutoCompleteResponse(slashCommandId = "r46", focusedOption = "o") @EmoteResponse(value = "r46", isAdding = true)
+    public void handler46(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r47") @ModalResponse("r47") @SlashResponse("r47") @UserInteractionResponse("r47") @MessageInteractionResponse("r47") @StringSelectionResponse("r47") @EntitySelectionResponse("r47") @AutoCompleteResponse(slashCommandId = "r47", focusedOption = "o") @EmoteResponse(value = "r47", isAdding = true)
+    public void handler47(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r48") @ModalResponse("r48") @SlashResponse("r48") @UserInteractionResponse("r48") @MessageInteractionResponse("r48") @StringSelectionResponse("r48") @EntitySelectionResponse("r48") @AutoCompleteResponse(slashCommandId = "r48", focusedOption = "o") @EmoteResponse(value = "r48", isAdding = true)
+    public void handler48(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r49") @ModalResponse("r49") @SlashResponse("r49") @UserInteractionResponse("r49") @MessageInteractionResponse("r49") @StringSelectionResponse("r49") @EntitySelectionResponse("r49") @AutoCompleteResponse(slashCommandId = "r49", focusedOption = "o") @EmoteResponse(value = "r49", isAdding = true)
+    public void handler49(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r50") @ModalResponse("r50") @SlashResponse("r50") @UserInteractionResponse("r50") @MessageInteractionResponse("r50") @StringSelectionResponse("r50") @EntitySelectionResponse("r50") @AutoCompleteResponse(slashCommandId = "r50", focusedOption = "o") @EmoteResponse(value = "r50", isAdding = true)
+    public void handler50(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r51") @ModalResponse("r51") @SlashResponse("r51") @UserInteractionResponse("r51") @MessageInteractionResponse("r51") @StringSelectionResponse("r51") @EntitySelectionResponse("r51") @AutoCompleteResponse(slashCommandId = "r51", focusedOption = "o") @EmoteResponse(value = "r51", isAdding = true)
+    public void handler51(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r52") @ModalResponse("r52") @SlashResponse("r52") @UserInteractionResponse("r52") @MessageInteractionResponse("r52") @StringSelectionResponse("r52") @EntitySelectionResponse("r52") @AutoCompleteResponse(slashCommandId = "r52", focusedOption = "o") @EmoteResponse(value = "r52", isAdding = true)
+    public void handler52(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r53") @ModalResponse("r53") @SlashResponse("r53") @UserInteractionResponse("r53") @MessageInteractionResponse("r53") @StringSelectionResponse("r53") @EntitySelectionResponse("r53") @AutoCompleteResponse(slashCommandId = "r53", focusedOption = "o") @EmoteResponse(value = "r53", isAdding = true)
+    public void handler53(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r54") @ModalResponse("r54") @SlashResponse("r54") @UserInteractionResponse("r54") @MessageInteractionResponse("r54") @StringSelectionResponse("r54") @EntitySelectionResponse("r54") @AutoCompleteResponse(slashCommandId = "r54", focusedOption = "o") @EmoteResponse(value = "r54", isAdding = true)
+    public void handler54(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r55") @ModalResponse("r55") @SlashResponse("r55") @UserInteractionResponse("r55") @MessageInteractionResponse("r55") @StringSelectionResponse("r55") @EntitySelectionResponse("r55") @AutoCompleteResponse(slashCommandId = "r55", focusedOption = "o") @EmoteResponse(value = "r55", isAdding = true)
+    public void handler55(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r56") @ModalResponse("r56") @SlashResponse("r56") @UserInteractionResponse("r56") @MessageInteractionResponse("r56") @StringSelectionResponse("r56") @EntitySelectionResponse("r56") @AutoCompleteResponse(slashCommandId = "r56", focusedOption = "o") @EmoteResponse(value = "r56", isAdding = true)
+    public void handler56(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r57") @ModalResponse("r57") @SlashResponse("r57") @UserInteractionResponse("r57") @MessageInteractionResponse("r57") @StringSelectionResponse("r57") @EntitySelectionResponse("r57") @AutoCompleteResponse(slashCommandId = "r57", focusedOption = "o") @EmoteResponse(value = "r57", isAdding = true)
+    public void handler57(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r58") @ModalResponse("r58") @SlashResponse("r58") @UserInteractionResponse("r58") @MessageInteractionResponse("r58") @StringSelectionResponse("r58") @EntitySelectionResponse("r58") @AutoCompleteResponse(slashCommandId = "r58", focusedOption = "o") @EmoteResponse(value = "r58", isAdding = true)
+    public void handler58(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r59") @ModalResponse("r59") @SlashResponse("r59") @UserInteractionResponse("r59") @MessageInteractionResponse("r59") @StringSelectionResponse("r59") @EntitySelectionResponse("r59") @AutoCompleteResponse(slashCommandId = "r59", focusedOption = "o") @EmoteResponse(value = "r59", isAdding = true)
+    public void handler59(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r60") @ModalResponse("r60") @SlashResponse("r60") @UserInteractionResponse("r60") @MessageInteractionResponse("r60") @StringSelectionResponse("r60") @EntitySelectionResponse("r60") @AutoCompleteResponse(slashCommandId = "r60", focusedOption = "o") @EmoteResponse(value = "r60", isAdding = true)
+    public void handler60(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r61") @ModalResponse("r61") @SlashResponse("r61") @UserInteractionResponse("r61") @MessageInteractionResponse("r61") @StringSelectionResponse("r61") @EntitySelectionResponse("r61") @AutoCompleteResponse(slashCommandId = "r61", focusedOption = "o") @EmoteResponse(value = "r61", isAdding = true)
+    public void handler61(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r62") @ModalResponse("r62") @SlashResponse("r62") @UserInteractionResponse("r62") @MessageInteractionResponse("r62") @StringSelectionResponse("r62") @EntitySelectionResponse("r62") @AutoCompleteResponse(slashCommandId = "r62", focusedOption = "o") @EmoteResponse(value = "r62", isAdding = true)
+    public void handler62(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r63") @ModalResponse("r63") @SlashResponse("r63") @UserInteractionResponse("r63") @MessageInteractionResponse("r63") @StringSelectionResponse("r63") @EntitySelectionResponse("r63") @AutoCompleteResponse(slashCommandId = "r63", focusedOption = "o") @EmoteResponse(value = "r63", isAdding = true)
+    public void handler63(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r64") @ModalResponse("r64") @SlashResponse("r64") @UserInteractionResponse("r64") @MessageInteractionResponse("r64") @StringSelectionResponse("r64") @EntitySelectionResponse("r64") @AutoCompleteResponse(slashCommandId = "r64", focusedOption = "o") @EmoteResponse(value = "r64", isAdding = true)
+    public void handler64(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r65") @ModalResponse("r65") @SlashResponse("r65") @UserInteractionResponse("r65") @MessageInteractionResponse("r65") @StringSelectionResponse("r65") @EntitySelectionResponse("r65") @AutoCompleteResponse(slashCommandId = "r65", focusedOption = "o") @EmoteResponse(value = "r65", isAdding = true)
+    public void handler65(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r66") @ModalResponse("r66") @SlashResponse("r66") @UserInteractionResponse("r66") @MessageInteractionResponse("r66") @StringSelectionResponse("r66") @EntitySelectionResponse("r66") @AutoCompleteResponse(slashCommandId = "r66", focusedOption = "o") @EmoteResponse(value = "r66", isAdding = true)
+    public void handler66(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r67") @ModalResponse("r67") @SlashResponse("r67") @UserInteractionResponse("r67") @MessageInteractionResponse("r67") @StringSelectionResponse("r67") @EntitySelectionResponse("r67") @AutoCompleteResponse(slashCommandId = "r67", focusedOption = "o") @EmoteResponse(value = "r67", isAdding = true)
+    public void handler67(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r68") @ModalResponse("r68") @SlashResponse("r68") @UserInteractionResponse("r68") @MessageInteractionResponse("r68") @StringSelectionResponse("r68") @EntitySelectionResponse("r68") @AutoCompleteResponse(slashCommandId = "r68", focusedOption = "o") @EmoteResponse(value = "r68", isAdding = true)
+    public void handler68(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r69") @ModalResponse("r69") @SlashResponse("r69") @UserInteractionResponse("r69") @MessageInteractionResponse("r69") @StringSelectionResponse("r69") @EntitySelectionResponse("r69") @AutoCompleteResponse(slashCommandId = "r69", focusedOption = "o") @EmoteResponse(value = "r69", isAdding = true)
+    public void handler69(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r70") @ModalResponse("r70") @SlashResponse("r70") @UserInteractionResponse("r70") @MessageInteractionResponse("r70") @StringSelectionResponse("r70") @EntitySelectionResponse("r70") @AutoCompleteResponse(slashCommandId = "r70", focusedOption = "o") @EmoteResponse(value = "r70", isAdding = true)
+    public void handler70(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r71") @ModalResponse("r71") @SlashResponse("r71") @UserInteractionResponse("r71") @MessageInteractionResponse("r71") @StringSelectionResponse("r71") @EntitySelectionResponse("r71") @AutoCompleteResponse(slashCommandId = "r71", focusedOption = "o") @EmoteResponse(value = "r71", isAdding = true)
+    public void handler71(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r72") @ModalResponse("r72") @SlashResponse("r72") @UserInteractionResponse("r72") @MessageInteractionResponse("r72") @StringSelectionResponse("r72") @EntitySelectionResponse("r72") @AutoCompleteResponse(slashCommandId = "r72", focusedOption = "o") @EmoteResponse(value = "r72", isAdding = true)
+    public void handler72(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r73") @ModalResponse("r73") @SlashResponse("r73") @UserInteractionResponse("r73") @MessageInteractionResponse("r73") @StringSelectionResponse("r73") @EntitySelectionResponse("r73") @AutoCompleteResponse(slashCommandId = "r73", focusedOption = "o") @EmoteResponse(value = "r73", isAdding = true)
+    public void handler73(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r74") @ModalResponse("r74") @SlashResponse("r74") @UserInteractionResponse("r74") @MessageInteractionResponse("r74") @StringSelectionResponse("r74") @EntitySelectionResponse("r74") @AutoCompleteResponse(slashCommandId = "r74", focusedOption = "o") @EmoteResponse(value = "r74", isAdding = true)
+    public void handler74(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r75") @ModalResponse("r75") @SlashResponse("r75") @UserInteractionResponse("r75") @MessageInteractionResponse("r75") @StringSelectionResponse("r75") @EntitySelectionResponse("r75") @AutoCompleteResponse(slashCommandId = "r75", focusedOption = "o") @EmoteResponse(value = "r75", isAdding = true)
+    public void handler75(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r76") @ModalResponse("r76") @SlashResponse("r76") @UserInteractionResponse("r76") @MessageInteractionResponse("r76") @StringSelectionResponse("r76") @EntitySelectionResponse("r76") @AutoCompleteResponse(slashCommandId = "r76", focusedOption = "o") @EmoteResponse(value = "r76", isAdding = true)
+    public void handler76(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r77") @ModalResponse("r77") @SlashResponse("r77") @UserInteractionResponse("r77") @MessageInteractionResponse("r77") @StringSelectionResponse("r77") @EntitySelectionResponse("r77") @AutoCompleteResponse(slashCommandId = "r77", focusedOption = "o") @EmoteResponse(value = "r77", isAdding = true)
+    public void handler77(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r78") @ModalResponse("r78") @SlashResponse("r78") @UserInteractionResponse("r78") @MessageInteractionResponse("r78") @StringSelectionResponse("r78") @EntitySelectionResponse("r78") @AutoCompleteResponse(slashCommandId = "r78", focusedOption = "o") @EmoteResponse(value = "r78", isAdding = true)
+    public void handler78(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r79") @ModalResponse("r79") @SlashResponse("r79") @UserInteractionResponse("r79") @MessageInteractionResponse("r79") @StringSelectionResponse("r79") @EntitySelectionResponse("r79") @AutoCompleteResponse(slashCommandId = "r79", focusedOption = "o") @EmoteResponse(value = "r79", isAdding = true)
+    public void handler79(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r80") @ModalResponse("r80") @SlashResponse("r80") @UserInteractionResponse("r80") @MessageInteractionResponse("r80") @StringSelectionResponse("r80") @EntitySelectionResponse("r80") @AutoCompleteResponse(slashCommandId = "r80", focusedOption = "o") @EmoteResponse(value = "r80", isAdding = true)
+    public void handler80(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r81") @ModalResponse("r81") @SlashResponse("r81") @UserInteractionResponse("r81") @MessageInteractionResponse("r81") @StringSelectionResponse("r81") @EntitySelectionResponse("r81") @AutoCompleteResponse(slashCommandId = "r81", focusedOption = "o") @EmoteResponse(value = "r81", isAdding = true)
+    public void handler81(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r82") @ModalResponse("r82") @SlashResponse("r82") @UserInteractionResponse("r82") @MessageInteractionResponse("r82") @StringSelectionResponse("r82") @EntitySelectionResponse("r82") @AutoCompleteResponse(slashCommandId = "r82", focusedOption = "o") @EmoteResponse(value = "r82", isAdding = true)
+    public void handler82(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r83") @ModalResponse("r83") @SlashResponse("r83") @UserInteractionResponse("r83") @MessageInteractionResponse("r83") @StringSelectionResponse("r83") @EntitySelectionResponse("r83") @AutoCompleteResponse(slashCommandId = "r83", focusedOption = "o") @EmoteResponse(value = "r83", isAdding = true)
+    public void handler83(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r84") @ModalResponse("r84") @SlashResponse("r84") @UserInteractionResponse("r84") @MessageInteractionResponse("r84") @StringSelectionResponse("r84") @EntitySelectionResponse("r84") @AutoCompleteResponse(slashCommandId = "r84", focusedOption = "o") @EmoteResponse(value = "r84", isAdding = true)
+    public void handler84(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r85") @ModalResponse("r85") @SlashResponse("r85") @UserInteractionResponse("r85") @MessageInteractionResponse("r85") @StringSelectionResponse("r85") @EntitySelectionResponse("r85") @AutoCompleteResponse(slashCommandId = "r85", focusedOption = "o") @EmoteResponse(value = "r85", isAdding = true)
+    public void handler85(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r86") @ModalResponse("r86") @SlashResponse("r86") @UserInteractionResponse("r86") @MessageInteractionResponse("r86") @StringSelectionResponse("r86") @EntitySelectionResponse("r86") @AutoCompleteResponse(slashCommandId = "r86", focusedOption = "o") @EmoteResponse(value = "r86", isAdding = true)
+    public void handler86(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r87") @ModalResponse("r87") @SlashResponse("r87") @UserInteractionResponse("r87") @MessageInteractionResponse("r87") @StringSelectionResponse("r87") @EntitySelectionResponse("r87") @AutoCompleteResponse(slashCommandId = "r87", focusedOption = "o") @EmoteResponse(value = "r87", isAdding = true)
+    public void handler87(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r88") @ModalResponse("r88") @SlashResponse("r88") @UserInteractionResponse("r88") @MessageInteractionResponse("r88") @StringSelectionResponse("r88") @EntitySelectionResponse("r88") @AutoCompleteResponse(slashCommandId = "r88", focusedOption = "o") @EmoteResponse(value = "r88", isAdding = true)
+    public void handler88(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r89") @ModalResponse("r89") @SlashResponse("r89") @UserInteractionResponse("r89") @MessageInteractionResponse("r89") @StringSelectionResponse("r89") @EntitySelectionResponse("r89") @AutoCompleteResponse(slashCommandId = "r89", focusedOption = "o") @EmoteResponse(value = "r89", isAdding = true)
+    public void handler89(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r90") @ModalResponse("r90") @SlashResponse("r90") @UserInteractionResponse("r90") @MessageInteractionResponse("r90") @StringSelectionResponse("r90") @EntitySelectionResponse("r90") @AutoCompleteResponse(slashCommandId = "r90", focusedOption = "o") @EmoteResponse(value = "r90", isAdding = true)
+    public void handler90(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r91") @ModalResponse("r91") @SlashResponse("r91") @UserInteractionResponse("r91") @MessageInteractionResponse("r91") @StringSelectionResponse("r91") @EntitySelectionResponse("r91") @AutoCompleteResponse(slashCommandId = "r91", focusedOption = "o") @EmoteResponse(value = "r91", isAdding = true)
+    public void handler91(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r92") @ModalResponse("r92") @SlashResponse("r92") @UserInteractionResponse("r92") @MessageInteractionResponse("r92") @StringSelectionResponse("r92") @EntitySelectionResponse("r92") @AutoCompleteResponse(slashCommandId = "r92", focusedOption = "o") @EmoteResponse(value = "r92", isAdding = true)
+    public void handler92(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r93") @ModalResponse("r93") @SlashResponse("r93") @UserInteractionResponse("r93") @MessageInteractionResponse("r93") @StringSelectionResponse("r93") @EntitySelectionResponse("r93") @AutoCompleteResponse(slashCommandId = "r93", focusedOption = "o") @EmoteResponse(value = "r93", isAdding = true)
+    public void handler93(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r94") @ModalResponse("r94") @SlashResponse("r94") @UserInteractionResponse("r94") @MessageInteractionResponse("r94") @StringSelectionResponse("r94") @EntitySelectionResponse("r94") @AutoCompleteResponse(slashCommandId = "r94", focusedOption = "o") @EmoteResponse(value = "r94", isAdding = true)
+    public void handler94(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r95") @ModalResponse("r95") @SlashResponse("r95") @UserInteractionResponse("r95") @MessageInteractionResponse("r95") @StringSelectionResponse("r95") @EntitySelectionResponse("r95") @AutoCompleteResponse(slashCommandId = "r95", focusedOption = "o") @EmoteResponse(value = "r95", isAdding = true)
+    public void handler95(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r96") @ModalResponse("r96") @SlashResponse("r96") @UserInteractionResponse("r96") @MessageInteractionResponse("r96") @StringSelectionResponse("r96") @EntitySelectionResponse("r96") @AutoCompleteResponse(slashCommandId = "r96", focusedOption = "o") @EmoteResponse(value = "r96", isAdding = true)
+    public void handler96(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r97") @ModalResponse("r97") @SlashResponse("r97") @UserInteractionResponse("r97") @MessageInteractionResponse("r97") @StringSelectionResponse("r97") @EntitySelectionResponse("r97") @AutoCompleteResponse(slashCommandId = "r97", focusedOption = "o") @EmoteResponse(value = "r97", isAdding = true)
+    public void handler97(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r98") @ModalResponse("r98") @SlashResponse("r98") @UserInteractionResponse("r98") @MessageInteractionResponse("r98") @StringSelectionResponse("r98") @EntitySelectionResponse("r98") @AutoCompleteResponse(slashCommandId = "r98", focusedOption = "o") @EmoteResponse(value = "r98", isAdding = true)
+    public void handler98(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r99") @ModalResponse("r99") @SlashResponse("r99") @UserInteractionResponse("r99") @MessageInteractionResponse("r99") @StringSelectionResponse("r99") @EntitySelectionResponse("r99") @AutoCompleteResponse(slashCommandId = "r99", focusedOption = "o") @EmoteResponse(value = "r99", isAdding = true)
+    public void handler99(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r100") @ModalResponse("r100") @SlashResponse("r100") @UserInteractionResponse("r100") @MessageInteractionResponse("r100") @StringSelectionResponse("r100") @EntitySelectionResponse("r100") @AutoCompleteResponse(slashCommandId = "r100", focusedOption = "o") @EmoteResponse(value = "r100", isAdding = true)
+    public void handler100(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r101") @ModalResponse("r101") @SlashResponse("r101") @UserInteractionResponse("r101") @MessageInteractionResponse("r101") @StringSelectionResponse("r101") @EntitySelectionResponse("r101") @AutoCompleteResponse(slashCommandId = "r101", focusedOption = "o") @EmoteResponse(value = "r101", isAdding = true)
+    public void handler101(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r102") @ModalResponse("r102") @SlashResponse("r102") @UserInteractionResponse("r102") @MessageInteractionResponse("r102") @StringSelectionResponse("r102") @EntitySelectionResponse("r102") @AutoCompleteResponse(slashCommandId = "r102", focusedOption = "o") @EmoteResponse(value = "r102", isAdding = true)
+    public void handler102(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r103") @ModalResponse("r103") @SlashResponse("r103") @UserInteractionResponse("r103") @MessageInteractionResponse("r103") @StringSelectionResponse("r103") @EntitySelectionResponse("r103") @AutoCompleteResponse(slashCommandId = "r103", focusedOption = "o") @EmoteResponse(value = "r103", isAdding = true)
+    public void handler103(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r104") @ModalResponse("r104") @SlashResponse("r104") @UserInteractionResponse("r104") @MessageInteractionResponse("r104") @StringSelectionResponse("r104") @EntitySelectionResponse("r104") @AutoCompleteResponse(slashCommandId = "r104", focusedOption = "o") @EmoteResponse(value = "r104", isAdding = true)
+    public void handler104(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r105") @ModalResponse("r105") @SlashResponse("r105") @UserInteractionResponse("r105") @MessageInteractionResponse("r105") @StringSelectionResponse("r105") @EntitySelectionResponse("r105") @AutoCompleteResponse(slashCommandId = "r105", focusedOption = "o") @EmoteResponse(value = "r105", isAdding = true)
+    public void handler105(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r106") @ModalResponse("r106") @SlashResponse("r106") @UserInteractionResponse("r106") @MessageInteractionResponse("r106") @StringSelectionResponse("r106") @EntitySelectionResponse("r106") @AutoCompleteResponse(slashCommandId = "r106", focusedOption = "o") @EmoteResponse(value = "r106", isAdding = true)
+    public void handler106(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r107") @ModalResponse("r107") @SlashResponse("r107") @UserInteractionResponse("r107") @MessageInteractionResponse("r107") @StringSelectionResponse("r107") @EntitySelectionResponse("r107") @AutoCompleteResponse(slashCommandId = "r107", focusedOption = "o") @EmoteResponse(value = "r107", isAdding = true)
+    public void handler107(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r108") @ModalResponse("r108") @SlashResponse("r108") @UserInteractionResponse("r108") @MessageInteractionResponse("r108") @StringSelectionResponse("r108") @EntitySelectionResponse("r108") @AutoCompleteResponse(slashCommandId = "r108", focusedOption = "o") @EmoteResponse(value = "r108", isAdding = true)
+    public void handler108(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r109") @ModalResponse("r109") @SlashResponse("r109") @UserInteractionResponse("r109") @MessageInteractionResponse("r109") @StringSelectionResponse("r109") @EntitySelectionResponse("r109") @AutoCompleteResponse(slashCommandId = "r109", focusedOption = "o") @EmoteResponse(value = "r109", isAdding = true)
+    public void handler109(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r110") @ModalResponse("r110") @SlashResponse("r110") @UserInteractionResponse("r110") @MessageInteractionResponse("r110") @StringSelectionResponse("r110") @EntitySelectionResponse("r110") @AutoCompleteResponse(slashCommandId = "r110", focusedOption = "o") @EmoteResponse(value = "r110", isAdding = true)
+    public void handler110(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r111") @ModalResponse("r111") @SlashResponse("r111") @UserInteractionResponse("r111") @MessageInteractionResponse("r111") @StringSelectionResponse("r111") @EntitySelectionResponse("r111") @AutoCompleteResponse(slashCommandId = "r111", focusedOption = "o") @EmoteResponse(value = "r111", isAdding = true)
+    public void handler111(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r112") @ModalResponse("r112") @SlashResponse("r112") @UserInteractionResponse("r112") @MessageInteractionResponse("r112") @StringSelectionResponse("r112") @EntitySelectionResponse("r112") @AutoCompleteResponse(slashCommandId = "r112", focusedOption = "o") @EmoteResponse(value = "r112", isAdding = true)
+    public void handler112(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r113") @ModalResponse("r113") @SlashResponse("r113") @UserInteractionResponse("r113") @MessageInteractionResponse("r113") @StringSelectionResponse("r113") @EntitySelectionResponse("r113") @AutoCompleteResponse(slashCommandId = "r113", focusedOption = "o") @EmoteResponse(value = "r113", isAdding = true)
+    public void handler113(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r114") @ModalResponse("r114") @SlashResponse("r114") @UserInteractionResponse("r114") @MessageInteractionResponse("r114") @StringSelectionResponse("r114") @EntitySelectionResponse("r114") @AutoCompleteResponse(slashCommandId = "r114", focusedOption = "o") @EmoteResponse(value = "r114", isAdding = true)
+    public void handler114(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r115") @ModalResponse("r115") @SlashResponse("r115") @UserInteractionResponse("r115") @MessageInteractionResponse("r115") @StringSelectionResponse("r115") @EntitySelectionResponse("r115") @AutoCompleteResponse(slashCommandId = "r115", focusedOption = "o") @EmoteResponse(value = "r115", isAdding = true)
+    public void handler115(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r116") @ModalResponse("r116") @SlashResponse("r116") @UserInteractionResponse("r116") @MessageInteractionResponse("r116") @StringSelectionResponse("r116") @EntitySelectionResponse("r116") @AutoCompleteResponse(slashCommandId = "r116", focusedOption = "o") @EmoteResponse(value = "r116", isAdding = true)
+    public void handler116(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r117") @ModalResponse("r117") @SlashResponse("r117") @UserInteractionResponse("r117") @MessageInteractionResponse("r117") @StringSelectionResponse("r117") @EntitySelectionResponse("r117") @AutoCompleteResponse(slashCommandId = "r117", focusedOption = "o") @EmoteResponse(value = "r117", isAdding = true)
+    public void handler117(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r118") @ModalResponse("r118") @SlashResponse("r118") @UserInteractionResponse("r118") @MessageInteractionResponse("r118") @StringSelectionResponse("r118") @EntitySelectionResponse("r118") @AutoCompleteResponse(slashCommandId = "r118", focusedOption = "o") @EmoteResponse(value = "r118", isAdding = true)
+    public void handler118(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r119") @ModalResponse("r119") @SlashResponse("r119") @UserInteractionResponse("r119") @MessageInteractionResponse("r119") @StringSelectionResponse("r119") @EntitySelectionResponse("r119") @AutoCompleteResponse(slashCommandId = "r119", focusedOption = "o") @EmoteResponse(value = "r119", isAdding = true)
+    public void handler119(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r120") @ModalResponse("r120") @SlashResponse("r120") @UserInteractionResponse("r120") @MessageInteractionResponse("r120") @StringSelectionResponse("r120") @EntitySelectionResponse("r120") @AutoCompleteResponse(slashCommandId = "r120", focusedOption = "o") @EmoteResponse(value = "r120", isAdding = true)
+    public void handler120(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r121") @ModalResponse("r121") @SlashResponse("r121") @UserInteractionResponse("r121") @MessageInteractionResponse("r121") @StringSelectionResponse("r121") @EntitySelectionResponse("r121") @AutoCompleteResponse(slashCommandId = "r121", focusedOption = "o") @EmoteResponse(value = "r121", isAdding = true)
+    public void handler121(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r122") @ModalResponse("r122") @SlashResponse("r122") @UserInteractionResponse("r122") @MessageInteractionResponse("r122") @StringSelectionResponse("r122") @EntitySelectionResponse("r122") @AutoCompleteResponse(slashCommandId = "r122", focusedOption = "o") @EmoteResponse(value = "r122", isAdding = true)
+    public void handler122(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r123") @ModalResponse("r123") @SlashResponse("r123") @UserInteractionResponse("r123") @MessageInteractionResponse("r123") @StringSelectionResponse("r123") @EntitySelectionResponse("r123") @AutoCompleteResponse(slashCommandId = "r123", focusedOption = "o") @EmoteResponse(value = "r123", isAdding = true)
+    public void handler123(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r124") @ModalResponse("r124") @SlashResponse("r124") @UserInteractionResponse("r124") @MessageInteractionResponse("r124") @StringSelectionResponse("r124") @EntitySelectionResponse("r124") @AutoCompleteResponse(slashCommandId = "r124", focusedOption = "o") @EmoteResponse(value = "r124", isAdding = true)
+    public void handler124(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r125") @ModalResponse("r125") @SlashResponse("r125") @UserInteractionResponse("r125") @MessageInteractionResponse("r125") @StringSelectionResponse("r125") @EntitySelectionResponse("r125") @AutoCompleteResponse(slashCommandId = "r125", focusedOption = "o") @EmoteResponse(value = "r125", isAdding = true)
+    public void handler125(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r126") @ModalResponse("r126") @SlashResponse("r126") @UserInteractionResponse("r126") @MessageInteractionResponse("r126") @StringSelectionResponse("r126") @EntitySelectionResponse("r126") @AutoCompleteResponse(slashCommandId = "r126", focusedOption = "o") @EmoteResponse(value = "r126", isAdding = true)
+    public void handler126(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r127") @ModalResponse("r127") @SlashResponse("r127") @UserInteractionResponse("r127") @MessageInteractionResponse("r127") @StringSelectionResponse("r127") @EntitySelectionResponse("r127") @AutoCompleteResponse(slashCommandId = "r127", focusedOption = "o") @EmoteResponse(value = "r127", isAdding = true)
+    public void handler127(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r128") @ModalResponse("r128") @SlashResponse("r128") @UserInteractionResponse("r128") @MessageInteractionResponse("r128") @StringSelectionResponse("r128") @EntitySelectionResponse("r128") @AutoCompleteResponse(slashCommandId = "r128", focusedOption = "o") @EmoteResponse(value = "r128", isAdding = true)
+    public void handler128(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r129") @ModalResponse("r129") @SlashResponse("r129") @UserInteractionResponse("r129") @MessageInteractionResponse("r129") @StringSelectionResponse("r129") @EntitySelectionResponse("r129") @AutoCompleteResponse(slashCommandId = "r129", focusedOption = "o") @EmoteResponse(value = "r129", isAdding = true)
+    public void handler129(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r130") @ModalResponse("r130") @SlashResponse("r130") @UserInteractionResponse("r130") @MessageInteractionResponse("r130") @StringSelectionResponse("r130") @EntitySelectionResponse("r130") @AutoCompleteResponse(slashCommandId = "r130", focusedOption = "o") @EmoteResponse(value = "r130", isAdding = true)
+    public void handler130(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r131") @ModalResponse("r131") @SlashResponse("r131") @UserInteractionResponse("r131") @MessageInteractionResponse("r131") @StringSelectionResponse("r131") @EntitySelectionResponse("r131") @AutoCompleteResponse(slashCommandId = "r131", focusedOption = "o") @EmoteResponse(value = "r131", isAdding = true)
+    public void handler131(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r132") @ModalResponse("r132") @SlashResponse("r132") @UserInteractionResponse("r132") @MessageInteractionResponse("r132") @StringSelectionResponse("r132") @EntitySelectionResponse("r132") @AutoCompleteResponse(slashCommandId = "r132", focusedOption = "o") @EmoteResponse(value = "r132", isAdding = true)
+    public void handler132(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r133") @ModalResponse("r133") @SlashResponse("r133") @UserInteractionResponse("r133") @MessageInteractionResponse("r133") @StringSelectionResponse("r133") @EntitySelectionResponse("r133") @AutoCompleteResponse(slashCommandId = "r133", focusedOption = "o") @EmoteResponse(value = "r133", isAdding = true)
+    public void handler133(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r134") @ModalResponse("r134") @SlashResponse("r134") @UserInteractionResponse("r134") @MessageInteractionResponse("r134") @StringSelectionResponse("r134") @EntitySelectionResponse("r134") @AutoCompleteResponse(slashCommandId = "r134", focusedOption = "o") @EmoteResponse(value = "r134", isAdding = true)
+    public void handler134(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r135") @ModalResponse("r135") @SlashResponse("r135") @UserInteractionResponse("r135") @MessageInteractionResponse("r135") @StringSelectionResponse("r135") @EntitySelectionResponse("r135") @AutoCompleteResponse(slashCommandId = "r135", focusedOption = "o") @EmoteResponse(value = "r135", isAdding = true)
+    public void handler135(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r136") @ModalResponse("r136") @SlashResponse("r136") @UserInteractionResponse("r136") @MessageInteractionResponse("r136") @StringSelectionResponse("r136") @EntitySelectionResponse("r136") @AutoCompleteResponse(slashCommandId = "r136", focusedOption = "o") @EmoteResponse(value = "r136", isAdding = true)
+    public void handler136(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r137") @ModalResponse("r137") @SlashResponse("r137") @UserInteractionResponse("r137") @MessageInteractionResponse("r137") @StringSelectionResponse("r137") @EntitySelectionResponse("r137") @AutoCompleteResponse(slashCommandId = "r137", focusedOption = "o") @EmoteResponse(value = "r137", isAdding = true)
+    public void handler137(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r138") @ModalResponse("r138") @SlashResponse("r138") @UserInteractionResponse("r138") @MessageInteractionResponse("r138") @StringSelectionResponse("r138") @EntitySelectionResponse("r138") @AutoCompleteResponse(slashCommandId = "r138", focusedOption = "o") @EmoteResponse(value = "r138", isAdding = true)
+    public void handler138(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r139") @ModalResponse("r139") @SlashResponse("r139") @UserInteractionResponse("r139") @MessageInteractionResponse("r139") @StringSelectionResponse("r139") @EntitySelectionResponse("r139") @AutoCompleteResponse(slashCommandId = "r139", focusedOption = "o") @EmoteResponse(value = "r139", isAdding = true)
+    public void handler139(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r140") @ModalResponse("r140") @SlashResponse("r140") @UserInteractionResponse("r140") @MessageInteractionResponse("r140") @StringSelectionResponse("r140") @EntitySelectionResponse("r140") @AutoCompleteResponse(slashCommandId = "r140", focusedOption = "o") @EmoteResponse(value = "r140", isAdding = true)
+    public void handler140(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r141") @ModalResponse("r141") @SlashResponse("r141") @UserInteractionResponse("r141") @MessageInteractionResponse("r141") @StringSelectionResponse("r141") @EntitySelectionResponse("r141") @AutoCompleteResponse(slashCommandId = "r141", focusedOption = "o") @EmoteResponse(value = "r141", isAdding = true)
+    public void handler141(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r142") @ModalResponse("r142") @SlashResponse("r142") @UserInteractionResponse("r142") @MessageInteractionResponse("r142") @StringSelectionResponse("r142") @EntitySelectionResponse("r142") @AutoCompleteResponse(slashCommandId = "r142", focusedOption = "o") @EmoteResponse(value = "r142", isAdding = true)
+    public void handler142(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r143") @ModalResponse("r143") @SlashResponse("r143") @UserInteractionResponse("r143") @MessageInteractionResponse("r143") @StringSelectionResponse("r143") @EntitySelectionResponse("r143") @AutoCompleteResponse(slashCommandId = "r143", focusedOption = "o") @EmoteResponse(value = "r143", isAdding = true)
+    public void handler143(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r144") @ModalResponse("r144") @SlashResponse("r144") @UserInteractionResponse("r144") @MessageInteractionResponse("r144") @StringSelectionResponse("r144") @EntitySelectionResponse("r144") @AutoCompleteResponse(slashCommandId = "r144", focusedOption = "o") @EmoteResponse(value = "r144", isAdding = true)
+    public void handler144(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r145") @ModalResponse("r145") @SlashResponse("r145") @UserInteractionResponse("r145") @MessageInteractionResponse("r145") @StringSelectionResponse("r145") @EntitySelectionResponse("r145") @AutoCompleteResponse(slashCommandId = "r145", focusedOption = "o") @EmoteResponse(value = "r145", isAdding = true)
+    public void handler145(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r146") @ModalResponse("r146") @SlashResponse("r146") @UserInteractionResponse("r146") @MessageInteractionResponse("r146") @StringSelectionResponse("r146") @EntitySelectionResponse("r146") @AutoCompleteResponse(slashCommandId = "r146", focusedOption = "o") @EmoteResponse(value = "r146", isAdding = true)
+    public void handler146(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r147") @ModalResponse("r147") @SlashResponse("r147") @UserInteractionResponse("r147") @MessageInteractionResponse("r147") @StringSelectionResponse("r147") @EntitySelectionResponse("r147") @AutoCompleteResponse(slashCommandId = "r147", focusedOption = "o") @EmoteResponse(value = "r147", isAdding = true)
+    public void handler147(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r148") @ModalResponse("r148") @SlashResponse("r148") @UserInteractionResponse("r148") @MessageInteractionResponse("r148") @StringSelectionResponse("r148") @EntitySelectionResponse("r148") @AutoCompleteResponse(slashCommandId = "r148", focusedOption = "o") @EmoteResponse(value = "r148", isAdding = true)
+    public void handler148(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r149") @ModalResponse("r149") @SlashResponse("r149") @UserInteractionResponse("r149") @MessageInteractionResponse("r149") @StringSelectionResponse("r149") @EntitySelectionResponse("r149") @AutoCompleteResponse(slashCommandId = "r149", focusedOption = "o") @EmoteResponse(value = "r149", isAdding = true)
+    public void handler149(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r150") @ModalResponse("r150") @SlashResponse("r150") @UserInteractionResponse("r150") @MessageInteractionResponse("r150") @StringSelectionResponse("r150") @EntitySelectionResponse("r150") @AutoCompleteResponse(slashCommandId = "r150", focusedOption = "o") @EmoteResponse(value = "r150", isAdding = true)
+    public void handler150(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r151") @ModalResponse("r151") @SlashResponse("r151") @UserInteractionResponse("r151") @MessageInteractionResponse("r151") @StringSelectionResponse("r151") @EntitySelectionResponse("r151") @AutoCompleteResponse(slashCommandId = "r151", focusedOption = "o") @EmoteResponse(value = "r151", isAdding = true)
+    public void handler151(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r152") @ModalResponse("r152") @SlashResponse("r152") @UserInteractionResponse("r152") @MessageInteractionResponse("r152") @StringSelectionResponse("r152") @EntitySelectionResponse("r152") @AutoCompleteResponse(slashCommandId = "r152", focusedOption = "o") @EmoteResponse(value = "r152", isAdding = true)
+    public void handler152(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r153") @ModalResponse("r153") @SlashResponse("r153") @UserInteractionResponse("r153") @MessageInteractionResponse("r153") @StringSelectionResponse("r153") @EntitySelectionResponse("r153") @AutoCompleteResponse(slashCommandId = "r153", focusedOption = "o") @EmoteResponse(value = "r153", isAdding = true)
+    public void handler153(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r154") @ModalResponse("r154") @SlashResponse("r154") @UserInteractionResponse("r154") @MessageInteractionResponse("r154") @StringSelectionResponse("r154") @EntitySelectionResponse("r154") @AutoCompleteResponse(slashCommandId = "r154", focusedOption = "o") @EmoteResponse(value = "r154", isAdding = true)
+    public void handler154(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r155") @ModalResponse("r155") @SlashResponse("r155") @UserInteractionResponse("r155") @MessageInteractionResponse("r155") @StringSelectionResponse("r155") @EntitySelectionResponse("r155") @AutoCompleteResponse(slashCommandId = "r155", focusedOption = "o") @EmoteResponse(value = "r155", isAdding = true)
+    public void handler155(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r156") @ModalResponse("r156") @SlashResponse("r156") @UserInteractionResponse("r156") @MessageInteractionResponse("r156") @StringSelectionResponse("r156") @EntitySelectionResponse("r156") @AutoCompleteResponse(slashCommandId = "r156", focusedOption = "o") @EmoteResponse(value = "r156", isAdding = true)
+    public void handler156(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r157") @ModalResponse("r157") @SlashResponse("r157") @UserInteractionResponse("r157") @MessageInteractionResponse("r157") @StringSelectionResponse("r157") @EntitySelectionResponse("r157") @AutoCompleteResponse(slashCommandId = "r157", focusedOption = "o") @EmoteResponse(value = "r157", isAdding = true)
+    public void handler157(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r158") @ModalResponse("r158") @SlashResponse("r158") @UserInteractionResponse("r158") @MessageInteractionResponse("r158") @StringSelectionResponse("r158") @EntitySelectionResponse("r158") @AutoCompleteResponse(slashCommandId = "r158", focusedOption = "o") @EmoteResponse(value = "r158", isAdding = true)
+    public void handler158(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r159") @ModalResponse("r159") @SlashResponse("r159") @UserInteractionResponse("r159") @MessageInteractionResponse("r159") @StringSelectionResponse("r159") @EntitySelectionResponse("r159") @AutoCompleteResponse(slashCommandId = "r159", focusedOption = "o") @EmoteResponse(value = "r159", isAdding = true)
+    public void handler159(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r160") @ModalResponse("r160") @SlashResponse("r160") @UserInteractionResponse("r160") @MessageInteractionResponse("r160") @StringSelectionResponse("r160") @EntitySelectionResponse("r160") @AutoCompleteResponse(slashCommandId = "r160", focusedOption = "o") @EmoteResponse(value = "r160", isAdding = true)
+    public void handler160(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r161") @ModalResponse("r161") @SlashResponse("r161") @UserInteractionResponse("r161") @MessageInteractionResponse("r161") @StringSelectionResponse("r161") @EntitySelectionResponse("r161") @AutoCompleteResponse(slashCommandId = "r161", focusedOption = "o") @EmoteResponse(value = "r161", isAdding = true)
+    public void handler161(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r162") @ModalResponse("r162") @SlashResponse("r162") @UserInteractionResponse("r162") @MessageInteractionResponse("r162") @StringSelectionResponse("r162") @EntitySelectionResponse("r162") @AutoCompleteResponse(slashCommandId = "r162", focusedOption = "o") @EmoteResponse(value = "r162", isAdding = true)
+    public void handler162(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r163") @ModalResponse("r163") @SlashResponse("r163") @UserInteractionResponse("r163") @MessageInteractionResponse("r163") @StringSelectionResponse("r163") @EntitySelectionResponse("r163") @AutoCompleteResponse(slashCommandId = "r163", focusedOption = "o") @EmoteResponse(value = "r163", isAdding = true)
+    public void handler163(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r164") @ModalResponse("r164") @SlashResponse("r164") @UserInteractionResponse("r164") @MessageInteractionResponse("r164") @StringSelectionResponse("r164") @EntitySelectionResponse("r164") @AutoCompleteResponse(slashCommandId = "r164", focusedOption = "o") @EmoteResponse(value = "r164", isAdding = true)
+    public void handler164(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r165") @ModalResponse("r165") @SlashResponse("r165") @UserInteractionResponse("r165") @MessageInteractionResponse("r165") @StringSelectionResponse("r165") @EntitySelectionResponse("r165") @AutoCompleteResponse(slashCommandId = "r165", focusedOption = "o") @EmoteResponse(value = "r165", isAdding = true)
+    public void handler165(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r166") @ModalResponse("r166") @SlashResponse("r166") @UserInteractionResponse("r166") @MessageInteractionResponse("r166") @StringSelectionResponse("r166") @EntitySelectionResponse("r166") @AutoCompleteResponse(slashCommandId = "r166", focusedOption = "o") @EmoteResponse(value = "r166", isAdding = true)
+    public void handler166(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r167") @ModalResponse("r167") @SlashResponse("r167") @UserInteractionResponse("r167") @MessageInteractionResponse("r167") @StringSelectionResponse("r167") @EntitySelectionResponse("r167") @AutoCompleteResponse(slashCommandId = "r167", focusedOption = "o") @EmoteResponse(value = "r167", isAdding = true)
+    public void handler167(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r168") @ModalResponse("r168") @SlashResponse("r168") @UserInteractionResponse("r168") @MessageInteractionResponse("r168") @StringSelectionResponse("r168") @EntitySelectionResponse("r168") @AutoCompleteResponse(slashCommandId = "r168", focusedOption = "o") @EmoteResponse(value = "r168", isAdding = true)
+    public void handler168(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r169") @ModalResponse("r169") @SlashResponse("r169") @UserInteractionResponse("r169") @MessageInteractionResponse("r169") @StringSelectionResponse("r169") @EntitySelectionResponse("r169") @AutoCompleteResponse(slashCommandId = "r169", focusedOption = "o") @EmoteResponse(value = "r169", isAdding = true)
+    public void handler169(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r170") @ModalResponse("r170") @SlashResponse("r170") @UserInteractionResponse("r170") @MessageInteractionResponse("r170") @StringSelectionResponse("r170") @EntitySelectionResponse("r170") @AutoCompleteResponse(slashCommandId = "r170", focusedOption = "o") @EmoteResponse(value = "r170", isAdding = true)
+    public void handler170(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r171") @ModalResponse("r171") @SlashResponse("r171") @UserInteractionResponse("r171") @MessageInteractionResponse("r171") @StringSelectionResponse("r171") @EntitySelectionResponse("r171") @AutoCompleteResponse(slashCommandId = "r171", focusedOption = "o") @EmoteResponse(value = "r171", isAdding = true)
+    public void handler171(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r172") @ModalResponse("r172") @SlashResponse("r172") @UserInteractionResponse("r172") @MessageInteractionResponse("r172") @StringSelectionResponse("r172") @EntitySelectionResponse("r172") @AutoCompleteResponse(slashCommandId = "r172", focusedOption = "o") @EmoteResponse(value = "r172", isAdding = true)
+    public void handler172(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r173") @ModalResponse("r173") @SlashResponse("r173") @UserInteractionResponse("r173") @MessageInteractionResponse("r173") @StringSelectionResponse("r173") @EntitySelectionResponse("r173") @AutoCompleteResponse(slashCommandId = "r173", focusedOption = "o") @EmoteResponse(value = "r173", isAdding = true)
+    public void handler173(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r174") @ModalResponse("r174") @SlashResponse("r174") @UserInteractionResponse("r174") @MessageInteractionResponse("r174") @StringSelectionResponse("r174") @EntitySelectionResponse("r174") @AutoCompleteResponse(slashCommandId = "r174", focusedOption = "o") @EmoteResponse(value = "r174", isAdding = true)
+    public void handler174(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r175") @ModalResponse("r175") @SlashResponse("r175") @UserInteractionResponse("r175") @MessageInteractionResponse("r175") @StringSelectionResponse("r175") @EntitySelectionResponse("r175") @AutoCompleteResponse(slashCommandId = "r175", focusedOption = "o") @EmoteResponse(value = "r175", isAdding = true)
+    public void handler175(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r176") @ModalResponse("r176") @SlashResponse("r176") @UserInteractionResponse("r176") @MessageInteractionResponse("r176") @StringSelectionResponse("r176") @EntitySelectionResponse("r176") @AutoCompleteResponse(slashCommandId = "r176", focusedOption = "o") @EmoteResponse(value = "r176", isAdding = true)
+    public void handler176(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r177") @ModalResponse("r177") @SlashResponse("r177") @UserInteractionResponse("r177") @MessageInteractionResponse("r177") @StringSelectionResponse("r177") @EntitySelectionResponse("r177") @AutoCompleteResponse(slashCommandId = "r177", focusedOption = "o") @EmoteResponse(value = "r177", isAdding = true)
+    public void handler177(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r178") @ModalResponse("r178") @SlashResponse("r178") @UserInteractionResponse("r178") @MessageInteractionResponse("r178") @StringSelectionResponse("r178") @EntitySelectionResponse("r178") @AutoCompleteResponse(slashCommandId = "r178", focusedOption = "o") @EmoteResponse(value = "r178", isAdding = true)
+    public void handler178(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r179") @ModalResponse("r179") @SlashResponse("r179") @UserInteractionResponse("r179") @MessageInteractionResponse("r179") @StringSelectionResponse("r179") @EntitySelectionResponse("r179") @AutoCompleteResponse(slashCommandId = "r179", focusedOption = "o") @EmoteResponse(value = "r179", isAdding = true)
+    public void handler179(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r180") @ModalResponse("r180") @SlashResponse("r180") @UserInteractionResponse("r180") @MessageInteractionResponse("r180") @StringSelectionResponse("r180") @EntitySelectionResponse("r180") @AutoCompleteResponse(slashCommandId = "r180", focusedOption = "o") @EmoteResponse(value = "r180", isAdding = true)
+    public void handler180(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r181") @ModalResponse("r181") @SlashResponse("r181") @UserInteractionResponse("r181") @MessageInteractionResponse("r181") @StringSelectionResponse("r181") @EntitySelectionResponse("r181") @AutoCompleteResponse(slashCommandId = "r181", focusedOption = "o") @EmoteResponse(value = "r181", isAdding = true)
+    public void handler181(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r182") @ModalResponse("r182") @SlashResponse("r182") @UserInteractionResponse("r182") @MessageInteractionResponse("r182") @StringSelectionResponse("r182") @EntitySelectionResponse("r182") @AutoCompleteResponse(slashCommandId = "r182", focusedOption = "o") @EmoteResponse(value = "r182", isAdding = true)
+    public void handler182(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r183") @ModalResponse("r183") @SlashResponse("r183") @UserInteractionResponse("r183") @MessageInteractionResponse("r183") @StringSelectionResponse("r183") @EntitySelectionResponse("r183") @AutoCompleteResponse(slashCommandId = "r183", focusedOption = "o") @EmoteResponse(value = "r183", isAdding = true)
+    public void handler183(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r184") @ModalResponse("r184") @SlashResponse("r184") @UserInteractionResponse("r184") @MessageInteractionResponse("r184") @StringSelectionResponse("r184") @EntitySelectionResponse("r184") @AutoCompleteResponse(slashCommandId = "r184", focusedOption = "o") @EmoteResponse(value = "r184", isAdding = true)
+    public void handler184(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r185") @ModalResponse("r185") @SlashResponse("r185") @UserInteractionResponse("r185") @MessageInteractionResponse("r185") @StringSelectionResponse("r185") @EntitySelectionResponse("r185") @AutoCompleteResponse(slashCommandId = "r185", focusedOption = "o") @EmoteResponse(value = "r185", isAdding = true)
+    public void handler185(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r186") @ModalResponse("r186") @SlashResponse("r186") @UserInteractionResponse("r186") @MessageInteractionResponse("r186") @StringSelectionResponse("r186") @EntitySelectionResponse("r186") @AutoCompleteResponse(slashCommandId = "r186", focusedOption = "o") @EmoteResponse(value = "r186", isAdding = true)
+    public void handler186(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r187") @ModalResponse("r187") @SlashResponse("r187") @UserInteractionResponse("r187") @MessageInteractionResponse("r187") @StringSelectionResponse("r187") @EntitySelectionResponse("r187") @AutoCompleteResponse(slashCommandId = "r187", focusedOption = "o") @EmoteResponse(value = "r187", isAdding = true)
+    public void handler187(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r188") @ModalResponse("r188") @SlashResponse("r188") @UserInteractionResponse("r188") @MessageInteractionResponse("r188") @StringSelectionResponse("r188") @EntitySelectionResponse("r188") @AutoCompleteResponse(slashCommandId = "r188", focusedOption = "o") @EmoteResponse(value = "r188", isAdding = true)
+    public void handler188(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r189") @ModalResponse("r189") @SlashResponse("r189") @UserInteractionResponse("r189") @MessageInteractionResponse("r189") @StringSelectionResponse("r189") @EntitySelectionResponse("r189") @AutoCompleteResponse(slashCommandId = "r189", focusedOption = "o") @EmoteResponse(value = "r189", isAdding = true)
+    public void handler189(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r190") @ModalResponse("r190") @SlashResponse("r190") @UserInteractionResponse("r190") @MessageInteractionResponse("r190") @StringSelectionResponse("r190") @EntitySelectionResponse("r190") @AutoCompleteResponse(slashCommandId = "r190", focusedOption = "o") @EmoteResponse(value = "r190", isAdding = true)
+    public void handler190(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r191") @ModalResponse("r191") @SlashResponse("r191") @UserInteractionResponse("r191") @MessageInteractionResponse("r191") @StringSelectionResponse("r191") @EntitySelectionResponse("r191") @AutoCompleteResponse(slashCommandId = "r191", focusedOption = "o") @EmoteResponse(value = "r191", isAdding = true)
+    public void handler191(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r192") @ModalResponse("r192") @SlashResponse("r192") @UserInteractionResponse("r192") @MessageInteractionResponse("r192") @StringSelectionResponse("r192") @EntitySelectionResponse("r192") @AutoCompleteResponse(slashCommandId = "r192", focusedOption = "o") @EmoteResponse(value = "r192", isAdding = true)
+    public void handler192(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r193") @ModalResponse("r193") @SlashResponse("r193") @UserInteractionResponse("r193") @MessageInteractionResponse("r193") @StringSelectionResponse("r193") @EntitySelectionResponse("r193") @AutoCompleteResponse(slashCommandId = "r193", focusedOption = "o") @EmoteResponse(value = "r193", isAdding = true)
+    public void handler193(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r194") @ModalResponse("r194") @SlashResponse("r194") @UserInteractionResponse("r194") @MessageInteractionResponse("r194") @StringSelectionResponse("r194") @EntitySelectionResponse("r194") @AutoCompleteResponse(slashCommandId = "r194", focusedOption = "o") @EmoteResponse(value = "r194", isAdding = true)
+    public void handler194(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r195") @ModalResponse("r195") @SlashResponse("r195") @UserInteractionResponse("r195") @MessageInteractionResponse("r195") @StringSelectionResponse("r195") @EntitySelectionResponse("r195") @AutoCompleteResponse(slashCommandId = "r195", focusedOption = "o") @EmoteResponse(value = "r195", isAdding = true)
+    public void handler195(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r196") @ModalResponse("r196") @SlashResponse("r196") @UserInteractionResponse("r196") @MessageInteractionResponse("r196") @StringSelectionResponse("r196") @EntitySelectionResponse("r196") @AutoCompleteResponse(slashCommandId = "r196", focusedOption = "o") @EmoteResponse(value = "r196", isAdding = true)
+    public void handler196(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r197") @ModalResponse("r197") @SlashResponse("r197") @UserInteractionResponse("r197") @MessageInteractionResponse("r197") @StringSelectionResponse("r197") @EntitySelectionResponse("r197") @AutoCompleteResponse(slashCommandId = "r197", focusedOption = "o") @EmoteResponse(value = "r197", isAdding = true)
+    public void handler197(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r198") @ModalResponse("r198") @SlashResponse("r198") @UserInteractionResponse("r198") @MessageInteractionResponse("r198") @StringSelectionResponse("r198") @EntitySelectionResponse("r198") @AutoCompleteResponse(slashCommandId = "r198", focusedOption = "o") @EmoteResponse(value = "r198", isAdding = true)
+    public void handler198(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r199") @ModalResponse("r199") @SlashResponse("r199") @UserInteractionResponse("r199") @MessageInteractionResponse("r199") @StringSelectionResponse("r199") @EntitySelectionResponse("r199") @AutoCompleteResponse(slashCommandId = "r199", focusedOption = "o") @EmoteResponse(value = "r199", isAdding = true)
+    public void handler199(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r200") @ModalResponse("r200") @SlashResponse("r200") @UserInteractionResponse("r200") @MessageInteractionResponse("r200") @StringSelectionResponse("r200") @EntitySelectionResponse("r200") @AutoCompleteResponse(slashCommandId = "r200", focusedOption = "o") @EmoteResponse(value = "r200", isAdding = true)
+    public void handler200(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r201") @ModalResponse("r201") @SlashResponse("r201") @UserInteractionResponse("r201") @MessageInteractionResponse("r201") @StringSelectionResponse("r201") @EntitySelectionResponse("r201") @AutoCompleteResponse(slashCommandId = "r201", focusedOption = "o") @EmoteResponse(value = "r201", isAdding = true)
+    public void handler201(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r202") @ModalResponse("r202") @SlashResponse("r202") @UserInteractionResponse("r202") @MessageInteractionResponse("r202") @StringSelectionResponse("r202") @EntitySelectionResponse("r202") @AutoCompleteResponse(slashCommandId = "r202", focusedOption = "o") @EmoteResponse(value = "r202", isAdding = true)
+    public void handler202(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r203") @ModalResponse("r203") @SlashResponse("r203") @UserInteractionResponse("r203") @MessageInteractionResponse("r203") @StringSelectionResponse("r203") @EntitySelectionResponse("r203") @AutoCompleteResponse(slashCommandId = "r203", focusedOption = "o") @EmoteResponse(value = "r203", isAdding = true)
+    public void handler203(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r204") @ModalResponse("r204") @SlashResponse("r204") @UserInteractionResponse("r204") @MessageInteractionResponse("r204") @StringSelectionResponse("r204") @EntitySelectionResponse("r204") @AutoCompleteResponse(slashCommandId = "r204", focusedOption = "o") @EmoteResponse(value = "r204", isAdding = true)
+    public void handler204(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r205") @ModalResponse("r205") @SlashResponse("r205") @UserInteractionResponse("r205") @MessageInteractionResponse("r205") @StringSelectionResponse("r205") @EntitySelectionResponse("r205") @AutoCompleteResponse(slashCommandId = "r205", focusedOption = "o") @EmoteResponse(value = "r205", isAdding = true)
+    public void handler205(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r206") @ModalResponse("r206") @SlashResponse("r206") @UserInteractionResponse("r206") @MessageInteractionResponse("r206") @StringSelectionResponse("r206") @EntitySelectionResponse("r206") @AutoCompleteResponse(slashCommandId = "r206", focusedOption = "o") @EmoteResponse(value = "r206", isAdding = true)
+    public void handler206(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r207") @ModalResponse("r207") @SlashResponse("r207") @UserInteractionResponse("r207") @MessageInteractionResponse("r207") @StringSelectionResponse("r207") @EntitySelectionResponse("r207") @AutoCompleteResponse(slashCommandId = "r207", focusedOption = "o") @EmoteResponse(value = "r207", isAdding = true)
+    public void handler207(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r208") @ModalResponse("r208") @SlashResponse("r208") @UserInteractionResponse("r208") @MessageInteractionResponse("r208") @StringSelectionResponse("r208") @EntitySelectionResponse("r208") @AutoCompleteResponse(slashCommandId = "r208", focusedOption = "o") @EmoteResponse(value = "r208", isAdding = true)
+    public void handler208(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r209") @ModalResponse("r209") @SlashResponse("r209") @UserInteractionResponse("r209") @MessageInteractionResponse("r209") @StringSelectionResponse("r209") @EntitySelectionResponse("r209") @AutoCompleteResponse(slashCommandId = "r209", focusedOption = "o") @EmoteResponse(value = "r209", isAdding = true)
+    public void handler209(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r210") @ModalResponse("r210") @SlashResponse("r210") @UserInteractionResponse("r210") @MessageInteractionResponse("r210") @StringSelectionResponse("r210") @EntitySelectionResponse("r210") @AutoCompleteResponse(slashCommandId = "r210", focusedOption = "o") @EmoteResponse(value = "r210", isAdding = true)
+    public void handler210(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r211") @ModalResponse("r211") @SlashResponse("r211") @UserInteractionResponse("r211") @MessageInteractionResponse("r211") @StringSelectionResponse("r211") @EntitySelectionResponse("r211") @AutoCompleteResponse(slashCommandId = "r211", focusedOption = "o") @EmoteResponse(value = "r211", isAdding = true)
+    public void handler211(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r212") @ModalResponse("r212") @SlashResponse("r212") @UserInteractionResponse("r212") @MessageInteractionResponse("r212") @StringSelectionResponse("r212") @EntitySelectionResponse("r212") @AutoCompleteResponse(slashCommandId = "r212", focusedOption = "o") @EmoteResponse(value = "r212", isAdding = true)
+    public void handler212(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r213") @ModalResponse("r213") @SlashResponse("r213") @UserInteractionResponse("r213") @MessageInteractionResponse("r213") @StringSelectionResponse("r213") @EntitySelectionResponse("r213") @AutoCompleteResponse(slashCommandId = "r213", focusedOption = "o") @EmoteResponse(value = "r213", isAdding = true)
+    public void handler213(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r214") @ModalResponse("r214") @SlashResponse("r214") @UserInteractionResponse("r214") @MessageInteractionResponse("r214") @StringSelectionResponse("r214") @EntitySelectionResponse("r214") @AutoCompleteResponse(slashCommandId = "r214", focusedOption = "o") @EmoteResponse(value = "r214", isAdding = true)
+    public void handler214(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r215") @ModalResponse("r215") @SlashResponse("r215") @UserInteractionResponse("r215") @MessageInteractionResponse("r215") @StringSelectionResponse("r215") @EntitySelectionResponse("r215") @AutoCompleteResponse(slashCommandId = "r215", focusedOption = "o") @EmoteResponse(value = "r215", isAdding = true)
+    public void handler215(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r216") @ModalResponse("r216") @SlashResponse("r216") @UserInteractionResponse("r216") @MessageInteractionResponse("r216") @StringSelectionResponse("r216") @EntitySelectionResponse("r216") @AutoCompleteResponse(slashCommandId = "r216", focusedOption = "o") @EmoteResponse(value = "r216", isAdding = true)
+    public void handler216(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r217") @ModalResponse("r217") @SlashResponse("r217") @UserInteractionResponse("r217") @MessageInteractionResponse("r217") @StringSelectionResponse("r217") @EntitySelectionResponse("r217") @AutoCompleteResponse(slashCommandId = "r217", focusedOption = "o") @EmoteResponse(value = "r217", isAdding = true)
+    public void handler217(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r218") @ModalResponse("r218") @SlashResponse("r218") @UserInteractionResponse("r218") @MessageInteractionResponse("r218") @StringSelectionResponse("r218") @EntitySelectionResponse("r218") @AutoCompleteResponse(slashCommandId = "r218", focusedOption = "o") @EmoteResponse(value = "r218", isAdding = true)
+    public void handler218(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r219") @ModalResponse("r219") @SlashResponse("r219") @UserInteractionResponse("r219") @MessageInteractionResponse("r219") @StringSelectionResponse("r219") @EntitySelectionResponse("r219") @AutoCompleteResponse(slashCommandId = "r219", focusedOption = "o") @EmoteResponse(value = "r219", isAdding = true)
+    public void handler219(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r220") @ModalResponse("r220") @SlashResponse("r220") @UserInteractionResponse("r220") @MessageInteractionResponse("r220") @StringSelectionResponse("r220") @EntitySelectionResponse("r220") @AutoCompleteResponse(slashCommandId = "r220", focusedOption = "o") @EmoteResponse(value = "r220", isAdding = true)
+    public void handler220(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r221") @ModalResponse("r221") @SlashResponse("r221") @UserInteractionResponse("r221") @MessageInteractionResponse("r221") @StringSelectionResponse("r221") @EntitySelectionResponse("r221") @AutoCompleteResponse(slashCommandId = "r221", focusedOption = "o") @EmoteResponse(value = "r221", isAdding = true)
+    public void handler221(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r222") @ModalResponse("r222") @SlashResponse("r222") @UserInteractionResponse("r222") @MessageInteractionResponse("r222") @StringSelectionResponse("r222") @EntitySelectionResponse("r222") @AutoCompleteResponse(slashCommandId = "r222", focusedOption = "o") @EmoteResponse(value = "r222", isAdding = true)
+    public void handler222(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r223") @ModalResponse("r223") @SlashResponse("r223") @UserInteractionResponse("r223") @MessageInteractionResponse("r223") @StringSelectionResponse("r223") @EntitySelectionResponse("r223") @AutoCompleteResponse(slashCommandId = "r223", focusedOption = "o") @EmoteResponse(value = "r223", isAdding = true)
+    public void handler223(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r224") @ModalResponse("r224") @SlashResponse("r224") @UserInteractionResponse("r224") @MessageInteractionResponse("r224") @StringSelectionResponse("r224") @EntitySelectionResponse("r224") @AutoCompleteResponse(slashCommandId = "r224", focusedOption = "o") @EmoteResponse(value = "r224", isAdding = true)
+    public void handler224(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r225") @ModalResponse("r225") @SlashResponse("r225") @UserInteractionResponse("r225") @MessageInteractionResponse("r225") @StringSelectionResponse("r225") @EntitySelectionResponse("r225") @AutoCompleteResponse(slashCommandId = "r225", focusedOption = "o") @EmoteResponse(value = "r225", isAdding = true)
+    public void handler225(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r226") @ModalResponse("r226") @SlashResponse("r226") @UserInteractionResponse("r226") @MessageInteractionResponse("r226") @StringSelectionResponse("r226") @EntitySelectionResponse("r226") @AutoCompleteResponse(slashCommandId = "r226", focusedOption = "o") @EmoteResponse(value = "r226", isAdding = true)
+    public void handler226(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r227") @ModalResponse("r227") @SlashResponse("r227") @UserInteractionResponse("r227") @MessageInteractionResponse("r227") @StringSelectionResponse("r227") @EntitySelectionResponse("r227") @AutoCompleteResponse(slashCommandId = "r227", focusedOption = "o") @EmoteResponse(value = "r227", isAdding = true)
+    public void handler227(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r228") @ModalResponse("r228") @SlashResponse("r228") @UserInteractionResponse("r228") @MessageInteractionResponse("r228") @StringSelectionResponse("r228") @EntitySelectionResponse("r228") @AutoCompleteResponse(slashCommandId = "r228", focusedOption = "o") @EmoteResponse(value = "r228", isAdding = true)
+    public void handler228(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r229") @ModalResponse("r229") @SlashResponse("r229") @UserInteractionResponse("r229") @MessageInteractionResponse("r229") @StringSelectionResponse("r229") @EntitySelectionResponse("r229") @AutoCompleteResponse(slashCommandId = "r229", focusedOption = "o") @EmoteResponse(value = "r229", isAdding = true)
+    public void handler229(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r230") @ModalResponse("r230") @SlashResponse("r230") @UserInteractionResponse("r230") @MessageInteractionResponse("r230") @StringSelectionResponse("r230") @EntitySelectionResponse("r230") @AutoCompleteResponse(slashCommandId = "r230", focusedOption = "o") @EmoteResponse(value = "r230", isAdding = true)
+    public void handler230(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r231") @ModalResponse("r231") @SlashResponse("r231") @UserInteractionResponse("r231") @MessageInteractionResponse("r231") @StringSelectionResponse("r231") @EntitySelectionResponse("r231") @AutoCompleteResponse(slashCommandId = "r231", focusedOption = "o") @EmoteResponse(value = "r231", isAdding = true)
+    public void handler231(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r232") @ModalResponse("r232") @SlashResponse("r232") @UserInteractionResponse("r232") @MessageInteractionResponse("r232") @StringSelectionResponse("r232") @EntitySelectionResponse("r232") @AutoCompleteResponse(slashCommandId = "r232", focusedOption = "o") @EmoteResponse(value = "r232", isAdding = true)
+    public void handler232(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r233") @ModalResponse("r233") @SlashResponse("r233") @UserInteractionResponse("r233") @MessageInteractionResponse("r233") @StringSelectionResponse("r233") @EntitySelectionResponse("r233") @AutoCompleteResponse(slashCommandId = "r233", focusedOption = "o") @EmoteResponse(value = "r233", isAdding = true)
+    public void handler233(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r234") @ModalResponse("r234") @SlashResponse("r234") @UserInteractionResponse("r234") @MessageInteractionResponse("r234") @StringSelectionResponse("r234") @EntitySelectionResponse("r234") @AutoCompleteResponse(slashCommandId = "r234", focusedOption = "o") @EmoteResponse(value = "r234", isAdding = true)
+    public void handler234(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r235") @ModalResponse("r235") @SlashResponse("r235") @UserInteractionResponse("r235") @MessageInteractionResponse("r235") @StringSelectionResponse("r235") @EntitySelectionResponse("r235") @AutoCompleteResponse(slashCommandId = "r235", focusedOption = "o") @EmoteResponse(value = "r235", isAdding = true)
+    public void handler235(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r236") @ModalResponse("r236") @SlashResponse("r236") @UserInteractionResponse("r236") @MessageInteractionResponse("r236") @StringSelectionResponse("r236") @EntitySelectionResponse("r236") @AutoCompleteResponse(slashCommandId = "r236", focusedOption = "o") @EmoteResponse(value = "r236", isAdding = true)
+    public void handler236(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r237") @ModalResponse("r237") @SlashResponse("r237") @UserInteractionResponse("r237") @MessageInteractionResponse("r237") @StringSelectionResponse("r237") @EntitySelectionResponse("r237") @AutoCompleteResponse(slashCommandId = "r237", focusedOption = "o") @EmoteResponse(value = "r237", isAdding = true)
+    public void handler237(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r238") @ModalResponse("r238") @SlashResponse("r238") @UserInteractionResponse("r238") @MessageInteractionResponse("r238") @StringSelectionResponse("r238") @EntitySelectionResponse("r238") @AutoCompleteResponse(slashCommandId = "r238", focusedOption = "o") @EmoteResponse(value = "r238", isAdding = true)
+    public void handler238(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r239") @ModalResponse("r239") @SlashResponse("r239") @UserInteractionResponse("r239") @MessageInteractionResponse("r239") @StringSelectionResponse("r239") @EntitySelectionResponse("r239") @AutoCompleteResponse(slashCommandId = "r239", focusedOption = "o") @EmoteResponse(value = "r239", isAdding = true)
+    public void handler239(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r240") @ModalResponse("r240") @SlashResponse("r240") @UserInteractionResponse("r240") @MessageInteractionResponse("r240") @StringSelectionResponse("r240") @EntitySelectionResponse("r240") @AutoCompleteResponse(slashCommandId = "r240", focusedOption = "o") @EmoteResponse(value = "r240", isAdding = true)
+    public void handler240(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r241") @ModalResponse("r241") @SlashResponse("r241") @UserInteractionResponse("r241") @MessageInteractionResponse("r241") @StringSelectionResponse("r241") @EntitySelectionResponse("r241") @AutoCompleteResponse(slashCommandId = "r241", focusedOption = "o") @EmoteResponse(value = "r241", isAdding = true)
+    public void handler241(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r242") @ModalResponse("r242") @SlashResponse("r242") @UserInteractionResponse("r242") @MessageInteractionResponse("r242") @StringSelectionResponse("r242") @EntitySelectionResponse("r242") @AutoCompleteResponse(slashCommandId = "r242", focusedOption = "o") @EmoteResponse(value = "r242", isAdding = true)
+    public void handler242(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r243") @ModalResponse("r243") @SlashResponse("r243") @UserInteractionResponse("r243") @MessageInteractionResponse("r243") @StringSelectionResponse("r243") @EntitySelectionResponse("r243") @AutoCompleteResponse(slashCommandId = "r243", focusedOption = "o") @EmoteResponse(value = "r243", isAdding = true)
+    public void handler243(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r244") @ModalResponse("r244") @SlashResponse("r244") @UserInteractionResponse("r244") @MessageInteractionResponse("r244") @StringSelectionResponse("r244") @EntitySelectionResponse("r244") @AutoCompleteResponse(slashCommandId = "r244", focusedOption = "o") @EmoteResponse(value = "r244", isAdding = true)
+    public void handler244(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r245") @ModalResponse("r245") @SlashResponse("r245") @UserInteractionResponse("r245") @MessageInteractionResponse("r245") @StringSelectionResponse("r245") @EntitySelectionResponse("r245") @AutoCompleteResponse(slashCommandId = "r245", focusedOption = "o") @EmoteResponse(value = "r245", isAdding = true)
+    public void handler245(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r246") @ModalResponse("r246") @SlashResponse("r246") @UserInteractionResponse("r246") @MessageInteractionResponse("r246") @StringSelectionResponse("r246") @EntitySelectionResponse("r246") @AutoCompleteResponse(slashCommandId = "r246", focusedOption = "o") @EmoteResponse(value = "r246", isAdding = true)
+    public void handler246(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r247") @ModalResponse("r247") @SlashResponse("r247") @UserInteractionResponse("r247") @MessageInteractionResponse("r247") @StringSelectionResponse("r247") @EntitySelectionResponse("r247") @AutoCompleteResponse(slashCommandId = "r247", focusedOption = "o") @EmoteResponse(value = "r247", isAdding = true)
+    public void handler247(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r248") @ModalResponse("r248") @SlashResponse("r248") @UserInteractionResponse("r248") @MessageInteractionResponse("r248") @StringSelectionResponse("r248") @EntitySelectionResponse("r248") @AutoCompleteResponse(slashCommandId = "r248", focusedOption = "o") @EmoteResponse(value = "r248", isAdding = true)
+    public void handler248(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r249") @ModalResponse("r249") @SlashResponse("r249") @UserInteractionResponse("r249") @MessageInteractionResponse("r249") @StringSelectionResponse("r249") @EntitySelectionResponse("r249") @AutoCompleteResponse(slashCommandId = "r249", focusedOption = "o") @EmoteResponse(value = "r249", isAdding = true)
+    public void handler249(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r250") @ModalResponse("r250") @SlashResponse("r250") @UserInteractionResponse("r250") @MessageInteractionResponse("r250") @StringSelectionResponse("r250") @EntitySelectionResponse("r250") @AutoCompleteResponse(slashCommandId = "r250", focusedOption = "o") @EmoteResponse(value = "r250", isAdding = true)
+    public void handler250(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r251") @ModalResponse("r251") @SlashResponse("r251") @UserInteractionResponse("r251") @MessageInteractionResponse("r251") @StringSelectionResponse("r251") @EntitySelectionResponse("r251") @AutoCompleteResponse(slashCommandId = "r251", focusedOption = "o") @EmoteResponse(value = "r251", isAdding = true)
+    public void handler251(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r252") @ModalResponse("r252") @SlashResponse("r252") @UserInteractionResponse("r252") @MessageInteractionResponse("r252") @StringSelectionResponse("r252") @EntitySelectionResponse("r252") @AutoCompleteResponse(slashCommandId = "r252", focusedOption = "o") @EmoteResponse(value = "r252", isAdding = true)
+    public void handler252(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r253") @ModalResponse("r253") @SlashResponse("r253") @UserInteractionResponse("r253") @MessageInteractionResponse("r253") @StringSelectionResponse("r253") @EntitySelectionResponse("r253") @AutoCompleteResponse(slashCommandId = "r253", focusedOption = "o") @EmoteResponse(value = "r253", isAdding = true)
+    public void handler253(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r254") @ModalResponse("r254") @SlashResponse("r254") @UserInteractionResponse("r254") @MessageInteractionResponse("r254") @StringSelectionResponse("r254") @EntitySelectionResponse("r254") @AutoCompleteResponse(slashCommandId = "r254", focusedOption = "o") @EmoteResponse(value = "r254", isAdding = true)
+    public void handler254(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r255") @ModalResponse("r255") @SlashResponse("r255") @UserInteractionResponse("r255") @MessageInteractionResponse("r255") @StringSelectionResponse("r255") @EntitySelectionResponse("r255") @AutoCompleteResponse(slashCommandId = "r255", focusedOption = "o") @EmoteResponse(value = "r255", isAdding = true)
+    public void handler255(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r256") @ModalResponse("r256") @SlashResponse("r256") @UserInteractionResponse("r256") @MessageInteractionResponse("r256") @StringSelectionResponse("r256") @EntitySelectionResponse("r256") @AutoCompleteResponse(slashCommandId = "r256", focusedOption = "o") @EmoteResponse(value = "r256", isAdding = true)
+    public void handler256(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r257") @ModalResponse("r257") @SlashResponse("r257") @UserInteractionResponse("r257") @MessageInteractionResponse("r257") @StringSelectionResponse("r257") @EntitySelectionResponse("r257") @AutoCompleteResponse(slashCommandId = "r257", focusedOption = "o") @EmoteResponse(value = "r257", isAdding = true)
+    public void handler257(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r258") @ModalResponse("r258") @SlashResponse("r258") @UserInteractionResponse("r258") @MessageInteractionResponse("r258") @StringSelectionResponse("r258") @EntitySelectionResponse("r258") @AutoCompleteResponse(slashCommandId = "r258", focusedOption = "o") @EmoteResponse(value = "r258", isAdding = true)
+    public void handler258(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r259") @ModalResponse("r259") @SlashResponse("r259") @UserInteractionResponse("r259") @MessageInteractionResponse("r259") @StringSelectionResponse("r259") @EntitySelectionResponse("r259") @AutoCompleteResponse(slashCommandId = "r259", focusedOption = "o") @EmoteResponse(value = "r259", isAdding = true)
+    public void handler259(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r260") @ModalResponse("r260") @SlashResponse("r260") @UserInteractionResponse("r260") @MessageInteractionResponse("r260") @StringSelectionResponse("r260") @EntitySelectionResponse("r260") @AutoCompleteResponse(slashCommandId = "r260", focusedOption = "o") @EmoteResponse(value = "r260", isAdding = true)
+    public void handler260(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r261") @ModalResponse("r261") @SlashResponse("r261") @UserInteractionResponse("r261") @MessageInteractionResponse("r261") @StringSelectionResponse("r261") @EntitySelectionResponse("r261") @AutoCompleteResponse(slashCommandId = "r261", focusedOption = "o") @EmoteResponse(value = "r261", isAdding = true)
+    public void handler261(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r262") @ModalResponse("r262") @SlashResponse("r262") @UserInteractionResponse("r262") @MessageInteractionResponse("r262") @StringSelectionResponse("r262") @EntitySelectionResponse("r262") @AutoCompleteResponse(slashCommandId = "r262", focusedOption = "o") @EmoteResponse(value = "r262", isAdding = true)
+    public void handler262(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r263") @ModalResponse("r263") @SlashResponse("r263") @UserInteractionResponse("r263") @MessageInteractionResponse("r263") @StringSelectionResponse("r263") @EntitySelectionResponse("r263") @AutoCompleteResponse(slashCommandId = "r263", focusedOption = "o") @EmoteResponse(value = "r263", isAdding = true)
+    public void handler263(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r264") @ModalResponse("r264") @SlashResponse("r264") @UserInteractionResponse("r264") @MessageInteractionResponse("r264") @StringSelectionResponse("r264") @EntitySelectionResponse("r264") @AutoCompleteResponse(slashCommandId = "r264", focusedOption = "o") @EmoteResponse(value = "r264", isAdding = true)
+    public void handler264(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r265") @ModalResponse("r265") @SlashResponse("r265") @UserInteractionResponse("r265") @MessageInteractionResponse("r265") @StringSelectionResponse("r265") @EntitySelectionResponse("r265") @AutoCompleteResponse(slashCommandId = "r265", focusedOption = "o") @EmoteResponse(value = "r265", isAdding = true)
+    public void handler265(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r266") @ModalResponse("r266") @SlashResponse("r266") @UserInteractionResponse("r266") @MessageInteractionResponse("r266") @StringSelectionResponse("r266") @EntitySelectionResponse("r266") @AutoCompleteResponse(slashCommandId = "r266", focusedOption = "o") @EmoteResponse(value = "r266", isAdding = true)
+    public void handler266(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r267") @ModalResponse("r267") @SlashResponse("r267") @UserInteractionResponse("r267") @MessageInteractionResponse("r267") @StringSelectionResponse("r267") @EntitySelectionResponse("r267") @AutoCompleteResponse(slashCommandId = "r267", focusedOption = "o") @EmoteResponse(value = "r267", isAdding = true)
+    public void handler267(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r268") @ModalResponse("r268") @SlashResponse("r268") @UserInteractionResponse("r268") @MessageInteractionResponse("r268") @StringSelectionResponse("r268") @EntitySelectionResponse("r268") @AutoCompleteResponse(slashCommandId = "r268", focusedOption = "o") @EmoteResponse(value = "r268", isAdding = true)
+    public void handler268(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r269") @ModalResponse("r269") @SlashResponse("r269") @UserInteractionResponse("r269") @MessageInteractionResponse("r269") @StringSelectionResponse("r269") @EntitySelectionResponse("r269") @AutoCompleteResponse(slashCommandId = "r269", focusedOption = "o") @EmoteResponse(value = "r269", isAdding = true)
+    public void handler269(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r270") @ModalResponse("r270") @SlashResponse("r270") @UserInteractionResponse("r270") @MessageInteractionResponse("r270") @StringSelectionResponse("r270") @EntitySelectionResponse("r270") @AutoCompleteResponse(slashCommandId = "r270", focusedOption = "o") @EmoteResponse(value = "r270", isAdding = true)
+    public void handler270(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r271") @ModalResponse("r271") @SlashResponse("r271") @UserInteractionResponse("r271") @MessageInteractionResponse("r271") @StringSelectionResponse("r271") @EntitySelectionResponse("r271") @AutoCompleteResponse(slashCommandId = "r271", focusedOption = "o") @EmoteResponse(value = "r271", isAdding = true)
+    public void handler271(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r272") @ModalResponse("r272") @SlashResponse("r272") @UserInteractionResponse("r272") @MessageInteractionResponse("r272") @StringSelectionResponse("r272") @EntitySelectionResponse("r272") @AutoCompleteResponse(slashCommandId = "r272", focusedOption = "o") @EmoteResponse(value = "r272", isAdding = true)
+    public void handler272(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r273") @ModalResponse("r273") @SlashResponse("r273") @UserInteractionResponse("r273") @MessageInteractionResponse("r273") @StringSelectionResponse("r273") @EntitySelectionResponse("r273") @AutoCompleteResponse(slashCommandId = "r273", focusedOption = "o") @EmoteResponse(value = "r273", isAdding = true)
+    public void handler273(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r274") @ModalResponse("r274") @SlashResponse("r274") @UserInteractionResponse("r274") @MessageInteractionResponse("r274") @StringSelectionResponse("r274") @EntitySelectionResponse("r274") @AutoCompleteResponse(slashCommandId = "r274", focusedOption = "o") @EmoteResponse(value = "r274", isAdding = true)
+    public void handler274(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r275") @ModalResponse("r275") @SlashResponse("r275") @UserInteractionResponse("r275") @MessageInteractionResponse("r275") @StringSelectionResponse("r275") @EntitySelectionResponse("r275") @AutoCompleteResponse(slashCommandId = "r275", focusedOption = "o") @EmoteResponse(value = "r275", isAdding = true)
+    public void handler275(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r276") @ModalResponse("r276") @SlashResponse("r276") @UserInteractionResponse("r276") @MessageInteractionResponse("r276") @StringSelectionResponse("r276") @EntitySelectionResponse("r276") @AutoCompleteResponse(slashCommandId = "r276", focusedOption = "o") @EmoteResponse(value = "r276", isAdding = true)
+    public void handler276(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r277") @ModalResponse("r277") @SlashResponse("r277") @UserInteractionResponse("r277") @MessageInteractionResponse("r277") @StringSelectionResponse("r277") @EntitySelectionResponse("r277") @AutoCompleteResponse(slashCommandId = "r277", focusedOption = "o") @EmoteResponse(value = "r277", isAdding = true)
+    public void handler277(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r278") @ModalResponse("r278") @SlashResponse("r278") @UserInteractionResponse("r278") @MessageInteractionResponse("r278") @StringSelectionResponse("r278") @EntitySelectionResponse("r278") @AutoCompleteResponse(slashCommandId = "r278", focusedOption = "o") @EmoteResponse(value = "r278", isAdding = true)
+    public void handler278(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r279") @ModalResponse("r279") @SlashResponse("r279") @UserInteractionResponse("r279") @MessageInteractionResponse("r279") @StringSelectionResponse("r279") @EntitySelectionResponse("r279") @AutoCompleteResponse(slashCommandId = "r279", focusedOption = "o") @EmoteResponse(value = "r279", isAdding = true)
+    public void handler279(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r280") @ModalResponse("r280") @SlashResponse("r280") @UserInteractionResponse("r280") @MessageInteractionResponse("r280") @StringSelectionResponse("r280") @EntitySelectionResponse("r280") @AutoCompleteResponse(slashCommandId = "r280", focusedOption = "o") @EmoteResponse(value = "r280", isAdding = true)
+    public void handler280(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r281") @ModalResponse("r281") @SlashResponse("r281") @UserInteractionResponse("r281") @MessageInteractionResponse("r281") @StringSelectionResponse("r281") @EntitySelectionResponse("r281") @AutoCompleteResponse(slashCommandId = "r281", focusedOption = "o") @EmoteResponse(value = "r281", isAdding = true)
+    public void handler281(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r282") @ModalResponse("r282") @SlashResponse("r282") @UserInteractionResponse("r282") @MessageInteractionResponse("r282") @StringSelectionResponse("r282") @EntitySelectionResponse("r282") @AutoCompleteResponse(slashCommandId = "r282", focusedOption = "o") @EmoteResponse(value = "r282", isAdding = true)
+    public void handler282(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r283") @ModalResponse("r283") @SlashResponse("r283") @UserInteractionResponse("r283") @MessageInteractionResponse("r283") @StringSelectionResponse("r283") @EntitySelectionResponse("r283") @AutoCompleteResponse(slashCommandId = "r283", focusedOption = "o") @EmoteResponse(value = "r283", isAdding = true)
+    public void handler283(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r284") @ModalResponse("r284") @SlashResponse("r284") @UserInteractionResponse("r284") @MessageInteractionResponse("r284") @StringSelectionResponse("r284") @EntitySelectionResponse("r284") @AutoCompleteResponse(slashCommandId = "r284", focusedOption = "o") @EmoteResponse(value = "r284", isAdding = true)
+    public void handler284(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r285") @ModalResponse("r285") @SlashResponse("r285") @UserInteractionResponse("r285") @MessageInteractionResponse("r285") @StringSelectionResponse("r285") @EntitySelectionResponse("r285") @AutoCompleteResponse(slashCommandId = "r285", focusedOption = "o") @EmoteResponse(value = "r285", isAdding = true)
+    public void handler285(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r286") @ModalResponse("r286") @SlashResponse("r286") @UserInteractionResponse("r286") @MessageInteractionResponse("r286") @StringSelectionResponse("r286") @EntitySelectionResponse("r286") @AutoCompleteResponse(slashCommandId = "r286", focusedOption = "o") @EmoteResponse(value = "r286", isAdding = true)
+    public void handler286(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r287") @ModalResponse("r287") @SlashResponse("r287") @UserInteractionResponse("r287") @MessageInteractionResponse("r287") @StringSelectionResponse("r287") @EntitySelectionResponse("r287") @AutoCompleteResponse(slashCommandId = "r287", focusedOption = "o") @EmoteResponse(value = "r287", isAdding = true)
+    public void handler287(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r288") @ModalResponse("r288") @SlashResponse("r288") @UserInteractionResponse("r288") @MessageInteractionResponse("r288") @StringSelectionResponse("r288") @EntitySelectionResponse("r288") @AutoCompleteResponse(slashCommandId = "r288", focusedOption = "o") @EmoteResponse(value = "r288", isAdding = true)
+    public void handler288(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r289") @ModalResponse("r289") @SlashResponse("r289") @UserInteractionResponse("r289") @MessageInteractionResponse("r289") @StringSelectionResponse("r289") @EntitySelectionResponse("r289") @AutoCompleteResponse(slashCommandId = "r289", focusedOption = "o") @EmoteResponse(value = "r289", isAdding = true)
+    public void handler289(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r290") @ModalResponse("r290") @SlashResponse("r290") @UserInteractionResponse("r290") @MessageInteractionResponse("r290") @StringSelectionResponse("r290") @EntitySelectionResponse("r290") @AutoCompleteResponse(slashCommandId = "r290", focusedOption = "o") @EmoteResponse(value = "r290", isAdding = true)
+    public void handler290(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r291") @ModalResponse("r291") @SlashResponse("r291") @UserInteractionResponse("r291") @MessageInteractionResponse("r291") @StringSelectionResponse("r291") @EntitySelectionResponse("r291") @AutoCompleteResponse(slashCommandId = "r291", focusedOption = "o") @EmoteResponse(value = "r291", isAdding = true)
+    public void handler291(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r292") @ModalResponse("r292") @SlashResponse("r292") @UserInteractionResponse("r292") @MessageInteractionResponse("r292") @StringSelectionResponse("r292") @EntitySelectionResponse("r292") @AutoCompleteResponse(slashCommandId = "r292", focusedOption = "o") @EmoteResponse(value = "r292", isAdding = true)
+    public void handler292(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r293") @ModalResponse("r293") @SlashResponse("r293") @UserInteractionResponse("r293") @MessageInteractionResponse("r293") @StringSelectionResponse("r293") @EntitySelectionResponse("r293") @AutoCompleteResponse(slashCommandId = "r293", focusedOption = "o") @EmoteResponse(value = "r293", isAdding = true)
+    public void handler293(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r294") @ModalResponse("r294") @SlashResponse("r294") @UserInteractionResponse("r294") @MessageInteractionResponse("r294") @StringSelectionResponse("r294") @EntitySelectionResponse("r294") @AutoCompleteResponse(slashCommandId = "r294", focusedOption = "o") @EmoteResponse(value = "r294", isAdding = true)
+    public void handler294(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r295") @ModalResponse("r295") @SlashResponse("r295") @UserInteractionResponse("r295") @MessageInteractionResponse("r295") @StringSelectionResponse("r295") @EntitySelectionResponse("r295") @AutoCompleteResponse(slashCommandId = "r295", focusedOption = "o") @EmoteResponse(value = "r295", isAdding = true)
+    public void handler295(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r296") @ModalResponse("r296") @SlashResponse("r296") @UserInteractionResponse("r296") @MessageInteractionResponse("r296") @StringSelectionResponse("r296") @EntitySelectionResponse("r296") @AutoCompleteResponse(slashCommandId = "r296", focusedOption = "o") @EmoteResponse(value = "r296", isAdding = true)
+    public void handler296(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r297") @ModalResponse("r297") @SlashResponse("r297") @UserInteractionResponse("r297") @MessageInteractionResponse("r297") @StringSelectionResponse("r297") @EntitySelectionResponse("r297") @AutoCompleteResponse(slashCommandId = "r297", focusedOption = "o") @EmoteResponse(value = "r297", isAdding = true)
+    public void handler297(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r298") @ModalResponse("r298") @SlashResponse("r298") @UserInteractionResponse("r298") @MessageInteractionResponse("r298") @StringSelectionResponse("r298") @EntitySelectionResponse("r298") @AutoCompleteResponse(slashCommandId = "r298", focusedOption = "o") @EmoteResponse(value = "r298", isAdding = true)
+    public void handler298(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r299") @ModalResponse("r299") @SlashResponse("r299") @UserInteractionResponse("r299") @MessageInteractionResponse("r299") @StringSelectionResponse("r299") @EntitySelectionResponse("r299") @AutoCompleteResponse(slashCommandId = "r299", focusedOption = "o") @EmoteResponse(value = "r299", isAdding = true)
+    public void handler299(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r300") @ModalResponse("r300") @SlashResponse("r300") @UserInteractionResponse("r300") @MessageInteractionResponse("r300") @StringSelectionResponse("r300") @EntitySelectionResponse("r300") @AutoCompleteResponse(slashCommandId = "r300", focusedOption = "o") @EmoteResponse(value = "r300", isAdding = true)
+    public void handler300(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r301") @ModalResponse("r301") @SlashResponse("r301") @UserInteractionResponse("r301") @MessageInteractionResponse("r301") @StringSelectionResponse("r301") @EntitySelectionResponse("r301") @AutoCompleteResponse(slashCommandId = "r301", focusedOption = "o") @EmoteResponse(value = "r301", isAdding = true)
+    public void handler301(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r302") @ModalResponse("r302") @SlashResponse("r302") @UserInteractionResponse("r302") @MessageInteractionResponse("r302") @StringSelectionResponse("r302") @EntitySelectionResponse("r302") @AutoCompleteResponse(slashCommandId = "r302", focusedOption = "o") @EmoteResponse(value = "r302", isAdding = true)
+    public void handler302(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r303") @ModalResponse("r303") @SlashResponse("r303") @UserInteractionResponse("r303") @MessageInteractionResponse("r303") @StringSelectionResponse("r303") @EntitySelectionResponse("r303") @AutoCompleteResponse(slashCommandId = "r303", focusedOption = "o") @EmoteResponse(value = "r303", isAdding = true)
+    public void handler303(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r304") @ModalResponse("r304") @SlashResponse("r304") @UserInteractionResponse("r304") @MessageInteractionResponse("r304") @StringSelectionResponse("r304") @EntitySelectionResponse("r304") @AutoCompleteResponse(slashCommandId = "r304", focusedOption = "o") @EmoteResponse(value = "r304", isAdding = true)
+    public void handler304(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r305") @ModalResponse("r305") @SlashResponse("r305") @UserInteractionResponse("r305") @MessageInteractionResponse("r305") @StringSelectionResponse("r305") @EntitySelectionResponse("r305") @AutoCompleteResponse(slashCommandId = "r305", focusedOption = "o") @EmoteResponse(value = "r305", isAdding = true)
+    public void handler305(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r306") @ModalResponse("r306") @SlashResponse("r306") @UserInteractionResponse("r306") @MessageInteractionResponse("r306") @StringSelectionResponse("r306") @EntitySelectionResponse("r306") @AutoCompleteResponse(slashCommandId = "r306", focusedOption = "o") @EmoteResponse(value = "r306", isAdding = true)
+    public void handler306(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r307") @ModalResponse("r307") @SlashResponse("r307") @UserInteractionResponse("r307") @MessageInteractionResponse("r307") @StringSelectionResponse("r307") @EntitySelectionResponse("r307") @AutoCompleteResponse(slashCommandId = "r307", focusedOption = "o") @EmoteResponse(value = "r307", isAdding = true)
+    public void handler307(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r308") @ModalResponse("r308") @SlashResponse("r308") @UserInteractionResponse("r308") @MessageInteractionResponse("r308") @StringSelectionResponse("r308") @EntitySelectionResponse("r308") @AutoCompleteResponse(slashCommandId = "r308", focusedOption = "o") @EmoteResponse(value = "r308", isAdding = true)
+    public void handler308(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r309") @ModalResponse("r309") @SlashResponse("r309") @UserInteractionResponse("r309") @MessageInteractionResponse("r309") @StringSelectionResponse("r309") @EntitySelectionResponse("r309") @AutoCompleteResponse(slashCommandId = "r309", focusedOption = "o") @EmoteResponse(value = "r309", isAdding = true)
+    public void handler309(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r310") @ModalResponse("r310") @SlashResponse("r310") @UserInteractionResponse("r310") @MessageInteractionResponse("r310") @StringSelectionResponse("r310") @EntitySelectionResponse("r310") @AutoCompleteResponse(slashCommandId = "r310", focusedOption = "o") @EmoteResponse(value = "r310", isAdding = true)
+    public void handler310(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r311") @ModalResponse("r311") @SlashResponse("r311") @UserInteractionResponse("r311") @MessageInteractionResponse("r311") @StringSelectionResponse("r311") @EntitySelectionResponse("r311") @AutoCompleteResponse(slashCommandId = "r311", focusedOption = "o") @EmoteResponse(value = "r311", isAdding = true)
+    public void handler311(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r312") @ModalResponse("r312") @SlashResponse("r312") @UserInteractionResponse("r312") @MessageInteractionResponse("r312") @StringSelectionResponse("r312") @EntitySelectionResponse("r312") @AutoCompleteResponse(slashCommandId = "r312", focusedOption = "o") @EmoteResponse(value = "r312", isAdding = true)
+    public void handler312(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r313") @ModalResponse("r313") @SlashResponse("r313") @UserInteractionResponse("r313") @MessageInteractionResponse("r313") @StringSelectionResponse("r313") @EntitySelectionResponse("r313") @AutoCompleteResponse(slashCommandId = "r313", focusedOption = "o") @EmoteResponse(value = "r313", isAdding = true)
+    public void handler313(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r314") @ModalResponse("r314") @SlashResponse("r314") @UserInteractionResponse("r314") @MessageInteractionResponse("r314") @StringSelectionResponse("r314") @EntitySelectionResponse("r314") @AutoCompleteResponse(slashCommandId = "r314", focusedOption = "o") @EmoteResponse(value = "r314", isAdding = true)
+    public void handler314(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r315") @ModalResponse("r315") @SlashResponse("r315") @UserInteractionResponse("r315") @MessageInteractionResponse("r315") @StringSelectionResponse("r315") @EntitySelectionResponse("r315") @AutoCompleteResponse(slashCommandId = "r315", focusedOption = "o") @EmoteResponse(value = "r315", isAdding = true)
+    public void handler315(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r316") @ModalResponse("r316") @SlashResponse("r316") @UserInteractionResponse("r316") @MessageInteractionResponse("r316") @StringSelectionResponse("r316") @EntitySelectionResponse("r316") @AutoCompleteResponse(slashCommandId = "r316", focusedOption = "o") @EmoteResponse(value = "r316", isAdding = true)
+    public void handler316(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r317") @ModalResponse("r317") @SlashResponse("r317") @UserInteractionResponse("r317") @MessageInteractionResponse("r317") @StringSelectionResponse("r317") @EntitySelectionResponse("r317") @AutoCompleteResponse(slashCommandId = "r317", focusedOption = "o") @EmoteResponse(value = "r317", isAdding = true)
+    public void handler317(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r318") @ModalResponse("r318") @SlashResponse("r318") @UserInteractionResponse("r318") @MessageInteractionResponse("r318") @StringSelectionResponse("r318") @EntitySelectionResponse("r318") @AutoCompleteResponse(slashCommandId = "r318", focusedOption = "o") @EmoteResponse(value = "r318", isAdding = true)
+    public void handler318(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r319") @ModalResponse("r319") @SlashResponse("r319") @UserInteractionResponse("r319") @MessageInteractionResponse("r319") @StringSelectionResponse("r319") @EntitySelectionResponse("r319") @AutoCompleteResponse(slashCommandId = "r319", focusedOption = "o") @EmoteResponse(value = "r319", isAdding = true)
+    public void handler319(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r320") @ModalResponse("r320") @SlashResponse("r320") @UserInteractionResponse("r320") @MessageInteractionResponse("r320") @StringSelectionResponse("r320") @EntitySelectionResponse("r320") @AutoCompleteResponse(slashCommandId = "r320", focusedOption = "o") @EmoteResponse(value = "r320", isAdding = true)
+    public void handler320(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r321") @ModalResponse("r321") @SlashResponse("r321") @UserInteractionResponse("r321") @MessageInteractionResponse("r321") @StringSelectionResponse("r321") @EntitySelectionResponse("r321") @AutoCompleteResponse(slashCommandId = "r321", focusedOption = "o") @EmoteResponse(value = "r321", isAdding = true)
+    public void handler321(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r322") @ModalResponse("r322") @SlashResponse("r322") @UserInteractionResponse("r322") @MessageInteractionResponse("r322") @StringSelectionResponse("r322") @EntitySelectionResponse("r322") @AutoCompleteResponse(slashCommandId = "r322", focusedOption = "o") @EmoteResponse(value = "r322", isAdding = true)
+    public void handler322(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r323") @ModalResponse("r323") @SlashResponse("r323") @UserInteractionResponse("r323") @MessageInteractionResponse("r323") @StringSelectionResponse("r323") @EntitySelectionResponse("r323") @AutoCompleteResponse(slashCommandId = "r323", focusedOption = "o") @EmoteResponse(value = "r323", isAdding = true)
+    public void handler323(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r324") @ModalResponse("r324") @SlashResponse("r324") @UserInteractionResponse("r324") @MessageInteractionResponse("r324") @StringSelectionResponse("r324") @EntitySelectionResponse("r324") @AutoCompleteResponse(slashCommandId = "r324", focusedOption = "o") @EmoteResponse(value = "r324", isAdding = true)
+    public void handler324(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r325") @ModalResponse("r325") @SlashResponse("r325") @UserInteractionResponse("r325") @MessageInteractionResponse("r325") @StringSelectionResponse("r325") @EntitySelectionResponse("r325") @AutoCompleteResponse(slashCommandId = "r325", focusedOption = "o") @EmoteResponse(value = "r325", isAdding = true)
+    public void handler325(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r326") @ModalResponse("r326") @SlashResponse("r326") @UserInteractionResponse("r326") @MessageInteractionResponse("r326") @StringSelectionResponse("r326") @EntitySelectionResponse("r326") @AutoCompleteResponse(slashCommandId = "r326", focusedOption = "o") @EmoteResponse(value = "r326", isAdding = true)
+    public void handler326(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r327") @ModalResponse("r327") @SlashResponse("r327") @UserInteractionResponse("r327") @MessageInteractionResponse("r327") @StringSelectionResponse("r327") @EntitySelectionResponse("r327") @AutoCompleteResponse(slashCommandId = "r327", focusedOption = "o") @EmoteResponse(value = "r327", isAdding = true)
+    public void handler327(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r328") @ModalResponse("r328") @SlashResponse("r328") @UserInteractionResponse("r328") @MessageInteractionResponse("r328") @StringSelectionResponse("r328") @EntitySelectionResponse("r328") @AutoCompleteResponse(slashCommandId = "r328", focusedOption = "o") @EmoteResponse(value = "r328", isAdding = true)
+    public void handler328(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r329") @ModalResponse("r329") @SlashResponse("r329") @UserInteractionResponse("r329") @MessageInteractionResponse("r329") @StringSelectionResponse("r329") @EntitySelectionResponse("r329") @AutoCompleteResponse(slashCommandId = "r329", focusedOption = "o") @EmoteResponse(value = "r329", isAdding = true)
+    public void handler329(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r330") @ModalResponse("r330") @SlashResponse("r330") @UserInteractionResponse("r330") @MessageInteractionResponse("r330") @StringSelectionResponse("r330") @EntitySelectionResponse("r330") @AutoCompleteResponse(slashCommandId = "r330", focusedOption = "o") @EmoteResponse(value = "r330", isAdding = true)
+    public void handler330(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r331") @ModalResponse("r331") @SlashResponse("r331") @UserInteractionResponse("r331") @MessageInteractionResponse("r331") @StringSelectionResponse("r331") @EntitySelectionResponse("r331") @AutoCompleteResponse(slashCommandId = "r331", focusedOption = "o") @EmoteResponse(value = "r331", isAdding = true)
+    public void handler331(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r332") @ModalResponse("r332") @SlashResponse("r332") @UserInteractionResponse("r332") @MessageInteractionResponse("r332") @StringSelectionResponse("r332") @EntitySelectionResponse("r332") @AutoCompleteResponse(slashCommandId = "r332", focusedOption = "o") @EmoteResponse(value = "r332", isAdding = true)
+    public void handler332(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r333") @ModalResponse("r333") @SlashResponse("r333") @UserInteractionResponse("r333") @MessageInteractionResponse("r333") @StringSelectionResponse("r333") @EntitySelectionResponse("r333") @AutoCompleteResponse(slashCommandId = "r333", focusedOption = "o") @EmoteResponse(value = "r333", isAdding = true)
+    public void handler333(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r334") @ModalResponse("r334") @SlashResponse("r334") @UserInteractionResponse("r334") @MessageInteractionResponse("r334") @StringSelectionResponse("r334") @EntitySelectionResponse("r334") @AutoCompleteResponse(slashCommandId = "r334", focusedOption = "o") @EmoteResponse(value = "r334", isAdding = true)
+    public void handler334(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r335") @ModalResponse("r335") @SlashResponse("r335") @UserInteractionResponse("r335") @MessageInteractionResponse("r335") @StringSelectionResponse("r335") @EntitySelectionResponse("r335") @AutoCompleteResponse(slashCommandId = "r335", focusedOption = "o") @EmoteResponse(value = "r335", isAdding = true)
+    public void handler335(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r336") @ModalResponse("r336") @SlashResponse("r336") @UserInteractionResponse("r336") @MessageInteractionResponse("r336") @StringSelectionResponse("r336") @EntitySelectionResponse("r336") @AutoCompleteResponse(slashCommandId = "r336", focusedOption = "o") @EmoteResponse(value = "r336", isAdding = true)
+    public void handler336(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r337") @ModalResponse("r337") @SlashResponse("r337") @UserInteractionResponse("r337") @MessageInteractionResponse("r337") @StringSelectionResponse("r337") @EntitySelectionResponse("r337") @AutoCompleteResponse(slashCommandId = "r337", focusedOption = "o") @EmoteResponse(value = "r337", isAdding = true)
+    public void handler337(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r338") @ModalResponse("r338") @SlashResponse("r338") @UserInteractionResponse("r338") @MessageInteractionResponse("r338") @StringSelectionResponse("r338") @EntitySelectionResponse("r338") @AutoCompleteResponse(slashCommandId = "r338", focusedOption = "o") @EmoteResponse(value = "r338", isAdding = true)
+    public void handler338(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r339") @ModalResponse("r339") @SlashResponse("r339") @UserInteractionResponse("r339") @MessageInteractionResponse("r339") @StringSelectionResponse("r339") @EntitySelectionResponse("r339") @AutoCompleteResponse(slashCommandId = "r339", focusedOption = "o") @EmoteResponse(value = "r339", isAdding = true)
+    public void handler339(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r340") @ModalResponse("r340") @SlashResponse("r340") @UserInteractionResponse("r340") @MessageInteractionResponse("r340") @StringSelectionResponse("r340") @EntitySelectionResponse("r340") @AutoCompleteResponse(slashCommandId = "r340", focusedOption = "o") @EmoteResponse(value = "r340", isAdding = true)
+    public void handler340(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r341") @ModalResponse("r341") @SlashResponse("r341") @UserInteractionResponse("r341") @MessageInteractionResponse("r341") @StringSelectionResponse("r341") @EntitySelectionResponse("r341") @AutoCompleteResponse(slashCommandId = "r341", focusedOption = "o") @EmoteResponse(value = "r341", isAdding = true)
+    public void handler341(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r342") @ModalResponse("r342") @SlashResponse("r342") @UserInteractionResponse("r342") @MessageInteractionResponse("r342") @StringSelectionResponse("r342") @EntitySelectionResponse("r342") @AutoCompleteResponse(slashCommandId = "r342", focusedOption = "o") @EmoteResponse(value = "r342", isAdding = true)
+    public void handler342(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r343") @ModalResponse("r343") @SlashResponse("r343") @UserInteractionResponse("r343") @MessageInteractionResponse("r343") @StringSelectionResponse("r343") @EntitySelectionResponse("r343") @AutoCompleteResponse(slashCommandId = "r343", focusedOption = "o") @EmoteResponse(value = "r343", isAdding = true)
+    public void handler343(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r344") @ModalResponse("r344") @SlashResponse("r344") @UserInteractionResponse("r344") @MessageInteractionResponse("r344") @StringSelectionResponse("r344") @EntitySelectionResponse("r344") @AutoCompleteResponse(slashCommandId = "r344", focusedOption = "o") @EmoteResponse(value = "r344", isAdding = true)
+    public void handler344(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r345") @ModalResponse("r345") @SlashResponse("r345") @UserInteractionResponse("r345") @MessageInteractionResponse("r345") @StringSelectionResponse("r345") @EntitySelectionResponse("r345") @AutoCompleteResponse(slashCommandId = "r345", focusedOption = "o") @EmoteResponse(value = "r345", isAdding = true)
+    public void handler345(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r346") @ModalResponse("r346") @SlashResponse("r346") @UserInteractionResponse("r346") @MessageInteractionResponse("r346") @StringSelectionResponse("r346") @EntitySelectionResponse("r346") @AutoCompleteResponse(slashCommandId = "r346", focusedOption = "o") @EmoteResponse(value = "r346", isAdding = true)
+    public void handler346(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r347") @ModalResponse("r347") @SlashResponse("r347") @UserInteractionResponse("r347") @MessageInteractionResponse("r347") @StringSelectionResponse("r347") @EntitySelectionResponse("r347") @AutoCompleteResponse(slashCommandId = "r347", focusedOption = "o") @EmoteResponse(value = "r347", isAdding = true)
+    public void handler347(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r348") @ModalResponse("r348") @SlashResponse("r348") @UserInteractionResponse("r348") @MessageInteractionResponse("r348") @StringSelectionResponse("r348") @EntitySelectionResponse("r348") @AutoCompleteResponse(slashCommandId = "r348", focusedOption = "o") @EmoteResponse(value = "r348", isAdding = true)
+    public void handler348(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r349") @ModalResponse("r349") @SlashResponse("r349") @UserInteractionResponse("r349") @MessageInteractionResponse("r349") @StringSelectionResponse("r349") @EntitySelectionResponse("r349") @AutoCompleteResponse(slashCommandId = "r349", focusedOption = "o") @EmoteResponse(value = "r349", isAdding = true)
+    public void handler349(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r350") @ModalResponse("r350") @SlashResponse("r350") @UserInteractionResponse("r350") @MessageInteractionResponse("r350") @StringSelectionResponse("r350") @EntitySelectionResponse("r350") @AutoCompleteResponse(slashCommandId = "r350", focusedOption = "o") @EmoteResponse(value = "r350", isAdding = true)
+    public void handler350(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r351") @ModalResponse("r351") @SlashResponse("r351") @UserInteractionResponse("r351") @MessageInteractionResponse("r351") @StringSelectionResponse("r351") @EntitySelectionResponse("r351") @AutoCompleteResponse(slashCommandId = "r351", focusedOption = "o") @EmoteResponse(value = "r351", isAdding = true)
+    public void handler351(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r352") @ModalResponse("r352") @SlashResponse("r352") @UserInteractionResponse("r352") @MessageInteractionResponse("r352") @StringSelectionResponse("r352") @EntitySelectionResponse("r352") @AutoCompleteResponse(slashCommandId = "r352", focusedOption = "o") @EmoteResponse(value = "r352", isAdding = true)
+    public void handler352(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r353") @ModalResponse("r353") @SlashResponse("r353") @UserInteractionResponse("r353") @MessageInteractionResponse("r353") @StringSelectionResponse("r353") @EntitySelectionResponse("r353") @AutoCompleteResponse(slashCommandId = "r353", focusedOption = "o") @EmoteResponse(value = "r353", isAdding = true)
+    public void handler353(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r354") @ModalResponse("r354") @SlashResponse("r354") @UserInteractionResponse("r354") @MessageInteractionResponse("r354") @StringSelectionResponse("r354") @EntitySelectionResponse("r354") @AutoCompleteResponse(slashCommandId = "r354", focusedOption = "o") @EmoteResponse(value = "r354", isAdding = true)
+    public void handler354(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r355") @ModalResponse("r355") @SlashResponse("r355") @UserInteractionResponse("r355") @MessageInteractionResponse("r355") @StringSelectionResponse("r355") @EntitySelectionResponse("r355") @AutoCompleteResponse(slashCommandId = "r355", focusedOption = "o") @EmoteResponse(value = "r355", isAdding = true)
+    public void handler355(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r356") @ModalResponse("r356") @SlashResponse("r356") @UserInteractionResponse("r356") @MessageInteractionResponse("r356") @StringSelectionResponse("r356") @EntitySelectionResponse("r356") @AutoCompleteResponse(slashCommandId = "r356", focusedOption = "o") @EmoteResponse(value = "r356", isAdding = true)
+    public void handler356(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r357") @ModalResponse("r357") @SlashResponse("r357") @UserInteractionResponse("r357") @MessageInteractionResponse("r357") @StringSelectionResponse("r357") @EntitySelectionResponse("r357") @AutoCompleteResponse(slashCommandId = "r357", focusedOption = "o") @EmoteResponse(value = "r357", isAdding = true)
+    public void handler357(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r358") @ModalResponse("r358") @SlashResponse("r358") @UserInteractionResponse("r358") @MessageInteractionResponse("r358") @StringSelectionResponse("r358") @EntitySelectionResponse("r358") @AutoCompleteResponse(slashCommandId = "r358", focusedOption = "o") @EmoteResponse(value = "r358", isAdding = true)
+    public void handler358(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r359") @ModalResponse("r359") @SlashResponse("r359") @UserInteractionResponse("r359") @MessageInteractionResponse("r359") @StringSelectionResponse("r359") @EntitySelectionResponse("r359") @AutoCompleteResponse(slashCommandId = "r359", focusedOption = "o") @EmoteResponse(value = "r359", isAdding = true)
+    public void handler359(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r360") @ModalResponse("r360") @SlashResponse("r360") @UserInteractionResponse("r360") @MessageInteractionResponse("r360") @StringSelectionResponse("r360") @EntitySelectionResponse("r360") @AutoCompleteResponse(slashCommandId = "r360", focusedOption = "o") @EmoteResponse(value = "r360", isAdding = true)
+    public void handler360(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r361") @ModalResponse("r361") @SlashResponse("r361") @UserInteractionResponse("r361") @MessageInteractionResponse("r361") @StringSelectionResponse("r361") @EntitySelectionResponse("r361") @AutoCompleteResponse(slashCommandId = "r361", focusedOption = "o") @EmoteResponse(value = "r361", isAdding = true)
+    public void handler361(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r362") @ModalResponse("r362") @SlashResponse("r362") @UserInteractionResponse("r362") @MessageInteractionResponse("r362") @StringSelectionResponse("r362") @EntitySelectionResponse("r362") @AutoCompleteResponse(slashCommandId = "r362", focusedOption = "o") @EmoteResponse(value = "r362", isAdding = true)
+    public void handler362(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r363") @ModalResponse("r363") @SlashResponse("r363") @UserInteractionResponse("r363") @MessageInteractionResponse("r363") @StringSelectionResponse("r363") @EntitySelectionResponse("r363") @AutoCompleteResponse(slashCommandId = "r363", focusedOption = "o") @EmoteResponse(value = "r363", isAdding = true)
+    public void handler363(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r364") @ModalResponse("r364") @SlashResponse("r364") @UserInteractionResponse("r364") @MessageInteractionResponse("r364") @StringSelectionResponse("r364") @EntitySelectionResponse("r364") @AutoCompleteResponse(slashCommandId = "r364", focusedOption = "o") @EmoteResponse(value = "r364", isAdding = true)
+    public void handler364(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r365") @ModalResponse("r365") @SlashResponse("r365") @UserInteractionResponse("r365") @MessageInteractionResponse("r365") @StringSelectionResponse("r365") @EntitySelectionResponse("r365") @AutoCompleteResponse(slashCommandId = "r365", focusedOption = "o") @EmoteResponse(value = "r365", isAdding = true)
+    public void handler365(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r366") @ModalResponse("r366") @SlashResponse("r366") @UserInteractionResponse("r366") @MessageInteractionResponse("r366") @StringSelectionResponse("r366") @EntitySelectionResponse("r366") @AutoCompleteResponse(slashCommandId = "r366", focusedOption = "o") @EmoteResponse(value = "r366", isAdding = true)
+    public void handler366(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r367") @ModalResponse("r367") @SlashResponse("r367") @UserInteractionResponse("r367") @MessageInteractionResponse("r367") @StringSelectionResponse("r367") @EntitySelectionResponse("r367") @AutoCompleteResponse(slashCommandId = "r367", focusedOption = "o") @EmoteResponse(value = "r367", isAdding = true)
+    public void handler367(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r368") @ModalResponse("r368") @SlashResponse("r368") @UserInteractionResponse("r368") @MessageInteractionResponse("r368") @StringSelectionResponse("r368") @EntitySelectionResponse("r368") @AutoCompleteResponse(slashCommandId = "r368", focusedOption = "o") @EmoteResponse(value = "r368", isAdding = true)
+    public void handler368(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r369") @ModalResponse("r369") @SlashResponse("r369") @UserInteractionResponse("r369") @MessageInteractionResponse("r369") @StringSelectionResponse("r369") @EntitySelectionResponse("r369") @AutoCompleteResponse(slashCommandId = "r369", focusedOption = "o") @EmoteResponse(value = "r369", isAdding = true)
+    public void handler369(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r370") @ModalResponse("r370") @SlashResponse("r370") @UserInteractionResponse("r370") @MessageInteractionResponse("r370") @StringSelectionResponse("r370") @EntitySelectionResponse("r370") @AutoCompleteResponse(slashCommandId = "r370", focusedOption = "o") @EmoteResponse(value = "r370", isAdding = true)
+    public void handler370(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r371") @ModalResponse("r371") @SlashResponse("r371") @UserInteractionResponse("r371") @MessageInteractionResponse("r371") @StringSelectionResponse("r371") @EntitySelectionResponse("r371") @AutoCompleteResponse(slashCommandId = "r371", focusedOption = "o") @EmoteResponse(value = "r371", isAdding = true)
+    public void handler371(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r372") @ModalResponse("r372") @SlashResponse("r372") @UserInteractionResponse("r372") @MessageInteractionResponse("r372") @StringSelectionResponse("r372") @EntitySelectionResponse("r372") @AutoCompleteResponse(slashCommandId = "r372", focusedOption = "o") @EmoteResponse(value = "r372", isAdding = true)
+    public void handler372(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r373") @ModalResponse("r373") @SlashResponse("r373") @UserInteractionResponse("r373") @MessageInteractionResponse("r373") @StringSelectionResponse("r373") @EntitySelectionResponse("r373") @AutoCompleteResponse(slashCommandId = "r373", focusedOption = "o") @EmoteResponse(value = "r373", isAdding = true)
+    public void handler373(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r374") @ModalResponse("r374") @SlashResponse("r374") @UserInteractionResponse("r374") @MessageInteractionResponse("r374") @StringSelectionResponse("r374") @EntitySelectionResponse("r374") @AutoCompleteResponse(slashCommandId = "r374", focusedOption = "o") @EmoteResponse(value = "r374", isAdding = true)
+    public void handler374(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r375") @ModalResponse("r375") @SlashResponse("r375") @UserInteractionResponse("r375") @MessageInteractionResponse("r375") @StringSelectionResponse("r375") @EntitySelectionResponse("r375") @AutoCompleteResponse(slashCommandId = "r375", focusedOption = "o") @EmoteResponse(value = "r375", isAdding = true)
+    public void handler375(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r376") @ModalResponse("r376") @SlashResponse("r376") @UserInteractionResponse("r376") @MessageInteractionResponse("r376") @StringSelectionResponse("r376") @EntitySelectionResponse("r376") @AutoCompleteResponse(slashCommandId = "r376", focusedOption = "o") @EmoteResponse(value = "r376", isAdding = true)
+    public void handler376(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r377") @ModalResponse("r377") @SlashResponse("r377") @UserInteractionResponse("r377") @MessageInteractionResponse("r377") @StringSelectionResponse("r377") @EntitySelectionResponse("r377") @AutoCompleteResponse(slashCommandId = "r377", focusedOption = "o") @EmoteResponse(value = "r377", isAdding = true)
+    public void handler377(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r378") @ModalResponse("r378") @SlashResponse("r378") @UserInteractionResponse("r378") @MessageInteractionResponse("r378") @StringSelectionResponse("r378") @EntitySelectionResponse("r378") @AutoCompleteResponse(slashCommandId = "r378", focusedOption = "o") @EmoteResponse(value = "r378", isAdding = true)
+    public void handler378(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r379") @ModalResponse("r379") @SlashResponse("r379") @UserInteractionResponse("r379") @MessageInteractionResponse("r379") @StringSelectionResponse("r379") @EntitySelectionResponse("r379") @AutoCompleteResponse(slashCommandId = "r379", focusedOption = "o") @EmoteResponse(value = "r379", isAdding = true)
+    public void handler379(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r380") @ModalResponse("r380") @SlashResponse("r380") @UserInteractionResponse("r380") @MessageInteractionResponse("r380") @StringSelectionResponse("r380") @EntitySelectionResponse("r380") @AutoCompleteResponse(slashCommandId = "r380", focusedOption = "o") @EmoteResponse(value = "r380", isAdding = true)
+    public void handler380(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r381") @ModalResponse("r381") @SlashResponse("r381") @UserInteractionResponse("r381") @MessageInteractionResponse("r381") @StringSelectionResponse("r381") @EntitySelectionResponse("r381") @AutoCompleteResponse(slashCommandId = "r381", focusedOption = "o") @EmoteResponse(value = "r381", isAdding = true)
+    public void handler381(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r382") @ModalResponse("r382") @SlashResponse("r382") @UserInteractionResponse("r382") @MessageInteractionResponse("r382") @StringSelectionResponse("r382") @EntitySelectionResponse("r382") @AutoCompleteResponse(slashCommandId = "r382", focusedOption = "o") @EmoteResponse(value = "r382", isAdding = true)
+    public void handler382(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r383") @ModalResponse("r383") @SlashResponse("r383") @UserInteractionResponse("r383") @MessageInteractionResponse("r383") @StringSelectionResponse("r383") @EntitySelectionResponse("r383") @AutoCompleteResponse(slashCommandId = "r383", focusedOption = "o") @EmoteResponse(value = "r383", isAdding = true)
+    public void handler383(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r384") @ModalResponse("r384") @SlashResponse("r384") @UserInteractionResponse("r384") @MessageInteractionResponse("r384") @StringSelectionResponse("r384") @EntitySelectionResponse("r384") @AutoCompleteResponse(slashCommandId = "r384", focusedOption = "o") @EmoteResponse(value = "r384", isAdding = true)
+    public void handler384(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r385") @ModalResponse("r385") @SlashResponse("r385") @UserInteractionResponse("r385") @MessageInteractionResponse("r385") @StringSelectionResponse("r385") @EntitySelectionResponse("r385") @AutoCompleteResponse(slashCommandId = "r385", focusedOption = "o") @EmoteResponse(value = "r385", isAdding = true)
+    public void handler385(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r386") @ModalResponse("r386") @SlashResponse("r386") @UserInteractionResponse("r386") @MessageInteractionResponse("r386") @StringSelectionResponse("r386") @EntitySelectionResponse("r386") @AutoCompleteResponse(slashCommandId = "r386", focusedOption = "o") @EmoteResponse(value = "r386", isAdding = true)
+    public void handler386(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r387") @ModalResponse("r387") @SlashResponse("r387") @UserInteractionResponse("r387") @MessageInteractionResponse("r387") @StringSelectionResponse("r387") @EntitySelectionResponse("r387") @AutoCompleteResponse(slashCommandId = "r387", focusedOption = "o") @EmoteResponse(value = "r387", isAdding = true)
+    public void handler387(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r388") @ModalResponse("r388") @SlashResponse("r388") @UserInteractionResponse("r388") @MessageInteractionResponse("r388") @StringSelectionResponse("r388") @EntitySelectionResponse("r388") @AutoCompleteResponse(slashCommandId = "r388", focusedOption = "o") @EmoteResponse(value = "r388", isAdding = true)
+    public void handler388(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r389") @ModalResponse("r389") @SlashResponse("r389") @UserInteractionResponse("r389") @MessageInteractionResponse("r389") @StringSelectionResponse("r389") @EntitySelectionResponse("r389") @AutoCompleteResponse(slashCommandId = "r389", focusedOption = "o") @EmoteResponse(value = "r389", isAdding = true)
+    public void handler389(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r390") @ModalResponse("r390") @SlashResponse("r390") @UserInteractionResponse("r390") @MessageInteractionResponse("r390") @StringSelectionResponse("r390") @EntitySelectionResponse("r390") @AutoCompleteResponse(slashCommandId = "r390", focusedOption = "o") @EmoteResponse(value = "r390", isAdding = true)
+    public void handler390(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r391") @ModalResponse("r391") @SlashResponse("r391") @UserInteractionResponse("r391") @MessageInteractionResponse("r391") @StringSelectionResponse("r391") @EntitySelectionResponse("r391") @AutoCompleteResponse(slashCommandId = "r391", focusedOption = "o") @EmoteResponse(value = "r391", isAdding = true)
+    public void handler391(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r392") @ModalResponse("r392") @SlashResponse("r392") @UserInteractionResponse("r392") @MessageInteractionResponse("r392") @StringSelectionResponse("r392") @EntitySelectionResponse("r392") @AutoCompleteResponse(slashCommandId = "r392", focusedOption = "o") @EmoteResponse(value = "r392", isAdding = true)
+    public void handler392(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r393") @ModalResponse("r393") @SlashResponse("r393") @UserInteractionResponse("r393") @MessageInteractionResponse("r393") @StringSelectionResponse("r393") @EntitySelectionResponse("r393") @AutoCompleteResponse(slashCommandId = "r393", focusedOption = "o") @EmoteResponse(value = "r393", isAdding = true)
+    public void handler393(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r394") @ModalResponse("r394") @SlashResponse("r394") @UserInteractionResponse("r394") @MessageInteractionResponse("r394") @StringSelectionResponse("r394") @EntitySelectionResponse("r394") @AutoCompleteResponse(slashCommandId = "r394", focusedOption = "o") @EmoteResponse(value = "r394", isAdding = true)
+    public void handler394(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r395") @ModalResponse("r395") @SlashResponse("r395") @UserInteractionResponse("r395") @MessageInteractionResponse("r395") @StringSelectionResponse("r395") @EntitySelectionResponse("r395") @AutoCompleteResponse(slashCommandId = "r395", focusedOption = "o") @EmoteResponse(value = "r395", isAdding = true)
+    public void handler395(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r396") @ModalResponse("r396") @SlashResponse("r396") @UserInteractionResponse("r396") @MessageInteractionResponse("r396") @StringSelectionResponse("r396") @EntitySelectionResponse("r396") @AutoCompleteResponse(slashCommandId = "r396", focusedOption = "o") @EmoteResponse(value = "r396", isAdding = true)
+    public void handler396(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r397") @ModalResponse("r397") @SlashResponse("r397") @UserInteractionResponse("r397") @MessageInteractionResponse("r397") @StringSelectionResponse("r397") @EntitySelectionResponse("r397") @AutoCompleteResponse(slashCommandId = "r397", focusedOption = "o") @EmoteResponse(value = "r397", isAdding = true)
+    public void handler397(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r398") @ModalResponse("r398") @SlashResponse("r398") @UserInteractionResponse("r398") @MessageInteractionResponse("r398") @StringSelectionResponse("r398") @EntitySelectionResponse("r398") @AutoCompleteResponse(slashCommandId = "r398", focusedOption = "o") @EmoteResponse(value = "r398", isAdding = true)
+    public void handler398(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r399") @ModalResponse("r399") @SlashResponse("r399") @UserInteractionResponse("r399") @MessageInteractionResponse("r399") @StringSelectionResponse("r399") @EntitySelectionResponse("r399") @AutoCompleteResponse(slashCommandId = "r399", focusedOption = "o") @EmoteResponse(value = "r399", isAdding = true)
+    public void handler399(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r400") @ModalResponse("r400") @SlashResponse("r400") @UserInteractionResponse("r400") @MessageInteractionResponse("r400") @StringSelectionResponse("r400") @EntitySelectionResponse("r400") @AutoCompleteResponse(slashCommandId = "r400", focusedOption = "o") @EmoteResponse(value = "r400", isAdding = true)
+    public void handler400(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r401") @ModalResponse("r401") @SlashResponse("r401") @UserInteractionResponse("r401") @MessageInteractionResponse("r401") @StringSelectionResponse("r401") @EntitySelectionResponse("r401") @AutoCompleteResponse(slashCommandId = "r401", focusedOption = "o") @EmoteResponse(value = "r401", isAdding = true)
+    public void handler401(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r402") @ModalResponse("r402") @SlashResponse("r402") @UserInteractionResponse("r402") @MessageInteractionResponse("r402") @StringSelectionResponse("r402") @EntitySelectionResponse("r402") @AutoCompleteResponse(slashCommandId = "r402", focusedOption = "o") @EmoteResponse(value = "r402", isAdding = true)
+    public void handler402(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r403") @ModalResponse("r403") @SlashResponse("r403") @UserInteractionResponse("r403") @MessageInteractionResponse("r403") @StringSelectionResponse("r403") @EntitySelectionResponse("r403") @AutoCompleteResponse(slashCommandId = "r403", focusedOption = "o") @EmoteResponse(value = "r403", isAdding = true)
+    public void handler403(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r404") @ModalResponse("r404") @SlashResponse("r404") @UserInteractionResponse("r404") @MessageInteractionResponse("r404") @StringSelectionResponse("r404") @EntitySelectionResponse("r404") @AutoCompleteResponse(slashCommandId = "r404", focusedOption = "o") @EmoteResponse(value = "r404", isAdding = true)
+    public void handler404(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r405") @ModalResponse("r405") @SlashResponse("r405") @UserInteractionResponse("r405") @MessageInteractionResponse("r405") @StringSelectionResponse("r405") @EntitySelectionResponse("r405") @AutoCompleteResponse(slashCommandId = "r405", focusedOption = "o") @EmoteResponse(value = "r405", isAdding = true)
+    public void handler405(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r406") @ModalResponse("r406") @SlashResponse("r406") @UserInteractionResponse("r406") @MessageInteractionResponse("r406") @StringSelectionResponse("r406") @EntitySelectionResponse("r406") @AutoCompleteResponse(slashCommandId = "r406", focusedOption = "o") @EmoteResponse(value = "r406", isAdding = true)
+    public void handler406(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r407") @ModalResponse("r407") @SlashResponse("r407") @UserInteractionResponse("r407") @MessageInteractionResponse("r407") @StringSelectionResponse("r407") @EntitySelectionResponse("r407") @AutoCompleteResponse(slashCommandId = "r407", focusedOption = "o") @EmoteResponse(value = "r407", isAdding = true)
+    public void handler407(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r408") @ModalResponse("r408") @SlashResponse("r408") @UserInteractionResponse("r408") @MessageInteractionResponse("r408") @StringSelectionResponse("r408") @EntitySelectionResponse("r408") @AutoCompleteResponse(slashCommandId = "r408", focusedOption = "o") @EmoteResponse(value = "r408", isAdding = true)
+    public void handler408(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r409") @ModalResponse("r409") @SlashResponse("r409") @UserInteractionResponse("r409") @MessageInteractionResponse("r409") @StringSelectionResponse("r409") @EntitySelectionResponse("r409") @AutoCompleteResponse(slashCommandId = "r409", focusedOption = "o") @EmoteResponse(value = "r409", isAdding = true)
+    public void handler409(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r410") @ModalResponse("r410") @SlashResponse("r410") @UserInteractionResponse("r410") @MessageInteractionResponse("r410") @StringSelectionResponse("r410") @EntitySelectionResponse("r410") @AutoCompleteResponse(slashCommandId = "r410", focusedOption = "o") @EmoteResponse(value = "r410", isAdding = true)
+    public void handler410(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r411") @ModalResponse("r411") @SlashResponse("r411") @UserInteractionResponse("r411") @MessageInteractionResponse("r411") @StringSelectionResponse("r411") @EntitySelectionResponse("r411") @AutoCompleteResponse(slashCommandId = "r411", focusedOption = "o") @EmoteResponse(value = "r411", isAdding = true)
+    public void handler411(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r412") @ModalResponse("r412") @SlashResponse("r412") @UserInteractionResponse("r412") @MessageInteractionResponse("r412") @StringSelectionResponse("r412") @EntitySelectionResponse("r412") @AutoCompleteResponse(slashCommandId = "r412", focusedOption = "o") @EmoteResponse(value = "r412", isAdding = true)
+    public void handler412(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r413") @ModalResponse("r413") @SlashResponse("r413") @UserInteractionResponse("r413") @MessageInteractionResponse("r413") @StringSelectionResponse("r413") @EntitySelectionResponse("r413") @AutoCompleteResponse(slashCommandId = "r413", focusedOption = "o") @EmoteResponse(value = "r413", isAdding = true)
+    public void handler413(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r414") @ModalResponse("r414") @SlashResponse("r414") @UserInteractionResponse("r414") @MessageInteractionResponse("r414") @StringSelectionResponse("r414") @EntitySelectionResponse("r414") @AutoCompleteResponse(slashCommandId = "r414", focusedOption = "o") @EmoteResponse(value = "r414", isAdding = true)
+    public void handler414(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r415") @ModalResponse("r415") @SlashResponse("r415") @UserInteractionResponse("r415") @MessageInteractionResponse("r415") @StringSelectionResponse("r415") @EntitySelectionResponse("r415") @AutoCompleteResponse(slashCommandId = "r415", focusedOption = "o") @EmoteResponse(value = "r415", isAdding = true)
+    public void handler415(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r416") @ModalResponse("r416") @SlashResponse("r416") @UserInteractionResponse("r416") @MessageInteractionResponse("r416") @StringSelectionResponse("r416") @EntitySelectionResponse("r416") @AutoCompleteResponse(slashCommandId = "r416", focusedOption = "o") @EmoteResponse(value = "r416", isAdding = true)
+    public void handler416(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r417") @ModalResponse("r417") @SlashResponse("r417") @UserInteractionResponse("r417") @MessageInteractionResponse("r417") @StringSelectionResponse("r417") @EntitySelectionResponse("r417") @AutoCompleteResponse(slashCommandId = "r417", focusedOption = "o") @EmoteResponse(value = "r417", isAdding = true)
+    public void handler417(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r418") @ModalResponse("r418") @SlashResponse("r418") @UserInteractionResponse("r418") @MessageInteractionResponse("r418") @StringSelectionResponse("r418") @EntitySelectionResponse("r418") @AutoCompleteResponse(slashCommandId = "r418", focusedOption = "o") @EmoteResponse(value = "r418", isAdding = true)
+    public void handler418(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r419") @ModalResponse("r419") @SlashResponse("r419") @UserInteractionResponse("r419") @MessageInteractionResponse("r419") @StringSelectionResponse("r419") @EntitySelectionResponse("r419") @AutoCompleteResponse(slashCommandId = "r419", focusedOption = "o") @EmoteResponse(value = "r419", isAdding = true)
+    public void handler419(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r420") @ModalResponse("r420") @SlashResponse("r420") @UserInteractionResponse("r420") @MessageInteractionResponse("r420") @StringSelectionResponse("r420") @EntitySelectionResponse("r420") @AutoCompleteResponse(slashCommandId = "r420", focusedOption = "o") @EmoteResponse(value = "r420", isAdding = true)
+    public void handler420(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r421") @ModalResponse("r421") @SlashResponse("r421") @UserInteractionResponse("r421") @MessageInteractionResponse("r421") @StringSelectionResponse("r421") @EntitySelectionResponse("r421") @AutoCompleteResponse(slashCommandId = "r421", focusedOption = "o") @EmoteResponse(value = "r421", isAdding = true)
+    public void handler421(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r422") @ModalResponse("r422") @SlashResponse("r422") @UserInteractionResponse("r422") @MessageInteractionResponse("r422") @StringSelectionResponse("r422") @EntitySelectionResponse("r422") @AutoCompleteResponse(slashCommandId = "r422", focusedOption = "o") @EmoteResponse(value = "r422", isAdding = true)
+    public void handler422(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r423") @ModalResponse("r423") @SlashResponse("r423") @UserInteractionResponse("r423") @MessageInteractionResponse("r423") @StringSelectionResponse("r423") @EntitySelectionResponse("r423") @AutoCompleteResponse(slashCommandId = "r423", focusedOption = "o") @EmoteResponse(value = "r423", isAdding = true)
+    public void handler423(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r424") @ModalResponse("r424") @SlashResponse("r424") @UserInteractionResponse("r424") @MessageInteractionResponse("r424") @StringSelectionResponse("r424") @EntitySelectionResponse("r424") @AutoCompleteResponse(slashCommandId = "r424", focusedOption = "o") @EmoteResponse(value = "r424", isAdding = true)
+    public void handler424(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r425") @ModalResponse("r425") @SlashResponse("r425") @UserInteractionResponse("r425") @MessageInteractionResponse("r425") @StringSelectionResponse("r425") @EntitySelectionResponse("r425") @AutoCompleteResponse(slashCommandId = "r425", focusedOption = "o") @EmoteResponse(value = "r425", isAdding = true)
+    public void handler425(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r426") @ModalResponse("r426") @SlashResponse("r426") @UserInteractionResponse("r426") @MessageInteractionResponse("r426") @StringSelectionResponse("r426") @EntitySelectionResponse("r426") @AutoCompleteResponse(slashCommandId = "r426", focusedOption = "o") @EmoteResponse(value = "r426", isAdding = true)
+    public void handler426(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r427") @ModalResponse("r427") @SlashResponse("r427") @UserInteractionResponse("r427") @MessageInteractionResponse("r427") @StringSelectionResponse("r427") @EntitySelectionResponse("r427") @AutoCompleteResponse(slashCommandId = "r427", focusedOption = "o") @EmoteResponse(value = "r427", isAdding = true)
+    public void handler427(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r428") @ModalResponse("r428") @SlashResponse("r428") @UserInteractionResponse("r428") @MessageInteractionResponse("r428") @StringSelectionResponse("r428") @EntitySelectionResponse("r428") @AutoCompleteResponse(slashCommandId = "r428", focusedOption = "o") @EmoteResponse(value = "r428", isAdding = true)
+    public void handler428(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r429") @ModalResponse("r429") @SlashResponse("r429") @UserInteractionResponse("r429") @MessageInteractionResponse("r429") @StringSelectionResponse("r429") @EntitySelectionResponse("r429") @AutoCompleteResponse(slashCommandId = "r429", focusedOption = "o") @EmoteResponse(value = "r429", isAdding = true)
+    public void handler429(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r430") @ModalResponse("r430") @SlashResponse("r430") @UserInteractionResponse("r430") @MessageInteractionResponse("r430") @StringSelectionResponse("r430") @EntitySelectionResponse("r430") @AutoCompleteResponse(slashCommandId = "r430", focusedOption = "o") @EmoteResponse(value = "r430", isAdding = true)
+    public void handler430(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r431") @ModalResponse("r431") @SlashResponse("r431") @UserInteractionResponse("r431") @MessageInteractionResponse("r431") @StringSelectionResponse("r431") @EntitySelectionResponse("r431") @AutoCompleteResponse(slashCommandId = "r431", focusedOption = "o") @EmoteResponse(value = "r431", isAdding = true)
+    public void handler431(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r432") @ModalResponse("r432") @SlashResponse("r432") @UserInteractionResponse("r432") @MessageInteractionResponse("r432") @StringSelectionResponse("r432") @EntitySelectionResponse("r432") @AutoCompleteResponse(slashCommandId = "r432", focusedOption = "o") @EmoteResponse(value = "r432", isAdding = true)
+    public void handler432(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r433") @ModalResponse("r433") @SlashResponse("r433") @UserInteractionResponse("r433") @MessageInteractionResponse("r433") @StringSelectionResponse("r433") @EntitySelectionResponse("r433") @AutoCompleteResponse(slashCommandId = "r433", focusedOption = "o") @EmoteResponse(value = "r433", isAdding = true)
+    public void handler433(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r434") @ModalResponse("r434") @SlashResponse("r434") @UserInteractionResponse("r434") @MessageInteractionResponse("r434") @StringSelectionResponse("r434") @EntitySelectionResponse("r434") @AutoCompleteResponse(slashCommandId = "r434", focusedOption = "o") @EmoteResponse(value = "r434", isAdding = true)
+    public void handler434(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r435") @ModalResponse("r435") @SlashResponse("r435") @UserInteractionResponse("r435") @MessageInteractionResponse("r435") @StringSelectionResponse("r435") @EntitySelectionResponse("r435") @AutoCompleteResponse(slashCommandId = "r435", focusedOption = "o") @EmoteResponse(value = "r435", isAdding = true)
+    public void handler435(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r436") @ModalResponse("r436") @SlashResponse("r436") @UserInteractionResponse("r436") @MessageInteractionResponse("r436") @StringSelectionResponse("r436") @EntitySelectionResponse("r436") @AutoCompleteResponse(slashCommandId = "r436", focusedOption = "o") @EmoteResponse(value = "r436", isAdding = true)
+    public void handler436(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r437") @ModalResponse("r437") @SlashResponse("r437") @UserInteractionResponse("r437") @MessageInteractionResponse("r437") @StringSelectionResponse("r437") @EntitySelectionResponse("r437") @AutoCompleteResponse(slashCommandId = "r437", focusedOption = "o") @EmoteResponse(value = "r437", isAdding = true)
+    public void handler437(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r438") @ModalResponse("r438") @SlashResponse("r438") @UserInteractionResponse("r438") @MessageInteractionResponse("r438") @StringSelectionResponse("r438") @EntitySelectionResponse("r438") @AutoCompleteResponse(slashCommandId = "r438", focusedOption = "o") @EmoteResponse(value = "r438", isAdding = true)
+    public void handler438(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r439") @ModalResponse("r439") @SlashResponse("r439") @UserInteractionResponse("r439") @MessageInteractionResponse("r439") @StringSelectionResponse("r439") @EntitySelectionResponse("r439") @AutoCompleteResponse(slashCommandId = "r439", focusedOption = "o") @EmoteResponse(value = "r439", isAdding = true)
+    public void handler439(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r440") @ModalResponse("r440") @SlashResponse("r440") @UserInteractionResponse("r440") @MessageInteractionResponse("r440") @StringSelectionResponse("r440") @EntitySelectionResponse("r440") @AutoCompleteResponse(slashCommandId = "r440", focusedOption = "o") @EmoteResponse(value = "r440", isAdding = true)
+    public void handler440(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r441") @ModalResponse("r441") @SlashResponse("r441") @UserInteractionResponse("r441") @MessageInteractionResponse("r441") @StringSelectionResponse("r441") @EntitySelectionResponse("r441") @AutoCompleteResponse(slashCommandId = "r441", focusedOption = "o") @EmoteResponse(value = "r441", isAdding = true)
+    public void handler441(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r442") @ModalResponse("r442") @SlashResponse("r442") @UserInteractionResponse("r442") @MessageInteractionResponse("r442") @StringSelectionResponse("r442") @EntitySelectionResponse("r442") @AutoCompleteResponse(slashCommandId = "r442", focusedOption = "o") @EmoteResponse(value = "r442", isAdding = true)
+    public void handler442(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r443") @ModalResponse("r443") @SlashResponse("r443") @UserInteractionResponse("r443") @MessageInteractionResponse("r443") @StringSelectionResponse("r443") @EntitySelectionResponse("r443") @AutoCompleteResponse(slashCommandId = "r443", focusedOption = "o") @EmoteResponse(value = "r443", isAdding = true)
+    public void handler443(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r444") @ModalResponse("r444") @SlashResponse("r444") @UserInteractionResponse("r444") @MessageInteractionResponse("r444") @StringSelectionResponse("r444") @EntitySelectionResponse("r444") @AutoCompleteResponse(slashCommandId = "r444", focusedOption = "o") @EmoteResponse(value = "r444", isAdding = true)
+    public void handler444(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r445") @ModalResponse("r445") @SlashResponse("r445") @UserInteractionResponse("r445") @MessageInteractionResponse("r445") @StringSelectionResponse("r445") @EntitySelectionResponse("r445") @AutoCompleteResponse(slashCommandId = "r445", focusedOption = "o") @EmoteResponse(value = "r445", isAdding = true)
+    public void handler445(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r446") @ModalResponse("r446") @SlashResponse("r446") @UserInteractionResponse("r446") @MessageInteractionResponse("r446") @StringSelectionResponse("r446") @EntitySelectionResponse("r446") @AutoCompleteResponse(slashCommandId = "r446", focusedOption = "o") @EmoteResponse(value = "r446", isAdding = true)
+    public void handler446(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r447") @ModalResponse("r447") @SlashResponse("r447") @UserInteractionResponse("r447") @MessageInteractionResponse("r447") @StringSelectionResponse("r447") @EntitySelectionResponse("r447") @AutoCompleteResponse(slashCommandId = "r447", focusedOption = "o") @EmoteResponse(value = "r447", isAdding = true)
+    public void handler447(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r448") @ModalResponse("r448") @SlashResponse("r448") @UserInteractionResponse("r448") @MessageInteractionResponse("r448") @StringSelectionResponse("r448") @EntitySelectionResponse("r448") @AutoCompleteResponse(slashCommandId = "r448", focusedOption = "o") @EmoteResponse(value = "r448", isAdding = true)
+    public void handler448(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r449") @ModalResponse("r449") @SlashResponse("r449") @UserInteractionResponse("r449") @MessageInteractionResponse("r449") @StringSelectionResponse("r449") @EntitySelectionResponse("r449") @AutoCompleteResponse(slashCommandId = "r449", focusedOption = "o") @EmoteResponse(value = "r449", isAdding = true)
+    public void handler449(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r450") @ModalResponse("r450") @SlashResponse("r450") @UserInteractionResponse("r450") @MessageInteractionResponse("r450") @StringSelectionResponse("r450") @EntitySelectionResponse("r450") @AutoCompleteResponse(slashCommandId = "r450", focusedOption = "o") @EmoteResponse(value = "r450", isAdding = true)
+    public void handler450(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r451") @ModalResponse("r451") @SlashResponse("r451") @UserInteractionResponse("r451") @MessageInteractionResponse("r451") @StringSelectionResponse("r451") @EntitySelectionResponse("r451") @AutoCompleteResponse(slashCommandId = "r451", focusedOption = "o") @EmoteResponse(value = "r451", isAdding = true)
+    public void handler451(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r452") @ModalResponse("r452") @SlashResponse("r452") @UserInteractionResponse("r452") @MessageInteractionResponse("r452") @StringSelectionResponse("r452") @EntitySelectionResponse("r452") @AutoCompleteResponse(slashCommandId = "r452", focusedOption = "o") @EmoteResponse(value = "r452", isAdding = true)
+    public void handler452(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r453") @ModalResponse("r453") @SlashResponse("r453") @UserInteractionResponse("r453") @MessageInteractionResponse("r453") @StringSelectionResponse("r453") @EntitySelectionResponse("r453") @AutoCompleteResponse(slashCommandId = "r453", focusedOption = "o") @EmoteResponse(value = "r453", isAdding = true)
+    public void handler453(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r454") @ModalResponse("r454") @SlashResponse("r454") @UserInteractionResponse("r454") @MessageInteractionResponse("r454") @StringSelectionResponse("r454") @EntitySelectionResponse("r454") @AutoCompleteResponse(slashCommandId = "r454", focusedOption = "o") @EmoteResponse(value = "r454", isAdding = true)
+    public void handler454(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r455") @ModalResponse("r455") @SlashResponse("r455") @UserInteractionResponse("r455") @MessageInteractionResponse("r455") @StringSelectionResponse("r455") @EntitySelectionResponse("r455") @AutoCompleteResponse(slashCommandId = "r455", focusedOption = "o") @EmoteResponse(value = "r455", isAdding = true)
+    public void handler455(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r456") @ModalResponse("r456") @SlashResponse("r456") @UserInteractionResponse("r456") @MessageInteractionResponse("r456") @StringSelectionResponse("r456") @EntitySelectionResponse("r456") @AutoCompleteResponse(slashCommandId = "r456", focusedOption = "o") @EmoteResponse(value = "r456", isAdding = true)
+    public void handler456(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r457") @ModalResponse("r457") @SlashResponse("r457") @UserInteractionResponse("r457") @MessageInteractionResponse("r457") @StringSelectionResponse("r457") @EntitySelectionResponse("r457") @AutoCompleteResponse(slashCommandId = "r457", focusedOption = "o") @EmoteResponse(value = "r457", isAdding = true)
+    public void handler457(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r458") @ModalResponse("r458") @SlashResponse("r458") @UserInteractionResponse("r458") @MessageInteractionResponse("r458") @StringSelectionResponse("r458") @EntitySelectionResponse("r458") @AutoCompleteResponse(slashCommandId = "r458", focusedOption = "o") @EmoteResponse(value = "r458", isAdding = true)
+    public void handler458(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r459") @ModalResponse("r459") @SlashResponse("r459") @UserInteractionResponse("r459") @MessageInteractionResponse("r459") @StringSelectionResponse("r459") @EntitySelectionResponse("r459") @AutoCompleteResponse(slashCommandId = "r459", focusedOption = "o") @EmoteResponse(value = "r459", isAdding = true)
+    public void handler459(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r460") @ModalResponse("r460") @SlashResponse("r460") @UserInteractionResponse("r460") @MessageInteractionResponse("r460") @StringSelectionResponse("r460") @EntitySelectionResponse("r460") @AutoCompleteResponse(slashCommandId = "r460", focusedOption = "o") @EmoteResponse(value = "r460", isAdding = true)
+    public void handler460(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r461") @ModalResponse("r461") @SlashResponse("r461") @UserInteractionResponse("r461") @MessageInteractionResponse("r461") @StringSelectionResponse("r461") @EntitySelectionResponse("r461") @AutoCompleteResponse(slashCommandId = "r461", focusedOption = "o") @EmoteResponse(value = "r461", isAdding = true)
+    public void handler461(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r462") @ModalResponse("r462") @SlashResponse("r462") @UserInteractionResponse("r462") @MessageInteractionResponse("r462") @StringSelectionResponse("r462") @EntitySelectionResponse("r462") @AutoCompleteResponse(slashCommandId = "r462", focusedOption = "o") @EmoteResponse(value = "r462", isAdding = true)
+    public void handler462(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r463") @ModalResponse("r463") @SlashResponse("r463") @UserInteractionResponse("r463") @MessageInteractionResponse("r463") @StringSelectionResponse("r463") @EntitySelectionResponse("r463") @AutoCompleteResponse(slashCommandId = "r463", focusedOption = "o") @EmoteResponse(value = "r463", isAdding = true)
+    public void handler463(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r464") @ModalResponse("r464") @SlashResponse("r464") @UserInteractionResponse("r464") @MessageInteractionResponse("r464") @StringSelectionResponse("r464") @EntitySelectionResponse("r464") @AutoCompleteResponse(slashCommandId = "r464", focusedOption = "o") @EmoteResponse(value = "r464", isAdding = true)
+    public void handler464(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r465") @ModalResponse("r465") @SlashResponse("r465") @UserInteractionResponse("r465") @MessageInteractionResponse("r465") @StringSelectionResponse("r465") @EntitySelectionResponse("r465") @AutoCompleteResponse(slashCommandId = "r465", focusedOption = "o") @EmoteResponse(value = "r465", isAdding = true)
+    public void handler465(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r466") @ModalResponse("r466") @SlashResponse("r466") @UserInteractionResponse("r466") @MessageInteractionResponse("r466") @StringSelectionResponse("r466") @EntitySelectionResponse("r466") @AutoCompleteResponse(slashCommandId = "r466", focusedOption = "o") @EmoteResponse(value = "r466", isAdding = true)
+    public void handler466(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r467") @ModalResponse("r467") @SlashResponse("r467") @UserInteractionResponse("r467") @MessageInteractionResponse("r467") @StringSelectionResponse("r467") @EntitySelectionResponse("r467") @AutoCompleteResponse(slashCommandId = "r467", focusedOption = "o") @EmoteResponse(value = "r467", isAdding = true)
+    public void handler467(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r468") @ModalResponse("r468") @SlashResponse("r468") @UserInteractionResponse("r468") @MessageInteractionResponse("r468") @StringSelectionResponse("r468") @EntitySelectionResponse("r468") @AutoCompleteResponse(slashCommandId = "r468", focusedOption = "o") @EmoteResponse(value = "r468", isAdding = true)
+    public void handler468(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r469") @ModalResponse("r469") @SlashResponse("r469") @UserInteractionResponse("r469") @MessageInteractionResponse("r469") @StringSelectionResponse("r469") @EntitySelectionResponse("r469") @AutoCompleteResponse(slashCommandId = "r469", focusedOption = "o") @EmoteResponse(value = "r469", isAdding = true)
+    public void handler469(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r470") @ModalResponse("r470") @SlashResponse("r470") @UserInteractionResponse("r470") @MessageInteractionResponse("r470") @StringSelectionResponse("r470") @EntitySelectionResponse("r470") @AutoCompleteResponse(slashCommandId = "r470", focusedOption = "o") @EmoteResponse(value = "r470", isAdding = true)
+    public void handler470(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r471") @ModalResponse("r471") @SlashResponse("r471") @UserInteractionResponse("r471") @MessageInteractionResponse("r471") @StringSelectionResponse("r471") @EntitySelectionResponse("r471") @AutoCompleteResponse(slashCommandId = "r471", focusedOption = "o") @EmoteResponse(value = "r471", isAdding = true)
+    public void handler471(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r472") @ModalResponse("r472") @SlashResponse("r472") @UserInteractionResponse("r472") @MessageInteractionResponse("r472") @StringSelectionResponse("r472") @EntitySelectionResponse("r472") @AutoCompleteResponse(slashCommandId = "r472", focusedOption = "o") @EmoteResponse(value = "r472", isAdding = true)
+    public void handler472(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r473") @ModalResponse("r473") @SlashResponse("r473") @UserInteractionResponse("r473") @MessageInteractionResponse("r473") @StringSelectionResponse("r473") @EntitySelectionResponse("r473") @AutoCompleteResponse(slashCommandId = "r473", focusedOption = "o") @EmoteResponse(value = "r473", isAdding = true)
+    public void handler473(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r474") @ModalResponse("r474") @SlashResponse("r474") @UserInteractionResponse("r474") @MessageInteractionResponse("r474") @StringSelectionResponse("r474") @EntitySelectionResponse("r474") @AutoCompleteResponse(slashCommandId = "r474", focusedOption = "o") @EmoteResponse(value = "r474", isAdding = true)
+    public void handler474(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r475") @ModalResponse("r475") @SlashResponse("r475") @UserInteractionResponse("r475") @MessageInteractionResponse("r475") @StringSelectionResponse("r475") @EntitySelectionResponse("r475") @AutoCompleteResponse(slashCommandId = "r475", focusedOption = "o") @EmoteResponse(value = "r475", isAdding = true)
+    public void handler475(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r476") @ModalResponse("r476") @SlashResponse("r476") @UserInteractionResponse("r476") @MessageInteractionResponse("r476") @StringSelectionResponse("r476") @EntitySelectionResponse("r476") @AutoCompleteResponse(slashCommandId = "r476", focusedOption = "o") @EmoteResponse(value = "r476", isAdding = true)
+    public void handler476(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r477") @ModalResponse("r477") @SlashResponse("r477") @UserInteractionResponse("r477") @MessageInteractionResponse("r477") @StringSelectionResponse("r477") @EntitySelectionResponse("r477") @AutoCompleteResponse(slashCommandId = "r477", focusedOption = "o") @EmoteResponse(value = "r477", isAdding = true)
+    public void handler477(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r478") @ModalResponse("r478") @SlashResponse("r478") @UserInteractionResponse("r478") @MessageInteractionResponse("r478") @StringSelectionResponse("r478") @EntitySelectionResponse("r478") @AutoCompleteResponse(slashCommandId = "r478", focusedOption = "o") @EmoteResponse(value = "r478", isAdding = true)
+    public void handler478(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r479") @ModalResponse("r479") @SlashResponse("r479") @UserInteractionResponse("r479") @MessageInteractionResponse("r479") @StringSelectionResponse("r479") @EntitySelectionResponse("r479") @AutoCompleteResponse(slashCommandId = "r479", focusedOption = "o") @EmoteResponse(value = "r479", isAdding = true)
+    public void handler479(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r480") @ModalResponse("r480") @SlashResponse("r480") @UserInteractionResponse("r480") @MessageInteractionResponse("r480") @StringSelectionResponse("r480") @EntitySelectionResponse("r480") @AutoCompleteResponse(slashCommandId = "r480", focusedOption = "o") @EmoteResponse(value = "r480", isAdding = true)
+    public void handler480(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r481") @ModalResponse("r481") @SlashResponse("r481") @UserInteractionResponse("r481") @MessageInteractionResponse("r481") @StringSelectionResponse("r481") @EntitySelectionResponse("r481") @AutoCompleteResponse(slashCommandId = "r481", focusedOption = "o") @EmoteResponse(value = "r481", isAdding = true)
+    public void handler481(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r482") @ModalResponse("r482") @SlashResponse("r482") @UserInteractionResponse("r482") @MessageInteractionResponse("r482") @StringSelectionResponse("r482") @EntitySelectionResponse("r482") @AutoCompleteResponse(slashCommandId = "r482", focusedOption = "o") @EmoteResponse(value = "r482", isAdding = true)
+    public void handler482(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r483") @ModalResponse("r483") @SlashResponse("r483") @UserInteractionResponse("r483") @MessageInteractionResponse("r483") @StringSelectionResponse("r483") @EntitySelectionResponse("r483") @AutoCompleteResponse(slashCommandId = "r483", focusedOption = "o") @EmoteResponse(value = "r483", isAdding = true)
+    public void handler483(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r484") @ModalResponse("r484") @SlashResponse("r484") @UserInteractionResponse("r484") @MessageInteractionResponse("r484") @StringSelectionResponse("r484") @EntitySelectionResponse("r484") @AutoCompleteResponse(slashCommandId = "r484", focusedOption = "o") @EmoteResponse(value = "r484", isAdding = true)
+    public void handler484(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r485") @ModalResponse("r485") @SlashResponse("r485") @UserInteractionResponse("r485") @MessageInteractionResponse("r485") @StringSelectionResponse("r485") @EntitySelectionResponse("r485") @AutoCompleteResponse(slashCommandId = "r485", focusedOption = "o") @EmoteResponse(value = "r485", isAdding = true)
+    public void handler485(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r486") @ModalResponse("r486") @SlashResponse("r486") @UserInteractionResponse("r486") @MessageInteractionResponse("r486") @StringSelectionResponse("r486") @EntitySelectionResponse("r486") @AutoCompleteResponse(slashCommandId = "r486", focusedOption = "o") @EmoteResponse(value = "r486", isAdding = true)
+    public void handler486(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r487") @ModalResponse("r487") @SlashResponse("r487") @UserInteractionResponse("r487") @MessageInteractionResponse("r487") @StringSelectionResponse("r487") @EntitySelectionResponse("r487") @AutoCompleteResponse(slashCommandId = "r487", focusedOption = "o") @EmoteResponse(value = "r487", isAdding = true)
+    public void handler487(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r488") @ModalResponse("r488") @SlashResponse("r488") @UserInteractionResponse("r488") @MessageInteractionResponse("r488") @StringSelectionResponse("r488") @EntitySelectionResponse("r488") @AutoCompleteResponse(slashCommandId = "r488", focusedOption = "o") @EmoteResponse(value = "r488", isAdding = true)
+    public void handler488(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r489") @ModalResponse("r489") @SlashResponse("r489") @UserInteractionResponse("r489") @MessageInteractionResponse("r489") @StringSelectionResponse("r489") @EntitySelectionResponse("r489") @AutoCompleteResponse(slashCommandId = "r489", focusedOption = "o") @EmoteResponse(value = "r489", isAdding = true)
+    public void handler489(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r490") @ModalResponse("r490") @SlashResponse("r490") @UserInteractionResponse("r490") @MessageInteractionResponse("r490") @StringSelectionResponse("r490") @EntitySelectionResponse("r490") @AutoCompleteResponse(slashCommandId = "r490", focusedOption = "o") @EmoteResponse(value = "r490", isAdding = true)
+    public void handler490(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r491") @ModalResponse("r491") @SlashResponse("r491") @UserInteractionResponse("r491") @MessageInteractionResponse("r491") @StringSelectionResponse("r491") @EntitySelectionResponse("r491") @AutoCompleteResponse(slashCommandId = "r491", focusedOption = "o") @EmoteResponse(value = "r491", isAdding = true)
+    public void handler491(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r492") @ModalResponse("r492") @SlashResponse("r492") @UserInteractionResponse("r492") @MessageInteractionResponse("r492") @StringSelectionResponse("r492") @EntitySelectionResponse("r492") @AutoCompleteResponse(slashCommandId = "r492", focusedOption = "o") @EmoteResponse(value = "r492", isAdding = true)
+    public void handler492(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r493") @ModalResponse("r493") @SlashResponse("r493") @UserInteractionResponse("r493") @MessageInteractionResponse("r493") @StringSelectionResponse("r493") @EntitySelectionResponse("r493") @AutoCompleteResponse(slashCommandId = "r493", focusedOption = "o") @EmoteResponse(value = "r493", isAdding = true)
+    public void handler493(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r494") @ModalResponse("r494") @SlashResponse("r494") @UserInteractionResponse("r494") @MessageInteractionResponse("r494") @StringSelectionResponse("r494") @EntitySelectionResponse("r494") @AutoCompleteResponse(slashCommandId = "r494", focusedOption = "o") @EmoteResponse(value = "r494", isAdding = true)
+    public void handler494(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r495") @ModalResponse("r495") @SlashResponse("r495") @UserInteractionResponse("r495") @MessageInteractionResponse("r495") @StringSelectionResponse("r495") @EntitySelectionResponse("r495") @AutoCompleteResponse(slashCommandId = "r495", focusedOption = "o") @EmoteResponse(value = "r495", isAdding = true)
+    public void handler495(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r496") @ModalResponse("r496") @SlashResponse("r496") @UserInteractionResponse("r496") @MessageInteractionResponse("r496") @StringSelectionResponse("r496") @EntitySelectionResponse("r496") @AutoCompleteResponse(slashCommandId = "r496", focusedOption = "o") @EmoteResponse(value = "r496", isAdding = true)
+    public void handler496(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r497") @ModalResponse("r497") @SlashResponse("r497") @UserInteractionResponse("r497") @MessageInteractionResponse("r497") @StringSelectionResponse("r497") @EntitySelectionResponse("r497") @AutoCompleteResponse(slashCommandId = "r497", focusedOption = "o") @EmoteResponse(value = "r497", isAdding = true)
+    public void handler497(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r498") @ModalResponse("r498") @SlashResponse("r498") @UserInteractionResponse("r498") @MessageInteractionResponse("r498") @StringSelectionResponse("r498") @EntitySelectionResponse("r498") @AutoCompleteResponse(slashCommandId = "r498", focusedOption = "o") @EmoteResponse(value = "r498", isAdding = true)
+    public void handler498(GenericEvent event){ calls++; }
+
+    @ButtonResponse("r499") @ModalResponse("r499") @SlashResponse("r499") @UserInteractionResponse("r499") @MessageInteractionResponse("r499") @StringSelectionResponse("r499") @EntitySelectionResponse("r499") @AutoCompleteResponse(slashCommandId = "r499", focusedOption = "o") @EmoteResponse(value = "r499", isAdding = true)
+    public void handler499(GenericEvent event){ calls++; }
+}
@@ -0,0 +1,64 @@
+package com.zgamelogic.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the {@code Listener<N>} fixtures of the dispatch benchmarks. They are annotated sources rather than routes
+ * registered at runtime so that both invocation modes are measured the way users declare handlers.
+ * It has no dependencies and runs straight from this directory on Java 11 and newer
+ * <pre>{@code
+ * java src/main/java/com/zgamelogic/benchmarks/ListenerGenerator.java src/main/java/com/zgamelogic/benchmarks 1 50 500
+ * }</pre>
+ */
+public final class ListenerGenerator {
+
+    private ListenerGenerator(){}
+
+    /**
+     * @param args output directory followed by the handler counts
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 2) throw new IllegalArgumentException("Usage: ListenerGenerator <directory> <handlers>...");
+        Path directory = Paths.get(args[0]);
+        for(int i = 1; i < args.length; i++){
+            int handlers = Integer.parseInt(args[i]);
+            Files.write(directory.resolve("Listener" + handlers + ".java"), source(handlers).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Listener with the given number of handler methods, handler i bound to route r&lt;i&gt; of every event type
+     */
+    static String source(int handlers){
+        StringBuilder source = new StringBuilder()
+                .append("package com.zgamelogic.benchmarks;\n\n")
+                .append("import com.zgamelogic.AdvancedListenerAdapter;\n")
+                .append("import com.zgamelogic.InvocationMode;\n")
+                .append("import net.dv8tion.jda.api.events.GenericEvent;\n\n")
+                .append("/**\n")
+                .append(" * Listener with ").append(handlers).append(" handler method").append(handlers == 1 ? "" : "s")
+                .append(", each bound to route r&lt;index&gt; of every event type.\n")
+                .append(" * Written by {@link ListenerGenerator}, regenerate rather than edit by hand.\n")
+                .append(" */\n")
+                .append("public class Listener").append(handlers).append(" extends AdvancedListenerAdapter {\n\n")
+                .append("    public long calls;\n\n")
+                .append("    public Listener").append(handlers).append("(InvocationMode mode){\n")
+                .append("        super(mode);\n")
+                .append("    }\n");
+        for(int i = 0; i < handlers; i++){
+            String route = "\"r" + i + "\"";
+            source.append('\n')
+                    .append("    @ButtonResponse(").append(route).append(") @ModalResponse(").append(route)
+                    .append(") @SlashResponse(").append(route).append(") @UserInteractionResponse(").append(route)
+                    .append(") @MessageInteractionResponse(").append(route).append(") @StringSelectionResponse(").append(route)
+                    .append(") @EntitySelectionResponse(").append(route).append(") @AutoCompleteResponse(slashCommandId = ").append(route)
+                    .append(", focusedOption = \"o\") @EmoteResponse(value = ").append(route).append(", isAdding = true)\n")
+                    .append("    public void handler").append(i).append("(GenericEvent event){ calls++; }\n");
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,308 @@
+package com.zgamelogic.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+
+/**
+ * Generates a {@code <Listener>_Dispatcher} for every AdvancedListenerAdapter subclass with annotated methods.
+ * The dispatcher registers each route with a direct call to the handler, so the listener is built without reflection.
+ * <p>
+ * Listeners the generated code cannot call directly (private handlers, handlers with extra parameters,
+ * listeners extending another listener or inheriting handlers from interfaces, routes other than plain responses such as reaction batches and component timeouts,
+ * or handlers with annotations read at runtime) are left to the
+ * reflective path and reported with a note.
+ * <p>
+ * Add it to the compiler's processor path of the project declaring the listeners
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *     <path>
+ *         <groupId>com.zgamelogic</groupId>
+ *         <artifactId>Advanced-Listener-Adapter-Processor</artifactId>
+ *         <version>1.4.0</version>
+ *     </path>
+ * </annotationProcessorPaths>
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@SupportedAnnotationTypes({
+        DispatcherProcessor.ADAPTER + ".AutoCompleteResponse", DispatcherProcessor.ADAPTER + ".AutoCompleteResponses",
+        DispatcherProcessor.ADAPTER + ".UserInteractionResponse", DispatcherProcessor.ADAPTER + ".UserInteractionResponses",
+        DispatcherProcessor.ADAPTER + ".MessageInteractionResponse", DispatcherProcessor.ADAPTER + ".MessageInteractionResponses",
+        DispatcherProcessor.ADAPTER + ".StringSelectionResponse", DispatcherProcessor.ADAPTER + ".StringSelectionResponses",
+        DispatcherProcessor.ADAPTER + ".EntitySelectionResponse", DispatcherProcessor.ADAPTER + ".EntitySelectionResponses",
+        DispatcherProcessor.ADAPTER + ".ModalResponse", DispatcherProcessor.ADAPTER + ".ModalResponses",
+        DispatcherProcessor.ADAPTER + ".SlashResponse", DispatcherProcessor.ADAPTER + ".SlashResponses",
+        DispatcherProcessor.ADAPTER + ".ButtonResponse", DispatcherProcessor.ADAPTER + ".ButtonResponses",
+        DispatcherProcessor.ADAPTER + ".EmoteResponse", DispatcherProcessor.ADAPTER + ".EmoteResponses",
+        DispatcherProcessor.ADAPTER + ".EmoteBatchResponse", DispatcherProcessor.ADAPTER + ".EmoteBatchResponses",
+        DispatcherProcessor.ADAPTER + ".ComponentTimeout", DispatcherProcessor.ADAPTER + ".ComponentTimeouts"
+})
+public class DispatcherProcessor extends AbstractProcessor {
+
+    static final String ADAPTER = "com.zgamelogic.AdvancedListenerAdapter";
+    private static final String SUFFIX = "_Dispatcher";
+    private static final String EVENTS = "net.dv8tion.jda.api.events.";
+
+    /**
+     * Response annotations, the registrar method they map to and the attributes passed along in order
+     */
+    private enum Route {
+        AUTO_COMPLETE("AutoCompleteResponse", "autoComplete", EVENTS + "interaction.command.CommandAutoCompleteInteractionEvent", "slashCommandId", "slashSubCommandId", "focusedOption"),
+        USER_CONTEXT("UserInteractionResponse", "userInteraction", EVENTS + "interaction.command.UserContextInteractionEvent", "value"),
+        MESSAGE_CONTEXT("MessageInteractionResponse", "messageInteraction", EVENTS + "interaction.command.MessageContextInteractionEvent", "value"),
+        STRING_SELECT("StringSelectionResponse", "stringSelection", EVENTS + "interaction.component.StringSelectInteractionEvent", "value", "selectedOptionValue"),
+        ENTITY_SELECT("EntitySelectionResponse", "entitySelection", EVENTS + "interaction.component.EntitySelectInteractionEvent", "value"),
+        MODAL("ModalResponse", "modal", EVENTS + "interaction.ModalInteractionEvent", "value"),
+        SLASH("SlashResponse", "slash", EVENTS + "interaction.command.SlashCommandInteractionEvent", "value", "subCommandName"),
+        BUTTON("ButtonResponse", "button", EVENTS + "interaction.component.ButtonInteractionEvent", "value"),
+        EMOTE("EmoteResponse", "emote", EVENTS + "message.react.GenericMessageReactionEvent", "value", "isAdding");
+
+        private final String annotation;
+        private final String container;
+        private final String registrarMethod;
+        private final String event;
+        private final List<String> attributes;
+
+        Route(String annotation, String registrarMethod, String event, String... attributes){
+            this.annotation = ADAPTER + "." + annotation;
+            this.container = this.annotation + "s";
+            this.registrarMethod = registrarMethod;
+            this.event = event;
+            this.attributes = Arrays.asList(attributes);
+        }
+
+        static Route of(String annotation){
+            for(Route route : values()) if(route.annotation.equals(annotation)) return route;
+            return null;
+        }
+
+        static Route ofContainer(String container){
+            for(Route route : values()) if(route.container.equals(container)) return route;
+            return null;
+        }
+    }
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, Set<ExecutableElement>> listeners = new LinkedHashMap<>();
+        for(TypeElement annotation : annotations){
+            for(Element element : roundEnv.getElementsAnnotatedWith(annotation)){
+                if(element.getKind() != ElementKind.METHOD) continue;
+                listeners.computeIfAbsent((TypeElement) element.getEnclosingElement(), t -> new LinkedHashSet<>())
+                        .add((ExecutableElement) element);
+            }
+        }
+        listeners.forEach(this::generate);
+        return false;
+    }
+
+    private void generate(TypeElement listener, Set<ExecutableElement> handlers){
+        List<ExecutableElement> ordered = new ArrayList<>();
+        for(Element e : listener.getEnclosedElements()) if(handlers.contains(e)) ordered.add((ExecutableElement) e);
+
+        String reason = unsupported(listener, ordered);
+        if(reason != null){
+            messager.printMessage(Diagnostic.Kind.NOTE, "No dispatcher generated for " + listener.getQualifiedName() + ": " + reason, listener);
+            return;
+        }
+
+        String packageName = elements.getPackageOf(listener).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(listener).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        String listenerName = listener.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if(!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("/**\n")
+                .append(" * Routes for {@link ").append(listenerName).append("}.\n")
+                .append(" * Generated by ").append(getClass().getName()).append(", do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements com.zgamelogic.GeneratedDispatcher<").append(listenerName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public void register(").append(listenerName).append(" listener, com.zgamelogic.RouteRegistrar routes) {\n");
+        for(ExecutableElement handler : ordered){
+            for(AnnotationMirror mirror : routeMirrors(handler)){
+                Route route = Route.of(annotationName(mirror));
+                source.append("        routes.").append(route.registrarMethod).append('(');
+                Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(mirror);
+                for(String attribute : route.attributes) source.append(literal(valueOf(values, attribute))).append(", ");
+                source.append(elements.getConstantExpression(handler.getSimpleName().toString())).append(", ")
+                        .append("event -> ")
+                        .append(handler.getModifiers().contains(Modifier.STATIC) ? listenerName : "listener")
+                        .append('.').append(handler.getSimpleName())
+                        .append("((").append(handler.getParameters().get(0).asType()).append(") event));\n");
+            }
+        }
+        source.append("    }\n}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, listener).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Unable to write " + simpleName + ": " + e.getMessage(), listener);
+        }
+    }
+
+    /**
+     * Why the generated code could not call this listener directly
+     * @return the reason, or null if a dispatcher can be generated
+     */
+    private String unsupported(TypeElement listener, List<ExecutableElement> handlers){
+        TypeMirror superclass = listener.getSuperclass();
+        if(superclass.getKind() != TypeKind.DECLARED
+                || !((TypeElement) ((DeclaredType) superclass).asElement()).getQualifiedName().contentEquals(ADAPTER))
+            return "it does not extend " + ADAPTER + " directly";
+        if(!listener.getTypeParameters().isEmpty()) return "it is generic";
+        for(Element e = listener; e instanceof TypeElement; e = e.getEnclosingElement()){
+            TypeElement type = (TypeElement) e;
+            if(type.getModifiers().contains(Modifier.PRIVATE)) return type.getSimpleName() + " is private";
+            if(type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+                return type.getSimpleName() + " is an inner class";
+            if(type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS)
+                return "it is a local class";
+        }
+        String annotationReason = runtimeOnlyAnnotation(listener);
+        if(annotationReason != null) return annotationReason;
+        String inherited = interfaceHandler(listener);
+        if(inherited != null) return inherited;
+        // routes the registrar cannot express, such as reaction batches and component timeouts, may sit on methods without a plain route
+        for(Element e : listener.getEnclosedElements()){
+            if(e.getKind() != ElementKind.METHOD) continue;
+            annotationReason = runtimeOnlyAnnotation(e);
+            if(annotationReason != null) return e.getSimpleName() + " " + annotationReason;
+        }
+
+        TypeMirror exception = elements.getTypeElement("java.lang.Exception").asType();
+        for(ExecutableElement handler : handlers){
+            String name = handler.getSimpleName().toString();
+            if(handler.getModifiers().contains(Modifier.PRIVATE)) return name + " is private";
+            if(handler.getParameters().size() != 1) return name + " does not take exactly one event";
+            if(handler.getReturnType().getKind() != TypeKind.VOID) return name + " returns a value";
+            for(TypeMirror thrown : handler.getThrownTypes())
+                if(!types.isAssignable(thrown, exception)) return name + " throws " + thrown;
+            annotationReason = runtimeAnnotation(handler);
+            if(annotationReason != null) return name + " " + annotationReason;
+            TypeMirror parameter = handler.getParameters().get(0).asType();
+            for(AnnotationMirror mirror : routeMirrors(handler)){
+                Route route = Route.of(annotationName(mirror));
+                TypeElement event = elements.getTypeElement(route.event);
+                if(event == null || !types.isAssignable(event.asType(), parameter))
+                    return name + " does not accept " + route.event;
+                for(ExecutableElement attribute : mirror.getElementValues().keySet())
+                    if(!route.attributes.contains(attribute.getSimpleName().toString()))
+                        return name + " sets " + attribute.getSimpleName() + " on " + mirror.getAnnotationType().asElement().getSimpleName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Handlers declared on interfaces the listener implements, directly or not, are only found by the reflective path
+     */
+    private String interfaceHandler(TypeElement listener){
+        Deque<TypeMirror> queue = new ArrayDeque<>(listener.getInterfaces());
+        Set<String> seen = new HashSet<>();
+        while (!queue.isEmpty()) {
+            TypeElement type = (TypeElement) types.asElement(queue.poll());
+            if(type == null || !seen.add(type.getQualifiedName().toString())) continue;
+            for(Element e : type.getEnclosedElements()){
+                if(e.getKind() != ElementKind.METHOD) continue;
+                for(AnnotationMirror mirror : e.getAnnotationMirrors())
+                    if(annotationName(mirror).startsWith(ADAPTER + "."))
+                        return type.getSimpleName() + "." + e.getSimpleName() + " is a handler declared on an interface";
+            }
+            queue.addAll(type.getInterfaces());
+        }
+        return null;
+    }
+
+    /**
+     * Annotations from this library that are not plain routes are only understood by the reflective path
+     */
+    private String runtimeOnlyAnnotation(Element element){
+        for(AnnotationMirror mirror : element.getAnnotationMirrors()){
+            String name = annotationName(mirror);
+            if(!name.startsWith("com.zgamelogic.")) continue;
+            if(Route.of(name) == null && Route.ofContainer(name) == null) return "uses @" + mirror.getAnnotationType().asElement().getSimpleName();
+        }
+        return null;
+    }
+
+    /**
+     * Interceptors read a handler's other runtime annotations through RouteInfo.getAnnotation, which needs the method
+     * only the reflective path keeps, so any such annotation rules the listener out like the library's own do
+     */
+    private String runtimeAnnotation(ExecutableElement handler){
+        String reason = runtimeOnlyAnnotation(handler);
+        if(reason != null) return reason;
+        for(AnnotationMirror mirror : handler.getAnnotationMirrors()){
+            String name = annotationName(mirror);
+            if(Route.of(name) != null || Route.ofContainer(name) != null) continue;
+            Retention retention = mirror.getAnnotationType().asElement().getAnnotation(Retention.class);
+            if(retention != null && retention.value() == RetentionPolicy.RUNTIME)
+                return "uses @" + mirror.getAnnotationType().asElement().getSimpleName() + ", which interceptors can read";
+        }
+        return null;
+    }
+
+    /**
+     * Route annotations on a method with repeatable containers expanded
+     */
+    private List<AnnotationMirror> routeMirrors(ExecutableElement handler){
+        List<AnnotationMirror> mirrors = new ArrayList<>();
+        for(AnnotationMirror mirror : handler.getAnnotationMirrors()){
+            String name = annotationName(mirror);
+            if(Route.of(name) != null) {
+                mirrors.add(mirror);
+            } else if(Route.ofContainer(name) != null) {
+                @SuppressWarnings("unchecked")
+                List<? extends AnnotationValue> repeated = (List<? extends AnnotationValue>) valueOf(mirror.getElementValues(), "value");
+                for(AnnotationValue value : repeated) mirrors.add((AnnotationMirror) value.getValue());
+            }
+        }
+        return mirrors;
+    }
+
+    private static String annotationName(AnnotationMirror mirror){
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static Object valueOf(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String attribute){
+        for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet())
+            if(entry.getKey().getSimpleName().contentEquals(attribute)) return entry.getValue().getValue();
+        return null;
+    }
+
+    private String literal(Object value){
+        return value instanceof String ? elements.getConstantExpression(value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,207 @@
+package com.zgamelogic;
+
+import com.zgamelogic.processor.DispatcherProcessor;
+import org.junit.Test;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Runs the processor over fixture listeners and checks the dispatchers against the reflective routing.
+ * Lives in the adapter's package so it can read the routing tables.
+ */
+public class DispatcherProcessorTest {
+
+    private static final String ADAPTER = "import com.zgamelogic.AdvancedListenerAdapter;\n"
+            + "import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;\n"
+            + "import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;\n";
+
+    @Test
+    public void generatedRoutesTest() throws Exception {
+        Compiled compiled = compile(Collections.singletonMap("fixtures.RoutedListener", resource("fixtures/RoutedListener.java")));
+        assert Files.exists(compiled.classes.resolve("fixtures/RoutedListener_Dispatcher.class"));
+        Class<? extends AdvancedListenerAdapter> type = compiled.load("fixtures.RoutedListener");
+        assert GeneratedDispatchers.find(type) != null;
+
+        AdvancedListenerAdapter listener = type.getDeclaredConstructor().newInstance();
+        RoutingTable.Builder reflective = RoutingTable.builder(InvocationMode.defaultMode());
+        for(Method m : ListenerMetadata.of(type).getHandlers()) reflective.addMethod(listener, m);
+        List<String> generated = routes(listener.getRoutes());
+        assert generated.size() == 14 : generated;
+        assert generated.equals(routes(reflective.build())) : generated + " " + routes(reflective.build());
+    }
+
+    @Test
+    public void unsupportedFallbackTest() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        Map<String, String> reasons = new LinkedHashMap<>();
+        sources.put("fixtures.Base", "package fixtures;\n" + ADAPTER
+                + "public class Base extends AdvancedListenerAdapter {}\n");
+        unsupported(sources, reasons, "Derived", "public class Derived extends Base {\n"
+                + "    @ButtonResponse(\"b\") void b(ButtonInteractionEvent event){}\n}",
+                "it does not extend com.zgamelogic.AdvancedListenerAdapter directly");
+        unsupported(sources, reasons, "Generic", "public class Generic<T> extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") void b(ButtonInteractionEvent event){}\n}",
+                "it is generic");
+        unsupported(sources, reasons, "Outer", "public class Outer {\n"
+                + "    private static class Hidden extends AdvancedListenerAdapter {\n"
+                + "        @ButtonResponse(\"b\") void b(ButtonInteractionEvent event){}\n    }\n}",
+                "Hidden is private", "Outer$Hidden");
+        unsupported(sources, reasons, "Enclosing", "public class Enclosing {\n"
+                + "    public class Inner extends AdvancedListenerAdapter {\n"
+                + "        @ButtonResponse(\"b\") void b(ButtonInteractionEvent event){}\n    }\n}",
+                "Inner is an inner class", "Enclosing$Inner");
+        unsupported(sources, reasons, "PrivateHandler", "public class PrivateHandler extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") private void b(ButtonInteractionEvent event){}\n}",
+                "b is private");
+        unsupported(sources, reasons, "ExtraParameter", "public class ExtraParameter extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") void b(ButtonInteractionEvent event, String state){}\n}",
+                "b does not take exactly one event");
+        unsupported(sources, reasons, "Returning", "public class Returning extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") String b(ButtonInteractionEvent event){ return \"done\"; }\n}",
+                "b returns a value");
+        unsupported(sources, reasons, "Throwing", "public class Throwing extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") void b(ButtonInteractionEvent event) throws Throwable {}\n}",
+                "b throws java.lang.Throwable");
+        unsupported(sources, reasons, "RuntimeOnly", "public class RuntimeOnly extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") @Intercept({}) void b(ButtonInteractionEvent event){}\n}",
+                "b uses @Intercept");
+        sources.put("fixtures.Audit", "package fixtures;\n"
+                + "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME) public @interface Audit {}\n");
+        unsupported(sources, reasons, "Audited", "public class Audited extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") @Audit void b(ButtonInteractionEvent event){}\n}",
+                "b uses @Audit, which interceptors can read");
+        unsupported(sources, reasons, "WrongEvent", "public class WrongEvent extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") void b(ModalInteractionEvent event){}\n}",
+                "b does not accept net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent");
+        unsupported(sources, reasons, "ExtraAttribute", "public class ExtraAttribute extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(value = \"b\", perUserRate = \"2/s\") void b(ButtonInteractionEvent event){}\n}",
+                "b sets perUserRate on ButtonResponse");
+        sources.put("fixtures.Paged", "package fixtures;\n" + ADAPTER + "public interface Paged {\n"
+                + "    @AdvancedListenerAdapter.ButtonResponse(\"next\") default void next(ButtonInteractionEvent event){}\n}\n");
+        unsupported(sources, reasons, "PagedListener", "public class PagedListener extends AdvancedListenerAdapter implements Paged {\n"
+                + "    @ButtonResponse(\"b\") void b(ButtonInteractionEvent event){}\n}",
+                "Paged.next is a handler declared on an interface");
+
+        Compiled compiled = compile(sources);
+        reasons.forEach((listener, reason) -> {
+            assert !Files.exists(compiled.classes.resolve("fixtures/" + listener + "_Dispatcher.class")) : listener;
+            assert compiled.notes.contains("No dispatcher generated for fixtures." + listener.replace('$', '.') + ": " + reason)
+                    : listener + " " + compiled.notes;
+        });
+        Class<? extends AdvancedListenerAdapter> type = compiled.load("fixtures.PrivateHandler");
+        assert GeneratedDispatchers.find(type) == null;
+        assert type.getDeclaredConstructor().newInstance().getRoutes().size() == 1;
+        assert compiled.load("fixtures.PagedListener").getDeclaredConstructor().newInstance().getRoutes().size() == 2;
+    }
+
+    @Test
+    public void reactionBatchFallbackTest() throws Exception {
+        fallsBackLikeReflection("Batched", "public class Batched extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"b\") void b(ButtonInteractionEvent event){}\n"
+                + "    @EmoteBatchResponse(\"star\") @EmoteBatchResponse(\"heart\") void stars(com.zgamelogic.ReactionBatch batch){}\n}",
+                "stars uses @EmoteBatchResponses", 3);
+    }
+
+    @Test
+    public void componentTimeoutFallbackTest() throws Exception {
+        fallsBackLikeReflection("Expiring", "public class Expiring extends AdvancedListenerAdapter {\n"
+                + "    @ButtonResponse(\"pager:{n}\") void page(ButtonInteractionEvent event){}\n"
+                + "    @ComponentTimeout(value = \"pager:{n}\", after = \"5m\") void expire(com.zgamelogic.ComponentExpiry expiry){}\n}",
+                "expire uses @ComponentTimeout", 2);
+    }
+
+    /**
+     * Compiles a listener the processor must leave to reflection and checks it routes like the reflective table
+     */
+    private static void fallsBackLikeReflection(String name, String body, String reason, int routes) throws Exception {
+        Compiled compiled = compile(Collections.singletonMap("fixtures." + name, "package fixtures;\n" + ADAPTER + body + "\n"));
+        assert !Files.exists(compiled.classes.resolve("fixtures/" + name + "_Dispatcher.class"));
+        assert compiled.notes.contains("No dispatcher generated for fixtures." + name + ": " + reason) : compiled.notes;
+        Class<? extends AdvancedListenerAdapter> type = compiled.load("fixtures." + name);
+        AdvancedListenerAdapter listener = type.getDeclaredConstructor().newInstance();
+        RoutingTable.Builder reflective = RoutingTable.builder(InvocationMode.defaultMode());
+        for(Method m : ListenerMetadata.of(type).getHandlers()) reflective.addMethod(listener, m);
+        List<String> actual = routes(listener.getRoutes());
+        assert actual.size() == routes : actual;
+        assert actual.equals(routes(reflective.build())) : actual + " " + routes(reflective.build());
+    }
+
+    private static void unsupported(Map<String, String> sources, Map<String, String> reasons, String name, String body, String reason){
+        unsupported(sources, reasons, name, body, reason, name);
+    }
+
+    private static void unsupported(Map<String, String> sources, Map<String, String> reasons, String name, String body, String reason, String listener){
+        sources.put("fixtures." + name, "package fixtures;\n" + ADAPTER + body + "\n");
+        reasons.put(listener, reason);
+    }
+
+    /**
+     * Every route of a table as its type, key and handler name, sorted
+     */
+    private static List<String> routes(RoutingTable table){
+        List<String> routes = new ArrayList<>();
+        table.forEach(handler -> routes.add(handler.getType() + " " + handler.getRoute() + " " + handler.getName()));
+        Collections.sort(routes);
+        return routes;
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = DispatcherProcessorTest.class.getClassLoader().getResourceAsStream(name)) {
+            assert in != null : name;
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for(int read; (read = in.read(buffer)) != -1; ) out.write(buffer, 0, read);
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Compiles sources by class name with only the processor under test running
+     */
+    private static Compiled compile(Map<String, String> sources) throws IOException {
+        Path classes = Files.createTempDirectory("dispatchers");
+        List<JavaFileObject> units = new ArrayList<>();
+        sources.forEach((name, code) -> units.add(new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        }));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = ToolProvider.getSystemJavaCompiler().getTask(null, null, diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-encoding", "UTF-8"), null, units);
+        task.setProcessors(Collections.singletonList(new DispatcherProcessor()));
+        boolean compiled = task.call();
+        assert compiled : diagnostics.getDiagnostics();
+        List<String> notes = new ArrayList<>();
+        for(Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+            if(diagnostic.getKind() == Diagnostic.Kind.NOTE) notes.add(diagnostic.getMessage(Locale.ROOT));
+        return new Compiled(classes, notes);
+    }
+
+    private static final class Compiled {
+        private final Path classes;
+        private final List<String> notes;
+
+        private Compiled(Path classes, List<String> notes){
+            this.classes = classes;
+            this.notes = notes;
+        }
+
+        private Class<? extends AdvancedListenerAdapter> load(String name) throws Exception {
+            URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, DispatcherProcessorTest.class.getClassLoader());
+            return loader.loadClass(name).asSubclass(AdvancedListenerAdapter.class);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package fixtures;
+
+import com.zgamelogic.AdvancedListenerAdapter;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+/**
+ * One handler for every route the processor generates, with repeated annotations, templates and a static handler
+ */
+public class RoutedListener extends AdvancedListenerAdapter {
+
+    @AutoCompleteResponse(slashCommandId = "fruit", focusedOption = "name")
+    @AutoCompleteResponse(slashCommandId = "fruit", slashSubCommandId = "pick", focusedOption = "name")
+    void fruit(CommandAutoCompleteInteractionEvent event){}
+
+    @UserInteractionResponse("profile")
+    void profile(UserContextInteractionEvent event){}
+
+    @MessageInteractionResponse("quote")
+    void quote(MessageContextInteractionEvent event){}
+
+    @StringSelectionResponse("menu")
+    @StringSelectionResponse(value = "menu", selectedOptionValue = "first")
+    void menu(StringSelectInteractionEvent event){}
+
+    @EntitySelectionResponse("members")
+    void members(EntitySelectInteractionEvent event){}
+
+    @ModalResponse("form")
+    void form(ModalInteractionEvent event){}
+
+    @SlashResponse("ping")
+    @SlashResponse(value = "roll", subCommandName = "dice")
+    public void slash(SlashCommandInteractionEvent event) throws Exception {}
+
+    @ButtonResponse("page:{n}")
+    protected void page(ButtonInteractionEvent event){}
+
+    @ButtonResponse("ok")
+    static void ok(ButtonInteractionEvent event){}
+
+    @EmoteResponse(value = "⭐", isAdding = true)
+    @EmoteResponse(value = "⭐", isAdding = false)
+    void star(GenericMessageReactionEvent event){}
+}
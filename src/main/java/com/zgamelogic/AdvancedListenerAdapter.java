@@ -1,6 +1,9 @@
 package com.zgamelogic;
 
 import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.GenericEvent;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
@@ -8,27 +11,61 @@ import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEve
 import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.components.ActionComponent;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.interactions.components.ItemComponent;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.annotation.*;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Objects;
-
-import static java.util.Arrays.asList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * An advanced version of the ListenerAdapter class.
  * Highly annotative allowing automatic method calling.
+ * Annotated methods are bound into a routing table once, when the listener is constructed,
+ * so each event is routed with a hash lookup instead of scanning the class.
+ * Handlers can be added and removed later with {@link #register(Object)}, which swaps in a new table without blocking dispatch.
+ * Annotated methods are found once per class, including the ones declared in superclasses and interfaces.
+ * If the annotation processor generated a {@link GeneratedDispatcher} for the listener, it is used instead of reflection.
+ * <p>
+ * Handlers can return a RestAction, a CompletableFuture or a {@link MessageCreateData} instead of queueing their reply.
+ * The adapter submits it and records the time from receiving the event until it completed as the route's response latency.
+ * <pre>{@code
+ * {@literal @}SlashResponse("ping")
+ * private RestAction<?> ping(SlashCommandInteractionEvent event){
+ *     return event.reply("Pong").setEphemeral(true);
+ * }
+ * }</pre>
  * @see AutoCompleteResponse
  * @see UserInteractionResponse
  * @see MessageInteractionResponse
  * @see ButtonResponse
  * @see EmoteResponse
+ * @see EmoteBatchResponse
+ * @see ComponentTimeout
  * @see ModalResponse
  * @see SlashResponse
  * @see EntitySelectionResponse
@@ -36,278 +73,583 @@ import static java.util.Arrays.asList;
  * @author Ben Shabowski
  */
 @Slf4j
-public abstract class AdvancedListenerAdapter extends ListenerAdapter {
+public abstract class AdvancedListenerAdapter extends ListenerAdapter implements AutoCloseable {
+
+    private final InvocationMode mode;
+    private final Object updates = new Object();
+    private volatile RoutingTable routes;
+    private volatile DispatchExecutor executor;
+    private volatile DispatchMetrics metrics;
+    private volatile DeferralWatchdog watchdog;
+    private volatile InteractionRecorder recorder;
+    private volatile ComponentStateStore states;
+    private volatile ErrorReporter errors;
+    private final List<Interceptor> interceptors = new ArrayList<>();
+    private volatile InterceptorChain interceptorChain;
+    private volatile EventListener[] interceptorListeners = {};
+    private final InterceptorChain.Terminal intercepted = this::intercepted;
+    private final InterceptorChain.Terminal call = this::call;
 
     public AdvancedListenerAdapter(){
+        this(InvocationMode.defaultMode());
+    }
+
+    /**
+     * Creates a listener that calls its annotated methods using the given mode
+     * @param mode how annotated methods get called
+     */
+    public AdvancedListenerAdapter(InvocationMode mode){
         log.info("Registering annotated methods for class: " + this.getClass().getName());
-        for(Method m : getAnnotatedMethods()){
-            log.info("\t\t" + m.getName());
+        this.mode = mode;
+        RoutingTable.Builder builder = RoutingTable.builder(mode);
+        GeneratedDispatcher<AdvancedListenerAdapter> dispatcher = GeneratedDispatchers.find(getListenerClass());
+        if(dispatcher != null) {
+            log.info("\t\tusing " + dispatcher.getClass().getName());
+            dispatcher.register(this, builder.registrar(this));
+        } else {
+            for (Method m : ListenerMetadata.of(getClass()).getHandlers()) {
+                log.info("\t\t" + m.getName());
+                builder.addMethod(this, m);
+            }
         }
+        routes = builder.build();
+    }
+
+    /**
+     * Creates a listener routing to handlers that are already bound
+     * @param routes routing table to dispatch from
+     */
+    AdvancedListenerAdapter(RoutingTable routes){
+        this.mode = InvocationMode.defaultMode();
+        this.routes = routes;
+    }
+
+    RoutingTable getRoutes(){
+        return routes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<AdvancedListenerAdapter> getListenerClass(){
+        return (Class<AdvancedListenerAdapter>) getClass();
+    }
+
+    /**
+     * Hands every event to the interceptors that are event listeners, so they can drop what they cached.
+     * Call super if you override this.
+     */
+    @Override
+    public void onGenericEvent(@NotNull GenericEvent event) {
+        for(EventListener listener : interceptorListeners) listener.onEvent(event);
     }
 
     @Override
     public void onCommandAutoCompleteInteraction(@NotNull CommandAutoCompleteInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(AutoCompleteResponse.class, AutoCompleteResponses.class)){
-            LinkedList<AutoCompleteResponse> acrs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof AutoCompleteResponse) acrs.add((AutoCompleteResponse) a);
-                if(a instanceof AutoCompleteResponses) acrs.addAll(asList(((AutoCompleteResponses) a).value()));
-            }
-            for(AutoCompleteResponse ar: acrs) {
-                if (!ar.slashCommandId().equals(event.getName())) continue;
-                if (!ar.slashSubCommandId().isEmpty() && !ar.slashSubCommandId().equals(event.getSubcommandName()))
-                    continue;
-                if (!ar.focusedOption().equals(event.getFocusedOption().getName())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an CommandAutoCompleteInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Error in onCommandAutoCompleteInteraction", e);
-                }
-            }
-        }
+        record(event);
+        String name = event.getName();
+        String focused = event.getFocusedOption().getName();
+        RoutingTable routes = this.routes;
+        dispatch(routes.lookup(RouteType.AUTO_COMPLETE, RoutingTable.key(name, "", focused)), event, null);
+        if(event.getSubcommandName() != null)
+            dispatch(routes.lookup(RouteType.AUTO_COMPLETE, RoutingTable.key(name, event.getSubcommandName(), focused)), event, null);
     }
 
     @Override
     public void onUserContextInteraction(@NotNull UserContextInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(UserInteractionResponse.class, UserInteractionResponses.class)){
-            LinkedList<UserInteractionResponse> uirs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof UserInteractionResponse) uirs.add((UserInteractionResponse) a);
-                if(a instanceof UserInteractionResponses) uirs.addAll(asList(((UserInteractionResponses) a).value()));
-            }
-            for(UserInteractionResponse ur: uirs) {
-                if (!ur.value().equals(event.getInteraction().getName())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an UserContextInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Error in onUserContextInteraction", e);
-                }
-            }
-        }
+        record(event);
+        dispatch(routes.lookup(RouteType.USER_CONTEXT, event.getName()), event, null);
     }
 
     @Override
     public void onMessageContextInteraction(@NotNull MessageContextInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(MessageInteractionResponse.class, MessageInteractionResponses.class)){
-            LinkedList<MessageInteractionResponse> mirs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof MessageInteractionResponse) mirs.add((MessageInteractionResponse) a);
-                if(a instanceof MessageInteractionResponses) mirs.addAll(asList(((MessageInteractionResponses) a).value()));
-            }
-            for(MessageInteractionResponse mr: mirs) {
-                if (!mr.value().equals(event.getInteraction().getName())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an MessageContextInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Channel id: " + event.getChannel().getId());
-                    log.error("Error in onMessageContextInteraction", e);
-                }
-            }
-        }
+        record(event);
+        dispatch(routes.lookup(RouteType.MESSAGE_CONTEXT, event.getName()), event, null);
     }
 
     @Override
     public void onStringSelectInteraction(@NotNull StringSelectInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(StringSelectionResponse.class, StringSelectionResponses.class)){
-            LinkedList<StringSelectionResponse> ssrs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof StringSelectionResponse) ssrs.add((StringSelectionResponse) a);
-                if(a instanceof StringSelectionResponses) ssrs.addAll(asList(((StringSelectionResponses) a).value()));
-            }
-            for(StringSelectionResponse ssr: ssrs) {
-                if (!ssr.value().equals(event.getSelectMenu().getId())) continue;
-                if (!ssr.selectedOptionValue().isEmpty() && !
-                        ssr.selectedOptionValue().equals(event.getSelectedOptions().get(0).getValue())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an StringSelectInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Message id: " + event.getMessageId());
-                    log.error("Channel id: " + event.getChannel().getId());
-                    log.error("Error in onStringSelectInteraction", e);
-                }
-            }
+        record(event);
+        String id = event.getComponentId();
+        List<String> values = event.getValues();
+        RoutingTable routes = this.routes;
+        dispatch(routes.lookup(RouteType.STRING_SELECT, RoutingTable.key(id, "")), event, null);
+        if(!values.isEmpty())
+            dispatch(routes.lookup(RouteType.STRING_SELECT, RoutingTable.key(id, values.get(0))), event, null);
+        RouteMatch match = routes.match(RouteType.STRING_SELECT, id);
+        if(match != null) {
+            dispatch(match.lookup(""), event, match);
+            if(!values.isEmpty()) dispatch(match.lookup(values.get(0)), event, match);
         }
+        touchTimeouts(event);
     }
 
     @Override
     public void onEntitySelectInteraction(@NotNull EntitySelectInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(EntitySelectionResponse.class, EntitySelectionResponses.class)){
-            LinkedList<EntitySelectionResponse> esrs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof EntitySelectionResponse) esrs.add((EntitySelectionResponse) a);
-                if(a instanceof EntitySelectionResponses) esrs.addAll(asList(((EntitySelectionResponses) a).value()));
-            }
-            for(EntitySelectionResponse esr: esrs) {
-                if (!esr.value().equals(event.getSelectMenu().getId())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an EntitySelectInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Message id: " + event.getMessageId());
-                    log.error("Channel id: " + event.getChannel().getId());
-                    log.error("Error in onEntitySelectInteraction", e);
-                }
-            }
-        }
+        record(event);
+        dispatchComponent(RouteType.ENTITY_SELECT, event.getComponentId(), event);
+        touchTimeouts(event);
     }
 
     @Override
     public void onModalInteraction(@NotNull ModalInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(ModalResponse.class, ModalResponses.class)){
-            LinkedList<ModalResponse> mrs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof ModalResponse) mrs.add((ModalResponse) a);
-                if(a instanceof ModalResponses) mrs.addAll(asList(((ModalResponses) a).value()));
-            }
-            for(ModalResponse mr: mrs) {
-                if (!mr.value().equals(event.getModalId())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an ModalInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Error in onModalInteraction", e);
-                }
-            }
-        }
+        record(event);
+        dispatchComponent(RouteType.MODAL, event.getModalId(), event);
     }
 
     @Override
     public void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(SlashResponse.class, SlashResponses.class)){
-            LinkedList<SlashResponse> srs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof SlashResponse) srs.add((SlashResponse) a);
-                if(a instanceof SlashResponses) srs.addAll(asList(((SlashResponses) a).value()));
-            }
-            for(SlashResponse sr: srs) {
-                if (!sr.value().equals(event.getName())) continue;
-                if (!sr.subCommandName().isEmpty() && !sr.subCommandName().equals(event.getSubcommandName())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an SlashCommandInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Channel id: " + event.getChannel().getId());
-                    log.error("Error in onSlashCommandInteraction", e);
-                }
-            }
-        }
+        record(event);
+        String name = event.getName();
+        RoutingTable routes = this.routes;
+        dispatch(routes.lookup(RouteType.SLASH, RoutingTable.key(name, "")), event, null);
+        if(event.getSubcommandName() != null)
+            dispatch(routes.lookup(RouteType.SLASH, RoutingTable.key(name, event.getSubcommandName())), event, null);
     }
 
     @Override
     public void onButtonInteraction(@NotNull ButtonInteractionEvent event) {
-        for(Method m : getAnnotatedMethods(ButtonResponse.class, ButtonResponses.class)){
-            LinkedList<ButtonResponse> brs = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof ButtonResponse) brs.add((ButtonResponse) a);
-                if(a instanceof ButtonResponses) brs.addAll(asList(((ButtonResponses) a).value()));
-            }
-            for(ButtonResponse br: brs) {
-                if (!br.value().equals(event.getButton().getId())) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an ButtonInteractionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Message id: " + event.getMessageId());
-                    log.error("Channel id: " + event.getChannel().getId());
-                    log.error("Error in onButtonInteraction", e);
-                }
-            }
-        }
+        record(event);
+        dispatchComponent(RouteType.BUTTON, event.getComponentId(), event);
+        touchTimeouts(event);
     }
 
     @Override
     public void onGenericMessageReaction(@NotNull GenericMessageReactionEvent event) {
-        for(Method m : getAnnotatedMethods(EmoteResponse.class, EmoteResponses.class)){
-            LinkedList<EmoteResponse> ers = new LinkedList<>();
-            for(Annotation a: m.getAnnotations()){
-                if(a instanceof EmoteResponse) ers.add((EmoteResponse) a);
-                if(a instanceof EmoteResponses) ers.addAll(asList(((EmoteResponses) a).value()));
+        record(event);
+        boolean adding;
+        if(event instanceof MessageReactionAddEvent) adding = true;
+        else if(event instanceof MessageReactionRemoveEvent) adding = false;
+        else return;
+        String emoji = event.getReaction().getEmoji().getName();
+        RoutingTable routes = this.routes;
+        dispatch(routes.lookup(RouteType.REACTION, RoutingTable.reactionKey(emoji, adding)), event, null);
+        for(RouteHandler handler : routes.lookup(RouteType.REACTION_BATCH, emoji))
+            handler.getAggregator().add(event, adding, batch -> dispatchTimed(handler, batch));
+    }
+
+    /**
+     * Runs matched handlers on the given executor instead of the thread that delivered the event
+     * @param executor executor to hand handlers to, or null to call them inline
+     * @see AsyncDispatchExecutor
+     * @see PriorityDispatchExecutor
+     * @see ShardedDispatchExecutor
+     */
+    public void setDispatchExecutor(DispatchExecutor executor){
+        this.executor = executor;
+    }
+
+    /**
+     * Executor matched handlers are handed to
+     * @return the executor, or null if handlers are called inline
+     */
+    public DispatchExecutor getDispatchExecutor(){
+        return executor;
+    }
+
+    /**
+     * Records matches, failures and latency of every handler into the given metrics
+     * @param metrics metrics to record into, or null to stop recording
+     */
+    public void setDispatchMetrics(DispatchMetrics metrics){
+        this.metrics = metrics;
+    }
+
+    /**
+     * Metrics handlers are recorded into
+     * @return the metrics, or null if nothing is recorded
+     */
+    public DispatchMetrics getDispatchMetrics(){
+        return metrics;
+    }
+
+    /**
+     * Defers interactions whose handlers are still running when the watchdog's threshold passes
+     * @param watchdog watchdog to track interactions on, or null to never defer automatically
+     */
+    public void setDeferralWatchdog(DeferralWatchdog watchdog){
+        this.watchdog = watchdog;
+    }
+
+    /**
+     * Watchdog tracking dispatched interactions
+     * @return the watchdog, or null if interactions are not tracked
+     */
+    public DeferralWatchdog getDeferralWatchdog(){
+        return watchdog;
+    }
+
+    /**
+     * Writes every routed event this listener receives to a recorder, for replaying later
+     * @param recorder recorder to write to, or null to stop recording
+     * @see InteractionReplayer
+     */
+    public void setRecorder(InteractionRecorder recorder){
+        this.recorder = recorder;
+    }
+
+    /**
+     * Recorder routed events are written to
+     * @return the recorder, or null if nothing is recorded
+     */
+    public InteractionRecorder getRecorder(){
+        return recorder;
+    }
+
+    /**
+     * Hands state attached to messages to {@link ComponentState} parameters
+     * @param states store to read state from, or null for those parameters to always be null
+     */
+    public void setComponentStateStore(ComponentStateStore states){
+        this.states = states;
+    }
+
+    /**
+     * Store {@link ComponentState} parameters are read from
+     * @return the store, or null if there is none
+     */
+    public ComponentStateStore getComponentStateStore(){
+        return states;
+    }
+
+    /**
+     * Sends handler failures to the given reporter instead of the shared one, which logs them
+     * @param errors reporter to send failures to, or null for the shared one
+     */
+    public void setErrorReporter(ErrorReporter errors){
+        this.errors = errors;
+    }
+
+    /**
+     * Reporter handler failures are sent to
+     * @return the reporter, or null if failures go to the shared one that logs them
+     */
+    public ErrorReporter getErrorReporter(){
+        return errors;
+    }
+
+    /**
+     * Runs an interceptor around every handler of this listener, after the interceptors added before it
+     * and before the ones named by {@link Intercept}.
+     * The interceptors are linked into a new chain here, so dispatching an event never walks a list of them.
+     * Interceptors that are also JDA {@link EventListener}s receive every event this listener receives.
+     * @param interceptor interceptor to add
+     */
+    public void addInterceptor(Interceptor interceptor){
+        synchronized (updates) {
+            interceptors.add(interceptor);
+            linkInterceptors();
+        }
+    }
+
+    /**
+     * Stops running an interceptor added with {@link #addInterceptor(Interceptor)}
+     * @param interceptor interceptor to remove
+     * @return true if it was added before
+     */
+    public boolean removeInterceptor(Interceptor interceptor){
+        synchronized (updates) {
+            if(!interceptors.remove(interceptor)) return false;
+            linkInterceptors();
+            return true;
+        }
+    }
+
+    /**
+     * Interceptors run around every handler of this listener
+     * @return the interceptors in the order they run
+     */
+    public List<Interceptor> getInterceptors(){
+        synchronized (updates) {
+            return Collections.unmodifiableList(new ArrayList<>(interceptors));
+        }
+    }
+
+    private void linkInterceptors(){
+        List<EventListener> listeners = new ArrayList<>();
+        for(Interceptor interceptor : interceptors) if(interceptor instanceof EventListener) listeners.add((EventListener) interceptor);
+        interceptorListeners = listeners.toArray(new EventListener[0]);
+        interceptorChain = InterceptorChain.of(interceptors);
+    }
+
+    /**
+     * Caches of the autocomplete methods with a {@link AutoCompleteResponse#cacheTtl()}, for hit rates and invalidation
+     * @return the caches
+     */
+    public List<AutoCompleteCache> getAutoCompleteCaches(){
+        return routes.caches();
+    }
+
+    /**
+     * Indexes of the autocomplete methods with a {@link AutoCompleteResponse#choiceSource()} or {@link AutoCompleteResponse#choiceResource()},
+     * for sizes and reloading them on demand
+     * @return the indexes
+     */
+    public List<ChoiceIndex> getChoiceIndexes(){
+        return routes.indexes();
+    }
+
+    /**
+     * Stops reloading the choice indexes of every route, such as when the bot shuts down or the listener is replaced.
+     * The listener keeps routing events, and indexed routes keep answering from the choices loaded last.
+     */
+    @Override
+    public void close(){
+        for(ChoiceIndex index : routes.indexes()) index.close();
+    }
+
+    /**
+     * Routes events to the annotated methods of another object from now on, such as a module loaded at runtime.
+     * Handlers of an {@link AdvancedListenerAdapter} are taken as it bound them, generated dispatcher included.
+     * <p>
+     * Routes are swapped in as a new immutable table, so events being dispatched keep the table they started with
+     * and dispatching never waits for a registration.
+     * <pre>{@code
+     * RouteRegistration poll = listener.register(new PollModule());
+     * ...
+     * poll.unregister();
+     * }</pre>
+     * @param handlers object with annotated methods
+     * @return the registration to remove the routes with
+     * @throws IllegalStateException if the object's methods do not fit their routes, in which case nothing is registered
+     */
+    public RouteRegistration register(Object handlers){
+        RoutingTable.Builder builder = RoutingTable.builder(mode);
+        if(handlers instanceof AdvancedListenerAdapter) {
+            ((AdvancedListenerAdapter) handlers).getRoutes().forEach(builder::add);
+        } else {
+            for(Method m : ListenerMetadata.of(handlers.getClass()).getHandlers()) builder.addMethod(handlers, m);
+        }
+        return register(builder);
+    }
+
+    /**
+     * Routes events to handlers given in code from now on, for routes that are not known until runtime
+     * <pre>{@code
+     * RouteRegistration toggle = listener.register(routes -> routes.button("beta:join", "joinBeta", event -> event.reply("Joined").queue()));
+     * }</pre>
+     * @param routes receives the registrar to add routes to
+     * @return the registration to remove the routes with
+     * @see #register(Object)
+     */
+    public RouteRegistration register(Consumer<RouteRegistrar> routes){
+        RoutingTable.Builder builder = RoutingTable.builder(mode);
+        routes.accept(builder.registrar(this));
+        return register(builder);
+    }
+
+    private RouteRegistration register(RoutingTable.Builder builder){
+        List<RouteHandler> added = new ArrayList<>();
+        builder.build().forEach(added::add);
+        synchronized (updates) {
+            routes = routes.plus(added);
+        }
+        return new RouteRegistration(this, added);
+    }
+
+    void unregister(Collection<RouteHandler> handlers){
+        synchronized (updates) {
+            routes = routes.minus(handlers);
+        }
+        for(RouteHandler handler : handlers) if(handler.getChoices() != null) handler.getChoices().close();
+        DispatchMetrics metrics = this.metrics;
+        if(metrics != null) metrics.forget(handlers);
+    }
+
+    private void dispatchComponent(RouteType type, String id, GenericEvent event){
+        RoutingTable routes = this.routes;
+        dispatch(routes.lookup(type, id), event, null);
+        RouteMatch match = routes.match(type, id);
+        if(match != null) dispatch(match.lookup(""), event, match);
+    }
+
+    private void record(GenericEvent event){
+        InteractionRecorder recorder = this.recorder;
+        if(recorder != null) recorder.record(event);
+    }
+
+    /**
+     * Starts or restarts the timeouts of the message's {@link ComponentTimeout} routes matching the component
+     */
+    private void touchTimeouts(GenericComponentInteractionCreateEvent event){
+        String id = event.getComponentId();
+        List<RouteHandler> handlers = timeoutHandlers(id);
+        if(handlers.isEmpty()) return;
+        long guildId = EventIds.guildId(event), channelId = EventIds.channelId(event);
+        for(RouteHandler handler : handlers)
+            handler.getTimeouts().touch(event.getJDA(), guildId, channelId, event.getMessageIdLong(), id, expiry -> dispatchTimed(handler, expiry));
+    }
+
+    /**
+     * Starts the timeouts of a message just sent, so that its components expire even if nobody uses them.
+     * Messages are otherwise tracked from the first interaction with one of their components.
+     * @param message message with components matched by {@link ComponentTimeout} routes
+     */
+    public void trackComponentTimeouts(Message message){
+        long guildId = message.isFromGuild() ? message.getGuild().getIdLong() : 0;
+        long channelId = message.getChannel().getIdLong();
+        for(ActionRow row : message.getActionRows()) for(ItemComponent component : row.getComponents()){
+            String id = component instanceof ActionComponent ? ((ActionComponent) component).getId() : null;
+            if(id == null) continue;
+            for(RouteHandler handler : timeoutHandlers(id))
+                handler.getTimeouts().touch(message.getJDA(), guildId, channelId, message.getIdLong(), id, expiry -> dispatchTimed(handler, expiry));
+        }
+    }
+
+    private List<RouteHandler> timeoutHandlers(String id){
+        RoutingTable routes = this.routes;
+        RouteHandler[] exact = routes.lookup(RouteType.COMPONENT_TIMEOUT, id);
+        RouteMatch match = routes.match(RouteType.COMPONENT_TIMEOUT, id);
+        if(match == null) return Arrays.asList(exact);
+        List<RouteHandler> handlers = new ArrayList<>(Arrays.asList(exact));
+        handlers.addAll(Arrays.asList(match.lookup("")));
+        return handlers;
+    }
+
+    private void dispatchTimed(RouteHandler handler, GenericEvent event){
+        RouteHandler[] handlers = {handler};
+        // batches and timeouts fire on a shared timer thread, which must not run handlers
+        if(executor != null) dispatch(handlers, event, null);
+        else ForkJoinPool.commonPool().execute(() -> dispatch(handlers, event, null));
+    }
+
+    private void dispatch(RouteHandler[] handlers, GenericEvent event, RouteMatch match){
+        if(handlers.length == 0) return;
+        long received = System.nanoTime();
+        DispatchExecutor executor = this.executor;
+        DispatchMetrics metrics = this.metrics;
+        DeferralWatchdog watchdog = this.watchdog;
+        DeferralWatchdog.Watch watch = watchdog == null ? null : watchdog.watch(event, handlers.length);
+        for(RouteHandler handler : handlers){
+            RateLimiter limiter = handler.getLimiter();
+            RateLimited limited = limiter == null ? null : limiter.tryAcquire(handler, event);
+            if(limited != null) {
+                if(watch != null) watch.done();
+                rateLimited(limited);
+                continue;
             }
-            for(EmoteResponse er: ers) {
-                if (!er.value().equals(event.getReaction().getEmoji().getName())) continue;
-                if (!Objects.requireNonNull(event.getRawData()).hasKey("t")) continue;
-                if (er.isAdding() != event.getRawData().get("t").equals("MESSAGE_REACTION_ADD")) continue;
-                try {
-                    log.debug("Calling method: " + m.getName() + " for an GenericMessageReactionEvent");
-                    log.debug("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.debug("User id: " + event.getUser().getId());
-                    m.setAccessible(true);
-                    m.invoke(this, event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.error("Guild id: " + ((event.getGuild() != null) ? event.getGuild().getId() : "null"));
-                    log.error("User id: " + event.getUser().getId());
-                    log.error("Message id: " + event.getMessageId());
-                    log.error("Channel id: " + event.getChannel().getId());
-                    log.error("Error in onGenericMessageReaction", e);
-                }
+            HandlerStats stats = metrics == null ? null : metrics.recordMatch(handler);
+            if(executor == null) {
+                invoke(handler, event, match, stats, watch, received);
+            } else {
+                executor.execute(new DispatchTask(handler.getType(), handler.getName(), event,
+                        () -> invoke(handler, event, match, stats, watch, received), () -> { if(watch != null) watch.done(); }));
             }
         }
     }
 
-    public LinkedList<Method> getAnnotatedMethods(Class...classes){
-        LinkedList<Method> methods = new LinkedList<>();
-        for(Method m : this.getClass().getDeclaredMethods()){
-            if(classes.length == 0 && m.getAnnotations().length > 0) {
-                for (Class current : this.getClass().getSuperclass().getDeclaredClasses()) {
-                    if (m.isAnnotationPresent(current)) {
-                        methods.add(m);
-                        break;
-                    }
-                }
-            } else {
-                for (Class current : classes) {
-                    if (m.isAnnotationPresent(current)) {
-                        methods.add(m);
-                        break;
-                    }
-                }
+    private void invoke(RouteHandler handler, GenericEvent event, RouteMatch match, HandlerStats stats, DeferralWatchdog.Watch watch, long received){
+        long start = stats == null ? 0 : System.nanoTime();
+        boolean failed = false;
+        try {
+            if(log.isDebugEnabled()) {
+                log.debug("Calling method: " + handler.getName() + " for an " + handler.getType().getEventClass().getSimpleName());
+                log.debug("Guild id: " + EventIds.format(EventIds.guildId(event)));
+                log.debug("User id: " + EventIds.format(EventIds.userId(event)));
             }
+            ComponentStateStore states = this.states;
+            InterceptorChain chain = interceptorChain;
+            Object result = chain == null ? intercepted(handler, event, match, states) : chain.invoke(handler, event, match, states, intercepted);
+            respond(handler, event, result, stats, received);
+        } catch (Throwable e) {
+            failed = true;
+            reportError(handler, event, e);
+        } finally {
+            if(stats != null) DispatchMetrics.recordInvocation(stats, System.nanoTime() - start, failed);
+            if(watch != null) watch.done();
         }
-        return methods;
+    }
+
+    /**
+     * Runs the handler's own interceptors once the listener's went on
+     */
+    private Object intercepted(RouteHandler handler, GenericEvent event, RouteMatch match, ComponentStateStore states) throws Throwable {
+        InterceptorChain chain = handler.getInterceptors();
+        return chain == null ? call(handler, event, match, states) : chain.invoke(handler, event, match, states, call);
+    }
+
+    /**
+     * Calls the handler, or takes its choices from the index or the cache and replies with them.
+     * Runs after the interceptors so that a cache hit is still checked by them.
+     */
+    private Object call(RouteHandler handler, GenericEvent event, RouteMatch match, ComponentStateStore states) throws Throwable {
+        ChoiceIndex index = handler.getChoices();
+        if(index != null) return index.lookup(((CommandAutoCompleteInteractionEvent) event).getFocusedOption().getValue());
+        AutoCompleteCache cache = handler.getCache();
+        if(cache == null) return handler.invoke(event, match, states);
+        CommandAutoCompleteInteractionEvent autoComplete = (CommandAutoCompleteInteractionEvent) event;
+        return cache.get(autoComplete, () -> handler.invoke(event, match, states)).thenCompose(choices -> autoComplete.replyChoices(choices).submit());
+    }
+
+    private void rateLimited(RateLimited limited){
+        try {
+            onRateLimited(limited);
+        } catch (RuntimeException e) {
+            log.error("Error in onRateLimited", e);
+        }
+    }
+
+    /**
+     * Called on the event thread instead of a handler when an event goes over the handler's rate.
+     * Does nothing but log by default; override it to tell the user to slow down.
+     * @param limited the rejected event and the rate it went over
+     * @see ButtonResponse#perUserRate()
+     */
+    protected void onRateLimited(RateLimited limited){
+        if(log.isDebugEnabled()) log.debug("Rate limited " + limited);
+    }
+
+    /**
+     * Sends what a handler returned: autocomplete choices, a RestAction, or a message to reply with, or a future of one of them.
+     * Submitting returns right away, so the dispatching thread moves on while the request is in flight.
+     * Once the request or a returned future completes, the time since the event was received is recorded
+     * and a failure is reported like one the handler threw.
+     */
+    private void respond(RouteHandler handler, GenericEvent event, Object result, HandlerStats stats, long received){
+        CompletionStage<?> response = send(event, result);
+        if(response == null) return;
+        response.whenComplete((value, failure) -> {
+            if(stats != null) DispatchMetrics.recordResponse(stats, System.nanoTime() - received, failure != null);
+            if(failure != null) reportError(handler, event, failure);
+        });
+    }
+
+    /**
+     * Submits the request for a handler's result
+     * @return the request, or null if the result is nothing to send
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<?> send(GenericEvent event, Object result){
+        if(result instanceof Collection && event instanceof CommandAutoCompleteInteractionEvent)
+            return ((CommandAutoCompleteInteractionEvent) event).replyChoices((Collection<Command.Choice>) result).submit();
+        if(result instanceof RestAction) return ((RestAction<?>) result).submit();
+        if(result instanceof CompletionStage) return ((CompletionStage<Object>) result).thenCompose(value -> {
+            CompletionStage<?> sent = send(event, value);
+            return sent == null ? CompletableFuture.completedFuture(value) : (CompletionStage<Object>) sent;
+        });
+        if(result instanceof MessageCreateData && event instanceof IReplyCallback)
+            return ((IReplyCallback) event).reply((MessageCreateData) result).submit();
+        if(result instanceof MessageCreateBuilder && event instanceof IReplyCallback)
+            return ((IReplyCallback) event).reply(((MessageCreateBuilder) result).build()).submit();
+        return null;
+    }
+
+    private void reportError(RouteHandler handler, GenericEvent event, Throwable e){
+        ErrorReporter errors = this.errors;
+        (errors == null ? ErrorReporter.shared() : errors).report(handler, event, e);
+    }
+
+    /**
+     * Methods of this listener's class, its superclasses and interfaces carrying any of the given annotations.
+     * An override replaces the method it overrides if it carries one of the annotations itself.
+     * @param classes annotation types to look for, none for every route annotation
+     * @return the methods, most derived class first
+     */
+    @SuppressWarnings("unchecked")
+    public LinkedList<Method> getAnnotatedMethods(Class...classes){
+        ListenerMetadata metadata = ListenerMetadata.of(getClass());
+        if(classes.length == 0) return new LinkedList<>(metadata.getHandlers());
+        List<Class<? extends Annotation>> annotations = new ArrayList<>();
+        for(Class c : classes) annotations.add((Class<? extends Annotation>) c);
+        return new LinkedList<>(metadata.annotatedWith(annotations));
     }
 
     /**
@@ -329,6 +671,20 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
      *     event.replyChoices(options).queue();
      * }
      * }</pre>
+     * A method can return its choices instead of replying, and the adapter replies with them.
+     * Returned choices can be cached for a while so that users typing the same thing do not call the method again.
+     * <pre>{@code
+     * {@literal @}AutoCompleteResponse(slashCommandId = "fruit", focusedOption = "name", cacheTtl = 30, cacheScope = CacheScope.GUILD)
+     * private List$&#123;Command.Choice$&#125; cachedExample(CommandAutoCompleteInteractionEvent event){
+     *     return database.findFruits(event.getFocusedOption().getValue());
+     * }
+     * }</pre>
+     * A fixed set of choices can be indexed when the listener is registered and answered without calling the method at all.
+     * Up to 25 names starting with the typed value come first, then names containing it.
+     * <pre>{@code
+     * {@literal @}AutoCompleteResponse(slashCommandId = "zone", focusedOption = "name", choiceSource = TimeZones.class, choiceReload = 60)
+     * private void indexedExample(CommandAutoCompleteInteractionEvent event){}
+     * }</pre>
      * If your annotated methods are not getting called, perhaps you overrode CommandAutoCompleteInteractionEvent in this class already.
      * Make sure to super call the method first so your annotated methods get called.
      * <pre>{@code
@@ -352,6 +708,50 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
         String focusedOption();
 
         String slashSubCommandId() default "";
+
+        /**
+         * How long returned choices are reused for the same sub command and typed value. 0 calls the method every time.
+         * A cached method must return its choices instead of replying.
+         * @return time to live in {@link #cacheTtlUnit()}
+         */
+        long cacheTtl() default 0;
+
+        TimeUnit cacheTtlUnit() default TimeUnit.SECONDS;
+
+        /**
+         * Who shares cached choices
+         * @return cache scope
+         */
+        CacheScope cacheScope() default CacheScope.GLOBAL;
+
+        /**
+         * Most entries kept before the least recently used one is dropped
+         * @return maximum cache size
+         */
+        int cacheSize() default 1000;
+
+        /**
+         * Class loading every choice of the route once, so that the adapter answers from an index and never calls the method.
+         * The method can then be left empty. The default, {@link ChoiceSource} itself, means there is none.
+         * @return choice source with a constructor without parameters
+         */
+        Class<? extends ChoiceSource> choiceSource() default ChoiceSource.class;
+
+        /**
+         * Classpath resource indexed like {@link #choiceSource()}, one choice per line given as a name, or a name, a tab and a value.
+         * Blank lines and lines starting with {@code #} are skipped.
+         * @return resource path, empty for none
+         */
+        String choiceResource() default "";
+
+        /**
+         * How often the choice source or resource is loaded again. Lookups keep using the old choices until the new ones are indexed.
+         * 0 loads them once.
+         * @return reload interval in {@link #choiceReloadUnit()}
+         */
+        long choiceReload() default 0;
+
+        TimeUnit choiceReloadUnit() default TimeUnit.MINUTES;
     }
 
     /**
@@ -452,6 +852,22 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
      *     // TODO respond to event
      * }
      * }</pre>
+     * Ids can be templates made of {@code :} separated segments, where a {@code {name}} segment matches any value.
+     * The values can be taken as parameters with {@link IdParam}
+     * <pre>{@code
+     * {@literal @}ButtonResponse("vote:{pollId}:{choice}")
+     * private void vote(ButtonInteractionEvent event, {@literal @}IdParam("pollId") long pollId, {@literal @}IdParam("choice") String choice){
+     *     // TODO respond to event
+     * }
+     * }</pre>
+     * The same templates work for {@link ModalResponse}, {@link StringSelectionResponse} and {@link EntitySelectionResponse}.
+     * Spam clicking can be limited per user or per guild. Clicks over the rate never reach the method.
+     * <pre>{@code
+     * {@literal @}ButtonResponse(value = "roll", perUserRate = "2/s")
+     * private void roll(ButtonInteractionEvent event){
+     *     // TODO respond to event
+     * }
+     * }</pre>
      * If your annotated methods are not getting called, perhaps you overrode onButtonInteraction in this class already.
      * Make sure to super call the method first so your annotated methods get called.
      * <pre>{@code
@@ -463,10 +879,23 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
     @Repeatable(ButtonResponses.class)
     public @interface ButtonResponse {
         /**
-         * ID of the button that was pressed
+         * ID of the button that was pressed, or an id template
          * @return button Id
          */
         String value();
+
+        /**
+         * Most events a single user can trigger this route with, such as {@code 2/s}, {@code 10/min} or {@code 5/10s}.
+         * Events over the rate are passed to {@link AdvancedListenerAdapter#onRateLimited(RateLimited)} instead.
+         * @return rate per user, empty for no limit
+         */
+        String perUserRate() default "";
+
+        /**
+         * Most events a single guild can trigger this route with, written like {@link #perUserRate()}
+         * @return rate per guild, empty for no limit
+         */
+        String perGuildRate() default "";
     }
 
     /**
@@ -477,6 +906,70 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
     @Target(ElementType.METHOD)
     public @interface ButtonResponses{ ButtonResponse[] value(); }
 
+    /**
+     * Annotation for a handler parameter that takes a segment of a templated component id.
+     * The parameter can be a String, long or int.
+     * @see ButtonResponse
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    public @interface IdParam {
+        /**
+         * Name of the segment in the id template
+         * @return segment name
+         */
+        String value();
+    }
+
+    /**
+     * Annotation for a handler parameter that takes the state attached to the message the component is on.
+     * State attached to the component id is preferred over state attached to the whole message.
+     * The parameter is null when nothing is attached, the state expired or the listener has no store.
+     * @see ComponentStateStore
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    public @interface ComponentState { }
+
+    /**
+     * Annotation for a handler method that runs interceptors only around that handler, after the listener's own.
+     * Each interceptor class needs a constructor without parameters and is created once, shared by every handler naming it.
+     * <pre>{@code
+     * {@literal @}SlashResponse("ban")
+     * {@literal @}Intercept({GuildOnly.class, AuditLog.class})
+     * private void ban(SlashCommandInteractionEvent event){ ... }
+     * }</pre>
+     * @see Interceptor
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface Intercept {
+        /**
+         * Interceptors in the order they run
+         * @return interceptor classes
+         */
+        Class<? extends Interceptor>[] value();
+    }
+
+    /**
+     * Annotation for a handler method that only members with every given permission in the event's channel may use.
+     * Checked by a {@link PermissionInterceptor} added to the listener, ignored otherwise.
+     * <pre>{@code
+     * {@literal @}ButtonResponse("purge")
+     * {@literal @}RequirePermissions(Permission.MESSAGE_MANAGE)
+     * private void purge(ButtonInteractionEvent event){ ... }
+     * }</pre>
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface RequirePermissions {
+        /**
+         * Permissions the member needs
+         * @return permissions
+         */
+        Permission[] value();
+    }
+
     /**
      * Annotation for onGenericMessageReaction
      */
@@ -497,6 +990,18 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
          * @return if this method should be called if the reaction is added
          */
         boolean isAdding();
+
+        /**
+         * @see ButtonResponse#perUserRate()
+         * @return rate per user, empty for no limit
+         */
+        String perUserRate() default "";
+
+        /**
+         * @see ButtonResponse#perGuildRate()
+         * @return rate per guild, empty for no limit
+         */
+        String perGuildRate() default "";
     }
 
     /**
@@ -507,6 +1012,85 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
     @Target(ElementType.METHOD)
     public @interface EmoteResponses{ EmoteResponse[] value(); }
 
+    /**
+     * Annotation for reactions collected per message over a window and delivered as one {@link ReactionBatch},
+     * so a popular message costs one call per window instead of one per reaction.
+     * The window opens with the first reaction on a message and the batch holds every add and remove of the emoji until it closes.
+     * Here is a code example of a batch response
+     * <pre>{@code
+     * {@literal @}EmoteBatchResponse(value = "star", window = 5)
+     * private void stars(ReactionBatch batch){
+     *     starboard.adjust(batch.getMessageId(), batch.getNet());
+     * }
+     * }</pre>
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @Repeatable(EmoteBatchResponses.class)
+    public @interface EmoteBatchResponse {
+        /**
+         * Name of the reaction emoji
+         * @return Name of the reaction emoji
+         */
+        String value();
+
+        /**
+         * How long reactions are collected after the first one on a message
+         * @return length of the window
+         */
+        long window() default 1;
+
+        /**
+         * @return unit of the window
+         */
+        TimeUnit unit() default TimeUnit.SECONDS;
+    }
+
+    /**
+     * Annotation to allow for multiple reaction batch responses on one method
+     * @see EmoteBatchResponse
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface EmoteBatchResponses{ EmoteBatchResponse[] value(); }
+
+    /**
+     * Annotation for components that expire after going unused, delivered once per message as a {@link ComponentExpiry}.
+     * A message is tracked from the first interaction with a matching component, or from {@link #trackComponentTimeouts(Message)},
+     * and every interaction with one restarts the timeout.
+     * Here is a code example of a paginator whose buttons are removed after five idle minutes
+     * <pre>{@code
+     * {@literal @}ComponentTimeout(value = "pager:{page}", after = "5m")
+     * private void expire(ComponentExpiry expiry){
+     *     expiry.getChannel().editMessageComponentsById(expiry.getMessageId()).queue();
+     * }
+     * }</pre>
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @Repeatable(ComponentTimeouts.class)
+    public @interface ComponentTimeout {
+        /**
+         * Id or id template of the buttons and selections to track
+         * @return component id
+         */
+        String value();
+
+        /**
+         * How long a message's components may go unused, such as {@code 30s}, {@code 5m} or {@code 1h}
+         * @return the timeout
+         */
+        String after();
+    }
+
+    /**
+     * Annotation to allow for multiple component timeouts on one method
+     * @see ComponentTimeout
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface ComponentTimeouts{ ComponentTimeout[] value(); }
+
     /**
      * Annotation for ModalInteractionEvent
      * Here is a code example of a modal response
@@ -593,6 +1177,18 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
          * @return Subcommand name
          */
         String subCommandName() default "";
+
+        /**
+         * @see ButtonResponse#perUserRate()
+         * @return rate per user, empty for no limit
+         */
+        String perUserRate() default "";
+
+        /**
+         * @see ButtonResponse#perGuildRate()
+         * @return rate per guild, empty for no limit
+         */
+        String perGuildRate() default "";
     }
 
     /**
@@ -629,6 +1225,18 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
          * @return menu ID
          */
         String value();
+
+        /**
+         * @see ButtonResponse#perUserRate()
+         * @return rate per user, empty for no limit
+         */
+        String perUserRate() default "";
+
+        /**
+         * @see ButtonResponse#perGuildRate()
+         * @return rate per guild, empty for no limit
+         */
+        String perGuildRate() default "";
     }
 
     /**
@@ -684,6 +1292,18 @@ public abstract class AdvancedListenerAdapter extends ListenerAdapter {
          * @return selected value
          */
         String selectedOptionValue() default "";
+
+        /**
+         * @see ButtonResponse#perUserRate()
+         * @return rate per user, empty for no limit
+         */
+        String perUserRate() default "";
+
+        /**
+         * @see ButtonResponse#perGuildRate()
+         * @return rate per guild, empty for no limit
+         */
+        String perGuildRate() default "";
     }
 
     @Retention(RetentionPolicy.RUNTIME)
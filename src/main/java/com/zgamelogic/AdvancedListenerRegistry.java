@@ -0,0 +1,80 @@
+package com.zgamelogic;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * One JDA listener routing the annotated methods of many {@link AdvancedListenerAdapter}s.
+ * <p>
+ * The handlers every listener bound when it was constructed are merged into a single routing table,
+ * so an event costs one lookup no matter how many feature listeners are loaded.
+ * Register only the registry with JDA, not the listeners it holds, or their handlers are called twice.
+ * Overridden {@code on*} methods of the held listeners are not called, and executors, metrics and watchdogs
+ * are taken from the registry, not from the held listeners.
+ * <pre>{@code
+ * jda.addEventListener(new AdvancedListenerRegistry(new PollFeature(), new MusicFeature(), new AdminFeature()));
+ * }</pre>
+ * The same route bound in two different listeners is almost always a mistake, so it fails construction unless duplicates are allowed.
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class AdvancedListenerRegistry extends AdvancedListenerAdapter {
+
+    private final List<AdvancedListenerAdapter> listeners;
+
+    public AdvancedListenerRegistry(AdvancedListenerAdapter... listeners){
+        this(Arrays.asList(listeners));
+    }
+
+    public AdvancedListenerRegistry(Collection<? extends AdvancedListenerAdapter> listeners){
+        this(listeners, false);
+    }
+
+    /**
+     * @param listeners listeners whose handlers are routed
+     * @param allowDuplicates true to only log routes bound in more than one listener, and call all of them
+     * @throws IllegalStateException if a route is bound in more than one listener and duplicates are not allowed
+     */
+    public AdvancedListenerRegistry(Collection<? extends AdvancedListenerAdapter> listeners, boolean allowDuplicates){
+        super(merge(distinct(listeners), allowDuplicates));
+        this.listeners = Collections.unmodifiableList(distinct(listeners));
+    }
+
+    /**
+     * Listeners whose handlers this registry routes to
+     * @return the listeners in registration order
+     */
+    public List<AdvancedListenerAdapter> getListeners(){
+        return listeners;
+    }
+
+    private static List<AdvancedListenerAdapter> distinct(Collection<? extends AdvancedListenerAdapter> listeners){
+        Set<AdvancedListenerAdapter> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<AdvancedListenerAdapter> distinct = new ArrayList<>();
+        for(AdvancedListenerAdapter listener : listeners) if(seen.add(Objects.requireNonNull(listener))) distinct.add(listener);
+        return distinct;
+    }
+
+    private static RoutingTable merge(List<AdvancedListenerAdapter> listeners, boolean allowDuplicates){
+        RoutingTable.Builder builder = RoutingTable.builder(InvocationMode.defaultMode());
+        EnumMap<RouteType, Map<String, AdvancedListenerAdapter>> owners = new EnumMap<>(RouteType.class);
+        List<String> duplicates = new ArrayList<>();
+        for(AdvancedListenerAdapter listener : listeners){
+            listener.getRoutes().forEach(handler -> {
+                AdvancedListenerAdapter owner = owners.computeIfAbsent(handler.getType(), t -> new HashMap<>()).putIfAbsent(handler.getKey(), listener);
+                if(owner != null && owner != listener)
+                    duplicates.add(handler.getType() + " " + handler.getRoute() + " is bound in both "
+                            + owner.getClass().getName() + " and " + listener.getClass().getName());
+                builder.add(handler);
+            });
+        }
+        if(!duplicates.isEmpty()) {
+            if(!allowDuplicates) throw new IllegalStateException("Duplicate routes:\n\t" + String.join("\n\t", duplicates));
+            duplicates.forEach(log::warn);
+        }
+        RoutingTable table = builder.build();
+        log.info("Routing " + table.size() + " handlers from " + listeners.size() + " listeners");
+        return table;
+    }
+}
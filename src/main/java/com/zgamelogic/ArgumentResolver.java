@@ -0,0 +1,18 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * Supplies one parameter of a handler method for an event.
+ * @author Ben Shabowski
+ */
+@FunctionalInterface
+interface ArgumentResolver {
+    /**
+     * @param event event being dispatched
+     * @param match id template the event matched, or null for exact routes
+     * @param states state store of the dispatching listener, or null if it has none
+     * @return value passed to the parameter
+     */
+    Object resolve(GenericEvent event, RouteMatch match, ComponentStateStore states);
+}
@@ -0,0 +1,12 @@
+package com.zgamelogic;
+
+/**
+ * A handler method with more than one parameter, bound to its listener and called with resolved arguments.
+ * Returns what the method returned, or null for void methods.
+ * @see ArgumentResolver
+ * @author Ben Shabowski
+ */
+@FunctionalInterface
+interface ArgumentsInvoker {
+    Object invoke(Object[] arguments) throws Throwable;
+}
@@ -0,0 +1,190 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs handlers on an {@link Executor} so a slow handler does not hold up JDA's event thread.
+ * <p>
+ * Handlers can optionally be kept in order per message or per user. Tasks sharing a key are queued
+ * on a lane that runs one task at a time; lanes are dropped as soon as they drain, so only keys with
+ * work in flight use memory.
+ * <pre>{@code
+ * listener.setDispatchExecutor(AsyncDispatchExecutor.virtualThreads(AsyncDispatchExecutor.Ordering.USER));
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class AsyncDispatchExecutor implements DispatchExecutor, AutoCloseable {
+
+    /**
+     * Which tasks have to run in the order their events arrived
+     */
+    public enum Ordering {
+        /** Tasks may run in any order */
+        NONE,
+        /** Tasks for the same message run in order. Commands and modals have no message and are not ordered. */
+        MESSAGE,
+        /** Tasks for the same user run in order */
+        USER
+    }
+
+    private final Executor executor;
+    @Getter
+    private final Ordering ordering;
+    private final boolean owned;
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+    @Getter
+    private final ExecutionStats stats = new ExecutionStats();
+
+    /**
+     * @param executor executor running the handlers, not shut down by {@link #close()}
+     * @param ordering ordering guarantee
+     */
+    public AsyncDispatchExecutor(Executor executor, Ordering ordering){
+        this(executor, ordering, false);
+    }
+
+    private AsyncDispatchExecutor(Executor executor, Ordering ordering, boolean owned){
+        this.executor = executor;
+        this.ordering = ordering;
+        this.owned = owned;
+    }
+
+    /**
+     * Executor backed by a fixed pool of daemon threads with a bounded queue.
+     * When the queue is full the handler runs on the submitting thread, slowing the event thread down instead of dropping work.
+     * Once closed, handlers are rejected and counted like those of any executor that refuses them.
+     * @param threads number of threads
+     * @param queueCapacity tasks that can wait for a thread
+     * @param ordering ordering guarantee
+     * @return the executor
+     */
+    public static AsyncDispatchExecutor boundedPool(int threads, int queueCapacity, Ordering ordering){
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "ala-dispatch-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (r, executor) -> {
+                    // runs on the caller like CallerRunsPolicy, but rejects once closed so the task is cancelled rather than lost
+                    if(executor.isShutdown()) throw new RejectedExecutionException("Dispatch executor is closed");
+                    r.run();
+                });
+        return new AsyncDispatchExecutor(pool, ordering, true);
+    }
+
+    /**
+     * Executor starting a virtual thread per task on Java 21 and newer.
+     * Older runtimes get a {@link #boundedPool(int, int, Ordering)} sized to the machine.
+     * @param ordering ordering guarantee
+     * @return the executor
+     */
+    public static AsyncDispatchExecutor virtualThreads(Ordering ordering){
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            return new AsyncDispatchExecutor(virtual, ordering, true);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads are not available, using a bounded thread pool");
+            return boundedPool(Runtime.getRuntime().availableProcessors() * 2, 1024, ordering);
+        }
+    }
+
+    @Override
+    public void execute(DispatchTask task) {
+        stats.recordSubmitted();
+        long key = key(task);
+        try {
+            if (key == 0) {
+                executor.execute(() -> stats.run(task));
+            } else {
+                Lane lane = lanes.compute(key, (k, existing) -> {
+                    Lane l = existing == null ? new Lane(k) : existing;
+                    l.tasks.add(task);
+                    return l;
+                });
+                lane.schedule();
+            }
+        } catch (RejectedExecutionException e) {
+            stats.recordRejected();
+            if(key == 0 || unqueue(key, task)) task.cancel();
+            log.error("Dispatch executor rejected " + task.getHandler() + " for a " + task.getType(), e);
+        }
+    }
+
+    /**
+     * Takes a rejected task back off its lane, and drops the lane if nothing else is queued on it
+     * @return false if a lane that started meanwhile took the task and will run it
+     */
+    private boolean unqueue(long key, DispatchTask task){
+        Lane lane = lanes.get(key);
+        boolean removed = lane != null && lane.tasks.remove(task);
+        lanes.computeIfPresent(key, (k, l) -> l.tasks.isEmpty() && !l.scheduled.get() ? null : l);
+        return removed;
+    }
+
+    private long key(DispatchTask task){
+        switch (ordering){
+            case MESSAGE: return task.getMessageId();
+            case USER: return task.getUserId();
+            default: return 0;
+        }
+    }
+
+    /**
+     * Number of keys that currently have ordered work queued or running
+     * @return active lanes
+     */
+    public int getActiveLanes(){
+        return lanes.size();
+    }
+
+    /**
+     * Shuts the thread pool down if it was created by one of the factory methods
+     */
+    @Override
+    public void close() {
+        if(owned && executor instanceof ExecutorService) ((ExecutorService) executor).shutdown();
+    }
+
+    /**
+     * Tasks for one key, run one after another
+     */
+    private final class Lane implements Runnable {
+        private final long key;
+        private final Queue<DispatchTask> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Lane(long key){
+            this.key = key;
+        }
+
+        private void schedule(){
+            if(!scheduled.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                DispatchTask task;
+                while ((task = tasks.poll()) != null) stats.run(task);
+                scheduled.set(false);
+            } while (!tasks.isEmpty() && scheduled.compareAndSet(false, true));
+            lanes.computeIfPresent(key, (k, lane) -> lane.tasks.isEmpty() && !lane.scheduled.get() ? null : lane);
+        }
+    }
+}
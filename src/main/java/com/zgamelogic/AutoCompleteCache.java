@@ -0,0 +1,194 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.Command;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Choices returned by a cached {@link AdvancedListenerAdapter.AutoCompleteResponse} method, keyed by sub command
+ * and typed value within the {@link CacheScope}.
+ * <p>
+ * The cache holds at most {@link #getMaximumSize()} entries and drops the least recently used one when full.
+ * While the method is running for a key, other events for the same key wait for its result instead of calling it again.
+ * @author Ben Shabowski
+ */
+public final class AutoCompleteCache {
+
+    /** Route the cache belongs to, the annotation values separated by spaces */
+    @Getter
+    private final String route;
+    @Getter
+    private final CacheScope scope;
+    @Getter
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<List<Command.Choice>>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    AutoCompleteCache(String route, long ttl, TimeUnit unit, CacheScope scope, int maximumSize){
+        this.route = route;
+        this.scope = scope;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if(size() <= AutoCompleteCache.this.maximumSize) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Choices for an event, from the cache, from a call already running for the same key, or from the loader.
+     * The loader runs on the calling thread, so its failures are thrown from here.
+     * @param event autocomplete event
+     * @param loader calls the handler
+     * @return the choices, not yet complete if another event is loading them
+     */
+    CompletableFuture<List<Command.Choice>> get(CommandAutoCompleteInteractionEvent event, Loader loader) throws Throwable {
+        String key = key(event);
+        long now = System.nanoTime();
+        List<Command.Choice> cached = lookup(key, now);
+        if(cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<List<Command.Choice>> future = new CompletableFuture<>();
+        CompletableFuture<List<Command.Choice>> running = loading.putIfAbsent(key, future);
+        if(running != null) {
+            coalesced.increment();
+            return running;
+        }
+        misses.increment();
+        try {
+            List<Command.Choice> choices = choices(loader.load());
+            synchronized (entries) {
+                entries.put(key, new Entry(choices, now + ttlNanos));
+            }
+            future.complete(choices);
+            return future;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    private List<Command.Choice> lookup(String key, long now){
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if(entry == null) return null;
+            if(now - entry.expires < 0) return entry.choices;
+            entries.remove(key);
+            return null;
+        }
+    }
+
+    private String key(CommandAutoCompleteInteractionEvent event){
+        long scopeId;
+        switch (scope){
+            case GUILD: scopeId = EventIds.guildId(event); break;
+            case USER: scopeId = EventIds.userId(event); break;
+            default: scopeId = 0;
+        }
+        String sub = event.getSubcommandName();
+        return RoutingTable.key(Long.toString(scopeId), sub == null ? "" : sub, event.getFocusedOption().getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Command.Choice> choices(Object result){
+        if(result == null) return Collections.emptyList();
+        return Collections.unmodifiableList(new ArrayList<>((Collection<Command.Choice>) result));
+    }
+
+    /**
+     * Drops every cached entry, for when the data behind the choices changed
+     */
+    public void invalidate(){
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int getSize(){
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Events answered from the cache
+     * @return hit count
+     */
+    public long getHits(){
+        return hits.sum();
+    }
+
+    /**
+     * Events that had to call the method
+     * @return miss count
+     */
+    public long getMisses(){
+        return misses.sum();
+    }
+
+    /**
+     * Events that waited for a call already running for the same key
+     * @return coalesced count
+     */
+    public long getCoalesced(){
+        return coalesced.sum();
+    }
+
+    /**
+     * Entries dropped because the cache was full
+     * @return eviction count
+     */
+    public long getEvictions(){
+        return evictions.sum();
+    }
+
+    /**
+     * Share of events that did not call the method, counting coalesced events as hits
+     * @return hit rate between 0 and 1
+     */
+    public double getHitRate(){
+        long hits = getHits() + getCoalesced();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return route + ": size=" + getSize() + ", hits=" + getHits() + ", misses=" + getMisses() + ", coalesced="
+                + getCoalesced() + ", evictions=" + getEvictions();
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        Object load() throws Throwable;
+    }
+
+    private static final class Entry {
+        private final List<Command.Choice> choices;
+        private final long expires;
+
+        private Entry(List<Command.Choice> choices, long expires){
+            this.choices = choices;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.zgamelogic;
+
+/**
+ * Who shares cached autocomplete choices
+ * @see AdvancedListenerAdapter.AutoCompleteResponse#cacheScope()
+ * @author Ben Shabowski
+ */
+public enum CacheScope {
+    /** Everyone typing the same value gets the same choices */
+    GLOBAL,
+    /** Choices are shared within a guild. Direct messages share one entry. */
+    GUILD,
+    /** Every user has their own choices */
+    USER
+}
@@ -0,0 +1,300 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.interactions.commands.Command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Choices of an {@link AdvancedListenerAdapter.AutoCompleteResponse} with a choice source, held sorted by lowercase name
+ * so that autocomplete is answered without calling the handler.
+ * <p>
+ * Names starting with what the user typed are found with a binary search and come first.
+ * If there are fewer than 25 of them, names containing it fill the rest. Those are found with a binary search too,
+ * over every suffix of every name held sorted, and come in the order of the text from the match on.
+ * The suffixes take two ints per character of the names.
+ * The sorted arrays are swapped in whole when the source is loaded again, so lookups never wait for a reload.
+ * @author Ben Shabowski
+ */
+@Slf4j
+public final class ChoiceIndex implements AutoCloseable {
+
+    /** Most choices Discord shows */
+    static final int LIMIT = 25;
+
+    /** Route the index belongs to, the annotation values separated by spaces */
+    @Getter
+    private final String route;
+    private final Loader loader;
+    private final ScheduledFuture<?> reloads;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Loads the choices, and schedules reloads if an interval is given
+     * @throws IllegalStateException if the first load fails
+     */
+    ChoiceIndex(String route, Loader loader, long reload, TimeUnit unit){
+        this.route = route;
+        this.loader = loader;
+        try {
+            load();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to load the choices of " + route, e);
+        }
+        reloads = reload > 0 ? Reloader.INSTANCE.scheduleWithFixedDelay(this::reloadQuietly, reload, reload, unit) : null;
+    }
+
+    /**
+     * Index loading a {@link ChoiceSource} class
+     */
+    static ChoiceIndex of(String route, Class<? extends ChoiceSource> type, long reload, TimeUnit unit){
+        ChoiceSource source;
+        try {
+            Constructor<? extends ChoiceSource> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            source = constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Unable to create choice source " + type.getName() + ", it needs a constructor without parameters", e);
+        }
+        return new ChoiceIndex(route, source::load, reload, unit);
+    }
+
+    /**
+     * Index loading a classpath resource with one choice per line, either a name used as the value too or a name, a tab and a value.
+     * Blank lines and lines starting with {@code #} are skipped.
+     */
+    static ChoiceIndex of(String route, ClassLoader classLoader, String resource, long reload, TimeUnit unit){
+        return new ChoiceIndex(route, () -> {
+            InputStream in = classLoader.getResourceAsStream(resource);
+            if(in == null) throw new IOException("No resource " + resource);
+            List<Command.Choice> choices = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                for(String line; (line = reader.readLine()) != null; ){
+                    if(line.trim().isEmpty() || line.startsWith("#")) continue;
+                    int tab = line.indexOf('\t');
+                    choices.add(tab < 0 ? new Command.Choice(line.trim(), line.trim()) : new Command.Choice(line.substring(0, tab).trim(), line.substring(tab + 1).trim()));
+                }
+            }
+            return choices;
+        }, reload, unit);
+    }
+
+    /**
+     * Up to 25 choices for what the user typed, prefix matches first
+     * @param typed value of the focused option
+     * @return the choices
+     */
+    List<Command.Choice> lookup(String typed){
+        lookups.increment();
+        Snapshot snapshot = this.snapshot;
+        String prefix = typed == null ? "" : typed.trim().toLowerCase(Locale.ROOT);
+        String[] names = snapshot.names;
+        List<Command.Choice> found = new ArrayList<>(LIMIT);
+        int i = Arrays.binarySearch(names, prefix);
+        for(i = i < 0 ? -i - 1 : i; i < names.length && found.size() < LIMIT && names[i].startsWith(prefix); i++) found.add(snapshot.choices[i]);
+        if(prefix.isEmpty() || found.size() == LIMIT) return found;
+        int[] suffixNames = snapshot.suffixNames, suffixStarts = snapshot.suffixStarts;
+        int low = 0, high = suffixNames.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if(compare(names[suffixNames[middle]], suffixStarts[middle], prefix) < 0) low = middle + 1;
+            else high = middle;
+        }
+        Set<Integer> added = new HashSet<>();
+        for(int j = low; j < suffixNames.length && found.size() < LIMIT && compare(names[suffixNames[j]], suffixStarts[j], prefix) == 0; j++){
+            int name = suffixNames[j];
+            if(!names[name].startsWith(prefix) && added.add(name)) found.add(snapshot.choices[name]);
+        }
+        return found;
+    }
+
+    /**
+     * Compares the suffix of a name starting at the given index, cut to the length of the prefix, with the prefix
+     */
+    private static int compare(String name, int start, String prefix){
+        int length = Math.min(name.length() - start, prefix.length());
+        for(int i = 0; i < length; i++){
+            int difference = name.charAt(start + i) - prefix.charAt(i);
+            if(difference != 0) return difference;
+        }
+        return name.length() - start < prefix.length() ? -1 : 0;
+    }
+
+    /**
+     * Compares the suffixes of two names
+     */
+    private static int compare(String first, int firstStart, String second, int secondStart){
+        int length = Math.min(first.length() - firstStart, second.length() - secondStart);
+        for(int i = 0; i < length; i++){
+            int difference = first.charAt(firstStart + i) - second.charAt(secondStart + i);
+            if(difference != 0) return difference;
+        }
+        return (first.length() - firstStart) - (second.length() - secondStart);
+    }
+
+    /**
+     * Loads the choices again and swaps them in once they are sorted. Lookups meanwhile use the choices loaded before.
+     * @throws Exception if the source failed, in which case the choices loaded before are kept
+     */
+    public void reload() throws Exception {
+        load();
+    }
+
+    private void reloadQuietly(){
+        try {
+            load();
+        } catch (Exception e) {
+            log.warn("Unable to reload the choices of " + route + ", keeping the " + getSize() + " loaded before", e);
+        }
+    }
+
+    private void load() throws Exception {
+        Collection<Command.Choice> loaded;
+        try {
+            loaded = loader.load();
+        } catch (Exception e) {
+            loadFailures.increment();
+            throw e;
+        }
+        Command.Choice[] choices = loaded.toArray(new Command.Choice[0]);
+        String[] names = new String[choices.length];
+        for(int i = 0; i < choices.length; i++) names[i] = choices[i].getName().toLowerCase(Locale.ROOT);
+        Integer[] order = new Integer[choices.length];
+        for(int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing(i -> names[i]));
+        String[] sortedNames = new String[order.length];
+        Command.Choice[] sortedChoices = new Command.Choice[order.length];
+        for(int i = 0; i < order.length; i++){
+            sortedNames[i] = names[order[i]];
+            sortedChoices[i] = choices[order[i]];
+        }
+        snapshot = new Snapshot(sortedNames, sortedChoices, suffixes(sortedNames));
+        loads.increment();
+    }
+
+    /**
+     * Every suffix of every name but the names themselves, which the prefix search covers, sorted
+     * @return name index and start of each suffix, packed into the high and low halves of a long
+     */
+    private static long[] suffixes(String[] names){
+        int count = 0;
+        for(String name : names) count += Math.max(0, name.length() - 1);
+        Long[] suffixes = new Long[count];
+        int next = 0;
+        for(int n = 0; n < names.length; n++)
+            for(int start = 1; start < names[n].length(); start++) suffixes[next++] = (long) n << 32 | start;
+        Arrays.sort(suffixes, (a, b) -> compare(names[(int) (a >>> 32)], (int) (long) a, names[(int) (b >>> 32)], (int) (long) b));
+        long[] sorted = new long[count];
+        for(int i = 0; i < count; i++) sorted[i] = suffixes[i];
+        return sorted;
+    }
+
+    /**
+     * Choices loaded last
+     * @return choice count
+     */
+    public int getSize(){
+        Snapshot snapshot = this.snapshot;
+        return snapshot == null ? 0 : snapshot.choices.length;
+    }
+
+    /**
+     * Events answered from the index
+     * @return lookup count
+     */
+    public long getLookups(){
+        return lookups.sum();
+    }
+
+    /**
+     * Times the choices were loaded, the first time included
+     * @return load count
+     */
+    public long getLoads(){
+        return loads.sum();
+    }
+
+    /**
+     * Loads that failed and kept the choices loaded before
+     * @return failure count
+     */
+    public long getLoadFailures(){
+        return loadFailures.sum();
+    }
+
+    /**
+     * Whether the choices are loaded again on a schedule
+     * @return true until the index is closed, false if it has no reload interval
+     */
+    public boolean isReloading(){
+        return reloads != null && !reloads.isDone();
+    }
+
+    /**
+     * Stops reloading the choices
+     */
+    @Override
+    public void close() {
+        if(reloads != null) reloads.cancel(false);
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        Collection<Command.Choice> load() throws Exception;
+    }
+
+    /**
+     * Choices sorted by lowercase name, with the names alongside and their sorted suffixes
+     */
+    private static final class Snapshot {
+        private final String[] names;
+        private final Command.Choice[] choices;
+        /** Index of the name each suffix belongs to */
+        private final int[] suffixNames;
+        /** Where each suffix starts in its name */
+        private final int[] suffixStarts;
+
+        private Snapshot(String[] names, Command.Choice[] choices, long[] suffixes){
+            this.names = names;
+            this.choices = choices;
+            this.suffixNames = new int[suffixes.length];
+            this.suffixStarts = new int[suffixes.length];
+            for(int i = 0; i < suffixes.length; i++){
+                suffixNames[i] = (int) (suffixes[i] >>> 32);
+                suffixStarts[i] = (int) suffixes[i];
+            }
+        }
+    }
+
+    /**
+     * One daemon thread reloading every index, started the first time one asks for reloads
+     */
+    private static final class Reloader {
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create(){
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+                Thread thread = new Thread(task, "ala-choices");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.interactions.commands.Command;
+
+import java.util.Collection;
+
+/**
+ * Fixed set of autocomplete choices named by {@link AdvancedListenerAdapter.AutoCompleteResponse#choiceSource()}.
+ * The adapter loads it once into a {@link ChoiceIndex}, and again on every reload, instead of calling the handler per keystroke.
+ * Implementations need a constructor without parameters.
+ * <pre>{@code
+ * public class TimeZones implements ChoiceSource {
+ *     public Collection<Command.Choice> load(){
+ *         return ZoneId.getAvailableZoneIds().stream().map(zone -> new Command.Choice(zone, zone)).collect(Collectors.toList());
+ *     }
+ * }
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@FunctionalInterface
+public interface ChoiceSource {
+
+    /**
+     * Every choice of the route, in any order
+     * @return the choices
+     * @throws Exception if they cannot be loaded, in which case the index keeps the choices it had
+     */
+    Collection<Command.Choice> load() throws Exception;
+}
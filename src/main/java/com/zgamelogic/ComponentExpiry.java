@@ -0,0 +1,63 @@
+package com.zgamelogic;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.utils.data.DataObject;
+
+/**
+ * Components of one message that went without an interaction for the time of an
+ * {@link AdvancedListenerAdapter.ComponentTimeout}, delivered once so the handler can disable or remove them.
+ * @author Ben Shabowski
+ */
+@Getter
+public final class ComponentExpiry implements GenericEvent {
+    private final long guildId;
+    private final long channelId;
+    private final long messageId;
+    /** Id of the component last interacted with, or the first tracked one if there was no interaction */
+    private final String componentId;
+    /** How long the components were idle, in milliseconds, at least the timeout */
+    private final long idleMillis;
+    @Getter(AccessLevel.NONE)
+    private final JDA jda;
+
+    ComponentExpiry(long guildId, long channelId, long messageId, String componentId, long idleMillis, JDA jda){
+        this.guildId = guildId;
+        this.channelId = channelId;
+        this.messageId = messageId;
+        this.componentId = componentId;
+        this.idleMillis = idleMillis;
+        this.jda = jda;
+    }
+
+    /**
+     * Channel of the message, from the JDA cache
+     * @return the channel, or null if it is not cached
+     */
+    public MessageChannel getChannel(){
+        return jda == null ? null : jda.getChannelById(MessageChannel.class, channelId);
+    }
+
+    @Override
+    public JDA getJDA() {
+        return jda;
+    }
+
+    @Override
+    public long getResponseNumber() {
+        return 0;
+    }
+
+    @Override
+    public DataObject getRawData() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return componentId + " on " + messageId + " idle for " + idleMillis + "ms";
+    }
+}
@@ -0,0 +1,108 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State attached to messages with components, handed to handlers through {@link AdvancedListenerAdapter.ComponentState} parameters
+ * instead of being squeezed into component ids or kept in maps nobody cleans up.
+ * <p>
+ * A state belongs to a message, or to one component of a message, and expires a fixed time after it was attached.
+ * Handlers get the state of their component if it has one, and the state of the message otherwise.
+ * <pre>{@code
+ * listener.setComponentStateStore(new ComponentStateStore(new HeapStateBackend(100_000), 15, TimeUnit.MINUTES));
+ * channel.sendMessage("Page 1").setActionRow(Button.primary("next", "Next")).queue(message -> states.attach(message, new Pager(query)));
+ *
+ * {@literal @}ButtonResponse("next")
+ * private void next(ButtonInteractionEvent event, {@literal @}ComponentState Pager pager){ ... }
+ * }</pre>
+ * @author Ben Shabowski
+ */
+public class ComponentStateStore implements AutoCloseable {
+
+    @Getter
+    private final StateBackend backend;
+    private final long ttlMillis;
+
+    /**
+     * @param backend where states are kept
+     * @param ttl how long a state lives after it is attached
+     * @param unit unit of the ttl
+     */
+    public ComponentStateStore(StateBackend backend, long ttl, TimeUnit unit){
+        this.backend = backend;
+        this.ttlMillis = unit.toMillis(ttl);
+    }
+
+    /**
+     * Attaches state to every component of a message
+     * @param message message the state belongs to
+     * @param state state to attach
+     */
+    public void attach(Message message, Object state){
+        attach(message.getIdLong(), "", state);
+    }
+
+    /**
+     * Attaches state to one component of a message, taking precedence over the message's state for that component
+     * @param messageId message the component is on
+     * @param componentId id of the component, or empty for every component of the message
+     * @param state state to attach
+     */
+    public void attach(long messageId, String componentId, Object state){
+        backend.put(key(messageId, componentId), state, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * State of a component, or of its message if the component has none
+     * @param messageId message the component is on
+     * @param componentId id of the component
+     * @return the state, or null if neither has one
+     */
+    public Object get(long messageId, String componentId){
+        long now = System.currentTimeMillis();
+        Object state = componentId.isEmpty() ? null : backend.get(key(messageId, componentId), now);
+        return state != null ? state : backend.get(key(messageId, ""), now);
+    }
+
+    /**
+     * State for the component an event came from
+     * @param event dispatched event
+     * @return the state, or null for events without a message or without state
+     */
+    Object get(GenericEvent event){
+        if(!(event instanceof GenericComponentInteractionCreateEvent)) return null;
+        GenericComponentInteractionCreateEvent component = (GenericComponentInteractionCreateEvent) event;
+        return get(component.getMessageIdLong(), component.getComponentId());
+    }
+
+    /**
+     * Detaches state, such as when the message is deleted
+     * @param messageId message the component is on
+     * @param componentId id of the component, or empty for the message's own state
+     * @return true if state was removed
+     */
+    public boolean remove(long messageId, String componentId){
+        return backend.remove(key(messageId, componentId));
+    }
+
+    public int getSize(){
+        return backend.size();
+    }
+
+    private static String key(long messageId, String componentId){
+        return RoutingTable.key(Long.toUnsignedString(messageId), componentId);
+    }
+
+    /**
+     * Closes the backend
+     */
+    @Override
+    public void close() {
+        backend.close();
+    }
+}
@@ -0,0 +1,129 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acknowledges interactions whose handlers are still running when the threshold passes, before Discord's three second deadline.
+ * Component interactions get {@code deferEdit()}, commands and modals get {@code deferReply()}.
+ * <p>
+ * Every dispatched interaction is tracked on one {@link HashedWheelTimer} and untracked as soon as its handlers return,
+ * so tens of thousands of interactions in flight cost a small object each and no extra threads.
+ * A handler that may be deferred for should answer through {@code event.getHook()} once it is done.
+ * <pre>{@code
+ * listener.setDeferralWatchdog(new DeferralWatchdog(2, TimeUnit.SECONDS));
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class DeferralWatchdog implements AutoCloseable {
+
+    private final HashedWheelTimer timer;
+    private final long thresholdNanos;
+    @Getter
+    private final boolean ephemeral;
+    private final LongAdder watched = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+
+    /**
+     * @param threshold how long handlers may run before the interaction is deferred
+     * @param unit unit of the threshold
+     */
+    public DeferralWatchdog(long threshold, TimeUnit unit){
+        this(threshold, unit, false);
+    }
+
+    /**
+     * @param threshold how long handlers may run before the interaction is deferred
+     * @param unit unit of the threshold
+     * @param ephemeral whether deferred replies are only shown to the user
+     */
+    public DeferralWatchdog(long threshold, TimeUnit unit, boolean ephemeral){
+        this.thresholdNanos = unit.toNanos(threshold);
+        this.ephemeral = ephemeral;
+        this.timer = new HashedWheelTimer("ala-watchdog", 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * Starts tracking an interaction
+     * @param event dispatched event
+     * @param handlers number of handlers the event was dispatched to
+     * @return the watch to report finished handlers to, or null if the event cannot be deferred
+     */
+    Watch watch(GenericEvent event, int handlers){
+        if(!(event instanceof IReplyCallback)) return null;
+        IReplyCallback interaction = (IReplyCallback) event;
+        watched.increment();
+        return new Watch(handlers, timer.schedule(() -> defer(interaction), thresholdNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private void defer(IReplyCallback interaction){
+        if(interaction.isAcknowledged()) return;
+        deferred.increment();
+        if(interaction instanceof GenericComponentInteractionCreateEvent)
+            ((GenericComponentInteractionCreateEvent) interaction).deferEdit().queue(null, this::failed);
+        else
+            interaction.deferReply(ephemeral).queue(null, this::failed);
+    }
+
+    private void failed(Throwable t){
+        if(t instanceof IllegalStateException) return; // the handler acknowledged it first
+        log.warn("Unable to defer interaction", t);
+    }
+
+    /**
+     * Interactions tracked so far
+     * @return watched count
+     */
+    public long getWatched(){
+        return watched.sum();
+    }
+
+    /**
+     * Interactions the watchdog had to defer
+     * @return deferred count
+     */
+    public long getDeferred(){
+        return deferred.sum();
+    }
+
+    /**
+     * Interactions with handlers still running
+     * @return pending count
+     */
+    public long getPending(){
+        return timer.getPending();
+    }
+
+    /**
+     * Stops the timer thread
+     */
+    @Override
+    public void close() {
+        timer.close();
+    }
+
+    /**
+     * Tracking of one dispatched interaction, released when its last handler returns
+     */
+    static final class Watch {
+        private final AtomicInteger running;
+        private final HashedWheelTimer.Timeout timeout;
+
+        private Watch(int handlers, HashedWheelTimer.Timeout timeout){
+            this.running = new AtomicInteger(handlers);
+            this.timeout = timeout;
+        }
+
+        void done(){
+            if(running.decrementAndGet() == 0) timeout.cancel();
+        }
+    }
+}
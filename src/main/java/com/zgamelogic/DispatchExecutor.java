@@ -0,0 +1,17 @@
+package com.zgamelogic;
+
+/**
+ * Decides where and when matched handlers run.
+ * Without one, an {@link AdvancedListenerAdapter} calls its handlers on the thread that delivered the event.
+ * @see AsyncDispatchExecutor
+ * @see PriorityDispatchExecutor
+ * @see ShardedDispatchExecutor
+ * @author Ben Shabowski
+ */
+public interface DispatchExecutor {
+    /**
+     * Runs a matched handler, now or later
+     * @param task handler call to run
+     */
+    void execute(DispatchTask task);
+}
@@ -0,0 +1,135 @@
+package com.zgamelogic;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts and latency histograms for every handler of a listener.
+ * <p>
+ * Metrics are off until an instance is handed to {@link AdvancedListenerAdapter#setDispatchMetrics(DispatchMetrics)};
+ * until then dispatching only pays for one null check. Once on, a matched handler costs a map lookup,
+ * a couple of counter increments and two {@link System#nanoTime()} calls, all lock free.
+ * <pre>{@code
+ * DispatchMetrics metrics = new DispatchMetrics();
+ * listener.setDispatchMetrics(metrics);
+ * metrics.publish("bot");
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class DispatchMetrics implements DispatchMetricsMXBean, AutoCloseable {
+
+    private final ConcurrentHashMap<RouteHandler, HandlerStats> handlers = new ConcurrentHashMap<>();
+    private volatile ObjectName published;
+
+    /**
+     * Counts an event being routed to a handler
+     * @param handler matched handler
+     * @return counters to record the invocation in
+     */
+    HandlerStats recordMatch(RouteHandler handler){
+        HandlerStats stats = handlers.get(handler);
+        if(stats == null) stats = handlers.computeIfAbsent(handler, h -> new HandlerStats());
+        stats.matches.increment();
+        return stats;
+    }
+
+    /**
+     * Drops the metrics of handlers removed from the listener, so they and the objects they belong to can be collected
+     * @param removed handlers no longer routed to
+     */
+    void forget(Collection<RouteHandler> removed){
+        handlers.keySet().removeAll(removed);
+    }
+
+    static void recordInvocation(HandlerStats stats, long nanos, boolean failed){
+        stats.latency.record(nanos);
+        if(failed) stats.failures.increment();
+    }
+
+    static void recordResponse(HandlerStats stats, long nanos, boolean failed){
+        stats.responses.record(nanos);
+        if(failed) stats.responseFailures.increment();
+    }
+
+    /**
+     * Metrics for every handler that has been matched at least once
+     * @return one snapshot per handler and route
+     */
+    @Override
+    public List<HandlerMetrics> getHandlers(){
+        List<HandlerMetrics> snapshot = new ArrayList<>(handlers.size());
+        handlers.forEach((handler, stats) -> snapshot.add(new HandlerMetrics(handler.getType(), handler.getRoute(),
+                handler.getName(), stats.matches.sum(), stats.failures.sum(), stats.latency.snapshot(),
+                stats.responseFailures.sum(), stats.responses.snapshot())));
+        snapshot.sort(Comparator.comparing(HandlerMetrics::getType).thenComparing(HandlerMetrics::getRoute));
+        return snapshot;
+    }
+
+    /**
+     * Metrics added up per event type
+     * @return one snapshot per type that has been matched at least once
+     */
+    @Override
+    public List<TypeMetrics> getTypes(){
+        EnumMap<RouteType, TypeMetrics> types = new EnumMap<>(RouteType.class);
+        for(HandlerMetrics handler : getHandlers())
+            types.put(handler.getType(), types.getOrDefault(handler.getType(), empty(handler.getType())).merge(handler));
+        return new ArrayList<>(types.values());
+    }
+
+    /**
+     * Metrics for one event type
+     * @param type event type
+     * @return snapshot, all zero if the type was never matched
+     */
+    public TypeMetrics getType(RouteType type){
+        for(TypeMetrics metrics : getTypes()) if(metrics.getType() == type) return metrics;
+        return empty(type);
+    }
+
+    private static TypeMetrics empty(RouteType type){
+        return new TypeMetrics(type, 0, 0, LatencySnapshot.EMPTY, 0, LatencySnapshot.EMPTY);
+    }
+
+    /**
+     * Drops everything recorded so far
+     */
+    @Override
+    public void reset(){
+        handlers.clear();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under {@code com.zgamelogic:type=DispatchMetrics,name=<name>}
+     * @param name name telling listeners apart
+     * @return the object name registered
+     * @throws JMException if the name is taken or invalid
+     */
+    public ObjectName publish(String name) throws JMException {
+        ObjectName objectName = new ObjectName("com.zgamelogic:type=DispatchMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        published = objectName;
+        return objectName;
+    }
+
+    /**
+     * Unregisters from the MBean server if {@link #publish(String)} was called
+     */
+    @Override
+    public void close() {
+        ObjectName objectName = published;
+        if(objectName == null) return;
+        published = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            log.warn("Unable to unregister " + objectName, e);
+        }
+    }
+}
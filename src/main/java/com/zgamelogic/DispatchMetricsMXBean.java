@@ -0,0 +1,15 @@
+package com.zgamelogic;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link DispatchMetrics}
+ * @author Ben Shabowski
+ */
+public interface DispatchMetricsMXBean {
+    List<HandlerMetrics> getHandlers();
+
+    List<TypeMetrics> getTypes();
+
+    void reset();
+}
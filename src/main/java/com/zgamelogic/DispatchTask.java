@@ -0,0 +1,77 @@
+package com.zgamelogic;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * One handler call for one event, handed to a {@link DispatchExecutor}.
+ * Failures are logged by the listener, so {@link #run()} never throws.
+ * @author Ben Shabowski
+ */
+@Getter
+public final class DispatchTask implements Runnable {
+    private final RouteType type;
+    /** Name of the handler method */
+    private final String handler;
+    private final GenericEvent event;
+    /** {@link System#nanoTime()} when the event was matched */
+    private final long createdNanos;
+    private final Runnable body;
+    @Getter(AccessLevel.NONE)
+    private final Runnable cancel;
+
+    DispatchTask(RouteType type, String handler, GenericEvent event, Runnable body, Runnable cancel){
+        this.type = type;
+        this.handler = handler;
+        this.event = event;
+        this.body = body;
+        this.cancel = cancel;
+        this.createdNanos = System.nanoTime();
+    }
+
+    /**
+     * Id of the guild the event came from
+     * @return guild id, 0 outside guilds
+     */
+    public long getGuildId(){
+        return EventIds.guildId(event);
+    }
+
+    /**
+     * Id of the user that triggered the event
+     * @return user id
+     */
+    public long getUserId(){
+        return EventIds.userId(event);
+    }
+
+    /**
+     * Id of the message the component or reaction belongs to
+     * @return message id, 0 for commands and modals
+     */
+    public long getMessageId(){
+        return EventIds.messageId(event);
+    }
+
+    /**
+     * Id of the channel the event came from
+     * @return channel id
+     */
+    public long getChannelId(){
+        return EventIds.channelId(event);
+    }
+
+    @Override
+    public void run() {
+        body.run();
+    }
+
+    /**
+     * Tells the listener the task is dropped and will never run, so it stops tracking the event.
+     * Executors that shed work must call this instead of {@link #run()}.
+     */
+    public void cancel(){
+        cancel.run();
+    }
+}
@@ -0,0 +1,235 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Sends at most one edit of a message at a time and drops the edits that were overtaken before they were sent.
+ * <p>
+ * Pagination buttons and live counters edit their message on every click, and a burst of clicks queues up
+ * behind the channel's rate limit. Edits handed to the coalescer only keep the latest one per message:
+ * it is sent once the interval passes, or as soon as the edit in flight completes, and the ones it replaced never reach Discord.
+ * Edits are built when they are sent, so the supplier should read the state at that time.
+ * Handing over an edit is an atomic swap; only the first edit of a burst touches the map of messages,
+ * which holds up to the maximum number of messages and sends edits straight away once full.
+ * <pre>{@code
+ * {@literal @}ButtonResponse("next")
+ * private void next(ButtonInteractionEvent event){
+ *     page.incrementAndGet();
+ *     edits.edit(event, () -> render(page.get()));
+ * }
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class EditCoalescer implements AutoCloseable {
+
+    private static final int IDLE = 0, SCHEDULED = 1, SENDING = 2, REMOVED = 3;
+
+    private final long intervalNanos;
+    @Getter
+    private final int maximumMessages;
+    private final HashedWheelTimer timer;
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder saved = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    /**
+     * Coalescer holding edits for 250 milliseconds and tracking up to 10000 messages
+     */
+    public EditCoalescer(){
+        this(250, TimeUnit.MILLISECONDS, 10_000);
+    }
+
+    /**
+     * @param interval how long the first edit of a burst waits for later ones, 0 to send it straight away
+     * @param unit unit of the interval
+     * @param maximumMessages messages with pending edits before further edits are sent without coalescing
+     */
+    public EditCoalescer(long interval, TimeUnit unit, int maximumMessages){
+        this.intervalNanos = unit.toNanos(interval);
+        this.maximumMessages = maximumMessages;
+        this.timer = intervalNanos > 0 ? new HashedWheelTimer("ala-edits", 10, TimeUnit.MILLISECONDS, 512) : null;
+    }
+
+    /**
+     * Acknowledges the interaction if the handler has not yet, and edits the message it came from through its hook
+     * @param event component interaction on the message to edit
+     * @param edit builds the message once the edit is sent
+     */
+    public void edit(GenericComponentInteractionCreateEvent event, Supplier<? extends MessageEditData> edit){
+        if(!event.isAcknowledged()) event.deferEdit().queue(null, this::deferFailed);
+        InteractionHook hook = event.getHook();
+        edit(event.getMessageIdLong(), () -> hook.editOriginal(edit.get()));
+    }
+
+    /**
+     * Replaces the pending edit of a message
+     * @param messageId message the edit is for
+     * @param edit builds the request once the edit is sent
+     */
+    public void edit(long messageId, Supplier<? extends RestAction<?>> edit){
+        submitted.increment();
+        while (true) {
+            Slot slot = slots.get(messageId);
+            if(slot == null) {
+                if(slots.size() >= maximumMessages) {
+                    bypassed.increment();
+                    send(edit, null, messageId);
+                    return;
+                }
+                Slot created = new Slot();
+                slot = slots.putIfAbsent(messageId, created);
+                if(slot == null) slot = created;
+            }
+            if(slot.state.get() == REMOVED) {
+                slots.remove(messageId, slot); // went idle and not forgotten yet
+                continue;
+            }
+            if(slot.latest.getAndSet(edit) != null) saved.increment();
+            if(slot.state.compareAndSet(IDLE, SCHEDULED)) {
+                Slot scheduled = slot;
+                if(timer == null) flush(messageId, scheduled);
+                else timer.schedule(() -> flush(messageId, scheduled), intervalNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if(slot.state.get() != REMOVED) return; // sent once the edit in flight or the scheduled flush is done
+            // the slot went idle after it was looked up, take back what idle() has not and hand it to a fresh slot
+            edit = slot.latest.getAndSet(null);
+            if(edit == null) return;
+        }
+    }
+
+    private void flush(long messageId, Slot slot){
+        Supplier<? extends RestAction<?>> edit = slot.latest.getAndSet(null);
+        if(edit == null) {
+            idle(messageId, slot);
+            return;
+        }
+        slot.state.set(SENDING);
+        send(edit, slot, messageId);
+    }
+
+    private void send(Supplier<? extends RestAction<?>> edit, Slot slot, long messageId){
+        sent.increment();
+        RestAction<?> action;
+        try {
+            action = edit.get();
+        } catch (RuntimeException e) {
+            failed(e, slot, messageId);
+            return;
+        }
+        action.queue(done -> completed(slot, messageId), error -> failed(error, slot, messageId));
+    }
+
+    private void failed(Throwable error, Slot slot, long messageId){
+        failed.increment();
+        log.warn("Unable to edit message " + messageId, error);
+        completed(slot, messageId);
+    }
+
+    private void completed(Slot slot, long messageId){
+        if(slot != null) flush(messageId, slot);
+    }
+
+    /**
+     * Forgets a message with nothing left to send, unless an edit came in while it was going idle
+     */
+    private void idle(long messageId, Slot slot){
+        slot.state.set(IDLE);
+        if(slot.latest.get() != null) {
+            if(slot.state.compareAndSet(IDLE, SCHEDULED)) flush(messageId, slot);
+            return;
+        }
+        if(!slot.state.compareAndSet(IDLE, REMOVED)) return;
+        slots.remove(messageId, slot);
+        Supplier<? extends RestAction<?>> late = slot.latest.getAndSet(null);
+        if(late != null) {
+            submitted.decrement();
+            edit(messageId, late);
+        }
+    }
+
+    private void deferFailed(Throwable t){
+        if(t instanceof IllegalStateException) return; // acknowledged elsewhere first
+        log.warn("Unable to defer interaction", t);
+    }
+
+    /**
+     * Edits handed to the coalescer
+     * @return submitted edits
+     */
+    public long getSubmitted(){
+        return submitted.sum();
+    }
+
+    /**
+     * Edit requests sent to Discord
+     * @return sent edits
+     */
+    public long getSent(){
+        return sent.sum();
+    }
+
+    /**
+     * Edits replaced by a later one before they were sent, each a REST call saved
+     * @return saved calls
+     */
+    public long getSaved(){
+        return saved.sum();
+    }
+
+    /**
+     * Sent edits that failed
+     * @return failed edits
+     */
+    public long getFailed(){
+        return failed.sum();
+    }
+
+    /**
+     * Edits sent without coalescing because the maximum number of messages was reached
+     * @return bypassed edits
+     */
+    public long getBypassed(){
+        return bypassed.sum();
+    }
+
+    /**
+     * Messages with an edit pending or in flight
+     * @return tracked messages
+     */
+    public int getSize(){
+        return slots.size();
+    }
+
+    /**
+     * Stops the timer thread. Edits waiting for the interval are not sent.
+     */
+    @Override
+    public void close() {
+        if(timer != null) timer.close();
+    }
+
+    /**
+     * Latest edit of one message and whether an edit of it is scheduled or in flight
+     */
+    private static final class Slot {
+        private final AtomicReference<Supplier<? extends RestAction<?>>> latest = new AtomicReference<>();
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+    }
+}
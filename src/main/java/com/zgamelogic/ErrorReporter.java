@@ -0,0 +1,270 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Turns handler failures into one {@link HandlerError} each and hands them to a {@link HandlerErrorSink} on its own daemon thread.
+ * <p>
+ * Failures are fingerprinted by handler, exception types and stack frames. Only the first failure of a fingerprint
+ * within the window is reported; the ones after it are counted, and the count is reported once the window is over,
+ * so a broken handler on a busy route yields a couple of records per window instead of one per event.
+ * Records wait in a bounded buffer and are dropped, and counted, if the sink cannot keep up.
+ * <pre>{@code
+ * listener.setErrorReporter(new ErrorReporter(error -> sentry.capture(error.getError(), error.toString())));
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public final class ErrorReporter implements Closeable {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    /** Frames of each exception that go into a fingerprint */
+    private static final int FRAMES = 8;
+    /** Causes followed when fingerprinting and unwrapping */
+    private static final int CAUSES = 8;
+
+    private final HandlerErrorSink sink;
+    private final long windowNanos;
+    @Getter
+    private final int capacity;
+    private final BlockingQueue<HandlerError> buffer;
+    private final ConcurrentHashMap<Long, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder reported = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread worker;
+    private volatile boolean closed;
+
+    /**
+     * Reporter with a one minute window and room for 1024 waiting records
+     * @param sink where failures go
+     */
+    public ErrorReporter(HandlerErrorSink sink){
+        this(sink, 1, TimeUnit.MINUTES, 1024);
+    }
+
+    /**
+     * @param sink where failures go
+     * @param window how long repeats of a failure are counted instead of reported
+     * @param unit unit of the window
+     * @param capacity records waiting for the sink before new ones are dropped
+     */
+    public ErrorReporter(HandlerErrorSink sink, long window, TimeUnit unit, int capacity){
+        this.sink = sink;
+        this.windowNanos = Math.max(1, unit.toNanos(window));
+        this.capacity = capacity;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        worker = new Thread(this::run, "ala-errors-" + COUNT.incrementAndGet());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Reporter listeners use until they are given one, logging through {@link HandlerErrorSink#logger()}
+     * @return the shared reporter
+     */
+    static ErrorReporter shared(){
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Records a failure. Never blocks: the failure is counted if it repeats one in its window or the buffer is full.
+     * @param handler handler that threw
+     * @param event event it was called with
+     * @param thrown what it threw
+     */
+    void report(RouteHandler handler, GenericEvent event, Throwable thrown){
+        Throwable error = unwrap(thrown);
+        long fingerprint = fingerprint(handler.getName(), error);
+        long now = System.nanoTime();
+        while (true) {
+            Window window = windows.computeIfAbsent(fingerprint, f -> new Window());
+            HandlerError repeated;
+            HandlerError record;
+            synchronized (window) {
+                if(window.removed) continue;
+                if(window.sample != null && now - window.start < windowNanos) {
+                    window.repeats++;
+                    suppressed.increment();
+                    return;
+                }
+                repeated = window.repeats > 0 ? window.sample.withRepeats(window.repeats) : null;
+                record = capture(handler, event, error, fingerprint);
+                window.start = now;
+                window.repeats = 0;
+                window.sample = record;
+            }
+            if(repeated != null) offer(repeated);
+            offer(record);
+            return;
+        }
+    }
+
+    private static HandlerError capture(RouteHandler handler, GenericEvent event, Throwable error, long fingerprint){
+        RouteType type = handler.getType();
+        long guild = 0, user = 0, channel = 0, message = 0;
+        try {
+            guild = EventIds.guildId(event);
+            user = EventIds.userId(event);
+            if(event instanceof GenericComponentInteractionCreateEvent || event instanceof GenericMessageReactionEvent || event instanceof ReactionBatch
+                    || event instanceof ComponentExpiry)
+                message = EventIds.messageId(event);
+            if(type != RouteType.MODAL && type != RouteType.USER_CONTEXT) channel = EventIds.channelId(event);
+        } catch (RuntimeException e) {
+            log.debug("Unable to read the ids of a failed " + type + " event", e);
+        }
+        return new HandlerError(System.currentTimeMillis(), type, handler.getRoute(), handler.getName(), guild, user, channel, message, error, fingerprint, 0);
+    }
+
+    private void offer(HandlerError record){
+        if(closed || !buffer.offer(record)) dropped.increment();
+    }
+
+    /**
+     * Strips the wrappers reflective calls and futures put around what a handler threw
+     * @param thrown throwable caught around the handler
+     * @return the handler's own throwable
+     */
+    static Throwable unwrap(Throwable thrown){
+        Throwable error = thrown;
+        for(int i = 0; i < CAUSES && (error instanceof InvocationTargetException || error instanceof UndeclaredThrowableException
+                || error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null; i++)
+            error = error.getCause();
+        return error;
+    }
+
+    /**
+     * Hash of the handler name, and the type and top frames of the throwable and its causes.
+     * Messages are left out, since they often hold ids that differ between repeats of the same bug.
+     */
+    static long fingerprint(String handler, Throwable error){
+        long hash = handler.hashCode();
+        Throwable cause = error;
+        for(int i = 0; i < CAUSES && cause != null; i++, cause = cause.getCause()){
+            hash = hash * 31 + cause.getClass().getName().hashCode();
+            StackTraceElement[] frames = cause.getStackTrace();
+            for(int f = 0; f < Math.min(FRAMES, frames.length); f++) hash = hash * 31 + frames[f].hashCode();
+        }
+        return hash ^ (hash >>> 29);
+    }
+
+    private void run(){
+        long sweepNanos = Math.min(windowNanos, TimeUnit.SECONDS.toNanos(1));
+        long nextSweep = System.nanoTime() + sweepNanos;
+        try {
+            while (!closed) {
+                HandlerError record = buffer.poll(Math.max(0, nextSweep - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if(record != null) deliver(record);
+                if(System.nanoTime() - nextSweep >= 0) {
+                    sweep(System.nanoTime(), false);
+                    nextSweep = System.nanoTime() + sweepNanos;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // first occurrences still buffered go out before the repeats the final sweep reports for them
+        for(HandlerError record; (record = buffer.poll()) != null; ) deliver(record);
+        sweep(System.nanoTime(), true);
+    }
+
+    /**
+     * Reports the repeats of windows that are over and forgets them
+     * @param all true to report the repeats of every window, such as on close
+     */
+    private void sweep(long now, boolean all){
+        Iterator<Window> iterator = windows.values().iterator();
+        while (iterator.hasNext()) {
+            Window window = iterator.next();
+            HandlerError repeated;
+            synchronized (window) {
+                if(!all && now - window.start < windowNanos) continue;
+                repeated = window.repeats > 0 ? window.sample.withRepeats(window.repeats) : null;
+                window.removed = true;
+                iterator.remove();
+            }
+            if(repeated == null) continue;
+            if(closed) deliver(repeated);
+            else offer(repeated);
+        }
+    }
+
+    private void deliver(HandlerError record){
+        try {
+            sink.report(record);
+            reported.increment();
+        } catch (RuntimeException e) {
+            log.warn("Error sink failed to report " + record, e);
+        }
+    }
+
+    /**
+     * Records handed to the sink, counting reports of repeats
+     * @return reported records
+     */
+    public long getReported(){
+        return reported.sum();
+    }
+
+    /**
+     * Failures that repeated one already reported in its window
+     * @return suppressed failures
+     */
+    public long getSuppressed(){
+        return suppressed.sum();
+    }
+
+    /**
+     * Records lost because the buffer was full
+     * @return dropped records
+     */
+    public long getDropped(){
+        return dropped.sum();
+    }
+
+    /**
+     * Reports what is buffered and the repeats counted so far, then stops the reporter thread
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Window {
+        /** When the last reported failure of the fingerprint happened */
+        private long start;
+        /** Failures since then that were not reported */
+        private long repeats;
+        /** The last reported failure, null until the first one is */
+        private HandlerError sample;
+        /** Set once the sweep forgot the window, so that reports make a new one */
+        private boolean removed;
+    }
+
+    private static final class Shared {
+        private static final ErrorReporter INSTANCE = new ErrorReporter(HandlerErrorSink.logger());
+    }
+}
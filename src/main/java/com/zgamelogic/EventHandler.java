@@ -0,0 +1,13 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * A handler for a single routed event, usually a method reference to an annotated method.
+ * @param <E> event type the handler accepts
+ * @author Ben Shabowski
+ */
+@FunctionalInterface
+public interface EventHandler<E extends GenericEvent> {
+    void handle(E event) throws Exception;
+}
@@ -0,0 +1,59 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+/**
+ * Reads the ids routed events carry, whether they are interactions, reactions or reaction batches.
+ * Ids that are missing come back as 0, or "null" for the string versions used in logs.
+ * @author Ben Shabowski
+ */
+final class EventIds {
+
+    private EventIds(){}
+
+    static long guildId(GenericEvent event){
+        if(event instanceof GenericInteractionCreateEvent){
+            GenericInteractionCreateEvent e = (GenericInteractionCreateEvent) event;
+            return e.getGuild() != null ? e.getGuild().getIdLong() : 0;
+        }
+        if(event instanceof GenericMessageReactionEvent){
+            GenericMessageReactionEvent e = (GenericMessageReactionEvent) event;
+            return e.isFromGuild() ? e.getGuild().getIdLong() : 0;
+        }
+        if(event instanceof ReactionBatch) return ((ReactionBatch) event).getGuildId();
+        if(event instanceof ComponentExpiry) return ((ComponentExpiry) event).getGuildId();
+        return 0;
+    }
+
+    static long userId(GenericEvent event){
+        if(event instanceof GenericInteractionCreateEvent) return ((GenericInteractionCreateEvent) event).getUser().getIdLong();
+        if(event instanceof GenericMessageReactionEvent) return ((GenericMessageReactionEvent) event).getUserIdLong();
+        return 0;
+    }
+
+    static long messageId(GenericEvent event){
+        if(event instanceof GenericComponentInteractionCreateEvent) return ((GenericComponentInteractionCreateEvent) event).getMessageIdLong();
+        if(event instanceof GenericMessageReactionEvent) return ((GenericMessageReactionEvent) event).getMessageIdLong();
+        if(event instanceof ReactionBatch) return ((ReactionBatch) event).getMessageId();
+        if(event instanceof ComponentExpiry) return ((ComponentExpiry) event).getMessageId();
+        return 0;
+    }
+
+    static long channelId(GenericEvent event){
+        if(event instanceof GenericInteractionCreateEvent){
+            GenericInteractionCreateEvent e = (GenericInteractionCreateEvent) event;
+            return e.getChannel() != null ? e.getChannel().getIdLong() : 0;
+        }
+        if(event instanceof GenericMessageReactionEvent) return ((GenericMessageReactionEvent) event).getChannel().getIdLong();
+        if(event instanceof ReactionBatch) return ((ReactionBatch) event).getChannelId();
+        if(event instanceof ComponentExpiry) return ((ComponentExpiry) event).getChannelId();
+        return 0;
+    }
+
+    static String format(long id){
+        return id == 0 ? "null" : Long.toUnsignedString(id);
+    }
+}
@@ -0,0 +1,57 @@
+package com.zgamelogic;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Proxies of JDA interfaces answering from a map of method names, so events can be built without a gateway connection.
+ * Replayed and HTTP interactions are built with it, and so are the events of tests and benchmarks.
+ * @author Ben Shabowski
+ */
+public final class EventStubs {
+
+    private EventStubs(){}
+
+    /**
+     * Proxy of an interface.
+     * A method with an answer returns it, or calls it if it is an {@link InvocationHandler}; a null answer is returned as null.
+     * Methods without one return zero values, empty collections and completed futures,
+     * the proxy itself for fluent setters such as those of rest actions, and stubs without answers for other interfaces,
+     * so chains such as {@code event.reply("...").setEphemeral(true).queue()} run and do nothing.
+     * @param type interface to proxy
+     * @param answers values or handlers by method name
+     * @param extra further interfaces the proxy implements, such as the channel type behind a union
+     * @return the stub
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Object> answers, Class<?>... extra){
+        Class<?>[] interfaces = new Class<?>[extra.length + 1];
+        interfaces[0] = type;
+        System.arraycopy(extra, 0, interfaces, 1, extra.length);
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), interfaces, (proxy, method, args) -> {
+            String name = method.getName();
+            Object answer = answers.get(name);
+            if(answer instanceof InvocationHandler) return ((InvocationHandler) answer).invoke(proxy, method, args);
+            if(answer != null || answers.containsKey(name)) return answer;
+            if(method.getDeclaringClass() == Object.class) {
+                if(name.equals("equals")) return proxy == args[0];
+                if(name.equals("hashCode")) return System.identityHashCode(proxy);
+                return type.getSimpleName() + " stub";
+            }
+            Class<?> r = method.getReturnType();
+            if(r == boolean.class) return false;
+            if(r == int.class) return 0;
+            if(r == long.class) return 0L;
+            if(r == double.class) return 0d;
+            if(r == List.class || r == Collection.class) return Collections.emptyList();
+            if(r == Set.class) return Collections.emptySet();
+            if(r == Map.class) return Collections.emptyMap();
+            if(r == CompletableFuture.class) return CompletableFuture.completedFuture(null); // submitted rest actions
+            if(r.isInstance(proxy)) return proxy; // fluent setters of rest actions
+            if(r.isInterface()) return stub(r, Collections.emptyMap());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.zgamelogic;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters kept by a {@link DispatchExecutor}.
+ * Time spent waiting for a thread is kept apart from time spent in the handler so pools can be sized.
+ * @author Ben Shabowski
+ */
+public final class ExecutionStats {
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder runNanos = new LongAdder();
+    private final LongAccumulator maxRunNanos = new LongAccumulator(Long::max, 0);
+
+    void recordSubmitted(){
+        submitted.increment();
+    }
+
+    void recordRejected(){
+        rejected.increment();
+    }
+
+    void recordRun(long queued, long ran){
+        completed.increment();
+        queueNanos.add(queued);
+        maxQueueNanos.accumulate(queued);
+        runNanos.add(ran);
+        maxRunNanos.accumulate(ran);
+    }
+
+    /**
+     * Runs a task and records how long it waited and ran
+     * @param task task to run
+     */
+    void run(DispatchTask task){
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            recordRun(start - task.getCreatedNanos(), System.nanoTime() - start);
+        }
+    }
+
+    public long getSubmitted(){
+        return submitted.sum();
+    }
+
+    public long getCompleted(){
+        return completed.sum();
+    }
+
+    public long getRejected(){
+        return rejected.sum();
+    }
+
+    /**
+     * Tasks submitted but not yet finished or rejected
+     * @return tasks in flight
+     */
+    public long getInFlight(){
+        return Math.max(0, getSubmitted() - getCompleted() - getRejected());
+    }
+
+    public long getAverageQueueNanos(){
+        long count = getCompleted();
+        return count == 0 ? 0 : queueNanos.sum() / count;
+    }
+
+    public long getMaxQueueNanos(){
+        return maxQueueNanos.get();
+    }
+
+    public long getAverageRunNanos(){
+        long count = getCompleted();
+        return count == 0 ? 0 : runNanos.sum() / count;
+    }
+
+    public long getMaxRunNanos(){
+        return maxRunNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "submitted=" + getSubmitted() + ", completed=" + getCompleted() + ", rejected=" + getRejected()
+                + ", queue avg/max=" + getAverageQueueNanos() / 1000 + "/" + getMaxQueueNanos() / 1000 + "us"
+                + ", run avg/max=" + getAverageRunNanos() / 1000 + "/" + getMaxRunNanos() / 1000 + "us";
+    }
+}
@@ -0,0 +1,21 @@
+package com.zgamelogic;
+
+/**
+ * Implemented by the {@code <Listener>_Dispatcher} classes the annotation processor generates.
+ * When a listener has a generated dispatcher, its routes are registered by plain method references
+ * instead of being discovered with reflection.
+ * @param <L> listener class the dispatcher was generated for
+ * @author Ben Shabowski
+ */
+public interface GeneratedDispatcher<L extends AdvancedListenerAdapter> {
+
+    /** Suffix appended to the binary name of a listener class to name its dispatcher */
+    String SUFFIX = "_Dispatcher";
+
+    /**
+     * Registers every annotated method of the listener
+     * @param listener listener the routes are bound to
+     * @param routes registrar receiving the routes
+     */
+    void register(L listener, RouteRegistrar routes);
+}
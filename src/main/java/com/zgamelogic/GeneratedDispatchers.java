@@ -0,0 +1,39 @@
+package com.zgamelogic;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the dispatcher generated for a listener class, looked up once per class.
+ * @author Ben Shabowski
+ */
+@Slf4j
+final class GeneratedDispatchers {
+
+    private static final ClassValue<GeneratedDispatcher<?>> DISPATCHERS = new ClassValue<GeneratedDispatcher<?>>() {
+        @Override
+        protected GeneratedDispatcher<?> computeValue(Class<?> type) {
+            try {
+                Class<?> generated = Class.forName(type.getName() + GeneratedDispatcher.SUFFIX, true, type.getClassLoader());
+                if(!GeneratedDispatcher.class.isAssignableFrom(generated)) return null;
+                return (GeneratedDispatcher<?>) generated.getDeclaredConstructor().newInstance();
+            } catch (ClassNotFoundException e) {
+                return null;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("Unable to load the generated dispatcher for " + type.getName() + ", using reflection", e);
+                return null;
+            }
+        }
+    };
+
+    private GeneratedDispatchers(){}
+
+    /**
+     * Generated dispatcher for a listener class
+     * @param type listener class
+     * @return the dispatcher, or null when the class has none
+     */
+    @SuppressWarnings("unchecked")
+    static <L extends AdvancedListenerAdapter> GeneratedDispatcher<L> find(Class<L> type){
+        return (GeneratedDispatcher<L>) DISPATCHERS.get(type);
+    }
+}
@@ -0,0 +1,114 @@
+package com.zgamelogic;
+
+import com.zgamelogic.AdvancedListenerAdapter.ComponentState;
+import com.zgamelogic.AdvancedListenerAdapter.IdParam;
+import lombok.Getter;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * How to call one handler: the target, and either a plain event invoker, a function for methods returning a value,
+ * or an invoker plus a resolver per parameter.
+ * Shared by every route the handler is annotated with.
+ * @author Ben Shabowski
+ */
+@Getter
+final class HandlerBinding {
+    private final Object target;
+    private final String name;
+    private final Method method;
+    private final HandlerInvoker invoker;
+    private final HandlerFunction function;
+    private final ArgumentsInvoker argumentsInvoker;
+    private final ArgumentResolver[] resolvers;
+    /** Names of the {@link IdParam} parameters the handler needs from its id template */
+    private final Set<String> idParameters;
+
+    private HandlerBinding(Object target, String name, Method method, HandlerInvoker invoker, HandlerFunction function,
+                           ArgumentsInvoker argumentsInvoker, ArgumentResolver[] resolvers, Set<String> idParameters){
+        this.target = target;
+        this.name = name;
+        this.method = method;
+        this.invoker = invoker;
+        this.function = function;
+        this.argumentsInvoker = argumentsInvoker;
+        this.resolvers = resolvers;
+        this.idParameters = idParameters;
+    }
+
+    /**
+     * Binding for a handler that only takes the event
+     */
+    static HandlerBinding of(Object target, String name, HandlerInvoker invoker){
+        return new HandlerBinding(target, name, null, invoker, null, null, null, Collections.emptySet());
+    }
+
+    /**
+     * Binding for an annotated method
+     * @throws IllegalStateException if a parameter cannot be resolved
+     */
+    static HandlerBinding of(Object target, Method m, InvocationMode mode){
+        Parameter[] parameters = m.getParameters();
+        if(parameters.length == 1 && GenericEvent.class.isAssignableFrom(parameters[0].getType())) {
+            if(m.getReturnType() == void.class)
+                return new HandlerBinding(target, m.getName(), m, HandlerInvokers.bind(target, m, mode), null, null, null, Collections.emptySet());
+            return new HandlerBinding(target, m.getName(), m, null, HandlerInvokers.bindFunction(target, m, mode), null, null, Collections.emptySet());
+        }
+
+        ArgumentResolver[] resolvers = new ArgumentResolver[parameters.length];
+        Set<String> idParameters = new LinkedHashSet<>();
+        for(int i = 0; i < parameters.length; i++){
+            Parameter parameter = parameters[i];
+            IdParam idParam = parameter.getAnnotation(IdParam.class);
+            if(idParam != null) {
+                idParameters.add(idParam.value());
+                resolvers[i] = idResolver(m, parameter, idParam.value());
+            } else if(parameter.isAnnotationPresent(ComponentState.class)) {
+                resolvers[i] = stateResolver(m, parameter);
+            } else if(GenericEvent.class.isAssignableFrom(parameter.getType())) {
+                resolvers[i] = (event, match, states) -> event;
+            } else {
+                throw new IllegalStateException("Unable to resolve parameter " + parameter.getName() + " of " + m.getName());
+            }
+        }
+        return new HandlerBinding(target, m.getName(), m, null, null, HandlerInvokers.bindArguments(target, m, mode), resolvers, idParameters);
+    }
+
+    private static ArgumentResolver idResolver(Method m, Parameter parameter, String name){
+        Class<?> type = parameter.getType();
+        if(type == String.class) return (event, match, states) -> match.get(name);
+        if(type == long.class || type == Long.class) return (event, match, states) -> match.getLong(name);
+        if(type == int.class || type == Integer.class) return (event, match, states) -> Math.toIntExact(match.getLong(name));
+        throw new IllegalStateException("Id parameter " + name + " of " + m.getName() + " must be a String, long or int");
+    }
+
+    private static ArgumentResolver stateResolver(Method m, Parameter parameter){
+        Class<?> type = parameter.getType();
+        if(type.isPrimitive()) throw new IllegalStateException("Component state parameter " + parameter.getName() + " of " + m.getName() + " cannot be a primitive");
+        return (event, match, states) -> {
+            Object state = states == null ? null : states.get(event);
+            if(state != null && !type.isInstance(state))
+                throw new IllegalStateException(m.getName() + " takes a " + type.getSimpleName() + " but the component state is a " + state.getClass().getName());
+            return state;
+        };
+    }
+
+    /**
+     * Calls the handler
+     * @param states state store for {@link ComponentState} parameters, or null
+     * @return what the handler returned, null for void handlers
+     */
+    Object invoke(GenericEvent event, RouteMatch match, ComponentStateStore states) throws Throwable {
+        if(invoker != null) {
+            invoker.invoke(event);
+            return null;
+        }
+        if(function != null) return function.invoke(event);
+        Object[] arguments = new Object[resolvers.length];
+        for(int i = 0; i < resolvers.length; i++) arguments[i] = resolvers[i].resolve(event, match, states);
+        return argumentsInvoker.invoke(arguments);
+    }
+}
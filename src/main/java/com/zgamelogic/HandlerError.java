@@ -0,0 +1,58 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+/**
+ * One handler failure as an {@link ErrorReporter} hands it to its {@link HandlerErrorSink}.
+ * Ids the event did not carry are 0.
+ * @author Ben Shabowski
+ */
+@Getter
+public final class HandlerError {
+    /** Wall clock time of the failure in milliseconds */
+    private final long time;
+    private final RouteType type;
+    /** Annotation values of the route separated by spaces */
+    private final String route;
+    /** Name of the method that failed */
+    private final String handler;
+    private final long guildId;
+    private final long userId;
+    private final long channelId;
+    private final long messageId;
+    /** What the handler threw or its response failed with, with reflection and future wrappers removed */
+    private final Throwable error;
+    /** Hash of the handler, exception types and stack frames, equal for repeats of the same failure */
+    private final long fingerprint;
+    /** Failures with the same fingerprint that were not reported on their own since the previous report of it */
+    private final long repeats;
+
+    HandlerError(long time, RouteType type, String route, String handler, long guildId, long userId, long channelId,
+                 long messageId, Throwable error, long fingerprint, long repeats){
+        this.time = time;
+        this.type = type;
+        this.route = route;
+        this.handler = handler;
+        this.guildId = guildId;
+        this.userId = userId;
+        this.channelId = channelId;
+        this.messageId = messageId;
+        this.error = error;
+        this.fingerprint = fingerprint;
+        this.repeats = repeats;
+    }
+
+    HandlerError withRepeats(long repeats){
+        return new HandlerError(time, type, route, handler, guildId, userId, channelId, messageId, error, fingerprint, repeats);
+    }
+
+    /**
+     * The failure as space separated key=value pairs, for one log line per failure
+     */
+    @Override
+    public String toString() {
+        return "handler=" + handler + " type=" + type + " route=\"" + route + "\" guild=" + EventIds.format(guildId)
+                + " user=" + EventIds.format(userId) + " channel=" + EventIds.format(channelId) + " message=" + EventIds.format(messageId)
+                + " error=" + error.getClass().getName() + " fingerprint=" + Long.toHexString(fingerprint) + " repeats=" + repeats;
+    }
+}
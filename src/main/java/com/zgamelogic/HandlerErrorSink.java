@@ -0,0 +1,21 @@
+package com.zgamelogic;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * Receives handler failures from an {@link ErrorReporter}, on the reporter's thread
+ * so that a slow sink does not hold up dispatch.
+ * @author Ben Shabowski
+ */
+@FunctionalInterface
+public interface HandlerErrorSink {
+    void report(HandlerError error);
+
+    /**
+     * Sink logging each failure as one error line with its stack trace, under the adapter's logger
+     * @return the sink
+     */
+    static HandlerErrorSink logger(){
+        return error -> LoggerFactory.getLogger(AdvancedListenerAdapter.class).error(error.toString(), error.getError());
+    }
+}
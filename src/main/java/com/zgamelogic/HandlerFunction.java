@@ -0,0 +1,13 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * A handler method that returns a value, bound to its listener, ready to be called with an event.
+ * @see HandlerInvokers
+ * @author Ben Shabowski
+ */
+@FunctionalInterface
+interface HandlerFunction {
+    Object invoke(GenericEvent event) throws Throwable;
+}
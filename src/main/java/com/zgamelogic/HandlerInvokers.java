@@ -0,0 +1,157 @@
+package com.zgamelogic;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns annotated methods into {@link HandlerInvoker}s, or {@link HandlerFunction}s for methods returning a value.
+ * <p>
+ * In {@link InvocationMode#COMPILED} mode public methods of public classes are spun into an invoker class
+ * with LambdaMetafactory, the same way javac compiles a method reference, so the call is a plain interface call.
+ * Anything the generated class cannot link against is bound as a MethodHandle instead.
+ * @author Ben Shabowski
+ */
+@Slf4j
+final class HandlerInvokers {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SAM_TYPE = MethodType.methodType(void.class, GenericEvent.class);
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, GenericEvent.class);
+    /** Generated invoker factories by declaring class, so binding another instance does not generate another class */
+    private static final ClassValue<Map<Object, MethodHandle>> FACTORIES = new ClassValue<Map<Object, MethodHandle>>() {
+        @Override
+        protected Map<Object, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private HandlerInvokers(){}
+
+    static HandlerInvoker bind(Object target, Method m, InvocationMode mode){
+        m.setAccessible(true);
+        if(mode == InvocationMode.REFLECTIVE) return reflective(target, m);
+        if(canSpin(m)) {
+            try {
+                return (HandlerInvoker) spin(target, m, HandlerInvoker.class, SAM_TYPE, void.class);
+            } catch (Throwable t) {
+                log.debug("Unable to generate an invoker for " + m.getName() + ", using a method handle", t);
+            }
+        }
+        try {
+            MethodHandle bound = bound(target, m).asType(SAM_TYPE);
+            return event -> {
+                bound.invokeExact(event);
+            };
+        } catch (IllegalAccessException e) {
+            log.debug("Unable to bind a method handle for " + m.getName() + ", using reflection", e);
+            return reflective(target, m);
+        }
+    }
+
+    /**
+     * Binds a method that takes the event and returns a value
+     * @param target object the method is called on
+     * @param m handler method
+     * @param mode how the method gets called
+     * @return function returning what the method returns, boxed
+     */
+    static HandlerFunction bindFunction(Object target, Method m, InvocationMode mode){
+        m.setAccessible(true);
+        if(mode != InvocationMode.REFLECTIVE) {
+            if(canSpin(m)) {
+                try {
+                    return (HandlerFunction) spin(target, m, HandlerFunction.class, FUNCTION_TYPE, Object.class);
+                } catch (Throwable t) {
+                    log.debug("Unable to generate an invoker for " + m.getName() + ", using a method handle", t);
+                }
+            }
+            try {
+                MethodHandle bound = bound(target, m).asType(FUNCTION_TYPE);
+                return event -> (Object) bound.invokeExact(event);
+            } catch (IllegalAccessException e) {
+                log.debug("Unable to bind a method handle for " + m.getName() + ", using reflection", e);
+            }
+        }
+        return event -> m.invoke(target, event);
+    }
+
+    /**
+     * Binds a method that takes more than just the event
+     * @param target object the method is called on
+     * @param m handler method
+     * @param mode how the method gets called
+     * @return invoker taking every argument in order
+     */
+    static ArgumentsInvoker bindArguments(Object target, Method m, InvocationMode mode){
+        m.setAccessible(true);
+        if(mode != InvocationMode.REFLECTIVE) {
+            try {
+                MethodHandle spread = bound(target, m).asSpreader(Object[].class, m.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+                return arguments -> (Object) spread.invokeExact(arguments);
+            } catch (IllegalAccessException e) {
+                log.debug("Unable to bind a method handle for " + m.getName() + ", using reflection", e);
+            }
+        }
+        return arguments -> m.invoke(target, arguments);
+    }
+
+    private static HandlerInvoker reflective(Object target, Method m){
+        return event -> m.invoke(target, event);
+    }
+
+    private static MethodHandle bound(Object target, Method m) throws IllegalAccessException {
+        MethodHandle handle = LOOKUP.unreflect(m);
+        return Modifier.isStatic(m.getModifiers()) ? handle : handle.bindTo(target);
+    }
+
+    private static Object spin(Object target, Method m, Class<?> samInterface, MethodType samType, Class<?> returnType) throws Throwable {
+        Map<Object, MethodHandle> factories = FACTORIES.get(m.getDeclaringClass());
+        Object key = new AbstractMap.SimpleImmutableEntry<>(samInterface, m);
+        MethodHandle factory = factories.get(key);
+        if(factory == null) {
+            factory = factory(m, samInterface, samType, returnType);
+            factories.putIfAbsent(key, factory);
+        }
+        return Modifier.isStatic(m.getModifiers()) ? factory.invoke() : factory.invoke(target);
+    }
+
+    private static MethodHandle factory(Method m, Class<?> samInterface, MethodType samType, Class<?> returnType) throws Throwable {
+        MethodType factoryType = Modifier.isStatic(m.getModifiers())
+                ? MethodType.methodType(samInterface)
+                : MethodType.methodType(samInterface, m.getDeclaringClass());
+        return LambdaMetafactory.metafactory(
+                LOOKUP,
+                "invoke",
+                factoryType,
+                samType,
+                LOOKUP.unreflect(m),
+                MethodType.methodType(returnType, m.getParameterTypes()[0])
+        ).getTarget();
+    }
+
+    /**
+     * The generated invoker lives next to this class, so it can only call methods that are public
+     * and that this class loader can see.
+     */
+    private static boolean canSpin(Method m){
+        if(m.getParameterCount() != 1 || !GenericEvent.class.isAssignableFrom(m.getParameterTypes()[0])) return false;
+        if(!Modifier.isPublic(m.getModifiers()) || !Modifier.isPublic(m.getDeclaringClass().getModifiers())) return false;
+        return isVisible(m.getDeclaringClass()) && isVisible(m.getParameterTypes()[0]);
+    }
+
+    private static boolean isVisible(Class<?> c){
+        try {
+            return Class.forName(c.getName(), false, HandlerInvokers.class.getClassLoader()) == c;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
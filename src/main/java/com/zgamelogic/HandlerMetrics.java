@@ -0,0 +1,47 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+/**
+ * Snapshot of the metrics for one annotated method and route
+ * @author Ben Shabowski
+ */
+@Getter
+public final class HandlerMetrics {
+    private final RouteType type;
+    /** Route the handler is bound to, the annotation values separated by spaces */
+    private final String route;
+    /** Name of the annotated method */
+    private final String handler;
+    /** Times an event was routed to the handler */
+    private final long matches;
+    /** Times the handler finished running, successfully or not */
+    private final long invocations;
+    /** Times the handler threw */
+    private final long failures;
+    private final LatencySnapshot latency;
+    /** Times a RestAction or future the handler returned failed */
+    private final long responseFailures;
+    /** Time from receiving the event until what the handler returned completed, such as Discord acknowledging its reply */
+    private final LatencySnapshot responseLatency;
+
+    HandlerMetrics(RouteType type, String route, String handler, long matches, long failures, LatencySnapshot latency,
+                   long responseFailures, LatencySnapshot responseLatency){
+        this.type = type;
+        this.route = route;
+        this.handler = handler;
+        this.matches = matches;
+        this.invocations = latency.getCount();
+        this.failures = failures;
+        this.latency = latency;
+        this.responseFailures = responseFailures;
+        this.responseLatency = responseLatency;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + route + " -> " + handler + ": matches=" + matches + ", invocations=" + invocations
+                + ", failures=" + failures + ", " + latency
+                + (responseLatency.getCount() == 0 ? "" : ", responses " + responseLatency + ", response failures=" + responseFailures);
+    }
+}
@@ -0,0 +1,16 @@
+package com.zgamelogic;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters for one handler, updated on the dispatch path
+ * @author Ben Shabowski
+ */
+final class HandlerStats {
+    final LongAdder matches = new LongAdder();
+    final LongAdder failures = new LongAdder();
+    final LatencyHistogram latency = new LatencyHistogram();
+    /** Time from receiving the event until the RestAction or future the handler returned completed */
+    final LatencyHistogram responses = new LatencyHistogram();
+    final LongAdder responseFailures = new LongAdder();
+}
@@ -0,0 +1,207 @@
+package com.zgamelogic;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timer for large numbers of short, mostly cancelled timeouts, such as one per interaction.
+ * <p>
+ * Timeouts hash into a ring of buckets by deadline and one daemon thread advances over the ring a bucket per tick,
+ * so scheduling and cancelling are a queue offer and a compare-and-set no matter how many timeouts are pending.
+ * Deadlines are only as precise as the tick. Tasks run on the timer thread and must be quick.
+ * @author Ben Shabowski
+ */
+@Slf4j
+final class HashedWheelTimer implements AutoCloseable {
+
+    private static final int INIT = 0, CANCELLED = 1, EXPIRED = 2;
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean closed;
+    private long tick;
+
+    /**
+     * @param name name of the timer thread
+     * @param tickDuration time between ticks
+     * @param unit unit of the tick duration
+     * @param wheelSize buckets in the ring, rounded up to a power of two
+     */
+    HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int wheelSize){
+        tickNanos = Math.max(1, unit.toNanos(tickDuration));
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        wheel = new Bucket[size];
+        for(int i = 0; i < size; i++) wheel[i] = new Bucket();
+        mask = size - 1;
+        worker = new Thread(this::run, name + "-" + COUNT.incrementAndGet());
+        worker.setDaemon(true);
+        startNanos = System.nanoTime();
+        worker.start();
+    }
+
+    /**
+     * Runs a task once the delay has passed
+     * @param task task to run on the timer thread
+     * @param delay delay before running
+     * @param unit unit of the delay
+     * @return handle to cancel the task
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit){
+        if(closed) throw new IllegalStateException("Timer is closed");
+        Timeout timeout = new Timeout(this, task, System.nanoTime() - startNanos + unit.toNanos(delay));
+        pending.incrementAndGet();
+        added.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Timeouts scheduled that have not run or been cancelled
+     * @return pending timeouts
+     */
+    long getPending(){
+        return pending.get();
+    }
+
+    /**
+     * Stops the timer thread. Pending timeouts never run.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+    }
+
+    private void run(){
+        while (!closed) {
+            long deadline = (tick + 1) * tickNanos;
+            long sleep = deadline - (System.nanoTime() - startNanos);
+            if(sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    if(closed) return;
+                }
+                continue;
+            }
+            removeCancelled();
+            transferAdded();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private void transferAdded(){
+        Timeout timeout;
+        for(int i = 0; i < 100_000 && (timeout = added.poll()) != null; i++){
+            if(timeout.state.get() != INIT) continue;
+            long ticks = timeout.deadline / tickNanos;
+            timeout.rounds = (ticks - tick) / wheel.length;
+            wheel[(int) (Math.max(ticks, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled(){
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) if(timeout.bucket != null) timeout.bucket.remove(timeout);
+    }
+
+    /**
+     * Handle of a scheduled task
+     */
+    static final class Timeout {
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long rounds;
+        private Bucket bucket;
+        private Timeout next, previous;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline){
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Stops the task from running
+         * @return true if the task had not run or been cancelled yet
+         */
+        boolean cancel(){
+            if(!state.compareAndSet(INIT, CANCELLED)) return false;
+            timer.pending.decrementAndGet();
+            timer.cancelled.add(this);
+            return true;
+        }
+
+        boolean isExpired(){
+            return state.get() == EXPIRED;
+        }
+
+        private void expire(){
+            if(!state.compareAndSet(INIT, EXPIRED)) return;
+            timer.pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("Timer task threw", t);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts hashed to one slot, only touched by the timer thread
+     */
+    private static final class Bucket {
+        private Timeout head, tail;
+
+        private void add(Timeout timeout){
+            timeout.bucket = this;
+            if(head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expire(long deadline){
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if(timeout.state.get() != INIT) {
+                    remove(timeout);
+                } else if(timeout.rounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if(timeout.rounds > 0) {
+                    timeout.rounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout){
+            if(timeout.bucket != this) return;
+            if(timeout.previous != null) timeout.previous.next = timeout.next;
+            if(timeout.next != null) timeout.next.previous = timeout.previous;
+            if(timeout == head) head = timeout.next;
+            if(timeout == tail) tail = timeout.previous;
+            timeout.next = timeout.previous = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps states as objects on the heap, dropping the least recently used one once {@link #getMaximumSize()} is reached
+ * @author Ben Shabowski
+ */
+public final class HeapStateBackend implements StateBackend {
+
+    @Getter
+    private final int maximumSize;
+    private final LinkedHashMap<String, StoredState> entries;
+
+    /**
+     * @param maximumSize states held before the least recently used is dropped
+     */
+    public HeapStateBackend(int maximumSize){
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<String, StoredState>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredState> eldest) {
+                return size() > HeapStateBackend.this.maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void put(String key, Object state, long expiresAtMillis) {
+        entries.put(key, new StoredState(state, expiresAtMillis));
+    }
+
+    @Override
+    public synchronized Object get(String key, long nowMillis) {
+        StoredState entry = entries.get(key);
+        if(entry == null) return null;
+        if(entry.expires > nowMillis) return entry.state;
+        entries.remove(key);
+        return null;
+    }
+
+    @Override
+    public synchronized boolean remove(String key) {
+        return entries.remove(key) != null;
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class StoredState {
+        private final Object state;
+        private final long expires;
+
+        private StoredState(Object state, long expires){
+            this.state = state;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.commands.Command;
+import net.dv8tion.jda.api.interactions.commands.CommandAutoCompleteInteraction;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.interactions.commands.context.MessageContextInteraction;
+import net.dv8tion.jda.api.interactions.commands.context.UserContextInteraction;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.EntitySelectInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectInteraction;
+import net.dv8tion.jda.api.interactions.modals.Modal;
+import net.dv8tion.jda.api.interactions.modals.ModalInteraction;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.AutoCompleteCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.MessageEditCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ModalCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ReplyCallbackAction;
+import net.dv8tion.jda.api.utils.data.DataArray;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Builds JDA events from interaction payloads posted to an {@link InteractionServer}, by proxying the interaction interfaces like {@link ReplayEvents}.
+ * <p>
+ * There is no gateway cache behind them, so users, guilds and channels only answer their ids, and members and resolved entities are null.
+ * The first acknowledgement a handler makes, such as {@code reply}, {@code deferEdit} or {@code replyChoices},
+ * is turned into the interaction response instead of being sent to Discord, and completes once it is handed to the server.
+ * Requests made through the interaction hook are sent to the interaction webhook.
+ * @author Ben Shabowski
+ */
+final class HttpInteractions {
+
+    static final int PING = 1, COMMAND = 2, COMPONENT = 3, AUTO_COMPLETE = 4, MODAL = 5;
+    /** Interaction callback types */
+    private static final int PONG = 1, MESSAGE = 4, DEFERRED_MESSAGE = 5, DEFERRED_UPDATE = 6, UPDATE = 7, CHOICES = 8, MODAL_FORM = 9;
+    private static final int EPHEMERAL = 1 << 6;
+
+    private HttpInteractions(){}
+
+    /**
+     * @param payload interaction payload
+     * @param callback where the handler's acknowledgement goes
+     * @param webhook where follow-ups through the hook go
+     * @return the event, or null if the adapter has no route type for the interaction
+     */
+    static GenericEvent of(DataObject payload, Callback callback, InteractionWebhook webhook){
+        DataObject data = payload.optObject("data").orElse(DataObject.empty());
+        Map<String, Object> answers = interaction(payload, callback, webhook);
+        switch (payload.getInt("type", 0)){
+            case COMMAND:
+                answers.put("getName", data.getString("name", ""));
+                answers.put("getCommandIdLong", data.getUnsignedLong("id", 0));
+                switch (data.getInt("type", 1)){
+                    case 1:
+                        options(data, answers);
+                        return new SlashCommandInteractionEvent(null, 0, EventStubs.stub(SlashCommandInteraction.class, answers));
+                    case 2:
+                        return new UserContextInteractionEvent(null, 0, EventStubs.stub(UserContextInteraction.class, answers));
+                    case 3:
+                        return new MessageContextInteractionEvent(null, 0, EventStubs.stub(MessageContextInteraction.class, answers));
+                    default:
+                        return null;
+                }
+            case AUTO_COMPLETE:
+                answers.put("getName", data.getString("name", ""));
+                DataObject focused = null;
+                for(DataObject option : options(data, answers)) if(option.getBoolean("focused", false)) focused = option;
+                if(focused == null) return null;
+                answers.put("getFocusedOption", new AutoCompleteQuery(ReplayEvents.option(focused)));
+                return new CommandAutoCompleteInteractionEvent(null, 0, EventStubs.stub(CommandAutoCompleteInteraction.class, answers));
+            case COMPONENT:
+                answers.put("getComponentId", data.getString("custom_id", ""));
+                switch (data.getInt("component_type", 0)){
+                    case 2:
+                        return new ButtonInteractionEvent(null, 0, EventStubs.stub(ButtonInteraction.class, answers));
+                    case 3:
+                        List<String> values = new ArrayList<>();
+                        DataArray selected = data.optArray("values").orElse(DataArray.empty());
+                        for(int i = 0; i < selected.length(); i++) values.add(selected.getString(i));
+                        answers.put("getValues", values);
+                        return new StringSelectInteractionEvent(null, 0, EventStubs.stub(StringSelectInteraction.class, answers));
+                    case 5: case 6: case 7: case 8:
+                        return new EntitySelectInteractionEvent(null, 0, EventStubs.stub(EntitySelectInteraction.class, answers));
+                    default:
+                        return null;
+                }
+            case MODAL:
+                answers.put("getModalId", data.getString("custom_id", ""));
+                List<ModalMapping> values = new ArrayList<>();
+                DataArray rows = data.optArray("components").orElse(DataArray.empty());
+                for(int r = 0; r < rows.length(); r++){
+                    DataArray inputs = rows.getObject(r).optArray("components").orElse(DataArray.empty());
+                    for(int i = 0; i < inputs.length(); i++) values.add(new ModalMapping(inputs.getObject(i)));
+                }
+                answers.put("getValues", values);
+                answers.put("getValue", (InvocationHandler) (proxy, method, args) -> {
+                    for(ModalMapping value : values) if(value.getId().equals(args[0])) return value;
+                    return null;
+                });
+                return new ModalInteractionEvent(null, 0, EventStubs.stub(ModalInteraction.class, answers));
+            default:
+                return null;
+        }
+    }
+
+    static DataObject pong(){
+        return DataObject.empty().put("type", PONG);
+    }
+
+    /**
+     * Response acknowledging an interaction no handler answered in time, so that they can follow up through the hook
+     */
+    static DataObject deferral(DataObject payload){
+        switch (payload.getInt("type", 0)){
+            case AUTO_COMPLETE:
+                return callback(CHOICES, DataObject.empty().put("choices", DataArray.empty()));
+            case COMPONENT:
+                return callback(DEFERRED_UPDATE, null);
+            default:
+                return callback(DEFERRED_MESSAGE, null);
+        }
+    }
+
+    private static Map<String, Object> interaction(DataObject payload, Callback callback, InteractionWebhook webhook){
+        DataObject member = payload.optObject("member").orElse(null);
+        DataObject user = member != null ? member.getObject("user") : payload.optObject("user").orElse(DataObject.empty());
+        long id = payload.getUnsignedLong("id", 0);
+        long guildId = payload.getUnsignedLong("guild_id", 0);
+        long channelId = payload.getUnsignedLong("channel_id", payload.optObject("channel").map(c -> c.getUnsignedLong("id", 0)).orElse(0L));
+        long messageId = payload.optObject("message").map(m -> m.getUnsignedLong("id", 0)).orElse(0L);
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getIdLong", id);
+        answers.put("getId", Long.toUnsignedString(id));
+        answers.put("getToken", payload.getString("token", ""));
+        answers.put("getTypeRaw", payload.getInt("type", 0));
+        answers.put("getUser", ReplayEvents.user(user.getUnsignedLong("id", 0)));
+        answers.put("getGuild", guildId == 0 ? null : ReplayEvents.guild(guildId));
+        answers.put("getMember", null);
+        answers.put("getMessageIdLong", messageId);
+        answers.put("getMessageId", Long.toUnsignedString(messageId));
+        answers.put("getChannel", (InvocationHandler) (proxy, method, args) -> EventStubs.stub(method.getReturnType(), ReplayEvents.ids(channelId)));
+        answers.put("getHook", hook(payload, webhook));
+        answers.put("isAcknowledged", (InvocationHandler) (proxy, method, args) -> callback.isAcknowledged());
+        InvocationHandler reply = (proxy, method, args) -> {
+            MessageCreateBuilder message = args[0] instanceof MessageCreateData ? MessageCreateBuilder.from((MessageCreateData) args[0]) : new MessageCreateBuilder();
+            if(args[0] instanceof String) message.setContent((String) args[0]);
+            else if(method.getName().equals("replyEmbeds")) message.setEmbeds(flatten(args));
+            else if(method.getName().equals("replyComponents")) message.setComponents(flatten(args));
+            else if(method.getName().equals("replyFiles")) message.setFiles(flatten(args));
+            return action(ReplyCallbackAction.class, message, false, callback, ephemeral -> callback(MESSAGE, flags(message.build().toData(), ephemeral)));
+        };
+        for(String name : Arrays.asList("reply", "replyEmbeds", "replyComponents", "replyFiles")) answers.put(name, reply);
+        answers.put("deferReply", (InvocationHandler) (proxy, method, args) -> action(ReplyCallbackAction.class, null, args != null && args.length > 0 && (boolean) args[0],
+                callback, ephemeral -> callback(DEFERRED_MESSAGE, flags(DataObject.empty(), ephemeral))));
+        InvocationHandler edit = (proxy, method, args) -> {
+            MessageEditBuilder message = args[0] instanceof MessageEditData ? MessageEditBuilder.from((MessageEditData) args[0]) : new MessageEditBuilder();
+            if(args[0] instanceof String) message.setContent((String) args[0]);
+            else if(method.getName().equals("editMessageEmbeds")) message.setEmbeds(flatten(args));
+            else if(method.getName().equals("editComponents")) message.setComponents(flatten(args));
+            else if(method.getName().equals("editMessageAttachments")) message.setAttachments(flatten(args));
+            return action(MessageEditCallbackAction.class, message, false, callback, ephemeral -> callback(UPDATE, message.build().toData()));
+        };
+        for(String name : Arrays.asList("editMessage", "editMessageEmbeds", "editComponents", "editMessageAttachments")) answers.put(name, edit);
+        answers.put("deferEdit", (InvocationHandler) (proxy, method, args) -> action(MessageEditCallbackAction.class, null, false, callback, ephemeral -> callback(DEFERRED_UPDATE, null)));
+        InvocationHandler choices = (proxy, method, args) -> {
+            List<Command.Choice> replied = choices(method.getName(), args);
+            return action(AutoCompleteCallbackAction.class, null, false, callback, ephemeral -> {
+                DataArray array = DataArray.empty();
+                for(Command.Choice choice : replied) array.add(choice.toData(choice.getType()));
+                return callback(CHOICES, DataObject.empty().put("choices", array));
+            });
+        };
+        for(String name : Arrays.asList("replyChoices", "replyChoice", "replyChoiceStrings", "replyChoiceLongs", "replyChoiceDoubles")) answers.put(name, choices);
+        answers.put("replyModal", (InvocationHandler) (proxy, method, args) ->
+                action(ModalCallbackAction.class, null, false, callback, ephemeral -> callback(MODAL_FORM, ((Modal) args[0]).toData())));
+        return answers;
+    }
+
+    /**
+     * Hook sending follow-ups to the interaction's webhook.
+     * Its requests complete with null rather than a message, since messages cannot be built without a gateway connection,
+     * and the ones that only read messages, such as {@code retrieveOriginal}, throw {@link UnsupportedOperationException}.
+     */
+    private static InteractionHook hook(DataObject payload, InteractionWebhook webhook){
+        String application = payload.getString("application_id", "");
+        String token = payload.getString("token", "");
+        boolean[] ephemeral = {false};
+        InteractionHook fallback = EventStubs.stub(InteractionHook.class, Collections.emptyMap());
+        return (InteractionHook) Proxy.newProxyInstance(InteractionHook.class.getClassLoader(), new Class<?>[]{InteractionHook.class}, (proxy, method, args) -> {
+            String name = method.getName();
+            Class<?> type = method.getReturnType();
+            if(name.equals("setEphemeral")) {
+                ephemeral[0] = (boolean) args[0];
+                return proxy;
+            }
+            if(name.startsWith("send")) {
+                MessageCreateBuilder message = args[0] instanceof MessageCreateData ? MessageCreateBuilder.from((MessageCreateData) args[0]) : new MessageCreateBuilder();
+                if(name.equals("sendMessageFormat")) message.setContent(String.format((String) args[0], (Object[]) args[1]));
+                else if(args[0] instanceof String) message.setContent((String) args[0]);
+                else if(name.equals("sendMessageEmbeds")) message.setEmbeds(flatten(args));
+                else if(name.equals("sendMessageComponents")) message.setComponents(flatten(args));
+                else if(name.equals("sendFiles")) message.setFiles(flatten(args));
+                return followUp(type, message, ephemeral[0], hidden -> {
+                    MessageCreateData data = message.build();
+                    if(!data.getFiles().isEmpty()) throw new UnsupportedOperationException("Files cannot be sent as follow-ups of HTTP interactions");
+                    return webhook.request("POST", application, token, "", flags(data.toData(), hidden));
+                });
+            }
+            boolean original = name.contains("Original");
+            String path = !name.startsWith("edit") && !name.startsWith("delete") ? null : "/messages/" + (original ? "@original" : args[0]);
+            if(name.startsWith("edit")) {
+                Object[] values = original ? args : Arrays.copyOfRange(args, 1, args.length);
+                MessageEditBuilder message = values[0] instanceof MessageEditData ? MessageEditBuilder.from((MessageEditData) values[0]) : new MessageEditBuilder();
+                if(name.contains("Format")) message.setContent(String.format((String) values[0], (Object[]) values[1]));
+                else if(values[0] instanceof String) message.setContent((String) values[0]);
+                else if(name.contains("Embeds")) message.setEmbeds(flatten(values));
+                else if(name.contains("Components")) message.setComponents(flatten(values));
+                else if(name.contains("Attachments")) message.setAttachments(flatten(values));
+                return followUp(type, message, false, hidden -> {
+                    MessageEditData data = message.build();
+                    if(!data.getFiles().isEmpty()) throw new UnsupportedOperationException("Files cannot be sent as follow-ups of HTTP interactions");
+                    return webhook.request("PATCH", application, token, path, data.toData());
+                });
+            }
+            if(name.startsWith("delete")) return followUp(type, null, false, hidden -> webhook.request("DELETE", application, token, path, null));
+            if(RestAction.class.isAssignableFrom(type))
+                throw new UnsupportedOperationException(name + " needs a gateway connection and is not available for HTTP interactions");
+            try {
+                return method.invoke(fallback, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * Webhook request whose builder methods go to the given message builder, sent once it is queued, submitted or completed
+     * @param builder builder taking the message methods, or null if the request has no message
+     * @param send sends the request given whether the message is ephemeral, throwing if it cannot be
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T followUp(Class<T> type, Object builder, boolean ephemeral, Function<Boolean, CompletableFuture<Void>> send){
+        boolean[] hidden = {ephemeral};
+        T fallback = EventStubs.stub(type, Collections.emptyMap());
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()){
+                case "setEphemeral":
+                    hidden[0] = (boolean) args[0];
+                    return proxy;
+                case "queue": {
+                    Consumer<Object> success = args != null && args.length > 0 && args[0] != null ? (Consumer<Object>) args[0] : done -> {};
+                    Consumer<? super Throwable> failed = args != null && args.length > 1 && args[1] != null ? (Consumer<? super Throwable>) args[1] : RestAction.getDefaultFailure();
+                    submit(send, hidden[0]).whenComplete((done, failure) -> {
+                        if(failure == null) success.accept(null);
+                        else failed.accept(failure);
+                    });
+                    return null;
+                }
+                case "submit":
+                    return submit(send, hidden[0]);
+                case "complete":
+                    try {
+                        return submit(send, hidden[0]).get();
+                    } catch (ExecutionException e) {
+                        throw e.getCause();
+                    }
+            }
+            Object target = builder != null && method.getDeclaringClass().isInstance(builder) ? builder : fallback;
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return result == target ? proxy : result;
+        });
+    }
+
+    private static CompletableFuture<Void> submit(Function<Boolean, CompletableFuture<Void>> send, boolean ephemeral){
+        try {
+            return send.apply(ephemeral);
+        } catch (RuntimeException e) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Answers the sub command of slash commands and autocomplete, and their options
+     * @return the leaf options as sent, so autocomplete can find the focused one
+     */
+    private static List<DataObject> options(DataObject data, Map<String, Object> answers){
+        DataArray array = data.optArray("options").orElse(DataArray.empty());
+        String group = null, subcommand = null;
+        if(array.length() > 0 && array.getObject(0).getInt("type", 0) == 2) {
+            group = array.getObject(0).getString("name");
+            array = array.getObject(0).optArray("options").orElse(DataArray.empty());
+        }
+        if(array.length() > 0 && array.getObject(0).getInt("type", 0) == 1) {
+            subcommand = array.getObject(0).getString("name");
+            array = array.getObject(0).optArray("options").orElse(DataArray.empty());
+        }
+        List<DataObject> raw = new ArrayList<>();
+        List<OptionMapping> options = new ArrayList<>();
+        for(int i = 0; i < array.length(); i++){
+            raw.add(array.getObject(i));
+            options.add(ReplayEvents.option(array.getObject(i)));
+        }
+        answers.put("getSubcommandGroup", group);
+        answers.put("getSubcommandName", subcommand);
+        answers.put("getOptions", options);
+        answers.put("getOption", (InvocationHandler) (proxy, method, args) -> {
+            if(args.length != 1) return null;
+            for(OptionMapping option : options) if(option.getName().equals(args[0])) return option;
+            return null;
+        });
+        return raw;
+    }
+
+    private static List<Command.Choice> choices(String method, Object[] args){
+        List<Command.Choice> choices = new ArrayList<>();
+        switch (method){
+            case "replyChoice":
+                if(args[1] instanceof String) choices.add(new Command.Choice((String) args[0], (String) args[1]));
+                else if(args[1] instanceof Long) choices.add(new Command.Choice((String) args[0], (long) args[1]));
+                else choices.add(new Command.Choice((String) args[0], (double) args[1]));
+                return choices;
+            case "replyChoiceStrings":
+                for(Object value : flatten(args)) choices.add(new Command.Choice((String) value, (String) value));
+                return choices;
+            case "replyChoiceLongs":
+                for(Object value : flatten(args)) choices.add(new Command.Choice(value.toString(), (long) value));
+                return choices;
+            case "replyChoiceDoubles":
+                for(Object value : flatten(args)) choices.add(new Command.Choice(value.toString(), (double) value));
+                return choices;
+            default:
+                return flatten(args);
+        }
+    }
+
+    /**
+     * Arguments of a varargs or collection overload as one list
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> flatten(Object[] args){
+        List<Object> values = new ArrayList<>();
+        for(Object arg : args){
+            if(arg instanceof Collection) values.addAll((Collection<?>) arg);
+            else if(arg != null && arg.getClass().isArray()) for(int i = 0; i < Array.getLength(arg); i++) values.add(Array.get(arg, i));
+            else values.add(arg);
+        }
+        return (List<T>) values;
+    }
+
+    private static DataObject callback(int type, DataObject data){
+        DataObject callback = DataObject.empty().put("type", type);
+        return data == null ? callback : callback.put("data", data);
+    }
+
+    private static DataObject flags(DataObject message, boolean ephemeral){
+        return ephemeral ? message.put("flags", message.getInt("flags", 0) | EPHEMERAL) : message;
+    }
+
+    /**
+     * Callback action whose builder methods go to the given message builder
+     * and that hands the response to the callback once it is queued, submitted or completed
+     * @param builder builder taking the message methods, or null if the callback has no message
+     * @param response builds the response from whether the message is ephemeral
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T action(Class<T> type, Object builder, boolean ephemeral, Callback callback, Function<Boolean, DataObject> response){
+        boolean[] hidden = {ephemeral};
+        T fallback = EventStubs.stub(type, Collections.emptyMap());
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()){
+                case "setEphemeral":
+                    hidden[0] = (boolean) args[0];
+                    return proxy;
+                case "queue": {
+                    Throwable failure = callback.send(response.apply(hidden[0]));
+                    Consumer<Object> success = args != null && args.length > 0 ? (Consumer<Object>) args[0] : null;
+                    Consumer<? super Throwable> failed = args != null && args.length > 1 && args[1] != null ? (Consumer<? super Throwable>) args[1] : RestAction.getDefaultFailure();
+                    if(failure == null) {
+                        if(success != null) success.accept(null);
+                    } else {
+                        failed.accept(failure);
+                    }
+                    return null;
+                }
+                case "submit": {
+                    Throwable failure = callback.send(response.apply(hidden[0]));
+                    CompletableFuture<Object> future = new CompletableFuture<>();
+                    if(failure == null) future.complete(null);
+                    else future.completeExceptionally(failure);
+                    return future;
+                }
+                case "complete": {
+                    Throwable failure = callback.send(response.apply(hidden[0]));
+                    if(failure != null) throw failure;
+                    return null;
+                }
+            }
+            Object target = builder != null && method.getDeclaringClass().isInstance(builder) ? builder : fallback;
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return result == target ? proxy : result;
+        });
+    }
+
+    /**
+     * The response to one interaction, set by the first acknowledgement
+     */
+    static final class Callback {
+        private final CompletableFuture<DataObject> response = new CompletableFuture<>();
+
+        /**
+         * @return null if this acknowledged the interaction, the failure to report otherwise
+         */
+        Throwable send(DataObject body){
+            return response.complete(body) ? null : new IllegalStateException("This interaction has already been acknowledged or replied to");
+        }
+
+        boolean isAcknowledged(){
+            return response.isDone();
+        }
+
+        /**
+         * Waits for a handler to acknowledge the interaction
+         * @return the response, or null if none was given in time
+         */
+        DataObject await(long timeout, TimeUnit unit) throws InterruptedException {
+            try {
+                return response.get(timeout, unit);
+            } catch (TimeoutException e) {
+                return null;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        /**
+         * @return the response, once acknowledged
+         */
+        DataObject get(){
+            return response.getNow(null);
+        }
+    }
+}
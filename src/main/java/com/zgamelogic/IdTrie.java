@@ -0,0 +1,220 @@
+package com.zgamelogic;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Prefix trie over the {@value #DELIMITER} separated segments of component id templates such as {@code vote:{pollId}:{choice}}.
+ * <p>
+ * Walking an id costs one hash probe per segment no matter how many templates are registered. Segments are hashed
+ * and compared in place inside the id, so matching allocates nothing but the captured bounds.
+ * Literal segments are preferred over parameters, and the first template that matches the whole id wins.
+ * @author Ben Shabowski
+ */
+final class IdTrie {
+
+    static final char DELIMITER = ':';
+
+    private final Node root = new Node();
+    private int maxParameters;
+
+    /**
+     * Checks if an id uses template parameters
+     * @param id component id
+     * @return true if any segment is a {@code {parameter}}
+     */
+    static boolean isTemplate(String id){
+        return id.indexOf('{') >= 0 && !parameterNames(id).isEmpty();
+    }
+
+    /**
+     * Names of the parameters in a template, in order
+     * @param template id template
+     * @return parameter names
+     */
+    static List<String> parameterNames(String template){
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        while (from <= template.length()) {
+            int end = template.indexOf(DELIMITER, from);
+            if(end < 0) end = template.length();
+            if(isParameter(template, from, end)) names.add(template.substring(from + 1, end - 1));
+            from = end + 1;
+        }
+        return names;
+    }
+
+    private static boolean isParameter(String template, int from, int end){
+        return end - from > 2 && template.charAt(from) == '{' && template.charAt(end - 1) == '}';
+    }
+
+    /**
+     * Handlers bound under a template, keyed by the rest of the routing key (the selected option for string selections)
+     * @param template id template
+     * @return mutable handler section for the template
+     */
+    Map<String, List<RouteHandler>> section(String template){
+        Node node = root;
+        int from = 0;
+        while (true) {
+            int end = template.indexOf(DELIMITER, from);
+            if(end < 0) end = template.length();
+            if(isParameter(template, from, end)) {
+                if(node.parameter == null) node.parameter = new Node();
+                node = node.parameter;
+            } else {
+                String literal = template.substring(from, end);
+                Node next = node.literals.get(literal, 0, literal.length());
+                if(next == null) {
+                    next = new Node();
+                    node.literals.put(literal, next);
+                }
+                node = next;
+            }
+            if(end == template.length()) break;
+            from = end + 1;
+        }
+        if(node.terminal == null) {
+            List<String> names = parameterNames(template);
+            node.terminal = new Terminal(template, names.toArray(new String[0]));
+            maxParameters = Math.max(maxParameters, names.size());
+        }
+        return node.terminal.building;
+    }
+
+    /**
+     * Freezes every handler section, called once all routes are added
+     */
+    void freeze(){
+        freeze(root);
+    }
+
+    private static void freeze(Node node){
+        if(node.terminal != null) {
+            Map<String, RouteHandler[]> frozen = new HashMap<>();
+            node.terminal.building.forEach((k, v) -> frozen.put(k, v.toArray(RoutingTable.NONE)));
+            node.terminal.handlers = Collections.unmodifiableMap(frozen);
+            node.terminal.building = null;
+        }
+        if(node.parameter != null) freeze(node.parameter);
+        node.literals.forEach(IdTrie::freeze);
+    }
+
+    /**
+     * Calls an action for every handler in the frozen trie
+     * @param action action to call
+     */
+    void forEach(Consumer<RouteHandler> action){
+        forEach(root, action);
+    }
+
+    private static void forEach(Node node, Consumer<RouteHandler> action){
+        if(node.terminal != null) node.terminal.handlers.values().forEach(handlers -> {
+            for(RouteHandler handler : handlers) action.accept(handler);
+        });
+        if(node.parameter != null) forEach(node.parameter, action);
+        node.literals.forEach(child -> forEach(child, action));
+    }
+
+    /**
+     * Finds the template matching an id
+     * @param id component id from the event
+     * @return the match, or null if no template matches
+     */
+    RouteMatch match(String id){
+        int[] bounds = new int[maxParameters * 2];
+        Terminal terminal = match(root, id, 0, bounds, 0);
+        return terminal == null ? null : new RouteMatch(id, terminal.template, terminal.names, bounds, terminal.handlers);
+    }
+
+    private static Terminal match(Node node, String id, int from, int[] bounds, int parameter){
+        int end = id.indexOf(DELIMITER, from);
+        if(end < 0) end = id.length();
+        boolean last = end == id.length();
+        Node literal = node.literals.get(id, from, end);
+        if(literal != null) {
+            Terminal found = last ? literal.terminal : match(literal, id, end + 1, bounds, parameter);
+            if(found != null) return found;
+        }
+        if(node.parameter != null && end > from) {
+            bounds[parameter * 2] = from;
+            bounds[parameter * 2 + 1] = end;
+            return last ? node.parameter.terminal : match(node.parameter, id, end + 1, bounds, parameter + 1);
+        }
+        return null;
+    }
+
+    private static final class Node {
+        private final SegmentMap literals = new SegmentMap();
+        private Node parameter;
+        private Terminal terminal;
+    }
+
+    private static final class Terminal {
+        private final String template;
+        private final String[] names;
+        private Map<String, List<RouteHandler>> building = new HashMap<>();
+        private Map<String, RouteHandler[]> handlers;
+
+        private Terminal(String template, String[] names){
+            this.template = template;
+            this.names = names;
+        }
+    }
+
+    /**
+     * Open addressing map from literal segment to child node that can be probed with a region of a larger string
+     */
+    private static final class SegmentMap {
+        private String[] keys = new String[2];
+        private Node[] values = new Node[2];
+        private int size;
+
+        Node get(String s, int from, int to){
+            int length = to - from;
+            int mask = keys.length - 1;
+            for(int i = spread(hash(s, from, to)) & mask; ; i = (i + 1) & mask){
+                String key = keys[i];
+                if(key == null) return null;
+                if(key.length() == length && key.regionMatches(0, s, from, length)) return values[i];
+            }
+        }
+
+        void put(String key, Node value){
+            if((size + 1) * 2 > keys.length) resize();
+            insert(keys, values, key, value);
+            size++;
+        }
+
+        void forEach(Consumer<Node> action){
+            for(Node value : values) if(value != null) action.accept(value);
+        }
+
+        private void resize(){
+            String[] newKeys = new String[keys.length * 2];
+            Node[] newValues = new Node[values.length * 2];
+            for(int i = 0; i < keys.length; i++) if(keys[i] != null) insert(newKeys, newValues, keys[i], values[i]);
+            keys = newKeys;
+            values = newValues;
+        }
+
+        private static void insert(String[] keys, Node[] values, String key, Node value){
+            int mask = keys.length - 1;
+            int i = spread(key.hashCode()) & mask;
+            while (keys[i] != null) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        /** Same as {@link String#hashCode()} over a region */
+        private static int hash(String s, int from, int to){
+            int h = 0;
+            for(int i = from; i < to; i++) h = 31 * h + s.charAt(i);
+            return h;
+        }
+
+        private static int spread(int h){
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.zgamelogic;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Captures the routing relevant fields of the events a listener handles into a compact binary log,
+ * for {@link InteractionReplayer} to feed back into a listener without a gateway connection.
+ * <p>
+ * Each record is the event type, the delay since the previous record, the guild, channel, user and message ids,
+ * and the names and values the event is routed by. Numbers are variable length, so a typical button press takes about 40 bytes.
+ * Message contents, attachments and modal inputs are not recorded.
+ * <pre>{@code
+ * listener.setRecorder(InteractionRecorder.open(Paths.get("interactions.alar")));
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public final class InteractionRecorder implements Closeable, Flushable {
+
+    static final int MAGIC = 0x414C4152;
+    static final int VERSION = 1;
+
+    private final DataOutputStream out;
+    private final LongAdder recorded = new LongAdder();
+    private long previous;
+    private boolean failed;
+
+    /**
+     * Starts a log on a stream, writing the header first
+     * @param out stream to write to, closed with the recorder
+     * @throws IOException if the header cannot be written
+     */
+    public InteractionRecorder(OutputStream out) throws IOException {
+        this(out, true);
+    }
+
+    private InteractionRecorder(OutputStream out, boolean header) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        if(header) {
+            this.out.writeInt(MAGIC);
+            this.out.writeByte(VERSION);
+        }
+    }
+
+    /**
+     * Appends to a log file, creating it if it does not exist
+     * @param file log file
+     * @return the recorder
+     * @throws IOException if the file cannot be opened or is not a log
+     */
+    public static InteractionRecorder open(Path file) throws IOException {
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        if(exists) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+                InteractionReplayer.readHeader(in);
+            }
+        }
+        return new InteractionRecorder(Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND), !exists);
+    }
+
+    /**
+     * Appends an event if it is one listeners route. Never throws into dispatch: write failures are logged once and recording stops.
+     * @param event event a listener received
+     */
+    void record(GenericEvent event){
+        RecordedEvent recorded;
+        try {
+            recorded = capture(event);
+        } catch (RuntimeException e) {
+            log.warn("Unable to record " + event.getClass().getSimpleName(), e);
+            return;
+        }
+        if(recorded == null) return;
+        synchronized (this) {
+            if(failed) return;
+            long now = System.nanoTime();
+            try {
+                write(out, recorded, previous == 0 ? 0 : now - previous);
+                previous = now;
+                this.recorded.increment();
+            } catch (IOException e) {
+                failed = true;
+                log.error("Unable to record interactions, recording stopped", e);
+            }
+        }
+    }
+
+    private static RecordedEvent capture(GenericEvent event){
+        List<String> values = Collections.emptyList();
+        List<RecordedEvent.Option> options = Collections.emptyList();
+        String key, subcommand = "", focused = "";
+        boolean adding = false;
+        RouteType type;
+        if(event instanceof SlashCommandInteractionEvent) {
+            SlashCommandInteractionEvent e = (SlashCommandInteractionEvent) event;
+            type = RouteType.SLASH;
+            key = e.getName();
+            subcommand = nullToEmpty(e.getSubcommandName());
+            options = new ArrayList<>();
+            for(OptionMapping option : e.getOptions())
+                options.add(new RecordedEvent.Option(option.getName(), option.getType().getKey(), option.getAsString()));
+        } else if(event instanceof CommandAutoCompleteInteractionEvent) {
+            CommandAutoCompleteInteractionEvent e = (CommandAutoCompleteInteractionEvent) event;
+            type = RouteType.AUTO_COMPLETE;
+            key = e.getName();
+            subcommand = nullToEmpty(e.getSubcommandName());
+            focused = e.getFocusedOption().getName();
+            values = Collections.singletonList(e.getFocusedOption().getValue());
+        } else if(event instanceof ButtonInteractionEvent) {
+            type = RouteType.BUTTON;
+            key = ((ButtonInteractionEvent) event).getComponentId();
+        } else if(event instanceof StringSelectInteractionEvent) {
+            type = RouteType.STRING_SELECT;
+            key = ((StringSelectInteractionEvent) event).getComponentId();
+            values = ((StringSelectInteractionEvent) event).getValues();
+        } else if(event instanceof EntitySelectInteractionEvent) {
+            type = RouteType.ENTITY_SELECT;
+            key = ((EntitySelectInteractionEvent) event).getComponentId();
+        } else if(event instanceof ModalInteractionEvent) {
+            type = RouteType.MODAL;
+            key = ((ModalInteractionEvent) event).getModalId();
+        } else if(event instanceof UserContextInteractionEvent) {
+            type = RouteType.USER_CONTEXT;
+            key = ((UserContextInteractionEvent) event).getName();
+        } else if(event instanceof MessageContextInteractionEvent) {
+            type = RouteType.MESSAGE_CONTEXT;
+            key = ((MessageContextInteractionEvent) event).getName();
+        } else if(event instanceof GenericMessageReactionEvent) {
+            type = RouteType.REACTION;
+            key = ((GenericMessageReactionEvent) event).getReaction().getEmoji().getName();
+            adding = event instanceof MessageReactionAddEvent;
+        } else {
+            return null;
+        }
+        return new RecordedEvent(type, 0, EventIds.guildId(event), EventIds.channelId(event), EventIds.userId(event),
+                EventIds.messageId(event), key, subcommand, focused, values, options, adding);
+    }
+
+    private static String nullToEmpty(String value){
+        return value == null ? "" : value;
+    }
+
+    static void write(DataOutputStream out, RecordedEvent event, long delayNanos) throws IOException {
+        out.writeByte(event.getType().ordinal());
+        writeVarLong(out, delayNanos);
+        writeVarLong(out, event.getGuildId());
+        writeVarLong(out, event.getChannelId());
+        writeVarLong(out, event.getUserId());
+        writeVarLong(out, event.getMessageId());
+        out.writeUTF(event.getKey());
+        out.writeUTF(event.getSubcommand());
+        out.writeUTF(event.getFocused());
+        writeVarLong(out, event.getValues().size());
+        for(String value : event.getValues()) out.writeUTF(value);
+        writeVarLong(out, event.getOptions().size());
+        for(RecordedEvent.Option option : event.getOptions()){
+            out.writeUTF(option.getName());
+            out.writeByte(option.getType());
+            out.writeUTF(option.getValue());
+        }
+        out.writeBoolean(event.isAdding());
+    }
+
+    /**
+     * Unsigned LEB128, seven bits per byte
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Events written so far
+     * @return recorded count
+     */
+    public long getRecorded(){
+        return recorded.sum();
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
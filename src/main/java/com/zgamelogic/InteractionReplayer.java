@@ -0,0 +1,183 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Feeds a log written by an {@link InteractionRecorder} back into a listener as stub JDA events, for load testing without Discord.
+ * <p>
+ * The stub events answer the getters routing and the recorded fields need. Replies, deferrals and other
+ * REST calls on them return stubs that do nothing, so handlers run their full code path up to the network.
+ * <pre>{@code
+ * ReplayReport report = InteractionReplayer.load(Paths.get("interactions.alar")).replay(new BotListener(), 10);
+ * log.info(report.toString());
+ * }</pre>
+ * @author Ben Shabowski
+ */
+public final class InteractionReplayer {
+
+    private static final RouteType[] TYPES = RouteType.values();
+
+    @Getter
+    private final List<RecordedEvent> events;
+
+    public InteractionReplayer(List<RecordedEvent> events){
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    /**
+     * Reads a whole log file
+     * @param file log file
+     * @return replayer for the file's events
+     * @throws IOException if the file cannot be read or is not a log
+     */
+    public static InteractionReplayer load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return new InteractionReplayer(read(in));
+        }
+    }
+
+    /**
+     * Reads every record of a log. A record cut short at the end, as left by a crash, is ignored.
+     * @param stream log contents
+     * @return the recorded events in order
+     * @throws IOException if the stream cannot be read or is not a log
+     */
+    public static List<RecordedEvent> read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        readHeader(in);
+        List<RecordedEvent> events = new ArrayList<>();
+        while (true) {
+            int type = in.read();
+            if(type < 0) return events;
+            try {
+                events.add(read(in, type));
+            } catch (EOFException e) {
+                return events;
+            }
+        }
+    }
+
+    static void readHeader(DataInputStream in) throws IOException {
+        if(in.readInt() != InteractionRecorder.MAGIC) throw new IOException("Not an interaction log");
+        int version = in.readUnsignedByte();
+        if(version != InteractionRecorder.VERSION) throw new IOException("Unsupported interaction log version " + version);
+    }
+
+    private static RecordedEvent read(DataInputStream in, int type) throws IOException {
+        if(type >= TYPES.length) throw new IOException("Unknown event type " + type);
+        long delay = readVarLong(in);
+        long guild = readVarLong(in);
+        long channel = readVarLong(in);
+        long user = readVarLong(in);
+        long message = readVarLong(in);
+        String key = in.readUTF();
+        String subcommand = in.readUTF();
+        String focused = in.readUTF();
+        List<String> values = new ArrayList<>();
+        for(long i = readVarLong(in); i > 0; i--) values.add(in.readUTF());
+        List<RecordedEvent.Option> options = new ArrayList<>();
+        for(long i = readVarLong(in); i > 0; i--) options.add(new RecordedEvent.Option(in.readUTF(), in.readUnsignedByte(), in.readUTF()));
+        boolean adding = in.readBoolean();
+        return new RecordedEvent(TYPES[type], delay, guild, channel, user, message, key, subcommand, focused, values, options, adding);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for(int shift = 0; shift < 64; shift += 7){
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed number");
+    }
+
+    /**
+     * Replays every event into a listener on the calling thread, keeping the recorded gaps between them divided by the speed.
+     * Handler latency is read from the listener's {@link DispatchMetrics}; a listener without metrics gets some for the replay.
+     * With a {@link DispatchExecutor} set, handlers still running when the last event is fed are not counted.
+     * @param listener listener to feed
+     * @param speed 1 for the recorded pace, 10 for ten times faster, 0 or less for as fast as possible
+     * @return throughput and latency of the replay
+     */
+    public ReplayReport replay(AdvancedListenerAdapter listener, double speed){
+        DispatchMetrics previous = listener.getDispatchMetrics();
+        DispatchMetrics metrics = previous == null ? new DispatchMetrics() : previous;
+        if(previous == null) listener.setDispatchMetrics(metrics);
+        LatencySnapshot before = handlerLatency(metrics);
+        LatencyHistogram dispatch = new LatencyHistogram();
+        long start = System.nanoTime();
+        long due = 0;
+        long maxLag = 0;
+        try {
+            for(RecordedEvent recorded : events){
+                if(speed > 0) {
+                    due += (long) (recorded.getDelayNanos() / speed);
+                    long wait = start + due - System.nanoTime();
+                    if(wait > 0) LockSupport.parkNanos(wait);
+                    else maxLag = Math.max(maxLag, -wait);
+                }
+                GenericEvent event = ReplayEvents.of(recorded);
+                long fed = System.nanoTime();
+                listener.onEvent(event);
+                dispatch.record(System.nanoTime() - fed);
+            }
+        } finally {
+            if(previous == null) listener.setDispatchMetrics(null);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new ReplayReport(events.size(), elapsed, maxLag, dispatch.snapshot(), handlerLatency(metrics).minus(before));
+    }
+
+    private static LatencySnapshot handlerLatency(DispatchMetrics metrics){
+        LatencySnapshot latency = LatencySnapshot.EMPTY;
+        for(TypeMetrics type : metrics.getTypes()) latency = latency.merge(type.getLatency());
+        return latency;
+    }
+
+    /**
+     * Throughput and latency of one replay
+     */
+    @Getter
+    public static final class ReplayReport {
+        private final int events;
+        private final long elapsedNanos;
+        /** Longest the replay fell behind the recorded pace */
+        private final long maxLagNanos;
+        /** Time the listener took to accept each event, which includes the handlers unless they run on an executor */
+        private final LatencySnapshot dispatchLatency;
+        /** Time spent in handlers during the replay */
+        private final LatencySnapshot handlerLatency;
+
+        private ReplayReport(int events, long elapsedNanos, long maxLagNanos, LatencySnapshot dispatchLatency, LatencySnapshot handlerLatency){
+            this.events = events;
+            this.elapsedNanos = elapsedNanos;
+            this.maxLagNanos = maxLagNanos;
+            this.dispatchLatency = dispatchLatency;
+            this.handlerLatency = handlerLatency;
+        }
+
+        /**
+         * Events fed per second of wall time
+         * @return throughput
+         */
+        public double getThroughput(){
+            return elapsedNanos == 0 ? 0 : events * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return events + " events in " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms (" + Math.round(getThroughput()) + "/s), max lag "
+                    + TimeUnit.NANOSECONDS.toMillis(maxLagNanos) + "ms, dispatch " + dispatchLatency + ", handlers " + handlerLatency;
+        }
+    }
+}
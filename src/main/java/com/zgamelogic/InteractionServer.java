@@ -0,0 +1,314 @@
+package com.zgamelogic;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.exceptions.ParsingException;
+import net.dv8tion.jda.api.utils.data.DataObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Receives interactions from Discord over HTTP instead of the gateway, and routes them through the same annotated handlers.
+ * <p>
+ * Set the server's URL as the application's interactions endpoint in the developer portal.
+ * Every request is checked against the application's Ed25519 public key and refused if its signed timestamp is over a minute from now,
+ * so a captured request cannot be replayed. It is then parsed into the JDA event the gateway would deliver
+ * and handed to each listener. The first acknowledgement a handler makes becomes the HTTP response.
+ * Handlers run on a thread of their own, and if none acknowledges within the deferral time of the request arriving,
+ * the interaction is deferred like {@link DeferralWatchdog} does.
+ * The server keeps no state between requests, so any number of nodes can sit behind a load balancer,
+ * and the same listener classes can run on a gateway connection or here.
+ * <p>
+ * Events only carry what the payload holds, so users, guilds and channels answer their ids, members and resolved entities are null,
+ * and follow-ups through {@code event.getHook()} are sent to the interaction webhook, without files, completing with null instead of the message.
+ * It runs on the JDK's built-in HTTP server, which accepts connections on one NIO selector thread and handles requests on up to 256 daemon threads;
+ * once those are busy and 1024 requests are waiting, further connections are closed. Handlers have a pool of the same size.
+ * <pre>{@code
+ * InteractionServer server = new InteractionServer(publicKey, new InetSocketAddress(8080), new BotListener());
+ * server.start();
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class InteractionServer implements AutoCloseable {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    /** Largest request body accepted, well above what Discord sends */
+    private static final int MAXIMUM_BODY = 1 << 20;
+    /** Requests handled at once, each holding a thread for up to the deferral time */
+    private static final int WORKERS = 256;
+    /** Requests waiting for a worker before further connections are closed */
+    private static final int BACKLOG = 1024;
+    /** How far a request's signed timestamp may be from now, so that a captured request cannot be replayed later */
+    private static final long MAXIMUM_SKEW_SECONDS = 60;
+
+    private final InteractionSignature signature;
+    private final List<AdvancedListenerAdapter> listeners;
+    private final long deferNanos;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ExecutorService dispatchers;
+    private final InteractionWebhook webhook = new InteractionWebhook();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder overloaded = new LongAdder();
+
+    /**
+     * Server deferring interactions that are not acknowledged within 2.5 seconds
+     * @param publicKey application public key from the developer portal, as hex
+     * @param address address to listen on
+     * @param listeners listeners to route interactions to
+     * @throws IOException if the address cannot be bound
+     */
+    public InteractionServer(String publicKey, InetSocketAddress address, AdvancedListenerAdapter... listeners) throws IOException {
+        this(publicKey, address, 2500, TimeUnit.MILLISECONDS, listeners);
+    }
+
+    /**
+     * @param publicKey application public key from the developer portal, as hex
+     * @param address address to listen on
+     * @param deferAfter how long handlers have to acknowledge an interaction before it is deferred, below Discord's three seconds
+     * @param unit unit of deferAfter
+     * @param listeners listeners to route interactions to
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalStateException if no provider supports Ed25519
+     */
+    public InteractionServer(String publicKey, InetSocketAddress address, long deferAfter, TimeUnit unit, AdvancedListenerAdapter... listeners) throws IOException {
+        this.signature = new InteractionSignature(publicKey);
+        this.listeners = Arrays.asList(listeners.clone());
+        this.deferNanos = unit.toNanos(deferAfter);
+        String name = "ala-http-" + COUNT.incrementAndGet();
+        this.workers = pool(name, (task, executor) -> {
+            // the server closes the connection of a request it cannot hand over
+            overloaded.increment();
+            throw new RejectedExecutionException("Every interaction worker is busy");
+        });
+        this.dispatchers = pool(name + "-dispatch", new ThreadPoolExecutor.AbortPolicy());
+        this.server = HttpServer.create(address, 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(workers);
+    }
+
+    /**
+     * Bounded pool of daemon threads that go away when idle
+     */
+    private static ExecutorService pool(String name, RejectedExecutionHandler rejected){
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(WORKERS, WORKERS, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(BACKLOG), task -> {
+            Thread thread = new Thread(task, name + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, rejected);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Sends follow-ups somewhere other than Discord's API, such as a proxy in front of it
+     * @param baseUrl URL the {@code /webhooks} paths are appended to, {@code https://discord.com/api/v10} by default
+     */
+    public void setApiBaseUrl(String baseUrl){
+        webhook.setBaseUrl(baseUrl);
+    }
+
+    /**
+     * Starts accepting requests
+     */
+    public void start(){
+        server.start();
+        log.info("Listening for interactions on " + getAddress());
+    }
+
+    /**
+     * Address the server is bound to, with the port picked if it was 0
+     * @return the address
+     */
+    public InetSocketAddress getAddress(){
+        return server.getAddress();
+    }
+
+    private void handle(HttpExchange exchange){
+        long start = System.nanoTime();
+        try {
+            if(!exchange.getRequestMethod().equals("POST")) {
+                send(exchange, 405, "Only POST is accepted");
+                return;
+            }
+            byte[] body = read(exchange.getRequestBody());
+            if(body == null) {
+                send(exchange, 413, "Body too large");
+                return;
+            }
+            Headers headers = exchange.getRequestHeaders();
+            String timestamp = headers.getFirst("X-Signature-Timestamp");
+            if(!signature.verify(headers.getFirst("X-Signature-Ed25519"), timestamp, body)) {
+                rejected.increment();
+                send(exchange, 401, "Invalid request signature");
+                return;
+            }
+            if(stale(timestamp)) {
+                rejected.increment();
+                send(exchange, 401, "Stale request timestamp");
+                return;
+            }
+            DataObject payload;
+            try {
+                payload = DataObject.fromJson(body);
+            } catch (ParsingException e) {
+                send(exchange, 400, "Body is not JSON");
+                return;
+            }
+            if(payload.getInt("type", 0) == HttpInteractions.PING) {
+                send(exchange, HttpInteractions.pong());
+                return;
+            }
+            HttpInteractions.Callback callback = new HttpInteractions.Callback();
+            GenericEvent event = HttpInteractions.of(payload, callback, webhook);
+            if(event == null) {
+                send(exchange, 400, "Unsupported interaction");
+                return;
+            }
+            // handlers run inline on their dispatching thread unless the listener has an executor, so they get a thread of their own
+            // and the deferral is sent on time however long they take
+            try {
+                dispatchers.execute(() -> dispatch(event));
+            } catch (RejectedExecutionException e) {
+                overloaded.increment();
+                send(exchange, 503, "Too many interactions in progress");
+                return;
+            }
+            received.increment();
+            DataObject response = callback.await(deferNanos - (System.nanoTime() - start), TimeUnit.NANOSECONDS);
+            if(response == null) {
+                DataObject deferral = HttpInteractions.deferral(payload);
+                if(callback.send(deferral) == null) deferred.increment();
+                response = callback.get();
+            }
+            send(exchange, response);
+        } catch (IOException e) {
+            log.debug("Unable to answer interaction request", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Error handling interaction request", e);
+            try {
+                send(exchange, 500, "Internal error");
+            } catch (IOException ignored) {}
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void dispatch(GenericEvent event){
+        for(AdvancedListenerAdapter listener : listeners){
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                log.error("Error routing interaction to " + listener.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Whether a signed timestamp, in seconds since the epoch, is too far from now to be a request Discord just sent
+     */
+    private static boolean stale(String timestamp){
+        try {
+            return Math.abs(System.currentTimeMillis() / 1000 - Long.parseLong(timestamp)) > MAXIMUM_SKEW_SECONDS;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * @return the body, or null if it is larger than the maximum
+     */
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for(int read; (read = in.read(buffer)) != -1; ){
+            body.write(buffer, 0, read);
+            if(body.size() > MAXIMUM_BODY) return null;
+        }
+        return body.toByteArray();
+    }
+
+    private static void send(HttpExchange exchange, DataObject response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        write(exchange, 200, response.toJson());
+    }
+
+    private static void send(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        write(exchange, status, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void write(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Interactions with a valid signature routed to the listeners
+     * @return received interactions
+     */
+    public long getReceived(){
+        return received.sum();
+    }
+
+    /**
+     * Requests turned away for a missing or invalid signature, or a timestamp too far from now
+     * @return rejected requests
+     */
+    public long getRejected(){
+        return rejected.sum();
+    }
+
+    /**
+     * Interactions no handler acknowledged in time, answered with a deferral
+     * @return deferred interactions
+     */
+    public long getDeferred(){
+        return deferred.sum();
+    }
+
+    /**
+     * Requests turned away because every worker or handler thread was busy and the backlog full
+     * @return overloaded requests
+     */
+    public long getOverloaded(){
+        return overloaded.sum();
+    }
+
+    /**
+     * Stops accepting requests and lets the ones being handled finish for up to a second
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        workers.shutdown();
+        dispatchers.shutdown();
+        webhook.close();
+    }
+}
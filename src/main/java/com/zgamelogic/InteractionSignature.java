@@ -0,0 +1,72 @@
+package com.zgamelogic;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+
+/**
+ * Checks the Ed25519 signature Discord puts on every request to an interactions endpoint.
+ * The signed message is the {@code X-Signature-Timestamp} header followed by the body.
+ * <p>
+ * Ed25519 is looked up by name, so it comes from the JDK from Java 15 on, or from any provider registered before, such as Bouncy Castle.
+ * @author Ben Shabowski
+ */
+final class InteractionSignature {
+
+    /** DER header of an X.509 SubjectPublicKeyInfo holding a raw 32 byte Ed25519 key */
+    private static final byte[] X509_PREFIX = hex("302a300506032b6570032100");
+
+    private final PublicKey key;
+
+    /**
+     * @param publicKey application public key from the developer portal, as hex
+     * @throws IllegalArgumentException if the key is not 32 bytes of hex
+     * @throws IllegalStateException if no provider supports Ed25519
+     */
+    InteractionSignature(String publicKey){
+        byte[] raw = hex(publicKey);
+        if(raw.length != 32) throw new IllegalArgumentException("Public key must be 32 bytes of hex, got " + raw.length + " bytes");
+        byte[] encoded = new byte[X509_PREFIX.length + raw.length];
+        System.arraycopy(X509_PREFIX, 0, encoded, 0, X509_PREFIX.length);
+        System.arraycopy(raw, 0, encoded, X509_PREFIX.length, raw.length);
+        try {
+            key = KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded));
+            Signature.getInstance("Ed25519");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not available, run on Java 15 or later or register a provider that supports it", e);
+        }
+    }
+
+    /**
+     * @param signature {@code X-Signature-Ed25519} header
+     * @param timestamp {@code X-Signature-Timestamp} header
+     * @param body request body
+     * @return true if the application's key signed the timestamp and body
+     */
+    boolean verify(String signature, String timestamp, byte[] body){
+        if(signature == null || timestamp == null || signature.length() != 128) return false;
+        try {
+            Signature verifier = Signature.getInstance("Ed25519");
+            verifier.initVerify(key);
+            verifier.update(timestamp.getBytes(StandardCharsets.UTF_8));
+            verifier.update(body);
+            return verifier.verify(hex(signature));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    static byte[] hex(String hex){
+        if(hex.length() % 2 != 0) throw new IllegalArgumentException("Odd number of hex digits");
+        byte[] bytes = new byte[hex.length() / 2];
+        for(int i = 0; i < bytes.length; i++){
+            int high = Character.digit(hex.charAt(i * 2), 16), low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if(high < 0 || low < 0) throw new IllegalArgumentException("Not a hex digit at " + i * 2);
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.utils.data.DataObject;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends the follow-ups of interactions received over HTTP to Discord's interaction webhook.
+ * The webhook is authorised by the interaction token, so no bot token or gateway connection is needed.
+ * Requests go through the OkHttp client JDA already depends on.
+ * @author Ben Shabowski
+ */
+final class InteractionWebhook implements AutoCloseable {
+
+    /** Discord's REST API */
+    static final String DISCORD = "https://discord.com/api/v10";
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final OkHttpClient client = new OkHttpClient();
+    private volatile String baseUrl = DISCORD;
+
+    void setBaseUrl(String baseUrl){
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Sends a request to the webhook of one interaction
+     * @param method HTTP method
+     * @param applicationId id of the application the interaction was sent to
+     * @param token interaction token
+     * @param path rest of the path after the token, empty for the webhook itself
+     * @param body JSON body, or null for none
+     * @return completes once Discord answers, failing if it answers with an error
+     */
+    CompletableFuture<Void> request(String method, String applicationId, String token, String path, DataObject body){
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Request request = new Request.Builder()
+                .url(baseUrl + "/webhooks/" + applicationId + "/" + token + path)
+                .method(method, body == null ? null : RequestBody.create(body.toJson(), JSON))
+                .build();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) throws IOException {
+                try (ResponseBody answer = response.body()) {
+                    if(response.isSuccessful()) result.complete(null);
+                    else result.completeExceptionally(new IllegalStateException("Discord answered " + method + " " + path + " with "
+                            + response.code() + (answer == null ? "" : " " + answer.string())));
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stops the client's threads and drops its idle connections
+     */
+    @Override
+    public void close() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+}
@@ -0,0 +1,47 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * A check or side effect run around handlers, such as allowing a command only in guilds, blocking handlers during maintenance,
+ * or writing an audit log.
+ * <p>
+ * Interceptors added with {@link AdvancedListenerAdapter#addInterceptor(Interceptor)} run for every handler of the listener,
+ * and interceptors named by {@link AdvancedListenerAdapter.Intercept} run for that handler only, after the listener's.
+ * They are linked into a chain once, when they are added or the handler is bound, so running them is a plain sequence of calls.
+ * <pre>{@code
+ * listener.addInterceptor((event, route) -> !maintenance.get());
+ *
+ * public class GuildOnly implements Interceptor {
+ *     public boolean before(GenericEvent event, RouteInfo route) {
+ *         return event instanceof GenericInteractionCreateEvent && ((GenericInteractionCreateEvent) event).isFromGuild();
+ *     }
+ * }
+ *
+ * {@literal @}ButtonResponse("kick")
+ * {@literal @}Intercept(GuildOnly.class)
+ * private void kick(ButtonInteractionEvent event){ ... }
+ * }</pre>
+ * @see PermissionInterceptor
+ * @author Ben Shabowski
+ */
+@FunctionalInterface
+public interface Interceptor {
+    /**
+     * Called before the handler and the interceptors after this one
+     * @param event event being dispatched
+     * @param route handler the event is routed to
+     * @return true to go on to the handler, false to drop the event without calling it
+     * @throws Exception to fail the invocation as if the handler had thrown
+     */
+    boolean before(GenericEvent event, RouteInfo route) throws Exception;
+
+    /**
+     * Called once the handler and the interceptors after this one are done, if {@link #before(GenericEvent, RouteInfo)} went on
+     * @param event event being dispatched
+     * @param route handler the event was routed to
+     * @param result what the handler returned, null if it returns nothing or a later interceptor dropped the event
+     * @param failure what the handler or a later interceptor threw, unwrapped from reflection exceptions, null if nothing was thrown
+     */
+    default void after(GenericEvent event, RouteInfo route, Object result, Throwable failure){}
+}
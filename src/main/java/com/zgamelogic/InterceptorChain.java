@@ -0,0 +1,84 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+/**
+ * Interceptors linked in the order they run, built once and reused for every event.
+ * Each link calls its interceptor and then the next link, or the terminal after the last one,
+ * so running a chain allocates nothing and walks no list.
+ * @author Ben Shabowski
+ */
+final class InterceptorChain {
+
+    /** Interceptors named by {@link AdvancedListenerAdapter.Intercept}, one shared instance per class */
+    private static final ClassValue<Interceptor> INSTANCES = new ClassValue<Interceptor>() {
+        @Override
+        protected Interceptor computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (Interceptor) constructor.newInstance();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalStateException("Unable to create interceptor " + type.getName() + ", it needs a constructor without parameters", e);
+            }
+        }
+    };
+
+    private final Interceptor interceptor;
+    private final InterceptorChain next;
+
+    private InterceptorChain(Interceptor interceptor, InterceptorChain next){
+        this.interceptor = interceptor;
+        this.next = next;
+    }
+
+    /**
+     * Links interceptors into a chain
+     * @param interceptors interceptors in the order they run
+     * @return the first link, or null if there are no interceptors
+     */
+    static InterceptorChain of(List<Interceptor> interceptors){
+        InterceptorChain chain = null;
+        for(int i = interceptors.size() - 1; i >= 0; i--) chain = new InterceptorChain(interceptors.get(i), chain);
+        return chain;
+    }
+
+    /**
+     * Shared instance of an interceptor class
+     * @param type interceptor class with a constructor without parameters
+     * @return the instance
+     * @throws IllegalStateException if the class cannot be instantiated
+     */
+    static Interceptor instance(Class<? extends Interceptor> type){
+        return INSTANCES.get(type);
+    }
+
+    /**
+     * Runs this link and the ones after it, then the terminal unless an interceptor dropped the event
+     * @return what the terminal returned, or null if the event was dropped
+     */
+    Object invoke(RouteHandler handler, GenericEvent event, RouteMatch match, ComponentStateStore states, Terminal terminal) throws Throwable {
+        RouteInfo route = handler.getInfo();
+        if(!interceptor.before(event, route)) return null;
+        Object result;
+        try {
+            result = next == null ? terminal.call(handler, event, match, states) : next.invoke(handler, event, match, states, terminal);
+        } catch (Throwable e) {
+            interceptor.after(event, route, null, ErrorReporter.unwrap(e));
+            throw e;
+        }
+        interceptor.after(event, route, result, null);
+        return result;
+    }
+
+    /**
+     * What runs once every interceptor went on
+     */
+    @FunctionalInterface
+    interface Terminal {
+        Object call(RouteHandler handler, GenericEvent event, RouteMatch match, ComponentStateStore states) throws Throwable;
+    }
+}
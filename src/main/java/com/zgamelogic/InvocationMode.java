@@ -0,0 +1,30 @@
+package com.zgamelogic;
+
+/**
+ * How an {@link AdvancedListenerAdapter} calls its annotated methods.
+ * The default can be changed for the whole JVM with the {@value #PROPERTY} system property.
+ * @author Ben Shabowski
+ */
+public enum InvocationMode {
+    /**
+     * Handlers are bound once into generated invokers through LambdaMetafactory so the JIT can inline them.
+     * Methods a generated class cannot link against (private methods, hidden class loaders) fall back to a bound MethodHandle.
+     */
+    COMPILED,
+    /**
+     * Handlers are called with {@link java.lang.reflect.Method#invoke}.
+     * Use this where generating classes at runtime is not allowed.
+     */
+    REFLECTIVE;
+
+    /** System property holding the default invocation mode */
+    public static final String PROPERTY = "advancedlisteneradapter.invocation";
+
+    /**
+     * Mode used by listeners that do not pick one
+     * @return mode named by the {@value #PROPERTY} system property, or {@link #COMPILED}
+     */
+    public static InvocationMode defaultMode(){
+        return valueOf(System.getProperty(PROPERTY, COMPILED.name()).trim().toUpperCase());
+    }
+}
@@ -0,0 +1,46 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+/**
+ * Snapshot of one lane of a {@link PriorityDispatchExecutor}
+ * @author Ben Shabowski
+ */
+@Getter
+public final class LaneMetrics {
+    private final PriorityDispatchExecutor.Priority priority;
+    private final int capacity;
+    private final long deadlineNanos;
+    private final PriorityDispatchExecutor.Overflow overflow;
+    /** Tasks waiting in the lane */
+    private final int depth;
+    private final long submitted;
+    /** Tasks dropped because the lane was full */
+    private final long shed;
+    /** Tasks dropped because their deadline passed while they waited */
+    private final long expired;
+    /** Tasks run on the submitting thread because the lane was full */
+    private final long callerRuns;
+    /** Time from the event arriving to its handler starting, for tasks that ran */
+    private final LatencySnapshot waits;
+
+    LaneMetrics(PriorityDispatchExecutor.Priority priority, int capacity, long deadlineNanos, PriorityDispatchExecutor.Overflow overflow,
+                int depth, long submitted, long shed, long expired, long callerRuns, LatencySnapshot waits){
+        this.priority = priority;
+        this.capacity = capacity;
+        this.deadlineNanos = deadlineNanos;
+        this.overflow = overflow;
+        this.depth = depth;
+        this.submitted = submitted;
+        this.shed = shed;
+        this.expired = expired;
+        this.callerRuns = callerRuns;
+        this.waits = waits;
+    }
+
+    @Override
+    public String toString() {
+        return priority + ": depth=" + depth + "/" + capacity + ", submitted=" + submitted + ", shed=" + shed
+                + ", expired=" + expired + ", callerRuns=" + callerRuns + ", waits " + waits;
+    }
+}
@@ -0,0 +1,60 @@
+package com.zgamelogic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log bucketed histogram of nanosecond latencies in the style of HdrHistogram.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} linear buckets, so a recorded value is off by at most 12.5%
+ * while the whole range up to about 18 minutes fits in {@value #BUCKETS} counters. Recording is a couple of shifts
+ * and an atomic increment, with no locks and no allocation.
+ * @author Ben Shabowski
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final long HIGHEST = (1L << 40) - 1;
+    static final int BUCKETS = index(HIGHEST) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    void record(long nanos){
+        long value = Math.min(Math.max(nanos, 0), HIGHEST);
+        counts.incrementAndGet(index(value));
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Copies the current counts. Values recorded while copying may or may not be included.
+     * @return snapshot of this histogram
+     */
+    LatencySnapshot snapshot(){
+        long[] copy = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++) copy[i] = counts.get(i);
+        return new LatencySnapshot(copy, total.sum(), max.get());
+    }
+
+    static int index(long value){
+        if(value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int) ((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Largest value that lands in a bucket
+     * @param index bucket index
+     * @return highest value counted by the bucket
+     */
+    static long highestValue(int index){
+        if(index < SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+package com.zgamelogic;
+
+/**
+ * Point in time copy of a latency histogram. All values are in nanoseconds
+ * and percentiles are accurate to within 12.5%.
+ * @author Ben Shabowski
+ */
+public final class LatencySnapshot {
+
+    static final LatencySnapshot EMPTY = new LatencySnapshot(new long[LatencyHistogram.BUCKETS], 0, 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    LatencySnapshot(long[] counts, long total, long max){
+        this.counts = counts;
+        long count = 0;
+        for(long c : counts) count += c;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Combines two snapshots as if their values had been recorded into one histogram
+     * @param other snapshot to add
+     * @return combined snapshot
+     */
+    LatencySnapshot merge(LatencySnapshot other){
+        long[] sum = new long[counts.length];
+        for(int i = 0; i < sum.length; i++) sum[i] = counts[i] + other.counts[i];
+        return new LatencySnapshot(sum, total + other.total, Math.max(max, other.max));
+    }
+
+    /**
+     * Values recorded since an earlier snapshot of the same histogram.
+     * The maximum is the top of the highest bucket that gained values, capped at this snapshot's maximum.
+     * @param earlier snapshot taken before this one
+     * @return snapshot of the difference
+     */
+    LatencySnapshot minus(LatencySnapshot earlier){
+        long[] difference = new long[counts.length];
+        long highest = 0;
+        for(int i = 0; i < difference.length; i++){
+            difference[i] = Math.max(0, counts[i] - earlier.counts[i]);
+            if(difference[i] > 0) highest = Math.min(max, LatencyHistogram.highestValue(i));
+        }
+        return new LatencySnapshot(difference, Math.max(0, total - earlier.total), highest);
+    }
+
+    /**
+     * Number of recorded values
+     * @return count
+     */
+    public long getCount(){
+        return count;
+    }
+
+    public long getMean(){
+        return count == 0 ? 0 : total / count;
+    }
+
+    public long getMax(){
+        return max;
+    }
+
+    public long getP50(){
+        return getValueAtPercentile(50);
+    }
+
+    public long getP90(){
+        return getValueAtPercentile(90);
+    }
+
+    public long getP99(){
+        return getValueAtPercentile(99);
+    }
+
+    public long getP999(){
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Value that the given percentage of recorded values are at or below
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile){
+        if(count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+        for(int i = 0; i < counts.length; i++){
+            seen += counts[i];
+            if(seen >= rank) return Math.min(LatencyHistogram.highestValue(i), max);
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", mean=" + getMean() / 1000 + "us, p50=" + getP50() / 1000 + "us, p99="
+                + getP99() / 1000 + "us, max=" + max / 1000 + "us";
+    }
+}
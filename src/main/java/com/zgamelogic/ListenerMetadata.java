@@ -0,0 +1,109 @@
+package com.zgamelogic;
+
+import com.zgamelogic.AdvancedListenerAdapter.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Handler methods of a listener class, found once per class and shared by every instance of it.
+ * <p>
+ * Methods are collected from the class, its superclasses up to {@link AdvancedListenerAdapter}, and every interface they implement.
+ * An overriding method that carries route annotations replaces the routes of the method it overrides.
+ * An overriding method without any keeps the inherited routes, and the event still reaches the override through virtual dispatch.
+ * @author Ben Shabowski
+ */
+final class ListenerMetadata {
+
+    private static final Set<Class<? extends Annotation>> ROUTES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            AutoCompleteResponse.class, AutoCompleteResponses.class,
+            UserInteractionResponse.class, UserInteractionResponses.class,
+            MessageInteractionResponse.class, MessageInteractionResponses.class,
+            StringSelectionResponse.class, StringSelectionResponses.class,
+            EntitySelectionResponse.class, EntitySelectionResponses.class,
+            ModalResponse.class, ModalResponses.class,
+            SlashResponse.class, SlashResponses.class,
+            ButtonResponse.class, ButtonResponses.class,
+            EmoteResponse.class, EmoteResponses.class,
+            EmoteBatchResponse.class, EmoteBatchResponses.class,
+            ComponentTimeout.class, ComponentTimeouts.class
+    )));
+
+    private static final ClassValue<ListenerMetadata> CACHE = new ClassValue<ListenerMetadata>() {
+        @Override
+        protected ListenerMetadata computeValue(Class<?> type) {
+            return new ListenerMetadata(type);
+        }
+    };
+
+    private final List<Class<?>> hierarchy;
+    private final List<Method> handlers;
+
+    private ListenerMetadata(Class<?> type){
+        hierarchy = hierarchy(type);
+        handlers = Collections.unmodifiableList(annotatedWith(ROUTES));
+    }
+
+    /**
+     * Metadata of a listener class
+     * @param type listener class
+     * @return cached metadata
+     */
+    static ListenerMetadata of(Class<?> type){
+        return CACHE.get(type);
+    }
+
+    /**
+     * Methods carrying route annotations, most derived class first
+     * @return handler methods
+     */
+    List<Method> getHandlers(){
+        return handlers;
+    }
+
+    /**
+     * Methods carrying any of the given annotations, with overrides resolved the same way as routes
+     * @param annotations annotation types to look for
+     * @return matching methods, most derived class first
+     */
+    List<Method> annotatedWith(Collection<? extends Class<? extends Annotation>> annotations){
+        List<Method> methods = new ArrayList<>();
+        Map<String, Boolean> overridden = new HashMap<>();
+        for(Class<?> c : hierarchy){
+            for(Method m : c.getDeclaredMethods()){
+                if(m.isSynthetic() || m.isBridge()) continue;
+                boolean annotated = false;
+                for(Class<? extends Annotation> annotation : annotations) annotated |= m.isAnnotationPresent(annotation);
+                if(Modifier.isPrivate(m.getModifiers()) || Modifier.isStatic(m.getModifiers())) {
+                    if(annotated) methods.add(m);
+                    continue;
+                }
+                String signature = m.getName() + Arrays.toString(m.getParameterTypes());
+                if(overridden.getOrDefault(signature, false)) continue;
+                overridden.put(signature, annotated);
+                if(annotated) methods.add(m);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * The class, its superclasses below {@link AdvancedListenerAdapter}, then their interfaces breadth first
+     */
+    private static List<Class<?>> hierarchy(Class<?> type){
+        List<Class<?>> classes = new ArrayList<>();
+        for(Class<?> c = type; c != null && c != AdvancedListenerAdapter.class && c != Object.class; c = c.getSuperclass())
+            classes.add(c);
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for(Class<?> c : classes) queue.addAll(Arrays.asList(c.getInterfaces()));
+        while (!queue.isEmpty()) {
+            Class<?> i = queue.poll();
+            if(interfaces.add(i)) queue.addAll(Arrays.asList(i.getInterfaces()));
+        }
+        classes.addAll(interfaces);
+        return Collections.unmodifiableList(classes);
+    }
+}
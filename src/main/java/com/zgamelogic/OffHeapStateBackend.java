@@ -0,0 +1,222 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Keeps states serialised in one direct buffer outside the Java heap, so the bytes of large numbers of states do not add to garbage collection.
+ * The heap only holds each state's key and where its bytes sit in the buffer.
+ * <p>
+ * The buffer starts small and doubles up to {@link #getMaximumBytes()}, so few direct allocations are made however many states come and go.
+ * States are written one after another; the space of removed states is reclaimed by moving the live ones together once the end is reached.
+ * Once the encoded states would take more than the maximum, the least recently used ones are dropped.
+ * When the buffer is full and has to be compacted, states are dropped down to seven eighths of it so that compactions stay rare.
+ * <p>
+ * Every read decodes a fresh copy, so changes to a state object must be attached again to be kept.
+ * @author Ben Shabowski
+ */
+public final class OffHeapStateBackend implements StateBackend {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int COPY_CHUNK = 8 * 1024;
+
+    @Getter
+    private final long maximumBytes;
+    private final StateCodec codec;
+    private final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+    /** Allocated by the first put */
+    private ByteBuffer arena;
+    /** End of the state written last, where the next one goes */
+    private int top;
+    private long usedBytes;
+
+    /**
+     * Backend using Java serialisation
+     * @param maximumBytes bytes of encoded state held before the least recently used states are dropped
+     */
+    public OffHeapStateBackend(long maximumBytes){
+        this(maximumBytes, StateCodec.serialization());
+    }
+
+    /**
+     * @param maximumBytes bytes of encoded state held before the least recently used states are dropped, at most {@link Integer#MAX_VALUE}
+     * @param codec turns states into bytes and back
+     */
+    public OffHeapStateBackend(long maximumBytes, StateCodec codec){
+        if(maximumBytes < 1 || maximumBytes > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("maximumBytes must be between 1 and " + Integer.MAX_VALUE);
+        this.maximumBytes = maximumBytes;
+        this.codec = codec;
+    }
+
+    /**
+     * @throws IllegalStateException if the state cannot be encoded
+     */
+    @Override
+    public void put(String key, Object state, long expiresAtMillis) {
+        byte[] bytes;
+        try {
+            bytes = codec.encode(state);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode state for " + key, e);
+        }
+        if(bytes.length > maximumBytes) throw new IllegalStateException("State for " + key + " is larger than the backend");
+        synchronized (this) {
+            Slot old = slots.remove(key);
+            if(old != null) usedBytes -= old.length;
+            evict(maximumBytes - bytes.length);
+            int offset = allocate(bytes.length);
+            ByteBuffer target = arena.duplicate();
+            target.position(offset);
+            target.put(bytes);
+            slots.put(key, new Slot(offset, bytes.length, expiresAtMillis));
+            usedBytes += bytes.length;
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the stored bytes cannot be decoded
+     */
+    @Override
+    public Object get(String key, long nowMillis) {
+        byte[] bytes;
+        synchronized (this) {
+            Slot slot = slots.get(key);
+            if(slot == null) return null;
+            if(slot.expires <= nowMillis) {
+                slots.remove(key);
+                usedBytes -= slot.length;
+                return null;
+            }
+            bytes = new byte[slot.length];
+            ByteBuffer source = arena.duplicate();
+            source.position(slot.offset);
+            source.get(bytes);
+        }
+        try {
+            return codec.decode(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to decode state for " + key, e);
+        }
+    }
+
+    @Override
+    public synchronized boolean remove(String key) {
+        Slot slot = slots.remove(key);
+        if(slot == null) return false;
+        usedBytes -= slot.length;
+        return true;
+    }
+
+    @Override
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    /**
+     * Bytes of encoded state currently held
+     * @return used bytes
+     */
+    public synchronized long getUsedBytes(){
+        return usedBytes;
+    }
+
+    /**
+     * Size of the direct buffer the states are kept in
+     * @return allocated bytes, 0 before the first state
+     */
+    public synchronized long getAllocatedBytes(){
+        return arena == null ? 0 : arena.capacity();
+    }
+
+    @Override
+    public synchronized void close() {
+        slots.clear();
+        arena = null;
+        top = 0;
+        usedBytes = 0;
+    }
+
+    /**
+     * Drops least recently used states until at most the given bytes are used
+     */
+    private void evict(long bytes){
+        Iterator<Slot> eldest = slots.values().iterator();
+        while (usedBytes > bytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Room for a state at the end of the buffer, compacting or growing it first if the end is reached.
+     * The caller has made sure the used bytes and the state fit in the maximum.
+     * @return offset to write the state at
+     */
+    private int allocate(int length){
+        int capacity = arena == null ? 0 : arena.capacity();
+        if(top + length > capacity) {
+            if(capacity < maximumBytes && usedBytes + length > capacity / 2) {
+                long grown = Math.max(Math.max((long) capacity * 2, INITIAL_CAPACITY), usedBytes + length);
+                ByteBuffer larger = ByteBuffer.allocateDirect((int) Math.min(grown, maximumBytes));
+                compactInto(larger);
+                arena = larger;
+            } else {
+                if(capacity == maximumBytes) evict(Math.min(maximumBytes / 8 * 7, maximumBytes - length));
+                compactInto(arena);
+            }
+        }
+        int offset = top;
+        top += length;
+        return offset;
+    }
+
+    /**
+     * Moves every live state to the start of the target, in the order they sit in the buffer.
+     * The target may be the buffer itself, since states only ever move towards its start.
+     */
+    private void compactInto(ByteBuffer target){
+        Slot[] live = slots.values().toArray(new Slot[0]);
+        Arrays.sort(live, Comparator.comparingInt(slot -> slot.offset));
+        boolean inPlace = target == arena;
+        byte[] chunk = new byte[COPY_CHUNK];
+        ByteBuffer source = arena == null ? null : arena.duplicate();
+        ByteBuffer destination = target.duplicate();
+        int position = 0;
+        for(Slot slot : live){
+            if(!inPlace || slot.offset != position) {
+                for(int copied = 0; copied < slot.length; copied += COPY_CHUNK){
+                    int length = Math.min(COPY_CHUNK, slot.length - copied);
+                    source.position(slot.offset + copied);
+                    source.get(chunk, 0, length);
+                    destination.position(position + copied);
+                    destination.put(chunk, 0, length);
+                }
+            }
+            slot.offset = position;
+            position += slot.length;
+        }
+        top = position;
+    }
+
+    /**
+     * Where a state's bytes sit in the buffer
+     */
+    private static final class Slot {
+        private int offset;
+        private final int length;
+        private final long expires;
+
+        private Slot(int offset, int length, long expires){
+            this.offset = offset;
+            this.length = length;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.zgamelogic;
+
+import com.zgamelogic.AdvancedListenerAdapter.RequirePermissions;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.channel.Channel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.guild.GenericGuildEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GenericGuildMemberEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleAddEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateTimeOutEvent;
+import net.dv8tion.jda.api.events.guild.override.GenericPermissionOverrideEvent;
+import net.dv8tion.jda.api.events.guild.update.GuildUpdateOwnerEvent;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+import net.dv8tion.jda.api.events.role.GenericRoleEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdatePermissionsEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drops events for handlers with {@link RequirePermissions} when the member lacks a permission in the event's channel.
+ * Handlers without the annotation are not checked.
+ * <p>
+ * A member's effective permissions in a channel are worked out from their roles and the channel's overrides,
+ * so they are cached per guild, member and channel. Entries are dropped when the guild's roles, overrides or owner change,
+ * when the member's roles or timeout change, and otherwise after the time to live.
+ * Added to a listener with {@link AdvancedListenerAdapter#addInterceptor(Interceptor)}, it receives those events through the listener.
+ * <pre>{@code
+ * listener.addInterceptor(new PermissionInterceptor());
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class PermissionInterceptor implements Interceptor, EventListener {
+
+    @Getter
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Key, CachedPermissions> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    /** Bumped by every invalidation, so permissions worked out before one are not cached after it */
+    private long generation;
+
+    /**
+     * Interceptor caching up to 10000 entries for 10 minutes
+     */
+    public PermissionInterceptor(){
+        this(10, TimeUnit.MINUTES, 10_000);
+    }
+
+    /**
+     * @param ttl how long permissions are cached if no event drops them first
+     * @param unit unit of the ttl
+     * @param maximumSize entries kept before the least recently used one is dropped
+     */
+    public PermissionInterceptor(long ttl, TimeUnit unit, int maximumSize){
+        this.maximumSize = maximumSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<Key, CachedPermissions>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedPermissions> eldest) {
+                return size() > PermissionInterceptor.this.maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public boolean before(GenericEvent event, RouteInfo route) {
+        RequirePermissions required = route.getAnnotation(RequirePermissions.class);
+        if(required == null) return true;
+        long needed = Permission.getRaw(required.value());
+        long granted = permissions(event);
+        if((granted & needed) == needed) return true;
+        denied(event, route, Permission.getPermissions(needed & ~granted));
+        return false;
+    }
+
+    /**
+     * Called instead of the handler when the member lacks permissions.
+     * Replies ephemerally with the missing permissions by default; override it to reply differently.
+     * @param event event that was dropped
+     * @param route handler that was not called
+     * @param missing permissions the member lacks, every required one outside of guilds
+     */
+    protected void onDenied(GenericEvent event, RouteInfo route, EnumSet<Permission> missing){
+        if(!(event instanceof IReplyCallback) || ((IReplyCallback) event).isAcknowledged()) return;
+        StringJoiner names = new StringJoiner(", ");
+        for(Permission permission : missing) names.add(permission.getName());
+        ((IReplyCallback) event).reply("You need " + names + " to do that").setEphemeral(true).queue();
+    }
+
+    private void denied(GenericEvent event, RouteInfo route, EnumSet<Permission> missing){
+        try {
+            onDenied(event, route, missing);
+        } catch (RuntimeException e) {
+            log.error("Error in onDenied", e);
+        }
+    }
+
+    private long permissions(GenericEvent event){
+        Member member;
+        GuildChannel channel;
+        if(event instanceof GenericInteractionCreateEvent) {
+            GenericInteractionCreateEvent interaction = (GenericInteractionCreateEvent) event;
+            member = interaction.getMember();
+            Channel origin = interaction.getChannel();
+            channel = origin instanceof GuildChannel ? (GuildChannel) origin : null;
+        } else if(event instanceof GenericMessageReactionEvent && ((GenericMessageReactionEvent) event).isFromGuild()) {
+            member = ((GenericMessageReactionEvent) event).getMember();
+            channel = ((GenericMessageReactionEvent) event).getGuildChannel();
+        } else {
+            return 0;
+        }
+        if(member == null) return 0;
+        Key key = new Key(member.getGuild().getIdLong(), member.getIdLong(), channel == null ? 0 : channel.getIdLong());
+        long now = System.nanoTime();
+        long generation;
+        synchronized (entries) {
+            CachedPermissions entry = entries.get(key);
+            if(entry != null && entry.expires - now > 0) {
+                hits.increment();
+                return entry.permissions;
+            }
+            generation = this.generation;
+        }
+        misses.increment();
+        long permissions = Permission.getRaw(channel == null ? member.getPermissions() : member.getPermissions(channel));
+        synchronized (entries) {
+            if(generation == this.generation) entries.put(key, new CachedPermissions(permissions, now + ttlNanos));
+        }
+        return permissions;
+    }
+
+    @Override
+    public void onEvent(@NotNull GenericEvent event) {
+        if(event instanceof GuildMemberRoleAddEvent || event instanceof GuildMemberRoleRemoveEvent || event instanceof GuildMemberUpdateTimeOutEvent) {
+            Member member = ((GenericGuildMemberEvent) event).getMember();
+            invalidate(member.getGuild().getIdLong(), member.getIdLong());
+        } else if(event instanceof GuildMemberRemoveEvent) {
+            GuildMemberRemoveEvent removed = (GuildMemberRemoveEvent) event;
+            invalidate(removed.getGuild().getIdLong(), removed.getUser().getIdLong());
+        } else if(event instanceof RoleUpdatePermissionsEvent || event instanceof RoleDeleteEvent) {
+            invalidate(((GenericRoleEvent) event).getGuild().getIdLong());
+        } else if(event instanceof GenericPermissionOverrideEvent || event instanceof GuildUpdateOwnerEvent || event instanceof GuildLeaveEvent) {
+            invalidate(((GenericGuildEvent) event).getGuild().getIdLong());
+        }
+    }
+
+    /**
+     * Drops every cached entry
+     */
+    public void invalidate(){
+        synchronized (entries) {
+            entries.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * Drops the cached entries of a guild
+     * @param guildId guild whose roles or overrides changed
+     */
+    public void invalidate(long guildId){
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.guild == guildId);
+            generation++;
+        }
+    }
+
+    /**
+     * Drops the cached entries of a member
+     * @param guildId guild of the member
+     * @param userId user id of the member
+     */
+    public void invalidate(long guildId, long userId){
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.guild == guildId && key.user == userId);
+            generation++;
+        }
+    }
+
+    public long getHits(){
+        return hits.sum();
+    }
+
+    public long getMisses(){
+        return misses.sum();
+    }
+
+    public int getSize(){
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class Key {
+        private final long guild;
+        private final long user;
+        private final long channel;
+
+        private Key(long guild, long user, long channel){
+            this.guild = guild;
+            this.user = user;
+            this.channel = channel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return guild == other.guild && user == other.user && channel == other.channel;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(guild * 31 + user) * 31 + Long.hashCode(channel);
+        }
+    }
+
+    private static final class CachedPermissions {
+        private final long permissions;
+        private final long expires;
+
+        private CachedPermissions(long permissions, long expires){
+            this.permissions = permissions;
+            this.expires = expires;
+        }
+    }
+}
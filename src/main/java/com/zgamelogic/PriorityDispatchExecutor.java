@@ -0,0 +1,271 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs handlers on a pool of worker threads from bounded queues, one per {@link Priority},
+ * so bursts of reactions and components cannot hold up commands and autocomplete, which Discord expires after three seconds.
+ * <p>
+ * Workers always take from the highest priority lane with work. Every task in a lane has the same deadline after its event arrived,
+ * so each lane runs earliest deadline first. A task still queued when its deadline passes is dropped instead of run,
+ * unless its interaction was already acknowledged, by a {@link DeferralWatchdog} for example.
+ * A full lane applies its {@link Overflow} policy to the task that does not fit.
+ * <pre>{@code
+ * listener.setDispatchExecutor(PriorityDispatchExecutor.builder(8)
+ *         .lane(PriorityDispatchExecutor.Priority.LOW, 256, 10, TimeUnit.SECONDS, PriorityDispatchExecutor.Overflow.DROP_OLDEST)
+ *         .build());
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class PriorityDispatchExecutor implements DispatchExecutor, AutoCloseable {
+
+    /**
+     * Lanes handlers are queued on by event type
+     */
+    public enum Priority {
+        /** Autocomplete, slash and context menu commands */
+        HIGH,
+        /** Buttons, select menus and modals */
+        NORMAL,
+        /** Reactions, reaction batches and component timeouts */
+        LOW;
+
+        public static Priority of(RouteType type){
+            switch (type){
+                case AUTO_COMPLETE: case SLASH: case USER_CONTEXT: case MESSAGE_CONTEXT: return HIGH;
+                case REACTION: case REACTION_BATCH: case COMPONENT_TIMEOUT: return LOW;
+                default: return NORMAL;
+            }
+        }
+    }
+
+    /**
+     * What happens to a task that does not fit in its lane
+     */
+    public enum Overflow {
+        /** The new task is dropped */
+        REJECT,
+        /** The task that waited longest in the lane is dropped to make room for the new one */
+        DROP_OLDEST,
+        /** The new task runs on the thread that submitted it, slowing the event thread down instead of dropping work */
+        CALLER_RUNS
+    }
+
+    private final Lane[] lanes = new Lane[Priority.values().length];
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Thread[] workers;
+    @Getter
+    private final ExecutionStats stats = new ExecutionStats();
+    private volatile boolean closed;
+
+    /**
+     * Executor with the default lanes: 1024 high priority tasks that run on the caller when full,
+     * 1024 normal priority tasks that are rejected when full, both with Discord's three second deadline,
+     * and 4096 low priority tasks with a thirty second deadline that drop the oldest when full.
+     * @param threads number of worker threads
+     */
+    public PriorityDispatchExecutor(int threads){
+        this(builder(threads));
+    }
+
+    private PriorityDispatchExecutor(Builder builder){
+        for(Lane lane : builder.lanes.values())
+            lanes[lane.priority.ordinal()] = new Lane(lane.priority, lane.capacity, lane.deadlineNanos, lane.overflow);
+        AtomicInteger count = new AtomicInteger();
+        workers = new Thread[builder.threads];
+        for(int i = 0; i < workers.length; i++){
+            workers[i] = new Thread(this::work, "ala-priority-" + count.incrementAndGet());
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Starts configuring an executor, with every lane at its default
+     * @param threads number of worker threads
+     * @return the builder
+     * @see #PriorityDispatchExecutor(int)
+     */
+    public static Builder builder(int threads){
+        return new Builder(threads);
+    }
+
+    @Override
+    public void execute(DispatchTask task) {
+        stats.recordSubmitted();
+        Lane lane = lanes[Priority.of(task.getType()).ordinal()];
+        lane.submitted.increment();
+        DispatchTask shed = null;
+        lock.lock();
+        try {
+            if(closed) {
+                shed = task;
+            } else if(lane.tasks.size() < lane.capacity) {
+                lane.tasks.add(task);
+                notEmpty.signal();
+                return;
+            } else if(lane.overflow == Overflow.DROP_OLDEST) {
+                shed = lane.tasks.poll();
+                lane.tasks.add(task);
+                notEmpty.signal();
+            } else if(lane.overflow == Overflow.REJECT) {
+                shed = task;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if(shed != null) {
+            lane.shed.increment();
+            stats.recordRejected();
+            shed.cancel();
+            if(log.isDebugEnabled()) log.debug("Shed " + shed.getHandler() + " for a " + shed.getType() + " from the " + lane.priority + " lane");
+        } else {
+            lane.callerRuns.increment();
+            lane.waits.record(System.nanoTime() - task.getCreatedNanos());
+            stats.run(task);
+        }
+    }
+
+    private void work(){
+        while (true) {
+            Lane lane = null;
+            DispatchTask task = null;
+            lock.lock();
+            try {
+                while (task == null) {
+                    for(Lane l : lanes){
+                        if((task = l.tasks.poll()) != null) {
+                            lane = l;
+                            break;
+                        }
+                    }
+                    if(task == null) {
+                        if(closed) return;
+                        notEmpty.await();
+                    }
+                }
+            } catch (InterruptedException e) {
+                if(closed) return;
+                continue;
+            } finally {
+                lock.unlock();
+            }
+            long waited = System.nanoTime() - task.getCreatedNanos();
+            if(waited > lane.deadlineNanos && !acknowledged(task)) {
+                lane.expired.increment();
+                stats.recordRejected();
+                task.cancel();
+                continue;
+            }
+            lane.waits.record(waited);
+            stats.run(task);
+        }
+    }
+
+    private static boolean acknowledged(DispatchTask task){
+        return task.getEvent() instanceof IReplyCallback && ((IReplyCallback) task.getEvent()).isAcknowledged();
+    }
+
+    /**
+     * Snapshot of one lane's queue and counters
+     * @param priority lane to read
+     * @return the lane's metrics
+     */
+    public LaneMetrics getLane(Priority priority){
+        Lane lane = lanes[priority.ordinal()];
+        int depth;
+        lock.lock();
+        try {
+            depth = lane.tasks.size();
+        } finally {
+            lock.unlock();
+        }
+        return new LaneMetrics(priority, lane.capacity, lane.deadlineNanos, lane.overflow, depth, lane.submitted.sum(),
+                lane.shed.sum(), lane.expired.sum(), lane.callerRuns.sum(), lane.waits.snapshot());
+    }
+
+    /**
+     * Stops the workers once the tasks already queued have run or expired, and sheds every task submitted afterwards
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Settings for a {@link PriorityDispatchExecutor}
+     */
+    public static final class Builder {
+        private final int threads;
+        private final EnumMap<Priority, Lane> lanes = new EnumMap<>(Priority.class);
+
+        private Builder(int threads){
+            if(threads < 1) throw new IllegalArgumentException("threads must be at least 1");
+            this.threads = threads;
+            lane(Priority.HIGH, 1024, 3, TimeUnit.SECONDS, Overflow.CALLER_RUNS);
+            lane(Priority.NORMAL, 1024, 3, TimeUnit.SECONDS, Overflow.REJECT);
+            lane(Priority.LOW, 4096, 30, TimeUnit.SECONDS, Overflow.DROP_OLDEST);
+        }
+
+        /**
+         * Configures one lane
+         * @param priority lane to configure
+         * @param capacity tasks that can wait in the lane
+         * @param deadline how long after its event arrived a task may still start
+         * @param unit unit of the deadline
+         * @param overflow what happens to a task that does not fit
+         * @return this builder
+         */
+        public Builder lane(Priority priority, int capacity, long deadline, TimeUnit unit, Overflow overflow){
+            if(capacity < 1) throw new IllegalArgumentException("capacity must be at least 1");
+            lanes.put(priority, new Lane(priority, capacity, unit.toNanos(deadline), overflow));
+            return this;
+        }
+
+        public PriorityDispatchExecutor build(){
+            return new PriorityDispatchExecutor(this);
+        }
+    }
+
+    /**
+     * Queue and counters of one priority, the queue guarded by the executor's lock.
+     * Builders hold lanes only for their settings; every executor copies them into its own.
+     */
+    private static final class Lane {
+        private final Priority priority;
+        private final int capacity;
+        private final long deadlineNanos;
+        private final Overflow overflow;
+        private final ArrayDeque<DispatchTask> tasks = new ArrayDeque<>();
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+        private final LongAdder expired = new LongAdder();
+        private final LongAdder callerRuns = new LongAdder();
+        private final LatencyHistogram waits = new LatencyHistogram();
+
+        private Lane(Priority priority, int capacity, long deadlineNanos, Overflow overflow){
+            this.priority = priority;
+            this.capacity = capacity;
+            this.deadlineNanos = deadlineNanos;
+            this.overflow = overflow;
+        }
+    }
+}
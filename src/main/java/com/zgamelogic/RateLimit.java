@@ -0,0 +1,60 @@
+package com.zgamelogic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A rate written as {@code permits/period}, such as {@code 2/s}, {@code 10/min} or {@code 5/10s}.
+ * Periods are {@code ms}, {@code s}, {@code m} or {@code min}, and {@code h}, optionally preceded by an amount.
+ * @author Ben Shabowski
+ */
+final class RateLimit {
+
+    private static final Pattern FORMAT = Pattern.compile("\\s*(\\d+)\\s*/\\s*(\\d*)\\s*(ms|s|m|min|h)\\s*");
+
+    private final int permits;
+    private final long periodNanos;
+    private final String spec;
+
+    private RateLimit(int permits, long periodNanos, String spec){
+        this.permits = permits;
+        this.periodNanos = periodNanos;
+        this.spec = spec;
+    }
+
+    /**
+     * Parses a rate
+     * @param spec rate such as {@code 2/s}, or an empty string for no limit
+     * @return the rate, or null if the spec is empty
+     * @throws IllegalStateException if the spec cannot be parsed
+     */
+    static RateLimit parse(String spec){
+        if(spec.trim().isEmpty()) return null;
+        Matcher matcher = FORMAT.matcher(spec);
+        if(!matcher.matches() || Integer.parseInt(matcher.group(1)) == 0)
+            throw new IllegalStateException("Invalid rate " + spec + ", expected something like 2/s or 5/10s");
+        long amount = matcher.group(2).isEmpty() ? 1 : Long.parseLong(matcher.group(2));
+        TimeUnit unit;
+        switch (matcher.group(3)){
+            case "ms": unit = TimeUnit.MILLISECONDS; break;
+            case "s": unit = TimeUnit.SECONDS; break;
+            case "h": unit = TimeUnit.HOURS; break;
+            default: unit = TimeUnit.MINUTES;
+        }
+        return new RateLimit(Integer.parseInt(matcher.group(1)), unit.toNanos(amount), spec.trim());
+    }
+
+    int getPermits(){
+        return permits;
+    }
+
+    long getPeriodNanos(){
+        return periodNanos;
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,48 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * An event that was not passed to a handler because the user or guild went over the route's rate
+ * @see AdvancedListenerAdapter#onRateLimited(RateLimited)
+ * @author Ben Shabowski
+ */
+@Getter
+public final class RateLimited {
+
+    /**
+     * Whose rate was exceeded
+     */
+    public enum Scope {
+        USER,
+        GUILD
+    }
+
+    private final GenericEvent event;
+    private final RouteType type;
+    private final String route;
+    /** Name of the method that was not called */
+    private final String handler;
+    private final Scope scope;
+    /** The rate that was exceeded, as written on the annotation */
+    private final String rate;
+    /** Nanoseconds until the handler would accept another event */
+    private final long retryAfterNanos;
+
+    RateLimited(GenericEvent event, RouteType type, String route, String handler, Scope scope, String rate, long retryAfterNanos){
+        this.event = event;
+        this.type = type;
+        this.route = route;
+        this.handler = handler;
+        this.scope = scope;
+        this.rate = rate;
+        this.retryAfterNanos = retryAfterNanos;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + route + " -> " + handler + " over " + scope.name().toLowerCase() + " rate " + rate
+                + ", retry in " + retryAfterNanos / 1_000_000 + "ms";
+    }
+}
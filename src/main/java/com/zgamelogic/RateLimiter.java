@@ -0,0 +1,55 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+
+/**
+ * Per user and per guild rates of one route, checked before its handler is called.
+ * Events outside a guild are only limited per user.
+ * @author Ben Shabowski
+ */
+final class RateLimiter {
+
+    private final TokenBuckets users;
+    private final TokenBuckets guilds;
+
+    private RateLimiter(TokenBuckets users, TokenBuckets guilds){
+        this.users = users;
+        this.guilds = guilds;
+    }
+
+    /**
+     * Limiter for the rates of an annotation
+     * @param perUserRate rate per user, empty for none
+     * @param perGuildRate rate per guild, empty for none
+     * @return the limiter, or null if neither rate is set
+     * @throws IllegalStateException if a rate cannot be parsed
+     */
+    static RateLimiter of(String perUserRate, String perGuildRate){
+        RateLimit user = RateLimit.parse(perUserRate);
+        RateLimit guild = RateLimit.parse(perGuildRate);
+        if(user == null && guild == null) return null;
+        return new RateLimiter(user == null ? null : new TokenBuckets(user), guild == null ? null : new TokenBuckets(guild));
+    }
+
+    /**
+     * Takes a token for the event's user and guild. If the guild has none left, the user's token is given back,
+     * so events turned away by the guild rate do not use up the user's.
+     * @param handler handler the event was routed to
+     * @param event routed event
+     * @return null if the handler may run, otherwise the rejection
+     */
+    RateLimited tryAcquire(RouteHandler handler, GenericEvent event){
+        long now = System.nanoTime();
+        if(users != null) {
+            long wait = users.tryAcquire(EventIds.userId(event), now);
+            if(wait > 0) return new RateLimited(event, handler.getType(), handler.getRoute(), handler.getName(), RateLimited.Scope.USER, users.getLimit().toString(), wait);
+        }
+        long guild = guilds == null ? 0 : EventIds.guildId(event);
+        if(guild != 0) {
+            long wait = guilds.tryAcquire(guild, now);
+            if(wait > 0 && users != null) users.release(EventIds.userId(event));
+            if(wait > 0) return new RateLimited(event, handler.getType(), handler.getRoute(), handler.getName(), RateLimited.Scope.GUILD, guilds.getLimit().toString(), wait);
+        }
+        return null;
+    }
+}
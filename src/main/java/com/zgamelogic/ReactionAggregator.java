@@ -0,0 +1,85 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Collects the reactions of one {@link AdvancedListenerAdapter.EmoteBatchResponse} route per message.
+ * The first reaction on a message opens a batch and schedules it to close when the window ends.
+ * @author Ben Shabowski
+ */
+final class ReactionAggregator {
+
+    private final long windowNanos;
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    ReactionAggregator(long window, TimeUnit unit){
+        this.windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * Adds a reaction to the open batch of its message
+     * @param event reaction event
+     * @param adding true for an added reaction, false for a removed one
+     * @param deliver called on the timer thread with the batch once the window ends
+     */
+    void add(GenericMessageReactionEvent event, boolean adding, Consumer<ReactionBatch> deliver){
+        long messageId = event.getMessageIdLong();
+        while (true) {
+            Pending batch = pending.get(messageId);
+            if(batch == null) {
+                Pending created = new Pending();
+                batch = pending.putIfAbsent(messageId, created);
+                if(batch == null) {
+                    batch = created;
+                    Timer.INSTANCE.schedule(() -> close(messageId, created, deliver), windowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            synchronized (batch) {
+                if(batch.closed) continue;
+                (adding ? batch.added : batch.removed).add(event.getUserIdLong());
+                batch.last = event;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Messages with an open batch
+     * @return open batches
+     */
+    int size(){
+        return pending.size();
+    }
+
+    private void close(long messageId, Pending batch, Consumer<ReactionBatch> deliver){
+        pending.remove(messageId, batch);
+        GenericMessageReactionEvent last;
+        synchronized (batch) {
+            batch.closed = true;
+            last = batch.last;
+        }
+        deliver.accept(new ReactionBatch(EventIds.guildId(last), EventIds.channelId(last), messageId,
+                last.getReaction().getEmoji().getName(), Collections.unmodifiableList(batch.added), Collections.unmodifiableList(batch.removed), last));
+    }
+
+    private static final class Pending {
+        private final List<Long> added = new ArrayList<>();
+        private final List<Long> removed = new ArrayList<>();
+        private GenericMessageReactionEvent last;
+        private boolean closed;
+    }
+
+    /**
+     * One timer for every aggregator, started the first time a batch opens
+     */
+    private static final class Timer {
+        private static final HashedWheelTimer INSTANCE = new HashedWheelTimer("ala-reactions", 10, TimeUnit.MILLISECONDS, 512);
+    }
+}
@@ -0,0 +1,76 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+import net.dv8tion.jda.api.utils.data.DataObject;
+
+import java.util.List;
+
+/**
+ * Reactions with one emoji on one message, collected over the window of an
+ * {@link AdvancedListenerAdapter.EmoteBatchResponse} and delivered together.
+ * @author Ben Shabowski
+ */
+@Getter
+public final class ReactionBatch implements GenericEvent {
+    private final long guildId;
+    private final long channelId;
+    private final long messageId;
+    /** Name of the emoji, the same for every reaction in the batch */
+    private final String emoji;
+    /** Ids of the users that added the reaction, in order, once per add */
+    private final List<Long> addedUserIds;
+    /** Ids of the users that removed the reaction, in order, once per remove */
+    private final List<Long> removedUserIds;
+    /** Most recent reaction event of the batch, for the channel, message and JDA instance */
+    private final GenericMessageReactionEvent lastEvent;
+
+    ReactionBatch(long guildId, long channelId, long messageId, String emoji, List<Long> addedUserIds,
+                  List<Long> removedUserIds, GenericMessageReactionEvent lastEvent){
+        this.guildId = guildId;
+        this.channelId = channelId;
+        this.messageId = messageId;
+        this.emoji = emoji;
+        this.addedUserIds = addedUserIds;
+        this.removedUserIds = removedUserIds;
+        this.lastEvent = lastEvent;
+    }
+
+    public int getAdds(){
+        return addedUserIds.size();
+    }
+
+    public int getRemoves(){
+        return removedUserIds.size();
+    }
+
+    /**
+     * Change to the reaction count over the window
+     * @return adds minus removes
+     */
+    public int getNet(){
+        return getAdds() - getRemoves();
+    }
+
+    @Override
+    public JDA getJDA() {
+        return lastEvent.getJDA();
+    }
+
+    @Override
+    public long getResponseNumber() {
+        return lastEvent.getResponseNumber();
+    }
+
+    @Override
+    public DataObject getRawData() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return emoji + " on " + messageId + ": +" + getAdds() + " -" + getRemoves();
+    }
+}
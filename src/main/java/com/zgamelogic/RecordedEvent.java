@@ -0,0 +1,73 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The routing relevant fields of one event an {@link InteractionRecorder} captured.
+ * Fields that do not apply to the event's type are 0, empty or false.
+ * @author Ben Shabowski
+ */
+@Getter
+public final class RecordedEvent {
+    private final RouteType type;
+    /** Nanoseconds since the previous event of the same recording session */
+    private final long delayNanos;
+    private final long guildId;
+    private final long channelId;
+    private final long userId;
+    private final long messageId;
+    /** Command name, component id, modal id or emoji name */
+    private final String key;
+    /** Sub command name of slash commands and autocomplete */
+    private final String subcommand;
+    /** Name of the focused autocomplete option */
+    private final String focused;
+    /** Selected values of string selections, or the typed value of the focused autocomplete option */
+    private final List<String> values;
+    /** Options of slash commands */
+    private final List<Option> options;
+    /** True if a reaction was added, false if it was removed */
+    private final boolean adding;
+
+    RecordedEvent(RouteType type, long delayNanos, long guildId, long channelId, long userId, long messageId, String key,
+                  String subcommand, String focused, List<String> values, List<Option> options, boolean adding){
+        this.type = type;
+        this.delayNanos = delayNanos;
+        this.guildId = guildId;
+        this.channelId = channelId;
+        this.userId = userId;
+        this.messageId = messageId;
+        this.key = key;
+        this.subcommand = subcommand;
+        this.focused = focused;
+        this.values = Collections.unmodifiableList(values);
+        this.options = Collections.unmodifiableList(options);
+        this.adding = adding;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + key + (subcommand.isEmpty() ? "" : " " + subcommand) + " from " + EventIds.format(userId)
+                + " in " + EventIds.format(guildId) + " after " + delayNanos / 1_000_000 + "ms";
+    }
+
+    /**
+     * Slash command option as Discord sent it
+     */
+    @Getter
+    public static final class Option {
+        private final String name;
+        /** Key of the option's {@link net.dv8tion.jda.api.interactions.commands.OptionType} */
+        private final int type;
+        private final String value;
+
+        Option(String name, int type, String value){
+            this.name = name;
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
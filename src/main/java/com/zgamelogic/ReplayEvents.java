@@ -0,0 +1,155 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.MessageReaction;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.entities.emoji.EmojiUnion;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.commands.CommandAutoCompleteInteraction;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.interactions.commands.context.MessageContextInteraction;
+import net.dv8tion.jda.api.interactions.commands.context.UserContextInteraction;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.EntitySelectInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectInteraction;
+import net.dv8tion.jda.api.interactions.modals.ModalInteraction;
+import net.dv8tion.jda.api.utils.data.DataObject;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.*;
+
+/**
+ * Builds JDA events from recorded fields by proxying the interaction interfaces with {@link EventStubs}.
+ * @author Ben Shabowski
+ */
+final class ReplayEvents {
+
+    private ReplayEvents(){}
+
+    static GenericEvent of(RecordedEvent recorded){
+        Map<String, Object> answers = interaction(recorded);
+        switch (recorded.getType()){
+            case SLASH:
+                answers.put("getName", recorded.getKey());
+                answers.put("getSubcommandName", emptyToNull(recorded.getSubcommand()));
+                List<OptionMapping> options = new ArrayList<>();
+                for(RecordedEvent.Option option : recorded.getOptions()) options.add(option(option.getName(), option.getType(), option.getValue()));
+                answers.put("getOptions", options);
+                answers.put("getOption", (InvocationHandler) (proxy, method, args) -> {
+                    if(args.length != 1) return null;
+                    for(OptionMapping option : options) if(option.getName().equals(args[0])) return option;
+                    return null;
+                });
+                return new SlashCommandInteractionEvent(null, 0, EventStubs.stub(SlashCommandInteraction.class, answers));
+            case AUTO_COMPLETE:
+                answers.put("getName", recorded.getKey());
+                answers.put("getSubcommandName", emptyToNull(recorded.getSubcommand()));
+                String typed = recorded.getValues().isEmpty() ? "" : recorded.getValues().get(0);
+                answers.put("getFocusedOption", new AutoCompleteQuery(option(recorded.getFocused(), 3, typed)));
+                return new CommandAutoCompleteInteractionEvent(null, 0, EventStubs.stub(CommandAutoCompleteInteraction.class, answers));
+            case BUTTON:
+                answers.put("getComponentId", recorded.getKey());
+                return new ButtonInteractionEvent(null, 0, EventStubs.stub(ButtonInteraction.class, answers));
+            case STRING_SELECT:
+                answers.put("getComponentId", recorded.getKey());
+                answers.put("getValues", recorded.getValues());
+                return new StringSelectInteractionEvent(null, 0, EventStubs.stub(StringSelectInteraction.class, answers));
+            case ENTITY_SELECT:
+                answers.put("getComponentId", recorded.getKey());
+                return new EntitySelectInteractionEvent(null, 0, EventStubs.stub(EntitySelectInteraction.class, answers));
+            case MODAL:
+                answers.put("getModalId", recorded.getKey());
+                answers.put("getValues", Collections.emptyList());
+                return new ModalInteractionEvent(null, 0, EventStubs.stub(ModalInteraction.class, answers));
+            case USER_CONTEXT:
+                answers.put("getName", recorded.getKey());
+                return new UserContextInteractionEvent(null, 0, EventStubs.stub(UserContextInteraction.class, answers));
+            case MESSAGE_CONTEXT:
+                answers.put("getName", recorded.getKey());
+                return new MessageContextInteractionEvent(null, 0, EventStubs.stub(MessageContextInteraction.class, answers));
+            case REACTION:
+                return reaction(recorded);
+            default:
+                throw new IllegalArgumentException("Cannot replay " + recorded.getType());
+        }
+    }
+
+    private static Map<String, Object> interaction(RecordedEvent recorded){
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getUser", user(recorded.getUserId()));
+        answers.put("getGuild", recorded.getGuildId() == 0 ? null : guild(recorded.getGuildId()));
+        answers.put("getMember", null);
+        answers.put("getMessageIdLong", recorded.getMessageId());
+        answers.put("getMessageId", Long.toUnsignedString(recorded.getMessageId()));
+        answers.put("getChannel", (InvocationHandler) (proxy, method, args) -> EventStubs.stub(method.getReturnType(), ids(recorded.getChannelId())));
+        return answers;
+    }
+
+    private static GenericEvent reaction(RecordedEvent recorded){
+        Map<String, Object> channel = ids(recorded.getChannelId());
+        MessageChannelUnion union;
+        if(recorded.getGuildId() != 0) {
+            channel.put("getType", ChannelType.TEXT);
+            channel.put("getGuild", guild(recorded.getGuildId()));
+            union = EventStubs.stub(MessageChannelUnion.class, channel, GuildMessageChannel.class);
+        } else {
+            channel.put("getType", ChannelType.PRIVATE);
+            union = EventStubs.stub(MessageChannelUnion.class, channel);
+        }
+        Map<String, Object> emoji = new HashMap<>();
+        emoji.put("getName", recorded.getKey());
+        MessageReaction reaction = new MessageReaction(union, EventStubs.stub(EmojiUnion.class, emoji), recorded.getMessageId(), false, 1);
+        User user = user(recorded.getUserId());
+        if(recorded.isAdding()) return new MessageReactionAddEvent(null, 0, user, null, reaction, recorded.getUserId());
+        return new MessageReactionRemoveEvent(null, 0, user, null, reaction, recorded.getUserId());
+    }
+
+    private static OptionMapping option(String name, int type, String value){
+        return option(DataObject.empty().put("name", name).put("type", type).put("value", value));
+    }
+
+    /**
+     * OptionMapping's constructor takes a trove map, which JDA only has at runtime, so it is called reflectively
+     */
+    static OptionMapping option(DataObject data){
+        try {
+            return (OptionMapping) OptionMapping.class.getConstructors()[0].newInstance(data, null, null, null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create option " + data.getString("name", ""), e);
+        }
+    }
+
+    static User user(long id){
+        return EventStubs.stub(User.class, ids(id));
+    }
+
+    static Guild guild(long id){
+        return EventStubs.stub(Guild.class, ids(id));
+    }
+
+    static Map<String, Object> ids(long id){
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getIdLong", id);
+        answers.put("getId", Long.toUnsignedString(id));
+        return answers;
+    }
+
+    private static String emptyToNull(String value){
+        return value.isEmpty() ? null : value;
+    }
+}
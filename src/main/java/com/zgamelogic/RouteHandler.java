@@ -0,0 +1,81 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An annotated method bound to the listener it belongs to, for one route.
+ * Created once when the routing table is built and reused for every event.
+ * Handlers registered through a {@link RouteRegistrar} have no {@link Method}.
+ * @author Ben Shabowski
+ */
+@Getter
+final class RouteHandler {
+    private final RouteType type;
+    /** Routing key the handler is bound to */
+    private final String key;
+    /** Readable form of the key */
+    private final String route;
+    private final HandlerBinding binding;
+    /** Cache the handler's autocomplete choices go through, null if they are not cached */
+    private final AutoCompleteCache cache;
+    /** Index answering the handler's autocomplete instead of calling it, null if it has no choice source */
+    private final ChoiceIndex choices;
+    /** Per user and per guild rates checked before the handler runs, null if there are none */
+    private final RateLimiter limiter;
+    /** Collects reactions into batches for {@link RouteType#REACTION_BATCH} handlers, null for every other type */
+    private final ReactionAggregator aggregator;
+    /** Tracks idle messages for {@link RouteType#COMPONENT_TIMEOUT} handlers, null for every other type */
+    private final TimeoutTracker timeouts;
+    /** The handler as interceptors see it */
+    private final RouteInfo info;
+    /** Interceptors named by the method's {@link AdvancedListenerAdapter.Intercept}, null if it has none */
+    private final InterceptorChain interceptors;
+
+    RouteHandler(RouteType type, String key, HandlerBinding binding, AutoCompleteCache cache, ChoiceIndex choices, RateLimiter limiter,
+                 ReactionAggregator aggregator, TimeoutTracker timeouts){
+        this.type = type;
+        this.key = key;
+        this.route = RoutingTable.route(key);
+        this.binding = binding;
+        this.cache = cache;
+        this.choices = choices;
+        this.limiter = limiter;
+        this.aggregator = aggregator;
+        this.timeouts = timeouts;
+        this.info = new RouteInfo(type, route, binding.getName(), binding.getMethod(), binding.getTarget());
+        this.interceptors = interceptors(binding.getMethod());
+    }
+
+    private static InterceptorChain interceptors(Method m){
+        AdvancedListenerAdapter.Intercept intercept = m == null ? null : m.getAnnotation(AdvancedListenerAdapter.Intercept.class);
+        if(intercept == null) return null;
+        List<Interceptor> interceptors = new ArrayList<>();
+        for(Class<? extends Interceptor> type : intercept.value()) interceptors.add(InterceptorChain.instance(type));
+        return InterceptorChain.of(interceptors);
+    }
+
+    Object getTarget(){
+        return binding.getTarget();
+    }
+
+    /**
+     * Name of the method this handler calls
+     * @return method name
+     */
+    String getName(){
+        return binding.getName();
+    }
+
+    Method getMethod(){
+        return binding.getMethod();
+    }
+
+    Object invoke(GenericEvent event, RouteMatch match, ComponentStateStore states) throws Throwable {
+        return binding.invoke(event, match, states);
+    }
+}
@@ -0,0 +1,46 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+/**
+ * The handler an event is routed to, as {@link Interceptor}s see it
+ * @author Ben Shabowski
+ */
+@Getter
+public final class RouteInfo {
+    private final RouteType type;
+    /** Annotation values of the route separated by spaces */
+    private final String route;
+    /** Name of the method that is called */
+    private final String handler;
+    /** Annotated method, null for handlers registered through a {@link RouteRegistrar} */
+    private final Method method;
+    /** Object the handler belongs to */
+    private final Object target;
+
+    RouteInfo(RouteType type, String route, String handler, Method method, Object target){
+        this.type = type;
+        this.route = route;
+        this.handler = handler;
+        this.method = method;
+        this.target = target;
+    }
+
+    /**
+     * Annotation on the handler method, for interceptors configured per handler
+     * @param annotation annotation type
+     * @return the annotation, or null if the method does not have it or the handler was registered without a method.
+     * Listeners whose handlers carry runtime annotations are never given generated dispatchers, so those always have one
+     */
+    public <A extends Annotation> A getAnnotation(Class<A> annotation){
+        return method == null ? null : method.getAnnotation(annotation);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + route + " -> " + handler;
+    }
+}
@@ -0,0 +1,80 @@
+package com.zgamelogic;
+
+import java.util.Map;
+
+/**
+ * A component id matched against an id template, holding where each parameter sits in the id.
+ * Parameter values are only cut out of the id when a handler asks for them.
+ * @author Ben Shabowski
+ */
+final class RouteMatch {
+    private final String id;
+    private final String template;
+    private final String[] names;
+    private final int[] bounds;
+    private final Map<String, RouteHandler[]> handlers;
+
+    RouteMatch(String id, String template, String[] names, int[] bounds, Map<String, RouteHandler[]> handlers){
+        this.id = id;
+        this.template = template;
+        this.names = names;
+        this.bounds = bounds;
+        this.handlers = handlers;
+    }
+
+    String getTemplate(){
+        return template;
+    }
+
+    /**
+     * Handlers bound to the template
+     * @param rest remainder of the routing key, empty for everything but string selections
+     * @return bound handlers, never null
+     */
+    RouteHandler[] lookup(String rest){
+        RouteHandler[] found = handlers.get(rest);
+        return found == null ? RoutingTable.NONE : found;
+    }
+
+    /**
+     * Value of a parameter
+     * @param name parameter name
+     * @return the value, or null if the template has no such parameter
+     */
+    String get(String name){
+        int index = indexOf(name);
+        return index < 0 ? null : id.substring(bounds[index * 2], bounds[index * 2 + 1]);
+    }
+
+    /**
+     * Value of a numeric parameter, parsed in place the way {@link Long#parseLong(String)} parses it
+     * @param name parameter name
+     * @return the value
+     * @throws NumberFormatException if the parameter is missing, not a number or out of range
+     */
+    long getLong(String name){
+        int index = indexOf(name);
+        if(index < 0) throw new NumberFormatException("No parameter " + name + " in " + template);
+        int from = bounds[index * 2];
+        int to = bounds[index * 2 + 1];
+        boolean negative = from < to && id.charAt(from) == '-';
+        if(negative) from++;
+        if(from == to) throw new NumberFormatException("Parameter " + name + " of " + id + " is not a number");
+        // accumulated negatively, since Long.MIN_VALUE has no positive counterpart
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for(int i = from; i < to; i++){
+            int digit = id.charAt(i) - '0';
+            if(digit < 0 || digit > 9) throw new NumberFormatException("Parameter " + name + " of " + id + " is not a number");
+            if(value < limit / 10 || value * 10 < limit + digit)
+                throw new NumberFormatException("Parameter " + name + " of " + id + " is out of range for a long");
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    private int indexOf(String name){
+        for(int i = 0; i < names.length; i++) if(names[i].equals(name)) return i;
+        return -1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+/**
+ * Receives routes without going through annotations.
+ * Each method takes the same values as the matching response annotation,
+ * a name used in logs, and the handler to call.
+ * @see GeneratedDispatcher
+ * @author Ben Shabowski
+ */
+public interface RouteRegistrar {
+    /** @see AdvancedListenerAdapter.AutoCompleteResponse */
+    void autoComplete(String slashCommandId, String slashSubCommandId, String focusedOption, String name, EventHandler<CommandAutoCompleteInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.UserInteractionResponse */
+    void userInteraction(String value, String name, EventHandler<UserContextInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.MessageInteractionResponse */
+    void messageInteraction(String value, String name, EventHandler<MessageContextInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.StringSelectionResponse */
+    void stringSelection(String value, String selectedOptionValue, String name, EventHandler<StringSelectInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.EntitySelectionResponse */
+    void entitySelection(String value, String name, EventHandler<EntitySelectInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.ModalResponse */
+    void modal(String value, String name, EventHandler<ModalInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.SlashResponse */
+    void slash(String value, String subCommandName, String name, EventHandler<SlashCommandInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.ButtonResponse */
+    void button(String value, String name, EventHandler<ButtonInteractionEvent> handler);
+
+    /** @see AdvancedListenerAdapter.EmoteResponse */
+    void emote(String value, boolean isAdding, String name, EventHandler<GenericMessageReactionEvent> handler);
+}
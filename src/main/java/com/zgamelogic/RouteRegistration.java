@@ -0,0 +1,50 @@
+package com.zgamelogic;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Routes added to a listener at runtime, removed together by {@link #unregister()}.
+ * Events already dispatched to a removed handler still reach it.
+ * @see AdvancedListenerAdapter#register(Object)
+ * @author Ben Shabowski
+ */
+public final class RouteRegistration implements AutoCloseable {
+
+    private final AdvancedListenerAdapter listener;
+    private final List<RouteHandler> handlers;
+    private final AtomicBoolean active = new AtomicBoolean(true);
+
+    RouteRegistration(AdvancedListenerAdapter listener, List<RouteHandler> handlers){
+        this.listener = listener;
+        this.handlers = Collections.unmodifiableList(handlers);
+    }
+
+    /**
+     * Removes every route of this registration from the listener and stops reloading their choice indexes
+     * @return true if the routes were removed, false if they already had been
+     */
+    public boolean unregister(){
+        if(!active.compareAndSet(true, false)) return false;
+        listener.unregister(handlers);
+        return true;
+    }
+
+    public boolean isActive(){
+        return active.get();
+    }
+
+    /**
+     * Number of handlers the registration bound
+     * @return handler count
+     */
+    public int getSize(){
+        return handlers.size();
+    }
+
+    @Override
+    public void close() {
+        unregister();
+    }
+}
@@ -0,0 +1,43 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+/**
+ * The kinds of events the {@link AdvancedListenerAdapter} routes to annotated methods.
+ * Each type has its own section in the routing table.
+ * @author Ben Shabowski
+ */
+@Getter
+public enum RouteType {
+    AUTO_COMPLETE(CommandAutoCompleteInteractionEvent.class, "onCommandAutoCompleteInteraction"),
+    USER_CONTEXT(UserContextInteractionEvent.class, "onUserContextInteraction"),
+    MESSAGE_CONTEXT(MessageContextInteractionEvent.class, "onMessageContextInteraction"),
+    STRING_SELECT(StringSelectInteractionEvent.class, "onStringSelectInteraction"),
+    ENTITY_SELECT(EntitySelectInteractionEvent.class, "onEntitySelectInteraction"),
+    MODAL(ModalInteractionEvent.class, "onModalInteraction"),
+    SLASH(SlashCommandInteractionEvent.class, "onSlashCommandInteraction"),
+    BUTTON(ButtonInteractionEvent.class, "onButtonInteraction"),
+    REACTION(GenericMessageReactionEvent.class, "onGenericMessageReaction"),
+    REACTION_BATCH(ReactionBatch.class, "onGenericMessageReaction"),
+    COMPONENT_TIMEOUT(ComponentExpiry.class, "onButtonInteraction");
+
+    /** Event class handed to methods of this type */
+    private final Class<? extends GenericEvent> eventClass;
+    /** Name of the listener callback that dispatches this type */
+    private final String callbackName;
+
+    RouteType(Class<? extends GenericEvent> eventClass, String callbackName){
+        this.eventClass = eventClass;
+        this.callbackName = callbackName;
+    }
+}
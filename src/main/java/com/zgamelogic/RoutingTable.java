@@ -0,0 +1,350 @@
+package com.zgamelogic;
+
+import com.zgamelogic.AdvancedListenerAdapter.*;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.UserContextInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Immutable lookup table from routing key to the handlers bound to it, one section per {@link RouteType}.
+ * Built once so that dispatching an event is a hash lookup instead of a reflection scan.
+ * <p>
+ * Routing keys are the annotation values joined with {@link #SEPARATOR}. Optional values
+ * (sub command, selected option) are stored as an empty segment, which acts as the wildcard.
+ * Component ids containing {@code {parameters}} are kept apart in an {@link IdTrie} per type.
+ * @author Ben Shabowski
+ */
+final class RoutingTable {
+
+    static final char SEPARATOR = '\u001F';
+    static final RouteHandler[] NONE = new RouteHandler[0];
+    /** Types whose ids can be templates */
+    static final Set<RouteType> TEMPLATED = Collections.unmodifiableSet(EnumSet.of(
+            RouteType.BUTTON, RouteType.MODAL, RouteType.STRING_SELECT, RouteType.ENTITY_SELECT, RouteType.COMPONENT_TIMEOUT));
+
+    private final EnumMap<RouteType, Map<String, RouteHandler[]>> routes;
+    private final EnumMap<RouteType, IdTrie> templates;
+    private final List<AutoCompleteCache> caches;
+    private final List<ChoiceIndex> indexes;
+    private final int size;
+
+    private RoutingTable(EnumMap<RouteType, Map<String, RouteHandler[]>> routes, EnumMap<RouteType, IdTrie> templates,
+                         List<AutoCompleteCache> caches, List<ChoiceIndex> indexes, int size){
+        this.routes = routes;
+        this.templates = templates;
+        this.caches = caches;
+        this.indexes = indexes;
+        this.size = size;
+    }
+
+    /**
+     * Handlers bound to a routing key
+     * @param type type of the event
+     * @param key routing key built with {@link #key(String, String)} or friends
+     * @return bound handlers, never null
+     */
+    RouteHandler[] lookup(RouteType type, String key){
+        Map<String, RouteHandler[]> section = routes.get(type);
+        if(section == null || key == null) return NONE;
+        RouteHandler[] handlers = section.get(key);
+        return handlers == null ? NONE : handlers;
+    }
+
+    /**
+     * Matches a component id against the id templates of a type
+     * @param type type of the event
+     * @param id component id
+     * @return the match, or null if the type has no template matching the id
+     */
+    RouteMatch match(RouteType type, String id){
+        IdTrie trie = templates.get(type);
+        return trie == null || id == null ? null : trie.match(id);
+    }
+
+    /**
+     * Calls an action for every bound handler, exact routes first and templates after
+     * @param action action to call
+     */
+    void forEach(Consumer<RouteHandler> action){
+        routes.values().forEach(section -> section.values().forEach(handlers -> {
+            for(RouteHandler handler : handlers) action.accept(handler);
+        }));
+        templates.values().forEach(trie -> trie.forEach(action));
+    }
+
+    /**
+     * Copy of this table with more handlers bound
+     * @param handlers handlers to add under their own keys
+     * @return the new table
+     */
+    RoutingTable plus(Collection<RouteHandler> handlers){
+        Builder builder = builder(InvocationMode.defaultMode());
+        forEach(builder::add);
+        handlers.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Copy of this table without some of its handlers
+     * @param handlers handlers to drop, compared by identity
+     * @return the new table
+     */
+    RoutingTable minus(Collection<RouteHandler> handlers){
+        Set<RouteHandler> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(handlers);
+        Builder builder = builder(InvocationMode.defaultMode());
+        forEach(handler -> {
+            if(!removed.contains(handler)) builder.add(handler);
+        });
+        return builder.build();
+    }
+
+    /**
+     * Caches of the autocomplete routes that asked for one
+     * @return caches in registration order
+     */
+    List<AutoCompleteCache> caches(){
+        return caches;
+    }
+
+    /**
+     * Choice indexes of the autocomplete routes with a choice source
+     * @return indexes in registration order
+     */
+    List<ChoiceIndex> indexes(){
+        return indexes;
+    }
+
+    /**
+     * Number of bound handlers across every route
+     * @return handler count
+     */
+    int size(){
+        return size;
+    }
+
+    static String key(String first, String second){
+        return first + SEPARATOR + second;
+    }
+
+    static String key(String first, String second, String third){
+        return first + SEPARATOR + second + SEPARATOR + third;
+    }
+
+    /**
+     * Readable form of a routing key for logs and metrics
+     * @param key routing key
+     * @return the key's values separated by spaces
+     */
+    static String route(String key){
+        return key.replace(SEPARATOR, ' ').trim();
+    }
+
+    static String reactionKey(String emoji, boolean adding){
+        return key(emoji, adding ? "+" : "-");
+    }
+
+    static Builder builder(InvocationMode mode){
+        return new Builder(mode);
+    }
+
+    static final class Builder {
+        private final EnumMap<RouteType, Map<String, List<RouteHandler>>> routes = new EnumMap<>(RouteType.class);
+        private final EnumMap<RouteType, IdTrie> templates = new EnumMap<>(RouteType.class);
+        private final List<AutoCompleteCache> caches = new ArrayList<>();
+        private final List<ChoiceIndex> indexes = new ArrayList<>();
+        private final InvocationMode mode;
+        private int size;
+
+        private Builder(InvocationMode mode){
+            this.mode = mode;
+        }
+
+        /**
+         * Binds every routing annotation on a method to the target object
+         * @param target object the method is called on
+         * @param m annotated method
+         * @return this builder
+         * @throws IllegalStateException if the method's parameters do not fit its routes
+         */
+        Builder addMethod(Object target, Method m){
+            HandlerBinding binding = HandlerBinding.of(target, m, mode);
+            for(AutoCompleteResponse a : m.getAnnotationsByType(AutoCompleteResponse.class)) {
+                String key = key(a.slashCommandId(), a.slashSubCommandId(), a.focusedOption());
+                add(new RouteHandler(RouteType.AUTO_COMPLETE, key, binding, cache(m, a, key), index(m, a, key), null, null, null));
+            }
+            for(UserInteractionResponse a : m.getAnnotationsByType(UserInteractionResponse.class))
+                add(binding, RouteType.USER_CONTEXT, a.value());
+            for(MessageInteractionResponse a : m.getAnnotationsByType(MessageInteractionResponse.class))
+                add(binding, RouteType.MESSAGE_CONTEXT, a.value());
+            for(StringSelectionResponse a : m.getAnnotationsByType(StringSelectionResponse.class))
+                add(binding, RouteType.STRING_SELECT, key(a.value(), a.selectedOptionValue()), null, RateLimiter.of(a.perUserRate(), a.perGuildRate()));
+            for(EntitySelectionResponse a : m.getAnnotationsByType(EntitySelectionResponse.class))
+                add(binding, RouteType.ENTITY_SELECT, a.value(), null, RateLimiter.of(a.perUserRate(), a.perGuildRate()));
+            for(ModalResponse a : m.getAnnotationsByType(ModalResponse.class))
+                add(binding, RouteType.MODAL, a.value());
+            for(SlashResponse a : m.getAnnotationsByType(SlashResponse.class))
+                add(binding, RouteType.SLASH, key(a.value(), a.subCommandName()), null, RateLimiter.of(a.perUserRate(), a.perGuildRate()));
+            for(ButtonResponse a : m.getAnnotationsByType(ButtonResponse.class))
+                add(binding, RouteType.BUTTON, a.value(), null, RateLimiter.of(a.perUserRate(), a.perGuildRate()));
+            for(EmoteResponse a : m.getAnnotationsByType(EmoteResponse.class))
+                add(binding, RouteType.REACTION, reactionKey(a.value(), a.isAdding()), null, RateLimiter.of(a.perUserRate(), a.perGuildRate()));
+            for(EmoteBatchResponse a : m.getAnnotationsByType(EmoteBatchResponse.class)) {
+                if(m.getParameterCount() != 1 || !ReactionBatch.class.isAssignableFrom(m.getParameterTypes()[0]))
+                    throw new IllegalStateException(m.getName() + " has an EmoteBatchResponse so it must take a ReactionBatch");
+                add(new RouteHandler(RouteType.REACTION_BATCH, a.value(), binding, null, null, null, new ReactionAggregator(a.window(), a.unit()), null));
+            }
+            for(ComponentTimeout a : m.getAnnotationsByType(ComponentTimeout.class)) {
+                if(m.getParameterCount() != 1 || !ComponentExpiry.class.isAssignableFrom(m.getParameterTypes()[0]))
+                    throw new IllegalStateException(m.getName() + " has a ComponentTimeout so it must take a ComponentExpiry");
+                add(new RouteHandler(RouteType.COMPONENT_TIMEOUT, a.value(), binding, null, null, null, null, new TimeoutTracker(TimeoutTracker.parse(a.after()))));
+            }
+            return this;
+        }
+
+        /**
+         * Adds a handler that is already bound, such as one from another table
+         * @param handler handler to add under its own key
+         * @return this builder
+         */
+        Builder add(RouteHandler handler){
+            if(handler.getCache() != null && !caches.contains(handler.getCache())) caches.add(handler.getCache());
+            if(handler.getChoices() != null && !indexes.contains(handler.getChoices())) indexes.add(handler.getChoices());
+            String key = handler.getKey();
+            HandlerBinding binding = handler.getBinding();
+            RouteType type = handler.getType();
+            int split = key.indexOf(SEPARATOR);
+            String id = split < 0 ? key : key.substring(0, split);
+            if(TEMPLATED.contains(type) && IdTrie.isTemplate(id)) {
+                if(!IdTrie.parameterNames(id).containsAll(binding.getIdParameters()))
+                    throw new IllegalStateException(binding.getName() + " asks for id parameters " + binding.getIdParameters() + " missing from " + id);
+                templates.computeIfAbsent(type, t -> new IdTrie())
+                        .section(id)
+                        .computeIfAbsent(split < 0 ? "" : key.substring(split + 1), k -> new ArrayList<>())
+                        .add(handler);
+            } else {
+                if(!binding.getIdParameters().isEmpty())
+                    throw new IllegalStateException(binding.getName() + " asks for id parameters but " + key + " is not an id template");
+                routes.computeIfAbsent(type, t -> new HashMap<>())
+                        .computeIfAbsent(key, k -> new ArrayList<>())
+                        .add(handler);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Registrar that binds the routes it receives to the target object
+         * @param target object the handlers belong to
+         * @return registrar adding to this builder
+         */
+        RouteRegistrar registrar(Object target){
+            return new Registrar(target);
+        }
+
+        private static AutoCompleteCache cache(Method m, AutoCompleteResponse a, String key){
+            if(a.cacheTtl() <= 0) return null;
+            if(!Collection.class.isAssignableFrom(m.getReturnType()))
+                throw new IllegalStateException(m.getName() + " has a cacheTtl so it must return its choices instead of replying");
+            return new AutoCompleteCache(route(key), a.cacheTtl(), a.cacheTtlUnit(), a.cacheScope(), a.cacheSize());
+        }
+
+        private static ChoiceIndex index(Method m, AutoCompleteResponse a, String key){
+            boolean source = a.choiceSource() != ChoiceSource.class;
+            if(!source && a.choiceResource().isEmpty()) return null;
+            if(source && !a.choiceResource().isEmpty())
+                throw new IllegalStateException(m.getName() + " has both a choiceSource and a choiceResource");
+            return source ? ChoiceIndex.of(route(key), a.choiceSource(), a.choiceReload(), a.choiceReloadUnit())
+                    : ChoiceIndex.of(route(key), m.getDeclaringClass().getClassLoader(), a.choiceResource(), a.choiceReload(), a.choiceReloadUnit());
+        }
+
+        private void add(HandlerBinding binding, RouteType type, String key){
+            add(binding, type, key, null, null);
+        }
+
+        private void add(HandlerBinding binding, RouteType type, String key, AutoCompleteCache cache, RateLimiter limiter){
+            add(new RouteHandler(type, key, binding, cache, null, limiter, null, null));
+        }
+
+        RoutingTable build(){
+            EnumMap<RouteType, Map<String, RouteHandler[]>> frozen = new EnumMap<>(RouteType.class);
+            routes.forEach((type, section) -> {
+                Map<String, RouteHandler[]> copy = new HashMap<>(section.size() * 2);
+                section.forEach((key, handlers) -> copy.put(key, handlers.toArray(NONE)));
+                frozen.put(type, Collections.unmodifiableMap(copy));
+            });
+            templates.values().forEach(IdTrie::freeze);
+            return new RoutingTable(frozen, new EnumMap<>(templates), Collections.unmodifiableList(new ArrayList<>(caches)),
+                    Collections.unmodifiableList(new ArrayList<>(indexes)), size);
+        }
+    
+        private final class Registrar implements RouteRegistrar {
+            private final Object target;
+
+            private Registrar(Object target){
+                this.target = target;
+            }
+
+            @Override
+            public void autoComplete(String slashCommandId, String slashSubCommandId, String focusedOption, String name, EventHandler<CommandAutoCompleteInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.AUTO_COMPLETE, key(slashCommandId, slashSubCommandId, focusedOption));
+            }
+
+            @Override
+            public void userInteraction(String value, String name, EventHandler<UserContextInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.USER_CONTEXT, value);
+            }
+
+            @Override
+            public void messageInteraction(String value, String name, EventHandler<MessageContextInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.MESSAGE_CONTEXT, value);
+            }
+
+            @Override
+            public void stringSelection(String value, String selectedOptionValue, String name, EventHandler<StringSelectInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.STRING_SELECT, key(value, selectedOptionValue));
+            }
+
+            @Override
+            public void entitySelection(String value, String name, EventHandler<EntitySelectInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.ENTITY_SELECT, value);
+            }
+
+            @Override
+            public void modal(String value, String name, EventHandler<ModalInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.MODAL, value);
+            }
+
+            @Override
+            public void slash(String value, String subCommandName, String name, EventHandler<SlashCommandInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.SLASH, key(value, subCommandName));
+            }
+
+            @Override
+            public void button(String value, String name, EventHandler<ButtonInteractionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.BUTTON, value);
+            }
+
+            @Override
+            public void emote(String value, boolean isAdding, String name, EventHandler<GenericMessageReactionEvent> handler) {
+                add(HandlerBinding.of(target, name, invoker(handler)), RouteType.REACTION, reactionKey(value, isAdding));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends GenericEvent> HandlerInvoker invoker(EventHandler<E> handler){
+        return event -> handler.handle((E) event);
+    }
+}
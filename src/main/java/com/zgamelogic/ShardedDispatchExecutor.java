@@ -0,0 +1,238 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs each guild's handlers on one of a fixed set of single threaded workers, so handlers for a guild run one at a time,
+ * in the order their events arrived, and per guild state needs no locking. Direct messages are keyed by channel instead.
+ * <p>
+ * A guild sticks to the worker its id hashes to while it has handlers queued or running. When it goes idle its affinity is dropped,
+ * and its next event goes to the least busy worker instead if the hashed one is more than {@link #getImbalance()} tasks behind it.
+ * That moves quiet guilds away from a worker a hot guild is keeping busy without ever splitting one guild's work across threads.
+ * <p>
+ * Worker queues are bounded. Submitting to a full queue blocks the event thread until there is room, because running the
+ * handler anywhere else would break the ordering.
+ * <pre>{@code
+ * listener.setDispatchExecutor(new ShardedDispatchExecutor(Runtime.getRuntime().availableProcessors()));
+ * }</pre>
+ * @author Ben Shabowski
+ */
+@Slf4j
+public class ShardedDispatchExecutor implements DispatchExecutor, AutoCloseable {
+
+    /** Queued behind the last task by {@link #close()} */
+    private static final Job STOP = new Job(null, 0, null);
+
+    private final Worker[] workers;
+    @Getter
+    private final int imbalance;
+    private final ConcurrentHashMap<Long, Affinity> affinities = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder rebalanced = new LongAdder();
+    @Getter
+    private final ExecutionStats stats = new ExecutionStats();
+    private volatile boolean closed;
+
+    /**
+     * Executor with 1024 tasks per worker queue that moves idle guilds once a worker is 64 tasks behind
+     * @param workers number of worker threads
+     */
+    public ShardedDispatchExecutor(int workers){
+        this(workers, 1024, 64);
+    }
+
+    /**
+     * @param workers number of worker threads
+     * @param capacity tasks each worker can have queued
+     * @param imbalance how many more tasks a guild's hashed worker may have queued than the least busy one before an idle guild is moved
+     */
+    public ShardedDispatchExecutor(int workers, int capacity, int imbalance){
+        if(workers < 1) throw new IllegalArgumentException("workers must be at least 1");
+        this.imbalance = imbalance;
+        this.workers = new Worker[workers];
+        for(int i = 0; i < workers; i++) this.workers[i] = new Worker(i, capacity);
+    }
+
+    @Override
+    public void execute(DispatchTask task) {
+        stats.recordSubmitted();
+        if(closed) {
+            reject(task, "the executor is closed");
+            return;
+        }
+        long key = key(task);
+        Affinity affinity = null;
+        Worker worker;
+        if(key == 0) {
+            worker = leastBusy(workers[Math.floorMod(next.getAndIncrement(), workers.length)]);
+        } else {
+            Affinity[] assigned = new Affinity[1];
+            affinities.compute(key, (k, a) -> {
+                if(a == null) a = new Affinity(assign(k));
+                a.pending++;
+                return assigned[0] = a;
+            });
+            affinity = assigned[0];
+            worker = affinity.worker;
+        }
+        Job job = new Job(task, key, affinity);
+        worker.depth.incrementAndGet();
+        try {
+            worker.queue.put(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.done(job);
+            reject(task, "the event thread was interrupted");
+            return;
+        }
+        // queued after the worker drained its queue on close, so nothing else will take it
+        if(worker.stopped && worker.queue.remove(job)) worker.cancel(job);
+    }
+
+    private void reject(DispatchTask task, String reason){
+        stats.recordRejected();
+        task.cancel();
+        log.warn("Dropped " + task.getHandler() + " for a " + task.getType() + " because " + reason);
+    }
+
+    private static long key(DispatchTask task){
+        long guild = task.getGuildId();
+        if(guild != 0) return guild;
+        long channel = task.getChannelId();
+        return channel != 0 ? channel : task.getUserId();
+    }
+
+    private Worker assign(long key){
+        Worker home = workers[Math.floorMod((int) ((key * 0x9E3779B97F4A7C15L) >>> 32), workers.length)];
+        Worker worker = leastBusy(home);
+        if(worker != home) rebalanced.increment();
+        return worker;
+    }
+
+    private Worker leastBusy(Worker preferred){
+        Worker least = preferred;
+        for(Worker worker : workers) if(worker.depth.get() < least.depth.get()) least = worker;
+        return preferred.depth.get() - least.depth.get() > imbalance ? least : preferred;
+    }
+
+    /**
+     * Tasks queued or running on a worker
+     * @param worker index of the worker
+     * @return the worker's depth
+     */
+    public int getDepth(int worker){
+        return workers[worker].depth.get();
+    }
+
+    public int getWorkers(){
+        return workers.length;
+    }
+
+    /**
+     * Guilds and channels with handlers queued or running, each pinned to one worker
+     * @return active keys
+     */
+    public int getActiveKeys(){
+        return affinities.size();
+    }
+
+    /**
+     * Times an idle guild was sent to a less busy worker than the one its id hashes to
+     * @return rebalance count
+     */
+    public long getRebalanced(){
+        return rebalanced.sum();
+    }
+
+    /**
+     * Stops the workers once they have run the tasks already queued. Tasks submitted from now on are cancelled.
+     * Waits for room in full queues.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            for(Worker worker : workers) worker.queue.put(STOP);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while stopping the workers, some keep running until their queue has room");
+        }
+    }
+
+    /**
+     * A task queued on a worker, with the key it was pinned by
+     */
+    private static final class Job {
+        private final DispatchTask task;
+        private final long key;
+        private final Affinity affinity;
+
+        private Job(DispatchTask task, long key, Affinity affinity){
+            this.task = task;
+            this.key = key;
+            this.affinity = affinity;
+        }
+    }
+
+    /**
+     * Worker a key is pinned to, and how many of its tasks have not finished. Only changed inside the affinity map's compute.
+     */
+    private static final class Affinity {
+        private final Worker worker;
+        private int pending;
+
+        private Affinity(Worker worker){
+            this.worker = worker;
+        }
+    }
+
+    private final class Worker {
+        private final BlockingQueue<Job> queue;
+        private final AtomicInteger depth = new AtomicInteger();
+        private volatile boolean stopped;
+
+        private Worker(int index, int capacity){
+            queue = new LinkedBlockingQueue<>(capacity);
+            Thread thread = new Thread(this::work, "ala-shard-" + index);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void work(){
+            while (true) {
+                Job job;
+                try {
+                    job = queue.take();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if(job == STOP) break;
+                try {
+                    stats.run(job.task);
+                } finally {
+                    done(job);
+                }
+            }
+            stopped = true;
+            for(Job job; (job = queue.poll()) != null; ) if(job != STOP) cancel(job);
+        }
+
+        private void cancel(Job job){
+            done(job);
+            reject(job.task, "the executor is closed");
+        }
+
+        private void done(Job job){
+            depth.decrementAndGet();
+            Affinity affinity = job.affinity;
+            if(affinity != null) affinities.computeIfPresent(job.key, (k, a) -> a == affinity && --a.pending == 0 ? null : a);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.zgamelogic;
+
+/**
+ * Where a {@link ComponentStateStore} keeps its states.
+ * Implement it over a local file or an embedded database to keep component state across restarts.
+ * Implementations must be thread safe and should drop entries once their expiry has passed.
+ * @see HeapStateBackend
+ * @see OffHeapStateBackend
+ * @author Ben Shabowski
+ */
+public interface StateBackend extends AutoCloseable {
+    /**
+     * Stores a state, replacing any state under the same key
+     * @param key message id and component id of the state
+     * @param state state to store
+     * @param expiresAtMillis wall clock time in milliseconds after which the state is gone
+     */
+    void put(String key, Object state, long expiresAtMillis);
+
+    /**
+     * @param key message id and component id of the state
+     * @param nowMillis current wall clock time in milliseconds
+     * @return the state, or null if there is none or it expired
+     */
+    Object get(String key, long nowMillis);
+
+    /**
+     * @param key message id and component id of the state
+     * @return true if a state was removed
+     */
+    boolean remove(String key);
+
+    /**
+     * States held, possibly including expired ones not dropped yet
+     * @return state count
+     */
+    int size();
+
+    @Override
+    default void close() {}
+}
@@ -0,0 +1,40 @@
+package com.zgamelogic;
+
+import java.io.*;
+
+/**
+ * Turns component states into bytes for backends that store them serialised
+ * @see OffHeapStateBackend
+ * @author Ben Shabowski
+ */
+public interface StateCodec {
+    byte[] encode(Object state) throws IOException;
+
+    Object decode(byte[] bytes) throws IOException;
+
+    /**
+     * Codec using Java serialisation, for states that implement {@link Serializable}
+     * @return the codec
+     */
+    static StateCodec serialization(){
+        return new StateCodec() {
+            @Override
+            public byte[] encode(Object state) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(state);
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            public Object decode(byte[] bytes) throws IOException {
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return in.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new InvalidClassException(e.getMessage());
+                }
+            }
+        };
+    }
+}
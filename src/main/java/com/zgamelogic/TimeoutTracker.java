@@ -0,0 +1,147 @@
+package com.zgamelogic;
+
+import net.dv8tion.jda.api.JDA;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tracks the messages of one {@link AdvancedListenerAdapter.ComponentTimeout} route and expires the ones left idle.
+ * <p>
+ * A message is tracked with its deadline on one shared {@link HashedWheelTimer}. An interaction only moves the deadline forward
+ * with a compare-and-set; when the timer reaches a message whose deadline moved, it schedules it again for the time left,
+ * so resetting allocates nothing and the timer holds one timeout per message however often it is used.
+ * @author Ben Shabowski
+ */
+final class TimeoutTracker {
+
+    private static final Pattern FORMAT = Pattern.compile("\\s*(\\d+)\\s*(ms|s|m|min|h|d)\\s*");
+    /** Deadline of a message that expired, so it cannot be extended anymore */
+    private static final long EXPIRED = Long.MIN_VALUE;
+
+    private final long timeoutNanos;
+    private final ConcurrentHashMap<Long, Tracked> tracked = new ConcurrentHashMap<>();
+
+    TimeoutTracker(long timeoutNanos){
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Parses a timeout
+     * @param spec timeout such as {@code 30s}, {@code 5m} or {@code 1h}, with {@code ms}, {@code s}, {@code m} or {@code min}, {@code h} and {@code d}
+     * @return the timeout in nanoseconds
+     * @throws IllegalStateException if the spec cannot be parsed
+     */
+    static long parse(String spec){
+        Matcher matcher = FORMAT.matcher(spec);
+        if(!matcher.matches() || Long.parseLong(matcher.group(1)) == 0)
+            throw new IllegalStateException("Invalid timeout " + spec + ", expected something like 30s or 5m");
+        TimeUnit unit;
+        switch (matcher.group(2)){
+            case "ms": unit = TimeUnit.MILLISECONDS; break;
+            case "s": unit = TimeUnit.SECONDS; break;
+            case "h": unit = TimeUnit.HOURS; break;
+            case "d": unit = TimeUnit.DAYS; break;
+            default: unit = TimeUnit.MINUTES;
+        }
+        return unit.toNanos(Long.parseLong(matcher.group(1)));
+    }
+
+    /**
+     * Starts tracking a message, or restarts its timeout if it is tracked already
+     * @param componentId component interacted with
+     * @param deliver called on the timer thread once the message was idle for the timeout
+     */
+    void touch(JDA jda, long guildId, long channelId, long messageId, String componentId, Consumer<ComponentExpiry> deliver){
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            Tracked entry = tracked.get(messageId);
+            if(entry == null) {
+                Tracked created = new Tracked(this, jda, guildId, channelId, messageId, componentId, deliver, deadline);
+                if(tracked.putIfAbsent(messageId, created) == null) {
+                    Timer.INSTANCE.schedule(created, timeoutNanos, TimeUnit.NANOSECONDS);
+                    return;
+                }
+            } else if(entry.extend(deadline, componentId)) {
+                return;
+            } else {
+                tracked.remove(messageId, entry); // expired and not forgotten yet
+            }
+        }
+    }
+
+    /**
+     * Messages being tracked
+     * @return tracked messages
+     */
+    int size(){
+        return tracked.size();
+    }
+
+    private static final class Tracked implements Runnable {
+        private static final AtomicLongFieldUpdater<Tracked> DEADLINE = AtomicLongFieldUpdater.newUpdater(Tracked.class, "deadline");
+
+        private final TimeoutTracker tracker;
+        private final JDA jda;
+        private final long guildId;
+        private final long channelId;
+        private final long messageId;
+        private final Consumer<ComponentExpiry> deliver;
+        private volatile String componentId;
+        private volatile long deadline;
+
+        private Tracked(TimeoutTracker tracker, JDA jda, long guildId, long channelId, long messageId, String componentId,
+                        Consumer<ComponentExpiry> deliver, long deadline){
+            this.tracker = tracker;
+            this.jda = jda;
+            this.guildId = guildId;
+            this.channelId = channelId;
+            this.messageId = messageId;
+            this.componentId = componentId;
+            this.deliver = deliver;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return false if the message expired already
+         */
+        private boolean extend(long deadline, String componentId){
+            while (true) {
+                long current = this.deadline;
+                if(current == EXPIRED) return false;
+                if(deadline - current <= 0 || DEADLINE.compareAndSet(this, current, deadline)) {
+                    this.componentId = componentId;
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            long current;
+            while (true) {
+                current = deadline;
+                long remaining = current - System.nanoTime();
+                if(remaining > 0) {
+                    Timer.INSTANCE.schedule(this, remaining, TimeUnit.NANOSECONDS);
+                    return;
+                }
+                if(DEADLINE.compareAndSet(this, current, EXPIRED)) break;
+            }
+            tracker.tracked.remove(messageId, this);
+            long idle = System.nanoTime() - current + tracker.timeoutNanos;
+            deliver.accept(new ComponentExpiry(guildId, channelId, messageId, componentId, TimeUnit.NANOSECONDS.toMillis(idle), jda));
+        }
+    }
+
+    /**
+     * One timer for every tracker, started the first time a message is tracked
+     */
+    private static final class Timer {
+        private static final HashedWheelTimer INSTANCE = new HashedWheelTimer("ala-timeouts", 100, TimeUnit.MILLISECONDS, 512);
+    }
+}
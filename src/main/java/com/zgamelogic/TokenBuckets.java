@@ -0,0 +1,111 @@
+package com.zgamelogic;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for one {@link RateLimit}, one per user or guild id.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time its next token is earned (the generic cell rate algorithm),
+ * so taking a token is one compare-and-set. A bucket that has refilled is indistinguishable from a new one and gets swept,
+ * so only ids active within the last period use memory. Buckets are split over stripes that are swept one at a time.
+ * @author Ben Shabowski
+ */
+final class TokenBuckets {
+
+    private static final int STRIPES = 16;
+    /** Marks a bucket that was swept; whoever sees it looks the id up again */
+    private static final long SWEPT = Long.MIN_VALUE;
+
+    private final RateLimit limit;
+    private final long interval;
+    private final long tolerance;
+    private final Map<Long, AtomicLong>[] stripes;
+    private final AtomicLong nextSweep;
+    private final AtomicInteger sweepStripe = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    TokenBuckets(RateLimit limit){
+        this.limit = limit;
+        this.interval = limit.getPeriodNanos() / limit.getPermits();
+        this.tolerance = limit.getPeriodNanos() - interval;
+        this.stripes = new Map[STRIPES];
+        for(int i = 0; i < STRIPES; i++) stripes[i] = new ConcurrentHashMap<>();
+        this.nextSweep = new AtomicLong(System.nanoTime() + sweepInterval());
+    }
+
+    RateLimit getLimit(){
+        return limit;
+    }
+
+    /**
+     * Takes a token from an id's bucket
+     * @param id user or guild id
+     * @param now current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise nanoseconds until one is available
+     */
+    long tryAcquire(long id, long now){
+        sweepIfDue(now);
+        Map<Long, AtomicLong> stripe = stripes[stripe(id)];
+        while (true) {
+            AtomicLong bucket = stripe.get(id);
+            if(bucket == null) bucket = stripe.computeIfAbsent(id, k -> new AtomicLong(now));
+            long earned = bucket.get();
+            if(earned == SWEPT) {
+                stripe.remove(id, bucket);
+                continue;
+            }
+            long start = earned - now > 0 ? earned : now;
+            long wait = start - now - tolerance;
+            if(wait > 0) return wait;
+            if(bucket.compareAndSet(earned, start + interval)) return 0;
+        }
+    }
+
+    /**
+     * Gives back a token taken from an id's bucket, when what it was taken for did not go ahead
+     * @param id user or guild id
+     */
+    void release(long id){
+        AtomicLong bucket = stripes[stripe(id)].get(id);
+        if(bucket == null) return;
+        while (true) {
+            long earned = bucket.get();
+            if(earned == SWEPT || bucket.compareAndSet(earned, earned - interval)) return;
+        }
+    }
+
+    /**
+     * Buckets currently held
+     * @return bucket count
+     */
+    int size(){
+        int size = 0;
+        for(Map<Long, AtomicLong> stripe : stripes) size += stripe.size();
+        return size;
+    }
+
+    private void sweepIfDue(long now){
+        long due = nextSweep.get();
+        if(now - due < 0 || !nextSweep.compareAndSet(due, now + sweepInterval())) return;
+        Map<Long, AtomicLong> stripe = stripes[sweepStripe.getAndIncrement() & (STRIPES - 1)];
+        stripe.forEach((id, bucket) -> {
+            long earned = bucket.get();
+            if(earned != SWEPT && now - earned >= 0 && bucket.compareAndSet(earned, SWEPT)) stripe.remove(id, bucket);
+        });
+    }
+
+    /**
+     * Every stripe is swept about once per period, the earliest a used bucket can refill
+     */
+    private long sweepInterval(){
+        return Math.max(1, limit.getPeriodNanos() / STRIPES);
+    }
+
+    private static int stripe(long id){
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 60) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.zgamelogic;
+
+import lombok.Getter;
+
+/**
+ * Snapshot of the metrics for every handler of one event type added together
+ * @author Ben Shabowski
+ */
+@Getter
+public final class TypeMetrics {
+    private final RouteType type;
+    private final long matches;
+    private final long invocations;
+    private final long failures;
+    private final LatencySnapshot latency;
+    private final long responseFailures;
+    private final LatencySnapshot responseLatency;
+
+    TypeMetrics(RouteType type, long matches, long failures, LatencySnapshot latency, long responseFailures, LatencySnapshot responseLatency){
+        this.type = type;
+        this.matches = matches;
+        this.invocations = latency.getCount();
+        this.failures = failures;
+        this.latency = latency;
+        this.responseFailures = responseFailures;
+        this.responseLatency = responseLatency;
+    }
+
+    TypeMetrics merge(HandlerMetrics handler){
+        return new TypeMetrics(type, matches + handler.getMatches(), failures + handler.getFailures(), latency.merge(handler.getLatency()),
+                responseFailures + handler.getResponseFailures(), responseLatency.merge(handler.getResponseLatency()));
+    }
+
+    @Override
+    public String toString() {
+        return type + ": matches=" + matches + ", invocations=" + invocations + ", failures=" + failures + ", " + latency
+                + (responseLatency.getCount() == 0 ? "" : ", responses " + responseLatency + ", response failures=" + responseFailures);
+    }
+}
@@ -1,6 +1,67 @@
+import com.sun.net.httpserver.HttpServer;
+import com.zgamelogic.AdvancedListenerRegistry;
+import com.zgamelogic.AsyncDispatchExecutor;
+import com.zgamelogic.AutoCompleteCache;
+import com.zgamelogic.ChoiceIndex;
+import com.zgamelogic.ComponentExpiry;
+import com.zgamelogic.ComponentStateStore;
+import com.zgamelogic.DeferralWatchdog;
+import com.zgamelogic.DispatchMetrics;
+import com.zgamelogic.EditCoalescer;
+import com.zgamelogic.ErrorReporter;
+import com.zgamelogic.HandlerError;
+import com.zgamelogic.HandlerMetrics;
+import com.zgamelogic.InteractionRecorder;
+import com.zgamelogic.InteractionReplayer;
+import com.zgamelogic.InteractionServer;
+import com.zgamelogic.Interceptor;
+import com.zgamelogic.InvocationMode;
+import com.zgamelogic.LaneMetrics;
+import com.zgamelogic.OffHeapStateBackend;
+import com.zgamelogic.PermissionInterceptor;
+import com.zgamelogic.PriorityDispatchExecutor;
+import com.zgamelogic.RateLimited;
+import com.zgamelogic.ReactionBatch;
+import com.zgamelogic.RecordedEvent;
+import com.zgamelogic.RouteInfo;
+import com.zgamelogic.RouteRegistration;
+import com.zgamelogic.RouteType;
+import com.zgamelogic.ShardedDispatchExecutor;
+import com.zgamelogic.TypeMetrics;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleRemoveEvent;
+import net.dv8tion.jda.api.interactions.commands.Command;
 import org.junit.Before;
 import org.junit.Test;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+
 public class ALATest {
 
     private TestListener tl;
@@ -14,4 +75,535 @@ public class ALATest {
     public void registeringMethodsTest(){
         assert tl.getAnnotatedMethods().size() == 9;
     }
+
+    @Test
+    public void routesButtonsByIdTest(){
+        tl.onButtonInteraction(StubEvents.button("test1"));
+        tl.onButtonInteraction(StubEvents.button("test2"));
+        tl.onButtonInteraction(StubEvents.button("other"));
+        assert tl.calls.size() == 2;
+    }
+
+    @Test
+    public void wildcardRoutesTest(){
+        tl.onSlashCommandInteraction(StubEvents.slash("test", "sub"));
+        tl.onSlashCommandInteraction(StubEvents.slash("test", null));
+        tl.onStringSelectInteraction(StubEvents.stringSelect("test", "anything"));
+        assert tl.calls.equals(asList("slash", "slash", "select"));
+    }
+
+    @Test
+    public void reflectiveModeTest(){
+        TestListener reflective = new TestListener(InvocationMode.REFLECTIVE);
+        reflective.onButtonInteraction(StubEvents.button("test1"));
+        assert reflective.calls.equals(asList("button"));
+    }
+
+    @Test
+    public void asyncDispatchTest() throws InterruptedException {
+        AsyncDispatchExecutor executor = AsyncDispatchExecutor.boundedPool(4, 100, AsyncDispatchExecutor.Ordering.USER);
+        tl.setDispatchExecutor(executor);
+        for(int i = 0; i < 50; i++) tl.onButtonInteraction(StubEvents.button("test1"));
+        for(int i = 0; i < 100 && (executor.getStats().getCompleted() < 50 || executor.getActiveLanes() > 0); i++) Thread.sleep(10);
+        executor.close();
+        assert tl.calls.size() == 50;
+        assert executor.getStats().getSubmitted() == 50;
+        assert executor.getActiveLanes() == 0;
+
+        AsyncDispatchExecutor rejecting = new AsyncDispatchExecutor(task -> { throw new RejectedExecutionException("full"); }, AsyncDispatchExecutor.Ordering.USER);
+        tl.setDispatchExecutor(rejecting);
+        tl.onButtonInteraction(StubEvents.button("test1"));
+        assert rejecting.getStats().getRejected() == 1 && rejecting.getActiveLanes() == 0;
+
+        tl.setDispatchExecutor(executor);
+        tl.onButtonInteraction(StubEvents.button("test1"));
+        tl.onButtonInteraction(StubEvents.button("test1"));
+        assert executor.getStats().getRejected() == 2 && executor.getActiveLanes() == 0;
+        AsyncDispatchExecutor unordered = AsyncDispatchExecutor.boundedPool(1, 1, AsyncDispatchExecutor.Ordering.NONE);
+        unordered.close();
+        tl.setDispatchExecutor(unordered);
+        tl.onButtonInteraction(StubEvents.button("test1"));
+        assert unordered.getStats().getRejected() == 1;
+        assert tl.calls.size() == 50;
+    }
+
+    @Test
+    public void priorityDispatchTest() throws InterruptedException {
+        PriorityDispatchExecutor executor = PriorityDispatchExecutor.builder(1)
+                .lane(PriorityDispatchExecutor.Priority.NORMAL, 2, 3, TimeUnit.SECONDS, PriorityDispatchExecutor.Overflow.REJECT)
+                .build();
+        TemplateListener blocker = new TemplateListener();
+        blocker.setDispatchExecutor(executor);
+        tl.setDispatchExecutor(executor);
+        blocker.onButtonInteraction(StubEvents.button("slow:200"));
+        Thread.sleep(50);
+        for(int i = 0; i < 3; i++) tl.onStringSelectInteraction(StubEvents.stringSelect("test", "a"));
+        tl.onSlashCommandInteraction(StubEvents.slash("test", null));
+        for(int i = 0; i < 100 && executor.getStats().getInFlight() > 0; i++) Thread.sleep(10);
+        executor.close();
+        assert tl.calls.equals(asList("slash", "select", "select"));
+        LaneMetrics normal = executor.getLane(PriorityDispatchExecutor.Priority.NORMAL);
+        assert normal.getSubmitted() == 4 && normal.getShed() == 1 && normal.getDepth() == 0;
+        assert executor.getLane(PriorityDispatchExecutor.Priority.HIGH).getWaits().getCount() == 1;
+    }
+
+    @Test
+    public void shardedDispatchTest() throws InterruptedException {
+        ShardedDispatchExecutor executor = new ShardedDispatchExecutor(4);
+        TemplateListener listener = new TemplateListener();
+        listener.setDispatchExecutor(executor);
+        List<String> expected = new ArrayList<>();
+        for(int i = 0; i < 50; i++){
+            listener.onButtonInteraction(StubEvents.button("vote:" + i + ":yes"));
+            expected.add("vote " + i + " yes");
+        }
+        for(int i = 0; i < 100 && executor.getStats().getInFlight() > 0; i++) Thread.sleep(10);
+        executor.close();
+        assert listener.calls.equals(expected);
+        assert executor.getActiveKeys() == 0;
+
+        listener.onButtonInteraction(StubEvents.button("vote:50:yes"));
+        assert executor.getStats().getRejected() == 1 && executor.getActiveKeys() == 0;
+        assert listener.calls.equals(expected);
+    }
+
+    @Test
+    public void recordReplayTest() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        InteractionRecorder recorder = new InteractionRecorder(log);
+        tl.setRecorder(recorder);
+        tl.onButtonInteraction(StubEvents.button("test1"));
+        tl.onSlashCommandInteraction(StubEvents.slash("test", null));
+        tl.onStringSelectInteraction(StubEvents.stringSelect("test", "a"));
+        tl.onGenericMessageReaction(StubEvents.reaction("", 5, 7, true));
+        recorder.close();
+        assert recorder.getRecorded() == 4;
+
+        List<RecordedEvent> events = InteractionReplayer.read(new ByteArrayInputStream(log.toByteArray()));
+        assert events.size() == 4 && events.get(3).getUserId() == 7 && events.get(3).isAdding();
+        TestListener replayed = new TestListener();
+        InteractionReplayer.ReplayReport report = new InteractionReplayer(events).replay(replayed, 0);
+        assert replayed.calls.equals(tl.calls);
+        assert report.getEvents() == 4 && report.getHandlerLatency().getCount() == 4;
+    }
+
+    @Test
+    public void templateRoutesTest(){
+        TemplateListener listener = new TemplateListener();
+        listener.onButtonInteraction(StubEvents.button("vote:1234:yes"));
+        listener.onButtonInteraction(StubEvents.button("vote:77:close"));
+        listener.onButtonInteraction(StubEvents.button("page:2"));
+        listener.onButtonInteraction(StubEvents.button("page"));
+        listener.onButtonInteraction(StubEvents.button("vote:1:yes:extra"));
+        listener.onButtonInteraction(StubEvents.button("vote:-9223372036854775808:no"));
+        listener.onButtonInteraction(StubEvents.button("vote:18446744073709551617:no"));
+        listener.onStringSelectInteraction(StubEvents.stringSelect("menu:x", "a"));
+        listener.onStringSelectInteraction(StubEvents.stringSelect("menu:x", "b"));
+        assert listener.calls.equals(asList("vote 1234 yes", "close 77", "page", "vote -9223372036854775808 no", "menu x"));
+    }
+
+    @Test
+    public void componentStateTest(){
+        TemplateListener listener = new TemplateListener();
+        ComponentStateStore states = new ComponentStateStore(new OffHeapStateBackend(1 << 16), 1, TimeUnit.MINUTES);
+        listener.setComponentStateStore(states);
+        states.attach(10, "", new ArrayList<>(asList("apple", "pear")));
+        states.attach(10, "cart:clear", new ArrayList<>());
+        listener.onButtonInteraction(StubEvents.button("cart:checkout", 10));
+        listener.onButtonInteraction(StubEvents.button("cart:clear", 10));
+        listener.onButtonInteraction(StubEvents.button("cart:checkout", 11));
+        assert listener.calls.equals(asList("checkout [apple, pear]", "clear []", "checkout null"));
+        assert states.remove(10, "") && states.getSize() == 1;
+
+        OffHeapStateBackend backend = new OffHeapStateBackend(1 << 12);
+        for(int i = 0; i < 1000; i++){
+            backend.put("k" + i, "value " + i, Long.MAX_VALUE);
+            if(i % 3 == 0) backend.remove("k" + (i - 1));
+        }
+        assert backend.getAllocatedBytes() == 1 << 12 && backend.getUsedBytes() <= 1 << 12;
+        assert "value 999".equals(backend.get("k999", 0)) && "value 997".equals(backend.get("k997", 0));
+        assert backend.get("k998", 0) == null && backend.get("k0", 0) == null;
+    }
+
+    @Test
+    public void interceptorTest(){
+        InterceptedListener listener = new InterceptedListener();
+        List<String> audit = new ArrayList<>();
+        listener.addInterceptor(new Interceptor() {
+            public boolean before(GenericEvent event, RouteInfo route) {
+                audit.add("before " + route.getHandler());
+                return true;
+            }
+
+            public void after(GenericEvent event, RouteInfo route, Object result, Throwable failure) {
+                audit.add("after " + route.getHandler());
+            }
+        });
+        List<EnumSet<Permission>> denied = new ArrayList<>();
+        PermissionInterceptor permissions = new PermissionInterceptor() {
+            protected void onDenied(GenericEvent event, RouteInfo route, EnumSet<Permission> missing) {
+                denied.add(missing);
+            }
+        };
+        listener.addInterceptor(permissions);
+        EnumSet<Permission> granted = EnumSet.of(Permission.BAN_MEMBERS, Permission.MESSAGE_SEND);
+        Member member = StubEvents.member(5, () -> granted);
+
+        listener.onButtonInteraction(StubEvents.button("open"));
+        listener.onButtonInteraction(StubEvents.button("closed"));
+        listener.onButtonInteraction(StubEvents.button("ban", member));
+        listener.onButtonInteraction(StubEvents.button("ban", member));
+        assert listener.calls.equals(asList("open", "ban", "ban"));
+        assert audit.equals(asList("before open", "after open", "before closed", "after closed", "before ban", "after ban", "before ban", "after ban"));
+        assert permissions.getHits() == 1 && permissions.getMisses() == 1;
+
+        granted.remove(Permission.BAN_MEMBERS);
+        listener.onButtonInteraction(StubEvents.button("ban", member));
+        assert listener.calls.size() == 4 && denied.isEmpty();
+        listener.onGenericEvent(new GuildMemberRoleRemoveEvent(null, 0, member, Collections.emptyList()));
+        listener.onButtonInteraction(StubEvents.button("ban", member));
+        listener.onButtonInteraction(StubEvents.button("ban"));
+        assert listener.calls.size() == 4;
+        assert denied.equals(asList(EnumSet.of(Permission.BAN_MEMBERS), EnumSet.of(Permission.BAN_MEMBERS, Permission.MESSAGE_SEND)));
+    }
+
+    @Test
+    public void editCoalescerTest(){
+        EditCoalescer edits = new EditCoalescer(0, TimeUnit.MILLISECONDS, 1);
+        List<Consumer<Object>> queued = new ArrayList<>();
+        List<Integer> built = new ArrayList<>();
+        for(int i = 0; i < 5; i++){
+            int page = i;
+            edits.edit(7, () -> {
+                built.add(page);
+                return StubEvents.restAction(queued);
+            });
+        }
+        assert built.equals(asList(0)) && edits.getSaved() == 3 && edits.getSize() == 1;
+        edits.edit(8, () -> StubEvents.restAction(queued));
+        assert edits.getBypassed() == 1 && queued.size() == 2;
+
+        queued.get(0).accept(null);
+        assert built.equals(asList(0, 4)) && edits.getSent() == 3;
+        queued.get(2).accept(null);
+        assert edits.getSize() == 0 && edits.getSubmitted() == 6;
+    }
+
+    @Test
+    public void editCoalescerIdleRaceTest() throws InterruptedException {
+        // requests complete on the editing thread, so messages keep going idle while other threads hand over edits;
+        // one landing in a slot that was just forgotten used to be neither sent nor counted as saved
+        EditCoalescer edits = new EditCoalescer(0, TimeUnit.MILLISECONDS, 16);
+        List<Thread> threads = new ArrayList<>();
+        for(int t = 0; t < 4; t++){
+            threads.add(new Thread(() -> {
+                for(int i = 0; i < 200_000; i++) edits.edit(i & 1, StubEvents::restAction);
+            }));
+        }
+        threads.forEach(Thread::start);
+        for(Thread thread : threads) thread.join();
+        assert edits.getSize() == 0 && edits.getSubmitted() == 800_000;
+        assert edits.getSent() + edits.getSaved() == edits.getSubmitted() : edits.getSent() + " + " + edits.getSaved();
+    }
+
+    @Test
+    public void interactionFollowUpTest() throws IOException, GeneralSecurityException, InterruptedException {
+        BlockingQueue<String> requests = new LinkedBlockingQueue<>();
+        HttpServer discord = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        discord.createContext("/", exchange -> {
+            byte[] body = new byte[8192];
+            int length = 0;
+            for(int read; (read = exchange.getRequestBody().read(body, length, body.length - length)) > 0; ) length += read;
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " " + new String(body, 0, length, StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        discord.start();
+        KeyPair keys = InteractionClient.keys();
+        try (InteractionServer server = new InteractionServer(InteractionClient.publicKey(keys), new InetSocketAddress("localhost", 0), new TemplateListener())) {
+            server.setApiBaseUrl("http://localhost:" + discord.getAddress().getPort());
+            server.start();
+            InteractionClient client = new InteractionClient(keys, server.getAddress());
+            String interaction = "\"id\":\"5\",\"application_id\":\"42\",\"token\":\"t\",\"channel_id\":\"3\",\"user\":{\"id\":\"1\"},\"message\":{\"id\":\"7\"}";
+            assert client.post("{\"type\":3," + interaction + ",\"data\":{\"custom_id\":\"follow\",\"component_type\":2}}")
+                    .equals("200 {\"data\":{\"flags\":64},\"type\":5}");
+            List<String> sent = new ArrayList<>();
+            for(int i = 0; i < 2; i++) sent.add(requests.poll(5, TimeUnit.SECONDS));
+            Collections.sort(sent);
+            assert sent.get(0).startsWith("PATCH /webhooks/42/t/messages/@original ") && sent.get(0).contains("\"content\":\"edited\"") : sent;
+            assert sent.get(1).startsWith("POST /webhooks/42/t ") && sent.get(1).contains("\"content\":\"done\"") && sent.get(1).contains("\"flags\":64") : sent;
+        } finally {
+            discord.stop(0);
+        }
+    }
+
+    @Test
+    public void interactionServerTest() throws IOException, GeneralSecurityException {
+        KeyPair keys = InteractionClient.keys();
+        TemplateListener templates = new TemplateListener();
+        try (InteractionServer server = new InteractionServer(InteractionClient.publicKey(keys), new InetSocketAddress("localhost", 0),
+                1000, TimeUnit.MILLISECONDS, templates, new AutoCompleteListener())) {
+            server.start();
+            InteractionClient client = new InteractionClient(keys, server.getAddress());
+            assert client.post("{\"type\":1}").equals("200 {\"type\":1}");
+            assert client.post("{\"type\":1}", false).startsWith("401 ");
+            assert client.post("{\"type\":1}", true, System.currentTimeMillis() / 1000 - 600).equals("401 Stale request timestamp");
+
+            String interaction = "\"id\":\"5\",\"token\":\"t\",\"guild_id\":\"9\",\"channel_id\":\"3\",\"member\":{\"user\":{\"id\":\"1\"}},\"message\":{\"id\":\"7\"}";
+            assert client.post("{\"type\":3," + interaction + ",\"data\":{\"custom_id\":\"ack\",\"component_type\":2}}").equals("200 {\"type\":6}");
+            String choices = client.post("{\"type\":4," + interaction + ",\"data\":{\"name\":\"fruit\",\"options\":[{\"name\":\"name\",\"type\":3,\"value\":\"blue\",\"focused\":true}]}}");
+            assert choices.startsWith("200 ") && choices.contains("\"type\":8") && choices.contains("\"name\":\"blueberry\"");
+            assert client.post("{\"type\":3," + interaction + ",\"data\":{\"custom_id\":\"vote:4:yes\",\"component_type\":2}}").equals("200 {\"type\":6}");
+            assert templates.calls.equals(asList("vote 4 yes"));
+            // the handler runs inline on its listener, yet the deferral goes out after a second rather than once it returns
+            long start = System.nanoTime();
+            assert client.post("{\"type\":3," + interaction + ",\"data\":{\"custom_id\":\"slow:3000\",\"component_type\":2}}").equals("200 {\"type\":6}");
+            assert System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(2500);
+            assert server.getReceived() == 4 && server.getRejected() == 2 && server.getDeferred() == 2 && server.getOverloaded() == 0 : server.getReceived() + " " + server.getRejected() + " " + server.getDeferred() + " " + server.getOverloaded();
+        }
+    }
+
+    @Test
+    public void componentTimeoutTest() throws InterruptedException {
+        TemplateListener listener = new TemplateListener();
+        listener.onButtonInteraction(StubEvents.button("pager:1", 7));
+        listener.onButtonInteraction(StubEvents.button("pager:1", 8));
+        Thread.sleep(250);
+        listener.onButtonInteraction(StubEvents.button("pager:2", 8));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (listener.expired.isEmpty() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assert listener.expired.size() == 1 && listener.expired.get(0).getMessageId() == 7;
+        while (listener.expired.size() < 2 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        ComponentExpiry reset = listener.expired.get(1);
+        assert reset.getMessageId() == 8 && reset.getComponentId().equals("pager:2") && reset.getIdleMillis() >= 400;
+        Thread.sleep(200);
+        assert listener.expired.size() == 2;
+    }
+
+    @Test
+    public void errorReporterTest() throws InterruptedException {
+        TemplateListener listener = new TemplateListener(InvocationMode.REFLECTIVE);
+        List<HandlerError> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch busy = new CountDownLatch(1);
+        // holds the reporter thread on the first record until close interrupts it, so the failures after it are still buffered then
+        ErrorReporter reporter = new ErrorReporter(error -> {
+            errors.add(error);
+            if(!error.getHandler().equals("later")) return;
+            busy.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, TimeUnit.MINUTES, 16);
+        listener.setErrorReporter(reporter);
+        listener.onButtonInteraction(StubEvents.button("later"));
+        listener.response.completeExceptionally(new IllegalStateException("Unknown interaction"));
+        assert busy.await(5, TimeUnit.SECONDS);
+        for(int i = 0; i < 5; i++) listener.onButtonInteraction(StubEvents.button("fail:" + i));
+        reporter.close();
+        assert reporter.getSuppressed() == 4 && reporter.getDropped() == 0;
+        assert errors.size() == 3 && errors.get(1).getRepeats() == 0 && errors.get(2).getRepeats() == 4 : errors;
+        HandlerError error = errors.get(1);
+        assert error.getError() instanceof IllegalStateException && error.getError().getMessage().equals("broken 0");
+        assert error.getHandler().equals("fail") && error.getUserId() == 1 && error.getFingerprint() == errors.get(2).getFingerprint();
+    }
+
+    @Test
+    public void handlerResponseTest(){
+        TemplateListener listener = new TemplateListener();
+        DispatchMetrics metrics = new DispatchMetrics();
+        listener.setDispatchMetrics(metrics);
+        List<HandlerError> errors = new CopyOnWriteArrayList<>();
+        ErrorReporter reporter = new ErrorReporter(errors::add);
+        listener.setErrorReporter(reporter);
+        List<String> acks = new ArrayList<>();
+        listener.onButtonInteraction(StubEvents.button("ack", acks));
+        listener.onButtonInteraction(StubEvents.button("later"));
+        listener.onButtonInteraction(StubEvents.button("ack:later", acks));
+        assert acks.equals(asList("deferEdit", "submit", "deferEdit", "submit")) : acks;
+        assert metrics.getType(RouteType.BUTTON).getResponseLatency().getCount() == 2;
+
+        listener.response.completeExceptionally(new IllegalStateException("Unknown interaction"));
+        reporter.close();
+        TypeMetrics buttons = metrics.getType(RouteType.BUTTON);
+        assert buttons.getResponseLatency().getCount() == 3 && buttons.getResponseFailures() == 1 && buttons.getFailures() == 0;
+        assert errors.size() == 1 && errors.get(0).getHandler().equals("later") && errors.get(0).getError().getMessage().equals("Unknown interaction");
+    }
+
+    @Test
+    public void metricsTest() throws JMException {
+        DispatchMetrics metrics = new DispatchMetrics();
+        tl.setDispatchMetrics(metrics);
+        for(int i = 0; i < 3; i++) tl.onButtonInteraction(StubEvents.button("test1"));
+        tl.onButtonInteraction(StubEvents.button("test2"));
+        tl.onSlashCommandInteraction(StubEvents.slash("test", null));
+        List<HandlerMetrics> handlers = metrics.getHandlers();
+        assert handlers.size() == 3;
+        assert handlers.stream().anyMatch(h -> h.getRoute().equals("test1") && h.getInvocations() == 3);
+        assert metrics.getType(RouteType.BUTTON).getMatches() == 4;
+        assert metrics.getType(RouteType.BUTTON).getLatency().getP99() <= metrics.getType(RouteType.BUTTON).getLatency().getMax();
+        ObjectName name = metrics.publish("test");
+        try {
+            CompositeData[] types = (CompositeData[]) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Types");
+            assert types.length == 2;
+        } finally {
+            metrics.close();
+        }
+    }
+
+    @Test
+    public void autoCompleteCacheTest(){
+        AutoCompleteListener listener = new AutoCompleteListener();
+        DispatchMetrics metrics = new DispatchMetrics();
+        listener.setDispatchMetrics(metrics);
+        List<Object> replies = new ArrayList<>();
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "name", "blue", replies));
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "name", "blue", replies));
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "name", "rasp", replies));
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "name", "straw", replies));
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "name", "blue", replies));
+        AutoCompleteCache cache = listener.getAutoCompleteCaches().get(0);
+        assert replies.size() == 5;
+        assert listener.loads.get() == 4;
+        assert cache.getHits() == 1 && cache.getMisses() == 4 && cache.getEvictions() == 2;
+        assert metrics.getType(RouteType.AUTO_COMPLETE).getResponseLatency().getCount() == 5;
+    }
+
+    @Test
+    public void choiceIndexCloseTest(){
+        AutoCompleteListener listener = new AutoCompleteListener();
+        ChoiceIndex index = listener.getChoiceIndexes().get(0);
+        assert index.isReloading();
+        listener.close();
+        assert !index.isReloading();
+
+        TemplateListener host = new TemplateListener();
+        RouteRegistration module = host.register(new AutoCompleteListener());
+        ChoiceIndex registered = host.getChoiceIndexes().get(0);
+        assert registered.isReloading();
+        module.unregister();
+        assert !registered.isReloading() && host.getChoiceIndexes().isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void choiceIndexTest() throws Exception {
+        AutoCompleteListener listener = new AutoCompleteListener();
+        List<Object> replies = new ArrayList<>();
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "color", "BL", replies));
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "color", "gray", replies));
+        ChoiceIndex index = listener.getChoiceIndexes().get(0);
+        index.reload();
+        List<String> names = new ArrayList<>();
+        for(Command.Choice choice : (Collection<Command.Choice>) replies.get(0)) names.add(choice.getName());
+        assert names.equals(asList("black", "Blue", "Blush", "Sky blue"));
+        assert ((Collection<?>) replies.get(1)).size() == 25;
+        assert listener.loads.get() == 0;
+        assert index.getSize() == 35 && index.getLookups() == 2 && index.getLoads() == 2;
+        List<Object> contained = new ArrayList<>();
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "color", "LU", contained));
+        listener.onCommandAutoCompleteInteraction(StubEvents.autoComplete("fruit", "color", "y 2", contained));
+        names.clear();
+        for(Command.Choice choice : (Collection<Command.Choice>) contained.get(0)) names.add(choice.getName());
+        assert names.equals(asList("Blue", "Sky blue", "Blush"));
+        names.clear();
+        for(Command.Choice choice : (Collection<Command.Choice>) contained.get(1)) names.add(choice.getName());
+        assert names.equals(asList("Gray 2", "Gray 20", "Gray 21", "Gray 22", "Gray 23", "Gray 24", "Gray 25", "Gray 26", "Gray 27", "Gray 28", "Gray 29"));
+    }
+
+    @Test
+    public void reactionBatchTest() throws InterruptedException {
+        ReactionListener listener = new ReactionListener();
+        listener.onGenericMessageReaction(StubEvents.reaction("star", 10, 1, true));
+        listener.onGenericMessageReaction(StubEvents.reaction("star", 10, 2, true));
+        listener.onGenericMessageReaction(StubEvents.reaction("star", 10, 1, false));
+        listener.onGenericMessageReaction(StubEvents.reaction("star", 11, 3, true));
+        listener.onGenericMessageReaction(StubEvents.reaction("heart", 10, 3, true));
+        for(int i = 0; i < 100 && listener.batches.size() < 2; i++) Thread.sleep(10);
+        assert listener.batches.size() == 2;
+        ReactionBatch batch = listener.batches.stream().filter(b -> b.getMessageId() == 10).findFirst().orElse(null);
+        assert batch != null && batch.getAddedUserIds().equals(asList(1L, 2L)) && batch.getRemovedUserIds().equals(asList(1L));
+        assert batch.getNet() == 1 && batch.getEmoji().equals("star");
+    }
+
+    @Test
+    public void deferralWatchdogTest(){
+        TemplateListener listener = new TemplateListener();
+        try (DeferralWatchdog watchdog = new DeferralWatchdog(50, TimeUnit.MILLISECONDS)) {
+            listener.setDeferralWatchdog(watchdog);
+            List<String> slow = new ArrayList<>();
+            List<String> fast = new ArrayList<>();
+            listener.onButtonInteraction(StubEvents.button("slow:300", slow));
+            listener.onButtonInteraction(StubEvents.button("slow:0", fast));
+            assert slow.equals(asList("deferEdit"));
+            assert fast.isEmpty();
+            assert watchdog.getWatched() == 2 && watchdog.getDeferred() == 1 && watchdog.getPending() == 0;
+        }
+    }
+
+    @Test
+    public void registryTest(){
+        TemplateListener templates = new TemplateListener();
+        AdvancedListenerRegistry registry = new AdvancedListenerRegistry(tl, templates);
+        registry.onButtonInteraction(StubEvents.button("test1"));
+        registry.onButtonInteraction(StubEvents.button("page:2"));
+        assert tl.calls.equals(asList("button"));
+        assert templates.calls.equals(asList("page"));
+        try {
+            new AdvancedListenerRegistry(tl, new TestListener());
+            assert false;
+        } catch (IllegalStateException expected) {
+            assert expected.getMessage().contains("BUTTON test1");
+        }
+    }
+
+    @Test
+    public void runtimeRegistrationTest(){
+        RouteRegistration beta = tl.register(routes -> routes.button("beta", "beta", event -> tl.calls.add("beta")));
+        TemplateListener module = new TemplateListener();
+        RouteRegistration templates = tl.register(module);
+        DispatchMetrics metrics = new DispatchMetrics();
+        tl.setDispatchMetrics(metrics);
+        tl.onButtonInteraction(StubEvents.button("beta"));
+        tl.onButtonInteraction(StubEvents.button("page:1"));
+        assert metrics.getHandlers().size() == 2;
+        assert beta.unregister() && !beta.unregister();
+        templates.close();
+        assert metrics.getHandlers().isEmpty();
+        tl.onButtonInteraction(StubEvents.button("beta"));
+        tl.onButtonInteraction(StubEvents.button("page:1"));
+        tl.onButtonInteraction(StubEvents.button("test1"));
+        assert tl.calls.equals(asList("beta", "button"));
+        assert module.calls.equals(asList("page"));
+    }
+
+    @Test
+    public void inheritedHandlersTest(){
+        DerivedListener listener = new DerivedListener();
+        for(String id : asList("base", "inherited", "replaced", "replacement")) listener.onButtonInteraction(StubEvents.button(id));
+        assert listener.calls.equals(asList("base", "derived inherited", "derived replaced"));
+        assert new DerivedListener().getAnnotatedMethods().size() == 3;
+    }
+
+    @Test
+    public void rateLimitTest(){
+        TemplateListener listener = new TemplateListener();
+        for(int i = 0; i < 3; i++) listener.onButtonInteraction(StubEvents.button("roll"));
+        assert listener.calls.equals(asList("roll", "roll"));
+        assert listener.limited.size() == 1;
+        assert listener.limited.get(0).getScope() == RateLimited.Scope.USER && listener.limited.get(0).getRetryAfterNanos() > 0;
+    }
+
+    @Test
+    public void guildRateLimitTest(){
+        TemplateListener listener = new TemplateListener();
+        listener.onButtonInteraction(StubEvents.button("vote", 1, 9));
+        listener.onButtonInteraction(StubEvents.button("vote", 2, 9));
+        listener.onButtonInteraction(StubEvents.button("vote", 3, 9));
+        listener.onButtonInteraction(StubEvents.button("vote", 3, 8));
+        listener.onButtonInteraction(StubEvents.button("vote", 3, 8));
+        assert listener.calls.equals(asList("vote 1", "vote 2", "vote 3", "vote 3"));
+        assert listener.limited.size() == 1 && listener.limited.get(0).getScope() == RateLimited.Scope.GUILD;
+    }
 }
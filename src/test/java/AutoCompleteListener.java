@@ -0,0 +1,39 @@
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.CacheScope;
+import com.zgamelogic.ChoiceSource;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.Command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AutoCompleteListener extends AdvancedListenerAdapter {
+
+    final AtomicInteger loads = new AtomicInteger();
+
+    @AutoCompleteResponse(slashCommandId = "fruit", focusedOption = "name", cacheTtl = 1, cacheScope = CacheScope.USER, cacheSize = 2)
+    private List<Command.Choice> fruit(CommandAutoCompleteInteractionEvent event){
+        loads.incrementAndGet();
+        String typed = event.getFocusedOption().getValue();
+        return Collections.singletonList(new Command.Choice(typed + "berry", typed + "berry"));
+    }
+
+    @AutoCompleteResponse(slashCommandId = "fruit", focusedOption = "color", choiceSource = Colors.class, choiceReload = 60)
+    private void color(CommandAutoCompleteInteractionEvent event){
+        loads.incrementAndGet();
+    }
+
+    public static class Colors implements ChoiceSource {
+        @Override
+        public Collection<Command.Choice> load() {
+            List<Command.Choice> choices = new ArrayList<>();
+            for(String name : Arrays.asList("Sky blue", "Red", "Blush", "Blue", "black")) choices.add(new Command.Choice(name, name.toLowerCase()));
+            for(int i = 0; i < 30; i++) choices.add(new Command.Choice("Gray " + i, "gray" + i));
+            return choices;
+        }
+    }
+}
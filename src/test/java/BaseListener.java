@@ -0,0 +1,20 @@
+import com.zgamelogic.AdvancedListenerAdapter;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+public abstract class BaseListener extends AdvancedListenerAdapter {
+
+    final List<String> calls = Collections.synchronizedList(new LinkedList<>());
+
+    @ButtonResponse("base")
+    private void base(ButtonInteractionEvent event){ calls.add("base"); }
+
+    @ButtonResponse("inherited")
+    public void inherited(ButtonInteractionEvent event){ calls.add("base inherited"); }
+
+    @ButtonResponse("replaced")
+    public void replaced(ButtonInteractionEvent event){ calls.add("base replaced"); }
+}
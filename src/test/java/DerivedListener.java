@@ -0,0 +1,11 @@
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+
+public class DerivedListener extends BaseListener {
+
+    @Override
+    public void inherited(ButtonInteractionEvent event){ calls.add("derived inherited"); }
+
+    @Override
+    @ButtonResponse("replacement")
+    public void replaced(ButtonInteractionEvent event){ calls.add("derived replaced"); }
+}
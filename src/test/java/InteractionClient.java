@@ -0,0 +1,82 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+
+/**
+ * Posts interaction payloads signed like Discord signs them, with a key pair of its own
+ */
+public final class InteractionClient {
+
+    private final KeyPair keys;
+    private final InetSocketAddress address;
+
+    public InteractionClient(KeyPair keys, InetSocketAddress address){
+        this.keys = keys;
+        this.address = address;
+    }
+
+    public static KeyPair keys() throws GeneralSecurityException {
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+
+    /**
+     * Raw public key as hex, the last 32 bytes of its X.509 encoding
+     */
+    public static String publicKey(KeyPair keys){
+        byte[] encoded = keys.getPublic().getEncoded();
+        StringBuilder hex = new StringBuilder();
+        for(int i = encoded.length - 32; i < encoded.length; i++) hex.append(String.format("%02x", encoded[i]));
+        return hex.toString();
+    }
+
+    /**
+     * @return the status code and body, separated by a space
+     */
+    public String post(String json) throws IOException, GeneralSecurityException {
+        return post(json, true);
+    }
+
+    public String post(String json, boolean signed) throws IOException, GeneralSecurityException {
+        return post(json, signed, System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * @param seconds signed timestamp, in seconds since the epoch
+     */
+    public String post(String json, boolean signed, long seconds) throws IOException, GeneralSecurityException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        String timestamp = Long.toString(seconds);
+        Signature signer = Signature.getInstance("Ed25519");
+        signer.initSign(keys.getPrivate());
+        signer.update(timestamp.getBytes(StandardCharsets.UTF_8));
+        signer.update(signed ? body : new byte[0]);
+        StringBuilder signature = new StringBuilder();
+        for(byte b : signer.sign()) signature.append(String.format("%02x", b));
+
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + address.getPort() + "/interactions").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setRequestProperty("X-Signature-Ed25519", signature.toString());
+        connection.setRequestProperty("X-Signature-Timestamp", timestamp);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        for(int read; (read = in.read(buffer)) != -1; ) response.write(buffer, 0, read);
+        in.close();
+        return status + " " + new String(response.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
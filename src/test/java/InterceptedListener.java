@@ -0,0 +1,39 @@
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.Interceptor;
+import com.zgamelogic.RouteInfo;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+public class InterceptedListener extends AdvancedListenerAdapter {
+
+    final List<String> calls = Collections.synchronizedList(new LinkedList<>());
+
+    @ButtonResponse("open")
+    private void open(ButtonInteractionEvent event){
+        calls.add("open");
+    }
+
+    @ButtonResponse("closed")
+    @Intercept(Closed.class)
+    private void closed(ButtonInteractionEvent event){
+        calls.add("closed");
+    }
+
+    @ButtonResponse("ban")
+    @RequirePermissions({Permission.BAN_MEMBERS, Permission.MESSAGE_SEND})
+    private void ban(ButtonInteractionEvent event){
+        calls.add("ban");
+    }
+
+    public static class Closed implements Interceptor {
+        @Override
+        public boolean before(GenericEvent event, RouteInfo route) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.ReactionBatch;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+public class ReactionListener extends AdvancedListenerAdapter {
+
+    final List<ReactionBatch> batches = new CopyOnWriteArrayList<>();
+
+    @EmoteBatchResponse(value = "star", window = 100, unit = TimeUnit.MILLISECONDS)
+    private void stars(ReactionBatch batch){
+        batches.add(batch);
+    }
+}
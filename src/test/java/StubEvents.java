@@ -0,0 +1,201 @@
+import com.zgamelogic.EventStubs;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageReaction;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.entities.emoji.EmojiUnion;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
+import net.dv8tion.jda.api.interactions.commands.CommandAutoCompleteInteraction;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectInteraction;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.AutoCompleteCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.MessageEditCallbackAction;
+import net.dv8tion.jda.api.utils.data.DataObject;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Builds JDA events without a gateway connection by proxying the interaction interfaces
+ */
+public final class StubEvents {
+
+    private StubEvents(){}
+
+    public static ButtonInteractionEvent button(String id){
+        return button(id, new ArrayList<>());
+    }
+
+    /**
+     * Button event on the message with the given id
+     */
+    public static ButtonInteractionEvent button(String id, long messageId){
+        Map<String, Object> answers = base();
+        answers.put("getComponentId", id);
+        answers.put("getMessageIdLong", messageId);
+        return new ButtonInteractionEvent(null, 0, EventStubs.stub(ButtonInteraction.class, answers));
+    }
+
+    /**
+     * Button event that adds the name of every acknowledgement made to it to acks
+     */
+    public static ButtonInteractionEvent button(String id, List<String> acks){
+        Map<String, Object> answers = base();
+        answers.put("getComponentId", id);
+        answers.put("deferEdit", (InvocationHandler) (proxy, method, args) -> {
+            acks.add(method.getName());
+            Map<String, Object> action = new HashMap<>();
+            action.put("submit", (InvocationHandler) (stub, submit, none) -> {
+                acks.add("submit");
+                return CompletableFuture.completedFuture(null);
+            });
+            return EventStubs.stub(MessageEditCallbackAction.class, action);
+        });
+        return new ButtonInteractionEvent(null, 0, EventStubs.stub(ButtonInteraction.class, answers));
+    }
+
+    /**
+     * Button event from a member, in channel 3 of the member's guild
+     */
+    public static ButtonInteractionEvent button(String id, Member member){
+        Map<String, Object> answers = base();
+        answers.put("getComponentId", id);
+        answers.put("getMember", member);
+        Map<String, Object> channel = new HashMap<>();
+        channel.put("getIdLong", 3L);
+        answers.put("getChannel", EventStubs.stub(MessageChannelUnion.class, channel, GuildChannel.class));
+        return new ButtonInteractionEvent(null, 0, EventStubs.stub(ButtonInteraction.class, answers));
+    }
+
+    /**
+     * Button event from a user in a guild
+     */
+    public static ButtonInteractionEvent button(String id, long userId, long guildId){
+        Map<String, Object> answers = base();
+        answers.put("getComponentId", id);
+        answers.put("getUser", user(String.valueOf(userId)));
+        Map<String, Object> guild = new HashMap<>();
+        guild.put("getIdLong", guildId);
+        answers.put("getGuild", EventStubs.stub(Guild.class, guild));
+        return new ButtonInteractionEvent(null, 0, EventStubs.stub(ButtonInteraction.class, answers));
+    }
+
+    /**
+     * Member of guild 9 whose permissions are asked from permissions on every lookup
+     */
+    public static Member member(long userId, Supplier<EnumSet<Permission>> permissions){
+        Map<String, Object> guild = new HashMap<>();
+        guild.put("getIdLong", 9L);
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getIdLong", userId);
+        answers.put("getGuild", EventStubs.stub(Guild.class, guild));
+        answers.put("getPermissions", (InvocationHandler) (proxy, method, args) -> permissions.get());
+        return EventStubs.stub(Member.class, answers);
+    }
+
+    public static SlashCommandInteractionEvent slash(String name, String subcommand){
+        Map<String, Object> answers = base();
+        answers.put("getName", name);
+        answers.put("getSubcommandName", subcommand);
+        return new SlashCommandInteractionEvent(null, 0, EventStubs.stub(SlashCommandInteraction.class, answers));
+    }
+
+    public static StringSelectInteractionEvent stringSelect(String id, String value){
+        Map<String, Object> answers = base();
+        answers.put("getComponentId", id);
+        answers.put("getValues", Collections.singletonList(value));
+        return new StringSelectInteractionEvent(null, 0, EventStubs.stub(StringSelectInteraction.class, answers));
+    }
+
+    /**
+     * Autocomplete event that adds the choices it is replied with to replies
+     */
+    public static CommandAutoCompleteInteractionEvent autoComplete(String name, String option, String value, List<Object> replies){
+        Map<String, Object> answers = base();
+        answers.put("getName", name);
+        DataObject data = DataObject.empty().put("name", option).put("type", 3).put("value", value);
+        answers.put("getFocusedOption", new AutoCompleteQuery(new OptionMapping(data, null, null, null)));
+        answers.put("replyChoices", (InvocationHandler) (proxy, method, args) -> {
+            replies.add(args[0]);
+            return EventStubs.stub(AutoCompleteCallbackAction.class, new HashMap<>());
+        });
+        return new CommandAutoCompleteInteractionEvent(null, 0, EventStubs.stub(CommandAutoCompleteInteraction.class, answers));
+    }
+
+    /**
+     * Reaction added or removed by a user on a message in a private channel
+     */
+    public static GenericMessageReactionEvent reaction(String emoji, long messageId, long userId, boolean adding){
+        Map<String, Object> channel = new HashMap<>();
+        channel.put("getIdLong", 3L);
+        channel.put("getType", ChannelType.PRIVATE);
+        Map<String, Object> name = new HashMap<>();
+        name.put("getName", emoji);
+        MessageReaction reaction = new MessageReaction(EventStubs.stub(MessageChannelUnion.class, channel), EventStubs.stub(EmojiUnion.class, name), messageId, false, 1);
+        if(adding) return new MessageReactionAddEvent(null, 0, null, null, reaction, userId);
+        return new MessageReactionRemoveEvent(null, 0, null, null, reaction, userId);
+    }
+
+    /**
+     * Request that adds its success callback to queued instead of sending anything
+     */
+    @SuppressWarnings("unchecked")
+    public static RestAction<Object> restAction(List<Consumer<Object>> queued){
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("queue", (InvocationHandler) (proxy, method, args) -> {
+            queued.add(args != null && args.length > 0 && args[0] != null ? (Consumer<Object>) args[0] : done -> {});
+            return null;
+        });
+        return EventStubs.stub(RestAction.class, answers);
+    }
+
+    /**
+     * Request that succeeds as soon as it is queued, on the queuing thread
+     */
+    @SuppressWarnings("unchecked")
+    public static RestAction<Object> restAction(){
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("queue", (InvocationHandler) (proxy, method, args) -> {
+            if(args != null && args.length > 0 && args[0] != null) ((Consumer<Object>) args[0]).accept(null);
+            return null;
+        });
+        return EventStubs.stub(RestAction.class, answers);
+    }
+
+    public static User user(String id){
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getId", id);
+        answers.put("getIdLong", Long.parseLong(id));
+        return EventStubs.stub(User.class, answers);
+    }
+
+    private static Map<String, Object> base(){
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getUser", user("1"));
+        answers.put("getGuild", null);
+        answers.put("getMember", null);
+        return answers;
+    }
+}
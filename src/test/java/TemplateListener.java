@@ -0,0 +1,103 @@
+import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.ComponentExpiry;
+import com.zgamelogic.InvocationMode;
+import com.zgamelogic.RateLimited;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class TemplateListener extends AdvancedListenerAdapter {
+
+    final List<String> calls = Collections.synchronizedList(new LinkedList<>());
+    final List<ComponentExpiry> expired = Collections.synchronizedList(new LinkedList<>());
+    final List<RateLimited> limited = Collections.synchronizedList(new LinkedList<>());
+    final CompletableFuture<String> response = new CompletableFuture<>();
+
+    public TemplateListener(){}
+
+    public TemplateListener(InvocationMode mode){
+        super(mode);
+    }
+
+    @ButtonResponse("vote:{pollId}:{choice}")
+    private void vote(ButtonInteractionEvent event, @IdParam("pollId") long pollId, @IdParam("choice") String choice){
+        calls.add("vote " + pollId + " " + choice);
+    }
+
+    @ButtonResponse("vote:{pollId}:close")
+    private void close(@IdParam("pollId") int pollId){
+        calls.add("close " + pollId);
+    }
+
+    @ButtonResponse("page:{n}")
+    private void page(ButtonInteractionEvent event){
+        calls.add("page");
+    }
+
+    @ButtonResponse("slow:{millis}")
+    private void slow(@IdParam("millis") long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @ButtonResponse("cart:{action}")
+    private void cart(@IdParam("action") String action, @ComponentState List<String> items){
+        calls.add(action + " " + items);
+    }
+
+    @ComponentTimeout(value = "pager:{n}", after = "400ms")
+    private void expire(ComponentExpiry expiry){
+        expired.add(expiry);
+    }
+
+    @ButtonResponse("fail:{n}")
+    private void fail(@IdParam("n") int n){
+        throw new IllegalStateException("broken " + n);
+    }
+
+    @ButtonResponse("ack")
+    private RestAction<?> ack(ButtonInteractionEvent event){
+        return event.deferEdit();
+    }
+
+    @ButtonResponse("ack:later")
+    private CompletableFuture<RestAction<?>> ackLater(ButtonInteractionEvent event){
+        return CompletableFuture.completedFuture(event.deferEdit());
+    }
+
+    @ButtonResponse("follow")
+    private void follow(ButtonInteractionEvent event){
+        event.deferReply(true).queue();
+        event.getHook().setEphemeral(true).sendMessage("done").queue();
+        event.getHook().editOriginal("edited").queue();
+    }
+
+    @ButtonResponse("later")
+    private CompletableFuture<String> later(ButtonInteractionEvent event){
+        return response;
+    }
+
+    @ButtonResponse(value = "roll", perUserRate = "2/s")
+    private void roll(ButtonInteractionEvent event){
+        calls.add("roll");
+    }
+
+    @ButtonResponse(value = "vote", perUserRate = "2/m", perGuildRate = "2/m")
+    private void vote(ButtonInteractionEvent event){
+        calls.add("vote " + event.getUser().getIdLong());
+    }
+
+    @StringSelectionResponse(value = "menu:{id}", selectedOptionValue = "a")
+    private void menu(StringSelectInteractionEvent event, @IdParam("id") String id){
+        calls.add("menu " + id);
+    }
+
+    @Override
+    protected void onRateLimited(RateLimited limited) {
+        this.limited.add(limited);
+    }
+}
@@ -1,4 +1,5 @@
 import com.zgamelogic.AdvancedListenerAdapter;
+import com.zgamelogic.InvocationMode;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.MessageContextInteractionEvent;
@@ -9,13 +10,25 @@ import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionE
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
 
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
 public class TestListener extends AdvancedListenerAdapter {
 
+    final List<String> calls = Collections.synchronizedList(new LinkedList<>());
+
+    public TestListener(){}
+
+    public TestListener(InvocationMode mode){
+        super(mode);
+    }
+
     @ButtonResponses({
             @ButtonResponse("test1"),
             @ButtonResponse("test2")
     })
-    private void buttonMethod(ButtonInteractionEvent event){}
+    private void buttonMethod(ButtonInteractionEvent event){ calls.add("button"); }
 
     @AutoCompleteResponse(slashCommandId = "test", focusedOption = "o1")
     private void autoCompleteResponseMethod(CommandAutoCompleteInteractionEvent event){}
@@ -33,11 +46,11 @@ public class TestListener extends AdvancedListenerAdapter {
     private void modalResponseMethod(ModalInteractionEvent event){}
 
     @SlashResponse("test")
-    private void slashResponseMethod(SlashCommandInteractionEvent event){}
+    private void slashResponseMethod(SlashCommandInteractionEvent event){ calls.add("slash"); }
 
     @EntitySelectionResponse("test")
     private void entitySelectionResponseMethod(EntitySelectInteractionEvent event){}
 
     @StringSelectionResponse("test")
-    private void stringSelectionResponseMethod(StringSelectInteractionEvent event){}
+    private void stringSelectionResponseMethod(StringSelectInteractionEvent event){ calls.add("select"); }
 }